@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.2.5"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com"
@@ -18,17 +19,109 @@ repositories {
     mavenCentral()
 }
 
+// HikariCP 5.1.0부터 풀 내부 잠금이 synchronized -> ReentrantLock 으로 바뀌어 가상 스레드 캐리어 고정(pinning)이 없다
+extra["hikaricp.version"] = "5.1.0"
+
+// 평가 커널 SIMD 경로(jdk.incubator.vector)는 인큐베이터 모듈이라 컴파일 / 실행 모두 명시적으로 추가해야 한다
+// 모듈 없이 실행하면(java -jar 등) 스칼라 경로로 동작한다 (evaluation.kernel.mode=auto)
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+
+// SIMD 커널(VectorEvaluationKernel)만 따로 컴파일한다 - 인큐베이터 모듈 경고가 main / test 컴파일에 붙지 않도록
+// main은 컴파일 시점에 참조하지 않고 EvaluationKernel.vector()가 이름으로 적재한다 (런타임 클래스패스 / bootJar에만 포함)
+val vector: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+}
+
+tasks.named<JavaCompile>(vector.compileJavaTaskName) {
+    options.compilerArgs.addAll(vectorModule)
+}
+
+// 부하 테스트 (./gradlew loadTest, ./gradlew threadModeComparison, ./gradlew reactiveReadComparison)
+val loadtest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadtest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadtest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+// 마이크로벤치마크 (./gradlew jmh, 결과: build/reports/jmh/results.json)
+// 특정 벤치마크만: ./gradlew jmh -Pjmh.includes=EvaluationUpdateBenchmark
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc") // 처리 시간 옆에 할당률(gc.alloc.rate / gc.alloc.rate.norm) 보고
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    jvmArgs = listOf("-Xms2g", "-Xmx2g") + vectorModule // 1M건 입력 기준
+    providers.gradleProperty("jmh.includes").orNull?.let { includes = listOf(it) }
+}
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.hibernate.orm:hibernate-micrometer") // hibernate.* 전역 통계 -> Micrometer
     implementation("com.h2database:h2")
+    implementation("org.springframework:spring-r2dbc") // 반응형 읽기 API (reactive.read) - 대시보드 / 구독 목록
+    implementation("io.r2dbc:r2dbc-h2")
+    implementation("io.r2dbc:r2dbc-pool")
+    implementation("org.flywaydb:flyway-core")  // 스키마는 db/migration 버전 스크립트로 관리
+    implementation("org.flywaydb:flyway-mysql")
+    implementation("net.ttddyy:datasource-proxy:1.10") // 느린 SQL 기록 (sql.slow-query) / 엔드포인트별 SQL 문 수 상한 테스트
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
+    runtimeOnly(vector.output) // test / jmh / loadtest 런타임 클래스패스와 bootJar(BOOT-INF/classes)로 이어진다
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
-}
\ No newline at end of file
+    jvmArgs(vectorModule)
+}
+
+tasks.named<JavaExec>("bootRun") {
+    jvmArgs(vectorModule)
+}
+
+tasks.register<JavaExec>("threadModeComparison") {
+    group = "verification"
+    description = "플랫폼 스레드 / 가상 스레드 모드의 처리량과 p99 지연 시간을 비교합니다."
+    classpath = loadtest.runtimeClasspath
+    mainClass = "com.back.loadtest.ThreadModeComparison"
+
+    // 캐리어 고정이 발생하면 스택을 출력 (가상 스레드 모드 검증용)
+    jvmArgs("-Djdk.tracePinnedThreads=short")
+    listOf("clients", "subscriptions", "warmupSeconds", "durationSeconds").forEach { key ->
+        providers.gradleProperty("loadtest.$key").orNull?.let { systemProperty("loadtest.$key", it) }
+    }
+    systemProperty("loadtest.output", layout.buildDirectory.file("reports/loadtest/thread-mode-comparison.json").get().asFile.path)
+}
+
+tasks.register<JavaExec>("reactiveReadComparison") {
+    group = "verification"
+    description = "MVC(JDBC) / 반응형(R2DBC) 읽기 경로의 커넥션 / 스레드 사용량과 지연 시간을 비교합니다."
+    classpath = loadtest.runtimeClasspath
+    mainClass = "com.back.loadtest.ReactiveReadComparison"
+
+    listOf("clients", "subscriptions", "pageSize", "warmupSeconds", "durationSeconds").forEach { key ->
+        providers.gradleProperty("loadtest.$key").orNull?.let { systemProperty("loadtest.$key", it) }
+    }
+    systemProperty("loadtest.output", layout.buildDirectory.file("reports/loadtest/reactive-read-comparison.json").get().asFile.path)
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "임베디드 서버에 사용량 기록 / 대시보드 / 구독 목록 요청을 구성비별로 섞어 처리량과 p50~p99.9 지연 시간을 측정합니다."
+    classpath = loadtest.runtimeClasspath
+    mainClass = "com.back.loadtest.LoadTest"
+
+    listOf("clients", "subscriptions", "pageSize", "warmupSeconds", "durationSeconds", "db", "profile", "mixes").forEach { key ->
+        providers.gradleProperty("loadtest.$key").orNull?.let { systemProperty("loadtest.$key", it) }
+    }
+    systemProperty("loadtest.output", layout.buildDirectory.file("reports/loadtest/load-test.json").get().asFile.path)
+}
@@ -0,0 +1,154 @@
+package com.back.benchmark;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.category.enums.CategoryType;
+import com.back.domain.category.enums.UsageUnit;
+import com.back.domain.category.registry.CategoryRegistry;
+import com.back.domain.category.repository.CategoryRepository;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.subscription.entity.Subscription;
+import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 합성 데이터 (DB / 스프링 컨텍스트 없이 엔티티를 직접 만든다)
+ * 시드가 고정되어 있어 실행마다 같은 입력으로 비교할 수 있다.
+ */
+public final class SyntheticData {
+
+    public static final long SEED = 20260218L;
+
+    // 평가는 이 수의 구독을 돌려 가며 참조한다 (실제 서비스처럼 구독 하나에 여러 달 평가)
+    private static final int SUBSCRIPTION_POOL_SIZE = 1_000;
+    private static final int MONTHS = 24;
+    // 모든 구독은 한 사용자의 것 (대시보드 한 번이 다루는 범위)
+    public static final long USER_ID = 1L;
+
+    private static final List<Category> CATEGORIES = List.of(
+            new Category("OTT", 1800, UsageUnit.MINUTES, CategoryType.CONTENT),
+            new Category("MUSIC", 1500, UsageUnit.MINUTES, CategoryType.CONTENT),
+            new Category("EBOOK", 300, UsageUnit.MINUTES, CategoryType.CONTENT),
+            new Category("AI_TOOL", 12, UsageUnit.DAYS, CategoryType.PRODUCTIVITY),
+            new Category("WORK_TOOL", 20, UsageUnit.DAYS, CategoryType.PRODUCTIVITY),
+            new Category("CLOUD", 25, UsageUnit.DAYS, CategoryType.PRODUCTIVITY)
+    );
+
+    static {
+        for (int i = 0; i < CATEGORIES.size(); i++) {
+            setField(CATEGORIES.get(i), "id", (long) i + 1);
+        }
+    }
+
+    private SyntheticData() {
+    }
+
+    public static List<Category> categories() {
+        return CATEGORIES;
+    }
+
+    public static SplittableRandom random() {
+        return new SplittableRandom(SEED);
+    }
+
+    /**
+     * 구독 풀을 순환하며 참조하는 평가 size건 (계산 결과 필드는 비어 있음)
+     */
+    public static List<SubscriptionEvaluation> evaluations(int size, SplittableRandom random) {
+        List<Subscription> subscriptions = subscriptions(random);
+        YearMonth start = YearMonth.of(2024, 1);
+
+        List<SubscriptionEvaluation> evaluations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Subscription subscription = subscriptions.get(i % subscriptions.size());
+            YearMonth month = start.plusMonths((i / subscriptions.size()) % MONTHS);
+            evaluations.add(new SubscriptionEvaluation(subscription, month));
+        }
+        return evaluations;
+    }
+
+    /**
+     * 카테고리 단위에 맞는 사용량 (0 = 미사용 비율 약 10%)
+     */
+    public static int usageValue(Subscription subscription, SplittableRandom random) {
+        if (random.nextInt(10) == 0) {
+            return 0;
+        }
+
+        Category category = subscription.getCategory();
+        int max = category.getUnit() == UsageUnit.DAYS ? 28 : category.getReferenceValue() * 2;
+        return random.nextInt(1, max + 1);
+    }
+
+    /**
+     * 고정 카테고리만 들고 있는 레지스트리 (findAll 외 저장소 호출은 지원하지 않음)
+     */
+    public static CategoryRegistry categoryRegistry() {
+        CategoryRepository repository = (CategoryRepository) Proxy.newProxyInstance(
+                CategoryRepository.class.getClassLoader(),
+                new Class<?>[]{CategoryRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> CATEGORIES;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "SyntheticCategoryRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        CategoryRegistry registry = new CategoryRegistry(repository, new NoOpTransactionManager());
+        registry.refresh();
+        return registry;
+    }
+
+    private static List<Subscription> subscriptions(SplittableRandom random) {
+        BillingCycle[] cycles = BillingCycle.values();
+        List<Subscription> subscriptions = new ArrayList<>(SUBSCRIPTION_POOL_SIZE);
+
+        for (int i = 0; i < SUBSCRIPTION_POOL_SIZE; i++) {
+            Category category = CATEGORIES.get(random.nextInt(CATEGORIES.size()));
+            long monthlyCost = random.nextLong(1_000, 60_000);
+            SubscriptionStatus status = random.nextInt(5) == 0 ? SubscriptionStatus.TRIAL : SubscriptionStatus.ACTIVE;
+
+            Subscription subscription = new Subscription(
+                    USER_ID, category, "sub-" + i, monthlyCost, monthlyCost, monthlyCost, cycles[random.nextInt(cycles.length)], status);
+            setField(subscription, "id", (long) i + 1);
+            subscriptions.add(subscription);
+        }
+        return subscriptions;
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
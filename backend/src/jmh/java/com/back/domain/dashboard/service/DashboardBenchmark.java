@@ -0,0 +1,85 @@
+package com.back.domain.dashboard.service;
+
+import com.back.benchmark.SyntheticData;
+import com.back.domain.category.registry.CategoryRegistry;
+import com.back.domain.dashboard.dto.DashboardResponse;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.kernel.EvaluationKernel;
+import com.back.domain.evaluation.policy.DefaultEvaluationPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월 대시보드 조립 비용 (DB 조회 제외)
+ * - buildSummaries: getMonthlyDashboard의 평가 -> 구독별 요약 스트림
+ * - potentialAnnualWaste: TRIAL 구독의 잠재 연간 낭비 계산 (효율 / 월 비용 열 -> 평가 커널)
+ * kernel=vector는 jdk.incubator.vector 모듈이 필요하다. (jmh 태스크 jvmArgs에 설정됨)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DashboardBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"scalar", "vector"})
+    private String kernel;
+
+    private EvaluationKernel evaluationKernel;
+
+    private DashboardService dashboardService;
+    private List<SubscriptionEvaluation> evaluations;
+
+    private long[] monthlyCosts;
+    private double[] rates;
+    private long[] potentialAnnualWastes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = SyntheticData.random();
+        CategoryRegistry registry = SyntheticData.categoryRegistry();
+        DefaultEvaluationPolicy policy = new DefaultEvaluationPolicy();
+
+        // 요약 조립만 측정하므로 저장소는 사용하지 않는다
+        evaluationKernel = "vector".equals(kernel) ? EvaluationKernel.vector() : EvaluationKernel.scalar();
+        dashboardService = new DashboardService(null, null, registry, null, null, evaluationKernel);
+        evaluations = SyntheticData.evaluations(size, random);
+
+        monthlyCosts = new long[size];
+        rates = new double[size];
+        for (int i = 0; i < size; i++) {
+            SubscriptionEvaluation evaluation = evaluations.get(i);
+            evaluation.update(
+                    SyntheticData.usageValue(evaluation.getSubscription(), random),
+                    registry.get(evaluation.getSubscription().getCategoryId()),
+                    policy
+            );
+            monthlyCosts[i] = evaluation.getSubscription().getMonthlyShareCost();
+            rates[i] = evaluation.getEfficiencyRate();
+        }
+        potentialAnnualWastes = new long[size];
+    }
+
+    @Benchmark
+    public List<DashboardResponse.SubscriptionSummary> buildSummaries() {
+        return dashboardService.toSummaries(evaluations);
+    }
+
+    @Benchmark
+    public long potentialAnnualWaste() {
+        evaluationKernel.potentialAnnualWaste(rates, monthlyCosts, potentialAnnualWastes, size);
+        return potentialAnnualWastes[size - 1];
+    }
+}
@@ -0,0 +1,66 @@
+package com.back.domain.evaluation.entity;
+
+import com.back.benchmark.SyntheticData;
+import com.back.domain.category.registry.CategoryRegistry;
+import com.back.domain.category.registry.CategorySnapshot;
+import com.back.domain.evaluation.policy.DefaultEvaluationPolicy;
+import com.back.domain.evaluation.policy.EvaluationPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SubscriptionEvaluation.update (DefaultEvaluationPolicy) - 평가 1회 계산 비용
+ * 한 번의 호출에서 size건을 모두 다시 평가한다. (gc 프로파일러의 alloc.rate.norm은 호출당 = size건당 할당량)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EvaluationUpdateBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private final EvaluationPolicy policy = new DefaultEvaluationPolicy();
+
+    private SubscriptionEvaluation[] evaluations;
+    private CategorySnapshot[] categories;
+    private int[] usageValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = SyntheticData.random();
+        CategoryRegistry registry = SyntheticData.categoryRegistry();
+        List<SubscriptionEvaluation> generated = SyntheticData.evaluations(size, random);
+
+        evaluations = generated.toArray(SubscriptionEvaluation[]::new);
+        categories = new CategorySnapshot[size];
+        usageValues = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            categories[i] = registry.get(evaluations[i].getSubscription().getCategoryId());
+            usageValues[i] = SyntheticData.usageValue(evaluations[i].getSubscription(), random);
+        }
+    }
+
+    @Benchmark
+    public long updateAll() {
+        long checksum = 0;
+        for (int i = 0; i < evaluations.length; i++) {
+            SubscriptionEvaluation evaluation = evaluations[i];
+            evaluation.update(usageValues[i], categories[i], policy);
+            checksum += evaluation.getAnnualWaste();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,98 @@
+package com.back.domain.evaluation.kernel;
+
+import com.back.benchmark.SyntheticData;
+import com.back.domain.category.registry.CategoryRegistry;
+import com.back.domain.category.registry.CategorySnapshot;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.policy.EvaluationPolicyProperties;
+import com.back.domain.evaluation.policy.EvaluationPolicyRegistry;
+import com.back.domain.subscription.entity.Subscription;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 평가 커널 - 스칼라 vs SIMD (1M건, 입력 열은 미리 채워 둠)
+ * - evaluate: 효율 / 단위당 비용 / 상태 / 연간 낭비 (엔티티 행 단위 기준선은 EvaluationUpdateBenchmark.updateAll size=1000000)
+ * - potentialAnnualWaste: 대시보드 잠재 연간 낭비
+ * kernel=vector는 jdk.incubator.vector 모듈이 필요하다. (jmh 태스크 jvmArgs에 설정됨)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EvaluationKernelBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    @Param({"scalar", "vector"})
+    private String kernel;
+
+    private EvaluationKernel evaluationKernel;
+    private EvaluationBatch batch;
+    private EvaluationProfiles profiles;
+
+    private double[] rates;
+    private long[] monthlyCosts;
+    private long[] potentialAnnualWastes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        evaluationKernel = "vector".equals(kernel) ? EvaluationKernel.vector() : EvaluationKernel.scalar();
+
+        SplittableRandom random = SyntheticData.random();
+        CategoryRegistry registry = SyntheticData.categoryRegistry();
+        EvaluationPolicyRegistry policies = new EvaluationPolicyRegistry(
+                new EvaluationPolicyProperties("", Duration.ofSeconds(10)),
+                new StandardEnvironment(),
+                new DefaultResourceLoader()
+        );
+        List<SubscriptionEvaluation> evaluations = SyntheticData.evaluations(SIZE, random);
+
+        batch = new EvaluationBatch(SIZE);
+        EvaluationProfiles.Builder builder = EvaluationProfiles.builder();
+        for (SubscriptionEvaluation evaluation : evaluations) {
+            Subscription subscription = evaluation.getSubscription();
+            CategorySnapshot category = registry.get(subscription.getCategoryId());
+            batch.add(
+                    SyntheticData.usageValue(subscription, random),
+                    category.referenceValue(),
+                    subscription.getMonthlyShareCost(),
+                    subscription.getStatus() == SubscriptionStatus.TRIAL,
+                    builder.add(policies.policyFor(category), category.type())
+            );
+        }
+        profiles = builder.build();
+
+        // 대시보드 입력 (저장된 효율 / 월 비용)
+        EvaluationKernel.scalar().evaluate(batch, profiles);
+        rates = batch.rates.clone();
+        monthlyCosts = batch.monthlyCosts.clone();
+        potentialAnnualWastes = new long[SIZE];
+    }
+
+    @Benchmark
+    public long evaluate() {
+        evaluationKernel.evaluate(batch, profiles);
+        return batch.annualWaste(SIZE - 1) + batch.statusOrdinal(SIZE - 1);
+    }
+
+    @Benchmark
+    public long potentialAnnualWaste() {
+        evaluationKernel.potentialAnnualWaste(rates, monthlyCosts, potentialAnnualWastes, SIZE);
+        return potentialAnnualWastes[SIZE - 1];
+    }
+}
@@ -0,0 +1,92 @@
+package com.back.domain.evaluation.policy;
+
+import com.back.benchmark.SyntheticData;
+import com.back.domain.category.registry.CategorySnapshot;
+import com.back.domain.evaluation.enums.EvaluationStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 평가 상태 판정 - 임계값 if 체인(기존 DefaultEvaluationPolicy) vs 레지스트리 조회 + 임계값 표
+ * 한 번의 호출에서 SIZE건을 판정한다. (gc 프로파일러로 레지스트리 조회에 할당이 없는지 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EvaluationPolicyBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    private EvaluationPolicyRegistry registry;
+    private CategorySnapshot[] categories;
+    private double[] rates;
+    private int[] usageValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = SyntheticData.random();
+        List<CategorySnapshot> snapshots = SyntheticData.categories().stream().map(CategorySnapshot::from).toList();
+
+        registry = new EvaluationPolicyRegistry(
+                new EvaluationPolicyProperties("", Duration.ofSeconds(10)),
+                new StandardEnvironment(),
+                new DefaultResourceLoader()
+        );
+
+        categories = new CategorySnapshot[SIZE];
+        rates = new double[SIZE];
+        usageValues = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            categories[i] = snapshots.get(random.nextInt(snapshots.size()));
+            rates[i] = random.nextDouble(0, 130);
+            usageValues[i] = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(1000);
+        }
+    }
+
+    @Benchmark
+    public int ifChain() {
+        int checksum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            checksum += ifChainStatus(rates[i], usageValues[i]).ordinal();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public int registryTable() {
+        int checksum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            checksum += registry.policyFor(categories[i]).calculateStatus(rates[i], usageValues[i]).ordinal();
+        }
+        return checksum;
+    }
+
+    private static EvaluationStatus ifChainStatus(double rate, int usageValue) {
+        if (usageValue == 0) {
+            return EvaluationStatus.GHOST;
+        }
+
+        if (rate >= 100) {
+            return EvaluationStatus.EFFICIENT;
+        } else if (rate >= 70) {
+            return EvaluationStatus.KEEP;
+        } else if (rate >= 40) {
+            return EvaluationStatus.REVIEW;
+        } else {
+            return EvaluationStatus.INEFFICIENT;
+        }
+    }
+}
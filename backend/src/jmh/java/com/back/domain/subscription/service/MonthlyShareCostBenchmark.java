@@ -0,0 +1,53 @@
+package com.back.domain.subscription.service;
+
+import com.back.benchmark.SyntheticData;
+import com.back.domain.subscription.enums.BillingCycle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 주기 -> 월 환산 부담금 변환 (SubscriptionService.calculateMonthlyShareCost)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MonthlyShareCostBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private long[] userShareCosts;
+    private BillingCycle[] cycles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = SyntheticData.random();
+        BillingCycle[] values = BillingCycle.values();
+
+        userShareCosts = new long[size];
+        cycles = new BillingCycle[size];
+        for (int i = 0; i < size; i++) {
+            userShareCosts[i] = random.nextLong(1_000, 700_000);
+            cycles[i] = values[random.nextInt(values.length)];
+        }
+    }
+
+    @Benchmark
+    public long convertAll() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += SubscriptionService.calculateMonthlyShareCost(userShareCosts[i], cycles[i]);
+        }
+        return total;
+    }
+}
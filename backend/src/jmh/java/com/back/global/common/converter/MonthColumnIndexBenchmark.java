@@ -0,0 +1,139 @@
+package com.back.global.common.converter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 월 컬럼 타입별 (subscription_id, 월) 유니크 인덱스 크기 + "최근 12개월" 범위 조회 시간
+ * VARCHAR(255)는 문자열 변환기 시절 Hibernate가 만들던 타입이다.
+ * 파일 H2 DB를 임시 디렉터리에 만들고, 적재 후 DISK_SPACE_USED(테이블 + 인덱스 바이트)를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MonthColumnIndexBenchmark {
+
+    private static final int MONTHS = 24;
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2024, 3);
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    @Param({"VARCHAR(255)", "INT"})
+    private String monthType;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement lastTwelveMonths;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("month-index-bench");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("bench") + ";MODE=MySQL", "sa", "");
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("""
+                    CREATE TABLE subscription_usage (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        subscription_id BIGINT NOT NULL,
+                        usage_month %s NOT NULL,
+                        usage_value INT NOT NULL,
+                        CONSTRAINT uk_usage_subscription_month UNIQUE (subscription_id, usage_month)
+                    )
+                    """.formatted(monthType));
+            st.execute("CREATE INDEX idx_usage_month ON subscription_usage (usage_month)");
+        }
+
+        load();
+
+        System.out.printf("%n[MonthColumnIndexBenchmark] usage_month %s, %d행: 테이블 + 인덱스 %,d bytes%n",
+                monthType, rows, diskSpaceUsed());
+
+        lastTwelveMonths = connection.prepareStatement(
+                "SELECT COUNT(*), SUM(usage_value) FROM subscription_usage WHERE usage_month BETWEEN ? AND ?");
+        YearMonth to = FIRST_MONTH.plusMonths(MONTHS - 1);
+        bindMonth(lastTwelveMonths, 1, to.minusMonths(11));
+        bindMonth(lastTwelveMonths, 2, to);
+    }
+
+    @Benchmark
+    public long lastTwelveMonths() throws SQLException {
+        try (ResultSet rs = lastTwelveMonths.executeQuery()) {
+            rs.next();
+            return rs.getLong(1) + rs.getLong(2);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException ignored) {
+                    // 임시 디렉터리 정리 실패는 무시
+                }
+            });
+        }
+    }
+
+    // 구독마다 연속된 MONTHS개월 사용량
+    private void load() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO subscription_usage (subscription_id, usage_month, usage_value) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                ps.setLong(1, i / MONTHS + 1);
+                bindMonth(ps, 2, FIRST_MONTH.plusMonths(i % MONTHS));
+                ps.setInt(3, i % 1_800);
+                ps.addBatch();
+                if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private long diskSpaceUsed() throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT DISK_SPACE_USED('SUBSCRIPTION_USAGE')")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void bindMonth(PreparedStatement ps, int index, YearMonth month) throws SQLException {
+        if (monthType.equals("INT")) {
+            ps.setInt(index, YearMonthConverter.toPeriod(month));
+        } else {
+            ps.setString(index, month.toString());
+        }
+    }
+}
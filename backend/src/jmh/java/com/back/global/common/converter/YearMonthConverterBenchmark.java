@@ -0,0 +1,79 @@
+package com.back.global.common.converter;
+
+import com.back.benchmark.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.YearMonth;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월 컬럼 변환: 이전 'yyyy-MM' 문자열 방식 vs 정수 기간 (YearMonthConverter)
+ * 엔티티 로드(DB -> YearMonth)와 바인딩(YearMonth -> DB) 양쪽을 비교한다. (-prof gc 로 할당률 함께 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class YearMonthConverterBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private final YearMonthConverter converter = new YearMonthConverter();
+
+    private YearMonth[] months;
+    private String[] strings;
+    private Integer[] periods;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = SyntheticData.random();
+        months = new YearMonth[size];
+        strings = new String[size];
+        periods = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            months[i] = YearMonth.of(2020 + random.nextInt(8), 1 + random.nextInt(12));
+            strings[i] = months[i].toString();
+            periods[i] = converter.convertToDatabaseColumn(months[i]);
+        }
+    }
+
+    // 이전 YearMonthConverter.convertToEntityAttribute
+    @Benchmark
+    public void loadFromString(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(YearMonth.parse(strings[i]));
+        }
+    }
+
+    @Benchmark
+    public void loadFromPeriod(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(converter.convertToEntityAttribute(periods[i]));
+        }
+    }
+
+    // 이전 YearMonthConverter.convertToDatabaseColumn
+    @Benchmark
+    public void bindAsString(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(months[i].toString());
+        }
+    }
+
+    @Benchmark
+    public void bindAsPeriod(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(YearMonthConverter.toPeriod(months[i]));
+        }
+    }
+}
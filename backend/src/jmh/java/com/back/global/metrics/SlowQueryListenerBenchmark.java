@@ -0,0 +1,92 @@
+package com.back.global.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 SQL 관찰자 비용: 프록시 없음 vs 기본 관찰(count-rows=false) vs 행 수 집계(count-rows=true)
+ * 기준(threshold)을 넉넉히 두어 기록되지 않는 평상시 문장만 잰다. (인메모리 H2, 한 커넥션에서 SELECT 한 번 + 전체 행 읽기)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlowQueryListenerBenchmark {
+
+    private static final String SELECT_SQL = "SELECT id, name, usage_value FROM item WHERE id > ? ORDER BY id LIMIT ?";
+
+    @Param({"none", "observe", "countRows"})
+    private String mode;
+
+    @Param({"20", "500"})
+    private int rows;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:slow-query-benchmark;DB_CLOSE_DELAY=-1");
+        try (Connection init = h2.getConnection(); Statement statement = init.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS item");
+            statement.execute("CREATE TABLE item (id BIGINT PRIMARY KEY, name VARCHAR(40), usage_value INT)");
+            statement.execute("INSERT INTO item SELECT x, 'subscription-' || x, MOD(x, 31) FROM SYSTEM_RANGE(1, 1000)");
+        }
+        connection = dataSource(h2).getConnection();
+    }
+
+    private DataSource dataSource(DataSource h2) {
+        if ("none".equals(mode)) {
+            return h2;
+        }
+        boolean countRows = "countRows".equals(mode);
+        SlowQueryListener listener = new SlowQueryListener(
+                new SlowQueryProperties(true, Duration.ofMinutes(1), 0, 200, countRows, false), new SlowQueryLog(200));
+
+        // SlowQueryConfig와 같은 구성
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(h2).listener(listener);
+        if (countRows) {
+            builder.proxyResultSet().methodListener(listener);
+        }
+        return builder.build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void selectAndRead(Blackhole bh) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_SQL)) {
+            statement.setLong(1, 0L);
+            statement.setInt(2, rows);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    bh.consume(resultSet.getLong(1));
+                    bh.consume(resultSet.getString(2));
+                    bh.consume(resultSet.getInt(3));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.back.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * closed-loop 부하 발생기: clients 개의 가상 스레드가 응답을 받는 즉시 다음 요청을 보낸다.
+ * 요청 종류는 LoadMix 가중치에 따라 매번 무작위로 고르고, 종류별 + 전체 지연 시간을 따로 집계한다.
+ */
+final class ClosedLoopDriver {
+
+    static final String TOTAL = "total";
+
+    private final HttpClient http;
+    private final int clients;
+
+    ClosedLoopDriver(HttpClient http, int clients) {
+        this.http = http;
+        this.clients = clients;
+    }
+
+    /**
+     * 워밍업 후 측정 구간의 결과를 반환한다. (구성비의 요청 순서 + 마지막에 total, 구성 요청이 하나면 total 생략)
+     */
+    List<LatencyRecorder.Summary> run(LoadMix mix, Map<String, Supplier<HttpRequest>> operations,
+                                      Duration warmup, Duration duration) throws InterruptedException {
+        List<Supplier<HttpRequest>> requests = mix.entries().stream()
+                .map(entry -> {
+                    Supplier<HttpRequest> request = operations.get(entry.operation());
+                    if (request == null) {
+                        throw new IllegalArgumentException("알 수 없는 요청: " + entry.operation() + " (지원: " + operations.keySet() + ")");
+                    }
+                    return request;
+                })
+                .toList();
+
+        load(mix, requests, warmup);
+
+        long startedAt = System.nanoTime();
+        List<LatencyRecorder[]> recorders = load(mix, requests, duration);
+        long elapsed = System.nanoTime() - startedAt;
+
+        List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            int index = i;
+            summaries.add(LatencyRecorder.merge(
+                    mix.entries().get(i).operation(), recorders.stream().map(r -> r[index]).toList(), elapsed));
+        }
+        if (requests.size() > 1) {
+            summaries.add(LatencyRecorder.merge(
+                    TOTAL, recorders.stream().flatMap(Arrays::stream).toList(), elapsed));
+        }
+        return summaries;
+    }
+
+    private List<LatencyRecorder[]> load(LoadMix mix, List<Supplier<HttpRequest>> requests, Duration length)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + length.toNanos();
+        int totalWeight = mix.totalWeight();
+        List<LatencyRecorder[]> recorders = new ArrayList<>(clients);
+        List<Thread> threads = new ArrayList<>(clients);
+
+        for (int i = 0; i < clients; i++) {
+            LatencyRecorder[] perOperation = new LatencyRecorder[requests.size()];
+            for (int op = 0; op < perOperation.length; op++) {
+                perOperation[op] = new LatencyRecorder();
+            }
+            recorders.add(perOperation);
+
+            threads.add(Thread.ofVirtual().name("loadtest-client-" + i).start(() -> {
+                while (System.nanoTime() < deadline) {
+                    int op = mix.pick(ThreadLocalRandom.current().nextInt(totalWeight));
+                    LatencyRecorder recorder = perOperation[op];
+                    long sentAt = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = http.send(requests.get(op).get(), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 200) {
+                            recorder.record(System.nanoTime() - sentAt);
+                        } else {
+                            recorder.error();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        recorder.error();
+                    }
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return recorders;
+    }
+}
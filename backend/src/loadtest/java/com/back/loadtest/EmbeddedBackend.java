@@ -0,0 +1,113 @@
+package com.back.loadtest;
+
+import com.back.BackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트용 백엔드 - 같은 JVM에서 임의 포트로 띄우고, 가상 스레드 기반 HTTP 클라이언트를 함께 제공한다.
+ */
+final class EmbeddedBackend implements AutoCloseable {
+
+    enum Database {
+        MEM,  // 인메모리 H2 (기본)
+        FILE; // build/loadtest 아래 파일 H2 (디스크 I/O 포함 측정)
+
+        static Database of(String value) {
+            return valueOf(value.toUpperCase());
+        }
+
+        String url(String name) {
+            return switch (this) {
+                case MEM -> "jdbc:h2:mem:loadtest-" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+                case FILE -> "jdbc:h2:file:./build/loadtest/" + name + ";MODE=MySQL";
+            };
+        }
+
+        // 스키마/데이터가 재기동 후에도 남으므로 (Flyway) 파일 DB는 실행마다 지우고 시작한다
+        void reset(String name) {
+            if (this != FILE) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(Path.of("build", "loadtest", name + ".mv.db"));
+                Files.deleteIfExists(Path.of("build", "loadtest", name + ".trace.db"));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private final ConfigurableApplicationContext context;
+    private final ExecutorService clientThreads;
+    private final HttpClient http;
+    private final String baseUrl;
+
+    private EmbeddedBackend(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientThreads)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    /**
+     * @param name     DB 이름 (실행마다 분리)
+     * @param profile  활성 프로필 (예: virtual, 없으면 null)
+     * @param args     추가 스프링 인자 (예: --evaluation.async.enabled=true)
+     */
+    static EmbeddedBackend start(String name, Database database, String profile, String... args) {
+        database.reset(name);
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + database.url(name),
+                        "spring.jpa.show-sql=false",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                );
+        if (profile != null && !profile.isBlank()) {
+            builder.profiles(profile);
+        }
+        return new EmbeddedBackend(builder.run(args));
+    }
+
+    HttpClient http() {
+        return http;
+    }
+
+    String url(String path) {
+        return baseUrl + path;
+    }
+
+    // 서버 내부 자원(커넥션 풀 / 요청 스레드) 관찰용
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    WebServer webServer() {
+        return ((WebServerApplicationContext) context).getWebServer();
+    }
+
+    @Override
+    public void close() {
+        clientThreads.close();
+        context.close();
+    }
+}
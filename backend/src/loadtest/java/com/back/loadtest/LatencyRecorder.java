@@ -0,0 +1,75 @@
+package com.back.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 요청 지연 시간(ns) 기록기 - 클라이언트 스레드 하나가 하나씩 사용하고, 측정이 끝나면 병합한다.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1 << 12];
+    private int size;
+    private long errors;
+
+    void record(long latencyNanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = latencyNanos;
+    }
+
+    void error() {
+        errors++;
+    }
+
+    static Summary merge(String scenario, Iterable<LatencyRecorder> recorders, long elapsedNanos) {
+        int total = 0;
+        long errors = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.size;
+            errors += recorder.errors;
+        }
+
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.samples, 0, merged, offset, recorder.size);
+            offset += recorder.size;
+        }
+        Arrays.sort(merged);
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new Summary(
+                scenario,
+                total,
+                errors,
+                total / seconds,
+                percentileMillis(merged, 0.50),
+                percentileMillis(merged, 0.95),
+                percentileMillis(merged, 0.99),
+                percentileMillis(merged, 0.999),
+                merged.length == 0 ? 0 : merged[merged.length - 1] / 1_000_000.0
+        );
+    }
+
+    // nearest-rank 방식
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    record Summary(
+            String scenario,
+            long requests,
+            long errors,
+            double throughputPerSec,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis
+    ) {}
+}
@@ -0,0 +1,62 @@
+package com.back.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 구성비 - 예: write-heavy=usages:80,dashboard:15,subscriptions:5
+ * 여러 개는 ';'로 구분한다.
+ */
+record LoadMix(String name, List<Entry> entries) {
+
+    record Entry(String operation, int weight) {}
+
+    static LoadMix single(String operation) {
+        return new LoadMix(operation, List.of(new Entry(operation, 1)));
+    }
+
+    static List<LoadMix> parseAll(String spec) {
+        List<LoadMix> mixes = new ArrayList<>();
+        for (String mix : spec.split(";")) {
+            if (!mix.isBlank()) {
+                mixes.add(parse(mix.trim()));
+            }
+        }
+        return mixes;
+    }
+
+    static LoadMix parse(String spec) {
+        String[] nameAndEntries = spec.split("=", 2);
+        if (nameAndEntries.length != 2) {
+            throw new IllegalArgumentException("구성비 형식 오류 (이름=요청:가중치,...): " + spec);
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (String entry : nameAndEntries[1].split(",")) {
+            String[] pair = entry.trim().split(":");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                entries.add(new Entry(pair[0].trim(), weight));
+            }
+        }
+        if (entries.isEmpty()) {
+            throw new IllegalArgumentException("가중치가 0보다 큰 요청이 없습니다: " + spec);
+        }
+        return new LoadMix(nameAndEntries[0].trim(), List.copyOf(entries));
+    }
+
+    int totalWeight() {
+        return entries.stream().mapToInt(Entry::weight).sum();
+    }
+
+    // 0 <= roll < totalWeight 에 해당하는 요청 위치
+    int pick(int roll) {
+        for (int i = 0; i < entries.size(); i++) {
+            roll -= entries.get(i).weight();
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return entries.size() - 1;
+    }
+}
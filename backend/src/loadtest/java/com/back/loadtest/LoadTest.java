@@ -0,0 +1,99 @@
+package com.back.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 엔드투엔드 부하 테스트
+ *
+ * 백엔드를 임의 포트로 띄우고(인메모리 또는 파일 H2), 구독 N건을 기본 카테고리 6개에 나눠 시드한 뒤
+ * 구성비(mix)별로 아래 요청을 섞어 closed-loop 부하를 건다. 구성비마다 새 DB에서 시작한다.
+ *  - usages        : POST /api/v1/usages (임의 구독, 카테고리 단위에 맞는 사용량)
+ *  - dashboard     : GET  /api/v1/dashboard (시드한 월)
+ *  - subscriptions : GET  /api/v1/subscriptions (임의 커서부터 한 페이지)
+ *
+ * 요청 종류별 + 전체 처리량과 p50/p95/p99/p99.9 지연 시간을 JSON으로 남긴다. (외부 네트워크 불필요)
+ *
+ * 실행: ./gradlew loadTest [-Ploadtest.mixes="write-heavy=usages:80,dashboard:15,subscriptions:5" -Ploadtest.db=file]
+ * 추가 스프링 설정은 --args 로 전달한다. (예: --args="--evaluation.async.enabled=true")
+ */
+public class LoadTest {
+
+    private static final YearMonth USAGE_MONTH = YearMonth.of(2025, 2);
+    private static final String DEFAULT_MIXES = "write-heavy=usages:80,dashboard:15,subscriptions:5;"
+            + "read-heavy=usages:10,dashboard:60,subscriptions:30;"
+            + "balanced=usages:40,dashboard:30,subscriptions:30";
+
+    private final int clients = Integer.getInteger("loadtest.clients", 200);
+    private final int subscriptions = Integer.getInteger("loadtest.subscriptions", 1000);
+    private final int pageSize = Integer.getInteger("loadtest.pageSize", 20);
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 5));
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 20));
+    private final EmbeddedBackend.Database database = EmbeddedBackend.Database.of(System.getProperty("loadtest.db", "mem"));
+    private final String profile = System.getProperty("loadtest.profile");
+    private final List<LoadMix> mixes = LoadMix.parseAll(System.getProperty("loadtest.mixes", DEFAULT_MIXES));
+    private final Path output = Path.of(System.getProperty("loadtest.output", "build/reports/loadtest/load-test.json"));
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest().run(args);
+    }
+
+    private void run(String[] args) throws Exception {
+        Map<String, List<LatencyRecorder.Summary>> results = new LinkedHashMap<>();
+        for (LoadMix mix : mixes) {
+            results.put(mix.name(), runMix(mix, args));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("clients", clients);
+        report.put("subscriptions", subscriptions);
+        report.put("database", database.name().toLowerCase());
+        report.put("profile", profile);
+        report.put("warmupSeconds", warmup.toSeconds());
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("mixes", mixes);
+        report.put("results", results);
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), report);
+
+        System.out.printf("%n%-12s %-14s %10s %8s %10s %9s %9s %9s %10s%n",
+                "mix", "operation", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "p99.9(ms)");
+        results.forEach((mix, summaries) -> summaries.forEach(s ->
+                System.out.printf("%-12s %-14s %10d %8d %10.1f %9.2f %9.2f %9.2f %10.2f%n",
+                        mix, s.scenario(), s.requests(), s.errors(), s.throughputPerSec(),
+                        s.p50Millis(), s.p95Millis(), s.p99Millis(), s.p999Millis())));
+        System.out.println("결과 파일: " + output.toAbsolutePath());
+    }
+
+    private List<LatencyRecorder.Summary> runMix(LoadMix mix, String[] args) throws Exception {
+        try (EmbeddedBackend backend = EmbeddedBackend.start(mix.name(), database, profile, args)) {
+            System.out.printf("[%s] 시드 - subscriptions=%d, db=%s%n", mix.name(), subscriptions, database.name().toLowerCase());
+            Seeder.seed(backend, subscriptions, USAGE_MONTH);
+
+            System.out.printf("[%s] 부하 시작 - clients=%d, duration=%ds, mix=%s%n",
+                    mix.name(), clients, duration.toSeconds(), mix.entries());
+            return new ClosedLoopDriver(backend.http(), clients).run(mix, operations(backend), warmup, duration);
+        }
+    }
+
+    private Map<String, Supplier<HttpRequest>> operations(EmbeddedBackend backend) {
+        return Map.of(
+                "usages", Requests.usage(backend, subscriptions, USAGE_MONTH),
+                "dashboard", Requests.dashboard(backend, USAGE_MONTH),
+                "subscriptions", Requests.subscriptionPage(backend, subscriptions, pageSize)
+        );
+    }
+}
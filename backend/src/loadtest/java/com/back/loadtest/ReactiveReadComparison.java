@@ -0,0 +1,138 @@
+package com.back.loadtest;
+
+import com.back.global.r2dbc.ReactiveReadDatabase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * MVC + JPA(JDBC) 경로 vs 반응형(R2DBC) 경로의 커넥션 / 스레드 사용량 비교
+ *
+ * 한 백엔드(인메모리 H2, reactive.read.enabled=true)를 시드한 뒤, 같은 수의 클라이언트로
+ * 대시보드 / 구독 목록을 경로별로 차례로 호출하면서 서버 자원을 5ms 간격으로 관찰한다.
+ * - Hikari 사용 중 커넥션, R2DBC 풀 사용 중 커넥션
+ * - Tomcat 요청 스레드 중 처리 중인 수 (반응형 경로는 비동기 시작 후 스레드를 반납)
+ * - JVM 플랫폼 스레드 수 (live / peak)
+ * 관찰 구간은 워밍업을 포함하며, 지연 시간 / 처리량은 측정 구간만 집계한다.
+ *
+ * 실행: ./gradlew reactiveReadComparison [-Ploadtest.clients=800 -Ploadtest.durationSeconds=30]
+ */
+public class ReactiveReadComparison {
+
+    private static final YearMonth USAGE_MONTH = YearMonth.of(2025, 2);
+
+    // mvc-* 와 reactive-* 를 짝지어 비교 (stream은 반응형 전용)
+    private static final List<String> SCENARIOS = List.of(
+            "mvc-dashboard", "reactive-dashboard", "reactive-stream", "mvc-subscriptions", "reactive-subscriptions");
+
+    private final int clients = Integer.getInteger("loadtest.clients", 400);
+    private final int subscriptions = Integer.getInteger("loadtest.subscriptions", 300);
+    private final int pageSize = Integer.getInteger("loadtest.pageSize", 20);
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 5));
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 20));
+    private final Path output = Path.of(System.getProperty("loadtest.output", "build/reports/loadtest/reactive-read-comparison.json"));
+
+    public static void main(String[] args) throws Exception {
+        new ReactiveReadComparison().run();
+    }
+
+    private void run() throws Exception {
+        Map<String, Result> results = new LinkedHashMap<>();
+
+        try (EmbeddedBackend backend = EmbeddedBackend.start("reactive-read", EmbeddedBackend.Database.MEM, null,
+                "--reactive.read.enabled=true")) {
+            Seeder.seed(backend, subscriptions, USAGE_MONTH);
+
+            Map<String, Supplier<HttpRequest>> operations = Map.of(
+                    "mvc-dashboard", Requests.dashboard(backend, USAGE_MONTH),
+                    "reactive-dashboard", Requests.dashboard(backend, "/api/v1/reactive/dashboard", USAGE_MONTH),
+                    "reactive-stream", Requests.dashboardStream(backend, USAGE_MONTH),
+                    "mvc-subscriptions", Requests.subscriptionPage(backend, subscriptions, pageSize),
+                    "reactive-subscriptions", Requests.subscriptionPage(backend, "/api/v1/reactive/subscriptions", subscriptions, pageSize)
+            );
+            Map<String, IntSupplier> gauges = gauges(backend);
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+            ClosedLoopDriver driver = new ClosedLoopDriver(backend.http(), clients);
+            for (String scenario : SCENARIOS) {
+                System.out.printf("[%s] 부하 시작 - clients=%d, duration=%ds%n", scenario, clients, duration.toSeconds());
+                threads.resetPeakThreadCount();
+
+                List<LatencyRecorder.Summary> summaries;
+                ResourceSampler sampler = ResourceSampler.start(gauges);
+                try {
+                    summaries = driver.run(LoadMix.single(scenario), operations, warmup, duration);
+                } finally {
+                    sampler.close();
+                }
+                results.put(scenario, new Result(summaries.get(0), sampler.usages(), threads.getPeakThreadCount()));
+            }
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), Map.of(
+                        "clients", clients,
+                        "subscriptions", subscriptions,
+                        "durationSeconds", duration.toSeconds(),
+                        "results", results
+                ));
+
+        System.out.printf("%n%-23s %10s %7s %9s %8s %8s %10s %10s %10s %10s%n",
+                "scenario", "req/s", "errors", "p99(ms)", "jdbc", "r2dbc", "tomcat", "tomcat", "threads", "threads");
+        System.out.printf("%-23s %10s %7s %9s %8s %8s %10s %10s %10s %10s%n",
+                "", "", "", "", "max", "max", "busy max", "busy avg", "live max", "peak");
+        results.forEach((scenario, result) -> {
+            LatencyRecorder.Summary s = result.latency();
+            Map<String, ResourceSampler.Usage> u = result.resources();
+            System.out.printf("%-23s %10.1f %7d %9.2f %8d %8d %10d %10.1f %10d %10d%n",
+                    scenario, s.throughputPerSec(), s.errors(), s.p99Millis(),
+                    u.get("jdbcActive").max(), u.get("r2dbcAcquired").max(),
+                    u.get("tomcatBusy").max(), u.get("tomcatBusy").mean(),
+                    u.get("liveThreads").max(), result.peakThreads());
+        });
+        System.out.println("결과 파일: " + output.toAbsolutePath());
+    }
+
+    private Map<String, IntSupplier> gauges(EmbeddedBackend backend) throws SQLException {
+        HikariDataSource hikari = backend.bean(DataSource.class).unwrap(HikariDataSource.class);
+        ReactiveReadDatabase reactive = backend.bean(ReactiveReadDatabase.class);
+        Executor executor = ((TomcatWebServer) backend.webServer()).getTomcat().getConnector().getProtocolHandler().getExecutor();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        Map<String, IntSupplier> gauges = new LinkedHashMap<>();
+        gauges.put("jdbcActive", () -> hikari.getHikariPoolMXBean().getActiveConnections());
+        gauges.put("jdbcPending", () -> hikari.getHikariPoolMXBean().getThreadsAwaitingConnection());
+        gauges.put("r2dbcAcquired", reactive::acquiredConnections);
+        gauges.put("r2dbcPending", reactive::pendingAcquires);
+        // 플랫폼 스레드 풀 모드 기준 (virtual 프로필이면 -1)
+        gauges.put("tomcatBusy", executor instanceof ThreadPoolExecutor pool ? pool::getActiveCount : () -> -1);
+        gauges.put("liveThreads", threads::getThreadCount);
+        return gauges;
+    }
+
+    record Result(
+            LatencyRecorder.Summary latency,
+            Map<String, ResourceSampler.Usage> resources,
+            int peakThreads
+    ) {}
+}
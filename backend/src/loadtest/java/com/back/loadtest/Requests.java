@@ -0,0 +1,67 @@
+package com.back.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.YearMonth;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 부하 요청 생성기 (요청 종류 이름 -> 매 호출마다 새 요청)
+ */
+final class Requests {
+
+    private Requests() {
+    }
+
+    // POST /api/v1/usages - 임의 구독, 카테고리 단위에 맞는 사용량
+    static Supplier<HttpRequest> usage(EmbeddedBackend backend, int subscriptions, YearMonth month) {
+        URI uri = URI.create(backend.url("/api/v1/usages"));
+        return () -> {
+            long subscriptionId = ThreadLocalRandom.current().nextLong(1, subscriptions + 1);
+            return HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .header(Seeder.USER_ID_HEADER, Seeder.USER_ID)
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"subscriptionId\":" + subscriptionId
+                                    + ",\"date\":\"" + month + "\""
+                                    + ",\"usageValue\":" + Seeder.randomUsageValue(subscriptionId, month) + "}"))
+                    .build();
+        };
+    }
+
+    // GET /api/v1/dashboard
+    static Supplier<HttpRequest> dashboard(EmbeddedBackend backend, YearMonth month) {
+        return dashboard(backend, "/api/v1/dashboard", month);
+    }
+
+    // GET {path} - 같은 월 대시보드 (MVC / 반응형 경로 비교용)
+    static Supplier<HttpRequest> dashboard(EmbeddedBackend backend, String path, YearMonth month) {
+        URI uri = URI.create(backend.url(path + "?year=" + month.getYear() + "&month=" + month.getMonthValue()));
+        return () -> HttpRequest.newBuilder(uri).header(Seeder.USER_ID_HEADER, Seeder.USER_ID).GET().build();
+    }
+
+    // GET /api/v1/reactive/dashboard/subscriptions - 구독별 요약 NDJSON 스트림
+    static Supplier<HttpRequest> dashboardStream(EmbeddedBackend backend, YearMonth month) {
+        URI uri = URI.create(backend.url("/api/v1/reactive/dashboard/subscriptions?year=" + month.getYear() + "&month=" + month.getMonthValue()));
+        return () -> HttpRequest.newBuilder(uri)
+                .header(Seeder.USER_ID_HEADER, Seeder.USER_ID)
+                .header("Accept", "application/x-ndjson")
+                .GET()
+                .build();
+    }
+
+    // GET /api/v1/subscriptions - 임의 커서부터 한 페이지
+    static Supplier<HttpRequest> subscriptionPage(EmbeddedBackend backend, int subscriptions, int pageSize) {
+        return subscriptionPage(backend, "/api/v1/subscriptions", subscriptions, pageSize);
+    }
+
+    // GET {path} - 임의 커서부터 한 페이지 (MVC / 반응형 경로 비교용)
+    static Supplier<HttpRequest> subscriptionPage(EmbeddedBackend backend, String path, int subscriptions, int pageSize) {
+        String prefix = backend.url(path + "?size=" + pageSize + "&cursor=");
+        return () -> HttpRequest.newBuilder(URI.create(prefix + ThreadLocalRandom.current().nextInt(0, subscriptions + 1)))
+                .header(Seeder.USER_ID_HEADER, Seeder.USER_ID)
+                .GET()
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.back.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * 부하 중 서버 자원 관찰기: 일정 간격으로 게이지(커넥션 / 스레드 수 등)를 읽어 최댓값과 평균을 남긴다.
+ * 관찰 스레드는 가상 스레드 하나이며, close() 시점까지의 표본만 집계한다.
+ */
+final class ResourceSampler implements AutoCloseable {
+
+    private static final long INTERVAL_MILLIS = 5;
+
+    private final Map<String, IntSupplier> gauges;
+    private final Map<String, long[]> totals = new LinkedHashMap<>(); // 이름 -> [최댓값, 합계]
+    private final Thread thread;
+    private volatile boolean running = true;
+    private long samples;
+
+    private ResourceSampler(Map<String, IntSupplier> gauges) {
+        this.gauges = gauges;
+        gauges.keySet().forEach(name -> totals.put(name, new long[]{Long.MIN_VALUE, 0}));
+        this.thread = Thread.ofVirtual().name("loadtest-sampler").start(this::sampleLoop);
+    }
+
+    static ResourceSampler start(Map<String, IntSupplier> gauges) {
+        return new ResourceSampler(gauges);
+    }
+
+    private void sampleLoop() {
+        while (running) {
+            gauges.forEach((name, gauge) -> {
+                long value = gauge.getAsInt();
+                long[] total = totals.get(name);
+                total[0] = Math.max(total[0], value);
+                total[1] += value;
+            });
+            samples++;
+            try {
+                Thread.sleep(INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        thread.join();
+    }
+
+    // close() 후 호출
+    Map<String, Usage> usages() {
+        Map<String, Usage> usages = new LinkedHashMap<>();
+        totals.forEach((name, total) -> usages.put(name, samples == 0
+                ? new Usage(0, 0)
+                : new Usage(total[0], (double) total[1] / samples)));
+        return usages;
+    }
+
+    record Usage(long max, double mean) {}
+}
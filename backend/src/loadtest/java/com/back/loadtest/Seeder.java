@@ -0,0 +1,66 @@
+package com.back.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.YearMonth;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 구독 / 사용량 시드 (API를 통해 넣어 평가/집계까지 실제 경로로 만든다)
+ *
+ * DataInitializer 기본 카테고리 6개(id 1~6)에 구독을 순서대로 나눠 배정한다.
+ * id 1~3(OTT/MUSIC/EBOOK)은 분 단위, id 4~6(AI_TOOL/WORK_TOOL/CLOUD)은 일 단위다.
+ * 모든 구독은 한 사용자(USER_ID)의 것으로 넣고, 부하 요청도 같은 사용자로 보낸다.
+ */
+final class Seeder {
+
+    static final int CATEGORY_COUNT = 6;
+    static final String USER_ID_HEADER = "X-User-Id";
+    static final String USER_ID = "1";
+    private static final int BATCH_SIZE = 1000;
+
+    private Seeder() {
+    }
+
+    static long categoryIdOf(long subscriptionId) {
+        return ((subscriptionId - 1) % CATEGORY_COUNT) + 1;
+    }
+
+    // 카테고리 단위 범위 안의 임의 사용량 (0 포함)
+    static int randomUsageValue(long subscriptionId, YearMonth month) {
+        int max = categoryIdOf(subscriptionId) > 3 ? month.lengthOfMonth() : 3600;
+        return ThreadLocalRandom.current().nextInt(0, max + 1);
+    }
+
+    static void seed(EmbeddedBackend backend, int subscriptions, YearMonth month) throws Exception {
+        for (int i = 1; i <= subscriptions; i++) {
+            String body = "{\"categoryId\":" + categoryIdOf(i) + ",\"name\":\"loadtest-" + i + "\""
+                    + ",\"totalCost\":17000,\"userShareCost\":17000,\"billingCycle\":\"MONTHLY\",\"status\":\"ACTIVE\"}";
+            post(backend, "/api/v1/subscriptions", body, "구독");
+        }
+
+        // 대시보드가 빈 화면이 아니도록 대상 월 사용량을 일괄 기록
+        for (int from = 1; from <= subscriptions; from += BATCH_SIZE) {
+            StringJoiner usages = new StringJoiner(",", "{\"usages\":[", "]}");
+            for (int id = from; id < Math.min(from + BATCH_SIZE, subscriptions + 1); id++) {
+                usages.add("{\"subscriptionId\":" + id + ",\"date\":\"" + month + "\",\"usageValue\":" + randomUsageValue(id, month) + "}");
+            }
+            post(backend, "/api/v1/usages/batch", usages.toString(), "사용량");
+        }
+    }
+
+    private static void post(EmbeddedBackend backend, String path, String body, String target) throws Exception {
+        HttpResponse<Void> response = backend.http().send(
+                HttpRequest.newBuilder(URI.create(backend.url(path)))
+                        .header("Content-Type", "application/json")
+                        .header(USER_ID_HEADER, USER_ID)
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(target + " 시드 실패: HTTP " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.back.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 플랫폼 스레드 모드 vs 가상 스레드 모드 처리량 / 지연 시간 비교
+ *
+ * 같은 JVM에서 모드별로 백엔드를 임의 포트 + 인메모리 H2로 띄워 시드한 뒤, 동일한 부하를
+ * POST /api/v1/usages, GET /api/v1/dashboard 에 순서대로 건 뒤 결과를 JSON으로 남긴다.
+ *
+ * 실행: ./gradlew threadModeComparison [-Ploadtest.clients=400 -Ploadtest.durationSeconds=30]
+ */
+public class ThreadModeComparison {
+
+    private static final YearMonth USAGE_MONTH = YearMonth.of(2025, 2);
+
+    private final int clients = Integer.getInteger("loadtest.clients", 200);
+    private final int subscriptions = Integer.getInteger("loadtest.subscriptions", 300);
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 5));
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 20));
+    private final Path output = Path.of(System.getProperty("loadtest.output", "build/reports/loadtest/thread-mode-comparison.json"));
+
+    public static void main(String[] args) throws Exception {
+        new ThreadModeComparison().run();
+    }
+
+    private void run() throws Exception {
+        Map<String, List<LatencyRecorder.Summary>> results = new LinkedHashMap<>();
+        results.put("platform", runMode(false));
+        results.put("virtual", runMode(true));
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), Map.of(
+                        "clients", clients,
+                        "subscriptions", subscriptions,
+                        "durationSeconds", duration.toSeconds(),
+                        "results", results
+                ));
+
+        System.out.printf("%n%-9s %-10s %10s %8s %10s %9s %9s %9s%n",
+                "mode", "scenario", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+        results.forEach((mode, summaries) -> summaries.forEach(s ->
+                System.out.printf("%-9s %-10s %10d %8d %10.1f %9.2f %9.2f %9.2f%n",
+                        mode, s.scenario(), s.requests(), s.errors(), s.throughputPerSec(),
+                        s.p50Millis(), s.p99Millis(), s.maxMillis())));
+        System.out.println("결과 파일: " + output.toAbsolutePath());
+    }
+
+    private List<LatencyRecorder.Summary> runMode(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        try (EmbeddedBackend backend = EmbeddedBackend.start(mode, EmbeddedBackend.Database.MEM, virtualThreads ? "virtual" : null)) {
+            Seeder.seed(backend, subscriptions, USAGE_MONTH);
+
+            Map<String, Supplier<HttpRequest>> operations = Map.of(
+                    "usages", Requests.usage(backend, subscriptions, USAGE_MONTH),
+                    "dashboard", Requests.dashboard(backend, USAGE_MONTH)
+            );
+
+            System.out.printf("[%s] 부하 시작 - clients=%d, duration=%ds%n", mode, clients, duration.toSeconds());
+            ClosedLoopDriver driver = new ClosedLoopDriver(backend.http(), clients);
+            List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+            summaries.addAll(driver.run(LoadMix.single("usages"), operations, warmup, duration));
+            summaries.addAll(driver.run(LoadMix.single("dashboard"), operations, warmup, duration));
+            return summaries;
+        }
+    }
+}
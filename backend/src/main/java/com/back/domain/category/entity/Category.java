@@ -2,6 +2,7 @@ package com.back.domain.category.entity;
 
 import com.back.domain.category.enums.CategoryType;
 import com.back.domain.category.enums.UsageUnit;
+import com.back.domain.category.registry.CategoryChangeListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "category")
+@EntityListeners(CategoryChangeListener.class)
 public class Category {
 
     @Id
@@ -0,0 +1,27 @@
+package com.back.domain.category.registry;
+
+import com.back.domain.category.entity.Category;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Category 엔티티 변경 시 CategoryRegistry 재적재 예약
+ * (Hibernate가 SpringBeanContainer로 생성하므로 빈 주입 가능, 레지스트리는 순환 참조를 피하려 지연 조회)
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryChangeListener {
+
+    private final ObjectProvider<CategoryRegistry> categoryRegistry;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Category category) {
+        categoryRegistry.getObject().refreshAfterCommit();
+    }
+}
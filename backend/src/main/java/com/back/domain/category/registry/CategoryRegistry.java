@@ -0,0 +1,116 @@
+package com.back.domain.category.registry;
+
+import com.back.domain.category.repository.CategoryRepository;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 인메모리 레지스트리
+ *
+ * [정책]
+ * - 카테고리는 DataInitializer로 시드되는 거의 정적인 테이블이므로, 사용량 기록/평가/대시보드 경로는
+ *   카테고리를 DB에서 읽지 않고 이 레지스트리의 불변 스냅샷을 사용한다.
+ * - 카테고리가 변경되면 (CategoryChangeListener) 커밋 후 전체를 다시 읽어 맵 참조를 한 번에 교체한다.
+ *   읽는 쪽은 항상 교체 전 또는 교체 후의 완전한 맵만 보게 된다.
+ */
+@Slf4j
+@Component
+public class CategoryRegistry {
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate newTransaction;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<Long, CategorySnapshot> categories = Map.of();
+
+    public CategoryRegistry(CategoryRepository categoryRepository, PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+
+        // afterCommit 콜백에서도 호출되므로 항상 새 트랜잭션에서 읽는다
+        // 방금 커밋된 변경을 읽어야 하므로 읽기 전용으로 두지 않는다 (읽기 전용 트랜잭션은 복제본으로 갈 수 있음)
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    public CategorySnapshot get(Long categoryId) {
+        if (categoryId == null) {
+            throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
+        }
+
+        CategorySnapshot snapshot = categories.get(categoryId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        // 변경 알림보다 조회가 먼저 도착한 경우에 한해 한 번 다시 읽는다
+        refresh();
+        snapshot = categories.get(categoryId);
+        if (snapshot == null) {
+            throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
+        }
+        return snapshot;
+    }
+
+    public Collection<CategorySnapshot> getAll() {
+        return categories.values();
+    }
+
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            Map<Long, CategorySnapshot> loaded = newTransaction.execute(status ->
+                    categoryRepository.findAll().stream()
+                            .map(CategorySnapshot::from)
+                            .collect(Collectors.toUnmodifiableMap(CategorySnapshot::id, Function.identity())));
+
+            categories = loaded;
+            log.info("[CategoryRegistry] 카테고리 {}건 적재", loaded.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 레지스트리를 다시 만든다. (트랜잭션 밖이면 즉시)
+     * 한 트랜잭션에서 여러 카테고리가 바뀌어도 재적재는 한 번만 등록된다.
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(RefreshOnCommit.class::isInstance);
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(new RefreshOnCommit());
+        }
+    }
+
+    private class RefreshOnCommit implements TransactionSynchronization {
+        @Override
+        public void afterCommit() {
+            refresh();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.back.domain.category.registry;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.category.enums.CategoryType;
+import com.back.domain.category.enums.UsageUnit;
+
+/**
+ * 카테고리의 불변 스냅샷 (영속성 컨텍스트와 무관하게 스레드 간 공유 가능)
+ */
+public record CategorySnapshot(
+        Long id,
+        String name,
+        int referenceValue,
+        UsageUnit unit,
+        CategoryType type
+) {
+    public static CategorySnapshot from(Category category) {
+        return new CategorySnapshot(
+                category.getId(),
+                category.getName(),
+                category.getReferenceValue(),
+                category.getUnit(),
+                category.getType()
+        );
+    }
+}
@@ -0,0 +1,140 @@
+package com.back.domain.dashboard.cache;
+
+import com.back.domain.dashboard.dto.DashboardResponse;
+import com.back.domain.dashboard.dto.UserMonth;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 월 대시보드 응답 캐시 (LRU, 사용자/월 단위 무효화)
+ *
+ * [정책]
+ * - (사용자, 월)마다 버전을 두고, 해당 사용자/월의 평가/집계가 바뀐 트랜잭션이 커밋되면 버전을 올리고 캐시를 비운다.
+ *   한 사용자의 변경은 다른 사용자의 캐시를 비우지 않는다.
+ * - ETag는 (기동 시각, 사용자, 월, 버전)으로 만든다. 버전만 읽으면 되므로 304 응답에는 DB 조회가 필요 없다.
+ * - 응답을 만드는 동안 버전이 바뀌었다면 (그 사이 커밋된 변경이 있다면) 결과를 캐시에 넣지 않는다.
+ * - 재기동하면 버전이 0부터 다시 시작하므로 기동 시각을 ETag에 넣어 이전 ETag가 재사용되지 않게 한다.
+ */
+@Component
+public class DashboardCache {
+
+    private static final AtomicLong INITIAL_VERSION = new AtomicLong();
+
+    private final int maxEntries;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final ConcurrentHashMap<UserMonth, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<UserMonth, CachedDashboard> entries;
+
+    public DashboardCache(DashboardCacheProperties properties) {
+        this.maxEntries = Math.max(1, properties.maxEntries());
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UserMonth, CachedDashboard> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 현재 버전 기준의 강한(strong) ETag
+     */
+    public String etag(UserMonth key) {
+        return "\"" + epoch + "-" + key.userId() + "-" + key.month() + "-" + version(key) + "\"";
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없거나 오래된 경우 loader로 만들어 캐시한다.
+     * loader(DB 조회)는 잠금 밖에서 실행한다.
+     */
+    public DashboardResponse get(UserMonth key, Supplier<DashboardResponse> loader) {
+        long version = version(key);
+
+        lock.lock();
+        try {
+            CachedDashboard cached = entries.get(key);
+            if (cached != null && cached.version() == version) {
+                return cached.response();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        DashboardResponse loaded = loader.get();
+
+        lock.lock();
+        try {
+            if (version(key) == version) {
+                entries.put(key, new CachedDashboard(version, loaded));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    /**
+     * 버전을 먼저 올린 뒤 캐시를 비운다.
+     * 버전 확인과 저장은 같은 잠금 안에서 하므로, 무효화 이전 데이터로 만든 응답이 다시 들어가지 않는다.
+     */
+    public void invalidate(UserMonth key) {
+        versions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 해당 사용자/월들을 무효화한다. (트랜잭션 밖이면 즉시)
+     * 커밋 전에 무효화하면 다른 요청이 커밋 전 데이터로 캐시를 다시 채울 수 있기 때문이다.
+     */
+    public void invalidateAfterCommit(Collection<UserMonth> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            keys.forEach(this::invalidate);
+            return;
+        }
+
+        Set<UserMonth> snapshot = new TreeSet<>(keys);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshot.forEach(DashboardCache.this::invalidate);
+            }
+        });
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long version(UserMonth key) {
+        return versions.getOrDefault(key, INITIAL_VERSION).get();
+    }
+
+    private record CachedDashboard(long version, DashboardResponse response) {}
+}
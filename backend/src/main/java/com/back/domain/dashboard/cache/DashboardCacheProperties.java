@@ -0,0 +1,9 @@
+package com.back.domain.dashboard.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "dashboard.cache")
+public record DashboardCacheProperties(
+        @DefaultValue("120") int maxEntries // 캐시할 최대 월 수 (초과 시 가장 오래 조회되지 않은 월부터 제거)
+) {}
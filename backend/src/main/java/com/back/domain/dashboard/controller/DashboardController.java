@@ -1,16 +1,29 @@
 package com.back.domain.dashboard.controller;
 
+import com.back.domain.dashboard.cache.DashboardCache;
+import com.back.domain.dashboard.dto.AggregateConsistencyReport;
+import com.back.domain.dashboard.dto.DashboardRankingResponse;
 import com.back.domain.dashboard.dto.DashboardResponse;
+import com.back.domain.dashboard.dto.DashboardTrendResponse;
+import com.back.domain.dashboard.dto.UserMonth;
+import com.back.domain.dashboard.service.DashboardAggregateService;
 import com.back.domain.dashboard.service.DashboardService;
 import com.back.global.common.dto.RsData;
+import com.back.global.common.web.UserHeaders;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.YearMonth;
 
 @Validated
 @RestController
@@ -19,13 +32,68 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardAggregateService dashboardAggregateService;
+    private final DashboardCache dashboardCache;
 
+    // 월 대시보드 조회 (If-None-Match가 현재 ETag와 같으면 조회/직렬화 없이 304)
     @GetMapping
     public RsData<DashboardResponse> getDashboard(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
             @RequestParam @Min(2000) @Max(2100) int year,
-            @RequestParam @Min(1) @Max(12) int month
+            @RequestParam @Min(1) @Max(12) int month,
+            WebRequest webRequest
     ) {
-        DashboardResponse response = dashboardService.getMonthlyDashboard(year, month);
+        UserMonth key = new UserMonth(userId, YearMonth.of(year, month));
+        if (webRequest.checkNotModified(dashboardCache.etag(key))) {
+            return null;
+        }
+
+        DashboardResponse response = dashboardCache.get(key, () -> dashboardService.getMonthlyDashboard(userId, year, month));
         return RsData.success(year + "년 " + month + "월 대시보드 조회 성공", response);
     }
-}
\ No newline at end of file
+
+    // 기간별 월 추이 (차트용, 예: from=2025-01&to=2025-12)
+    @GetMapping("/trend")
+    public RsData<DashboardTrendResponse> getTrend(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to
+    ) {
+        DashboardTrendResponse response = dashboardService.getTrend(userId, from, to);
+        return RsData.success(from + " ~ " + to + " 월별 추이 조회 성공", response);
+    }
+
+    // 월 연간 낭비 랭킹 (낭비가 큰 순서로 최대 limit개)
+    @GetMapping("/ranking")
+    public RsData<DashboardRankingResponse> getWasteRanking(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @RequestParam @Min(2000) @Max(2100) int year,
+            @RequestParam @Min(1) @Max(12) int month,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit
+    ) {
+        DashboardRankingResponse response = dashboardService.getWasteRanking(userId, year, month, limit);
+        return RsData.success(year + "년 " + month + "월 낭비 랭킹 조회 성공", response);
+    }
+
+    // 월 집계 정합성 검사 (증분 유지 값 vs 처음부터 재계산한 값)
+    @GetMapping("/aggregate/check")
+    public RsData<AggregateConsistencyReport> checkAggregate(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @RequestParam @Min(2000) @Max(2100) int year,
+            @RequestParam @Min(1) @Max(12) int month
+    ) {
+        AggregateConsistencyReport report = dashboardAggregateService.check(userId, YearMonth.of(year, month));
+        return RsData.success(year + "년 " + month + "월 집계 정합성 검사 완료", report);
+    }
+
+    // 월 집계 재구성 (불일치 시 처음부터 다시 계산한 값으로 덮어씀)
+    @PostMapping("/aggregate/rebuild")
+    public RsData<AggregateConsistencyReport> rebuildAggregate(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @RequestParam @Min(2000) @Max(2100) int year,
+            @RequestParam @Min(1) @Max(12) int month
+    ) {
+        AggregateConsistencyReport report = dashboardAggregateService.rebuild(userId, YearMonth.of(year, month));
+        return RsData.success(year + "년 " + month + "월 집계 재구성 완료", report);
+    }
+}
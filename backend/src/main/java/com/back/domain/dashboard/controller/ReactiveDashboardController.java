@@ -0,0 +1,66 @@
+package com.back.domain.dashboard.controller;
+
+import com.back.domain.dashboard.cache.DashboardCache;
+import com.back.domain.dashboard.dto.DashboardResponse;
+import com.back.domain.dashboard.dto.UserMonth;
+import com.back.domain.dashboard.service.ReactiveDashboardService;
+import com.back.global.common.dto.RsData;
+import com.back.global.common.web.UserHeaders;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.YearMonth;
+
+/**
+ * 월 대시보드 반응형 읽기 API (reactive.read.enabled=true, 실험용)
+ * 조회 중에는 요청 스레드를 반납하고(비동기 응답), 결과가 오면 응답을 쓴다.
+ * 조회 자체는 ReactiveReadDatabase의 전용 스레드에서 블로킹으로 돌며, 복제본이 아닌 기본 DB를 읽는다. (ReactiveReadConfig 참고)
+ */
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reactive/dashboard")
+@ConditionalOnProperty(prefix = "reactive.read", name = "enabled", havingValue = "true")
+public class ReactiveDashboardController {
+
+    private final ReactiveDashboardService reactiveDashboardService;
+    private final DashboardCache dashboardCache;
+
+    // 월 대시보드 조회 (GET /api/v1/dashboard와 같은 응답 / ETag, If-None-Match가 같으면 조회 없이 304)
+    @GetMapping
+    public Mono<RsData<DashboardResponse>> getDashboard(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @RequestParam @Min(2000) @Max(2100) int year,
+            @RequestParam @Min(1) @Max(12) int month,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(dashboardCache.etag(new UserMonth(userId, YearMonth.of(year, month))))) {
+            return null;
+        }
+
+        return reactiveDashboardService.getMonthlyDashboard(userId, year, month)
+                .map(response -> RsData.success(year + "년 " + month + "월 대시보드 조회 성공", response));
+    }
+
+    // 구독별 요약 스트림 (한 줄에 SubscriptionSummary 하나, 클라이언트가 읽는 만큼 DB에서 읽는다)
+    @GetMapping(value = "/subscriptions", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DashboardResponse.SubscriptionSummary> streamSubscriptions(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @RequestParam @Min(2000) @Max(2100) int year,
+            @RequestParam @Min(1) @Max(12) int month
+    ) {
+        return reactiveDashboardService.streamSummaries(userId, year, month);
+    }
+}
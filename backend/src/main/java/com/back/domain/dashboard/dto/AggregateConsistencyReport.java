@@ -0,0 +1,16 @@
+package com.back.domain.dashboard.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.YearMonth;
+
+/**
+ * 증분 유지된 월 집계(stored)와 평가 테이블에서 처음부터 다시 계산한 값(expected) 비교 결과
+ */
+public record AggregateConsistencyReport(
+        @JsonFormat(pattern = "yyyy-MM") YearMonth month,
+        boolean consistent,
+        boolean rebuilt,
+        MonthlyAggregateDelta stored,
+        MonthlyAggregateDelta expected
+) {}
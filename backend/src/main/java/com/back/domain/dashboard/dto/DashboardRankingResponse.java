@@ -0,0 +1,10 @@
+package com.back.domain.dashboard.dto;
+
+import java.util.List;
+
+/**
+ * 월 연간 낭비 랭킹 (낭비가 큰 순서, 같으면 구독 id 오름차순)
+ */
+public record DashboardRankingResponse(
+        List<DashboardResponse.SubscriptionSummary> subscriptions
+) {}
@@ -0,0 +1,46 @@
+package com.back.domain.dashboard.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 기간별 월 추이 (차트용) - 평가가 없는 월도 0으로 채워 from ~ to 모든 월을 순서대로 담는다.
+ */
+public record DashboardTrendResponse(
+        List<MonthlyTrend> months
+) {
+    public record MonthlyTrend(
+            @JsonFormat(pattern = "yyyy-MM")
+            YearMonth month,
+            long totalMonthlyCost,          // 월 대시보드와 같은 기준 (TRIAL 제외)
+            long totalAnnualWasteEstimate,
+            long evaluatedCount,
+            StatusCounts statusCounts
+    ) {
+        public static MonthlyTrend from(MonthlyAggregateDelta totals) {
+            return new MonthlyTrend(
+                    totals.month(),
+                    totals.totalMonthlyCost(),
+                    totals.totalAnnualWaste(),
+                    totals.evaluatedCount(),
+                    new StatusCounts(
+                            totals.efficientCount(),
+                            totals.keepCount(),
+                            totals.reviewCount(),
+                            totals.inefficientCount(),
+                            totals.ghostCount()
+                    )
+            );
+        }
+    }
+
+    public record StatusCounts(
+            long efficient,
+            long keep,
+            long review,
+            long inefficient,
+            long ghost
+    ) {}
+}
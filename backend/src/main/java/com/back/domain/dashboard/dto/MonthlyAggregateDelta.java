@@ -0,0 +1,83 @@
+package com.back.domain.dashboard.dto;
+
+import com.back.domain.evaluation.enums.EvaluationStatus;
+
+import java.time.YearMonth;
+
+/**
+ * 사용자별 월 대시보드 집계의 증감분 (또는 처음부터 계산한 전체 값)
+ */
+public record MonthlyAggregateDelta(
+        long userId,
+        YearMonth month,
+        long totalMonthlyCost,
+        long totalAnnualWaste,
+        long efficientCount,
+        long keepCount,
+        long reviewCount,
+        long inefficientCount,
+        long ghostCount
+) {
+    public static MonthlyAggregateDelta zero(long userId, YearMonth month) {
+        return new MonthlyAggregateDelta(userId, month, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    // 평가 1건이 집계에 기여하는 값
+    public static MonthlyAggregateDelta of(long userId, YearMonth month, long monthlyCost, long annualWaste, EvaluationStatus status) {
+        return new MonthlyAggregateDelta(
+                userId,
+                month,
+                monthlyCost,
+                annualWaste,
+                status == EvaluationStatus.EFFICIENT ? 1 : 0,
+                status == EvaluationStatus.KEEP ? 1 : 0,
+                status == EvaluationStatus.REVIEW ? 1 : 0,
+                status == EvaluationStatus.INEFFICIENT ? 1 : 0,
+                status == EvaluationStatus.GHOST ? 1 : 0
+        );
+    }
+
+    public MonthlyAggregateDelta plus(MonthlyAggregateDelta other) {
+        return new MonthlyAggregateDelta(
+                userId,
+                month,
+                totalMonthlyCost + other.totalMonthlyCost,
+                totalAnnualWaste + other.totalAnnualWaste,
+                efficientCount + other.efficientCount,
+                keepCount + other.keepCount,
+                reviewCount + other.reviewCount,
+                inefficientCount + other.inefficientCount,
+                ghostCount + other.ghostCount
+        );
+    }
+
+    public MonthlyAggregateDelta minus(MonthlyAggregateDelta other) {
+        return plus(other.negate());
+    }
+
+    public MonthlyAggregateDelta negate() {
+        return new MonthlyAggregateDelta(
+                userId,
+                month,
+                -totalMonthlyCost,
+                -totalAnnualWaste,
+                -efficientCount,
+                -keepCount,
+                -reviewCount,
+                -inefficientCount,
+                -ghostCount
+        );
+    }
+
+    public UserMonth key() {
+        return new UserMonth(userId, month);
+    }
+
+    public long evaluatedCount() {
+        return efficientCount + keepCount + reviewCount + inefficientCount + ghostCount;
+    }
+
+    public boolean isZero() {
+        return equals(zero(userId, month));
+    }
+}
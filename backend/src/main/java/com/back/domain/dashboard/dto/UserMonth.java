@@ -0,0 +1,24 @@
+package com.back.domain.dashboard.dto;
+
+import java.time.YearMonth;
+import java.util.Comparator;
+
+/**
+ * 사용자별 월 (월 대시보드 집계 / 캐시의 키)
+ * 정렬 순서(사용자 -> 월)는 여러 집계 행을 갱신할 때의 잠금 순서로도 쓰인다.
+ */
+public record UserMonth(long userId, YearMonth month) implements Comparable<UserMonth> {
+
+    private static final Comparator<UserMonth> ORDER = Comparator.comparingLong(UserMonth::userId)
+            .thenComparing(UserMonth::month);
+
+    @Override
+    public int compareTo(UserMonth other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public String toString() {
+        return userId + ":" + month;
+    }
+}
@@ -0,0 +1,74 @@
+package com.back.domain.dashboard.entity;
+
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+/**
+ * 사용자별 월 대시보드 집계 (평가 Upsert / 구독 삭제 시 같은 트랜잭션에서 증감분으로 갱신)
+ * 값 변경은 MonthlyDashboardAggregateRepository의 SQL로만 수행한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "monthly_dashboard_aggregate",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_monthly_dashboard_aggregate_user_month", columnNames = {"user_id", "eval_month"})
+        }
+)
+public class MonthlyDashboardAggregate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "eval_month", nullable = false)
+    private YearMonth evalMonth;
+
+    // 평가된 구독의 월 환산 사용자 부담금 합계 (TRIAL 제외)
+    private long totalMonthlyCost;
+
+    // 연간 낭비 추정 합계
+    private long totalAnnualWaste;
+
+    // 상태별 평가 건수
+    private long efficientCount;
+    private long keepCount;
+    private long reviewCount;
+    private long inefficientCount;
+    private long ghostCount;
+
+    public MonthlyDashboardAggregate(MonthlyAggregateDelta totals) {
+        this.userId = totals.userId();
+        this.evalMonth = totals.month();
+        this.totalMonthlyCost = totals.totalMonthlyCost();
+        this.totalAnnualWaste = totals.totalAnnualWaste();
+        this.efficientCount = totals.efficientCount();
+        this.keepCount = totals.keepCount();
+        this.reviewCount = totals.reviewCount();
+        this.inefficientCount = totals.inefficientCount();
+        this.ghostCount = totals.ghostCount();
+    }
+
+    public MonthlyAggregateDelta toTotals() {
+        return new MonthlyAggregateDelta(
+                userId,
+                evalMonth,
+                totalMonthlyCost,
+                totalAnnualWaste,
+                efficientCount,
+                keepCount,
+                reviewCount,
+                inefficientCount,
+                ghostCount
+        );
+    }
+}
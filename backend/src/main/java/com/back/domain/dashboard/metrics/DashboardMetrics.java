@@ -0,0 +1,52 @@
+package com.back.domain.dashboard.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월 대시보드 조회 단계별 처리 시간 / 행 수 분포 (캐시 미스로 실제 조회한 경우만)
+ * - dashboard.monthly.phase{phase=evaluation_load|aggregate_load|assemble}
+ * - dashboard.monthly.rows : 조회된 평가(구독 요약) 행 수
+ */
+@Component
+public class DashboardMetrics {
+
+    public enum Phase {
+        EVALUATION_LOAD, // 해당 월 평가 + 구독 조회
+        AGGREGATE_LOAD,  // 월 집계 조회
+        ASSEMBLE         // 구독별 요약 조립
+    }
+
+    private final Map<Phase, Timer> timers = new EnumMap<>(Phase.class);
+    private final DistributionSummary rows;
+
+    public DashboardMetrics(MeterRegistry registry) {
+        for (Phase phase : Phase.values()) {
+            timers.put(phase, Timer.builder("dashboard.monthly.phase")
+                    .description("월 대시보드 조회 단계별 처리 시간")
+                    .tag("phase", phase.name().toLowerCase())
+                    .register(registry));
+        }
+        this.rows = DistributionSummary.builder("dashboard.monthly.rows")
+                .description("월 대시보드 조회당 평가 행 수")
+                .baseUnit("rows")
+                .register(registry);
+    }
+
+    // UsageMetrics.lap 과 같은 방식: 단계 시간을 기록하고 다음 단계 시작 시각을 반환
+    public long lap(Phase phase, long startedNanos) {
+        long now = System.nanoTime();
+        timers.get(phase).record(now - startedNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void rows(int count) {
+        rows.record(count);
+    }
+}
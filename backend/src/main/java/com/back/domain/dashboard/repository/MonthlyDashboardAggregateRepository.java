@@ -0,0 +1,22 @@
+package com.back.domain.dashboard.repository;
+
+import com.back.domain.dashboard.entity.MonthlyDashboardAggregate;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+public interface MonthlyDashboardAggregateRepository extends JpaRepository<MonthlyDashboardAggregate, Long>, MonthlyDashboardAggregateRepositoryCustom {
+
+    Optional<MonthlyDashboardAggregate> findByUserIdAndEvalMonth(Long userId, YearMonth evalMonth);
+
+    // 재구성용: 집계 행을 잠가 재계산 도중 들어오는 증감분이 재구성 이후에 반영되도록 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from MonthlyDashboardAggregate a where a.userId = :userId and a.evalMonth = :evalMonth")
+    Optional<MonthlyDashboardAggregate> findByUserIdAndEvalMonthForUpdate(@Param("userId") Long userId,
+                                                                          @Param("evalMonth") YearMonth evalMonth);
+}
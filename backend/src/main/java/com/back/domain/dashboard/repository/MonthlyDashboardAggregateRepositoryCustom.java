@@ -0,0 +1,25 @@
+package com.back.domain.dashboard.repository;
+
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+public interface MonthlyDashboardAggregateRepositoryCustom {
+
+    // 해당 사용자/월 집계 행에 증감분을 원자적으로 더한다 (행이 없으면 생성)
+    void applyDelta(MonthlyAggregateDelta delta);
+
+    // 해당 사용자/월 집계 행을 주어진 전체 값으로 덮어쓴다 (재구성용)
+    void replace(MonthlyAggregateDelta totals);
+
+    // 평가/구독 테이블에서 해당 사용자/월 집계를 처음부터 계산한다
+    MonthlyAggregateDelta computeFromScratch(long userId, YearMonth month);
+
+    // 주어진 구독들의 평가가 집계에 기여한 값을 사용자/월별로 계산한다 (구독 삭제 시 차감용, 평가 행은 읽어오지 않음)
+    List<MonthlyAggregateDelta> computeContributions(Collection<Long> subscriptionIds);
+
+    // 해당 사용자의 [from, to] 기간 월 집계 행을 월 순서로 조회한다 (집계 행이 없는 월은 포함되지 않음, 엔티티 로딩 없음)
+    List<MonthlyAggregateDelta> findTotalsBetween(long userId, YearMonth from, YearMonth to);
+}
@@ -0,0 +1,202 @@
+package com.back.domain.dashboard.repository;
+
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import com.back.domain.dashboard.dto.UserMonth;
+import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.global.common.converter.YearMonthConverter;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class MonthlyDashboardAggregateRepositoryImpl implements MonthlyDashboardAggregateRepositoryCustom {
+
+    private static final String INCREMENT_SQL = """
+            UPDATE monthly_dashboard_aggregate
+            SET total_monthly_cost = total_monthly_cost + ?,
+                total_annual_waste = total_annual_waste + ?,
+                efficient_count = efficient_count + ?,
+                keep_count = keep_count + ?,
+                review_count = review_count + ?,
+                inefficient_count = inefficient_count + ?,
+                ghost_count = ghost_count + ?
+            WHERE user_id = ? AND eval_month = ?
+            """;
+
+    private static final String OVERWRITE_SQL = """
+            UPDATE monthly_dashboard_aggregate
+            SET total_monthly_cost = ?,
+                total_annual_waste = ?,
+                efficient_count = ?,
+                keep_count = ?,
+                review_count = ?,
+                inefficient_count = ?,
+                ghost_count = ?
+            WHERE user_id = ? AND eval_month = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO monthly_dashboard_aggregate
+                (total_monthly_cost, total_annual_waste, efficient_count, keep_count, review_count, inefficient_count, ghost_count, user_id, eval_month)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // 대시보드 정책과 동일: TRIAL 구독은 월 지출 합계에서 제외 ((user_id, eval_month) 선두 인덱스로 해당 사용자 행만 읽는다)
+    private static final String COMPUTE_SQL = """
+            SELECT e.status AS status,
+                   COUNT(*) AS cnt,
+                   COALESCE(SUM(e.annual_waste), 0) AS waste,
+                   COALESCE(SUM(CASE WHEN s.status = 'TRIAL' THEN 0 ELSE s.monthly_share_cost END), 0) AS cost
+            FROM subscription_evaluation e
+            JOIN subscription s ON s.id = e.subscription_id
+            WHERE e.user_id = ?
+              AND e.eval_month = ?
+              AND s.deleted = FALSE
+            GROUP BY e.status
+            """;
+
+    private static final String CONTRIBUTIONS_SQL = """
+            SELECT e.user_id AS user_id,
+                   e.eval_month AS eval_month,
+                   e.status AS status,
+                   COUNT(*) AS cnt,
+                   COALESCE(SUM(e.annual_waste), 0) AS waste,
+                   COALESCE(SUM(CASE WHEN s.status = 'TRIAL' THEN 0 ELSE s.monthly_share_cost END), 0) AS cost
+            FROM subscription_evaluation e
+            JOIN subscription s ON s.id = e.subscription_id
+            WHERE e.subscription_id IN (:subscriptionIds)
+            GROUP BY e.user_id, e.eval_month, e.status
+            """;
+
+    // eval_month 는 정수 기간(year * 12 + month - 1)이므로 값 순서 = 월 순서 ((user_id, eval_month) 유니크 인덱스 범위 조회)
+    private static final String TOTALS_BETWEEN_SQL = """
+            SELECT user_id, eval_month, total_monthly_cost, total_annual_waste,
+                   efficient_count, keep_count, review_count, inefficient_count, ghost_count
+            FROM monthly_dashboard_aggregate
+            WHERE user_id = ? AND eval_month BETWEEN ? AND ?
+            ORDER BY eval_month
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public MonthlyDashboardAggregateRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public void applyDelta(MonthlyAggregateDelta delta) {
+        write(INCREMENT_SQL, delta);
+    }
+
+    @Override
+    public void replace(MonthlyAggregateDelta totals) {
+        write(OVERWRITE_SQL, totals);
+    }
+
+    @Override
+    public MonthlyAggregateDelta computeFromScratch(long userId, YearMonth month) {
+        return jdbcTemplate.query(COMPUTE_SQL, rs -> {
+            MonthlyAggregateDelta totals = MonthlyAggregateDelta.zero(userId, month);
+            while (rs.next()) {
+                totals = totals.plus(toDelta(userId, month, rs));
+            }
+            return totals;
+        }, userId, YearMonthConverter.toPeriod(month));
+    }
+
+    @Override
+    public List<MonthlyAggregateDelta> computeContributions(Collection<Long> subscriptionIds) {
+        if (subscriptionIds.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("subscriptionIds", subscriptionIds);
+        return namedJdbcTemplate.query(CONTRIBUTIONS_SQL, params, rs -> {
+            Map<UserMonth, MonthlyAggregateDelta> byUserMonth = new TreeMap<>();
+            while (rs.next()) {
+                long userId = rs.getLong("user_id");
+                YearMonth month = YearMonthConverter.fromPeriod(rs.getInt("eval_month"));
+                byUserMonth.merge(new UserMonth(userId, month), toDelta(userId, month, rs), MonthlyAggregateDelta::plus);
+            }
+            return List.copyOf(byUserMonth.values());
+        });
+    }
+
+    @Override
+    public List<MonthlyAggregateDelta> findTotalsBetween(long userId, YearMonth from, YearMonth to) {
+        return jdbcTemplate.query(TOTALS_BETWEEN_SQL, (rs, rowNum) -> new MonthlyAggregateDelta(
+                        rs.getLong("user_id"),
+                        YearMonthConverter.fromPeriod(rs.getInt("eval_month")),
+                        rs.getLong("total_monthly_cost"),
+                        rs.getLong("total_annual_waste"),
+                        rs.getLong("efficient_count"),
+                        rs.getLong("keep_count"),
+                        rs.getLong("review_count"),
+                        rs.getLong("inefficient_count"),
+                        rs.getLong("ghost_count")
+                ),
+                userId,
+                YearMonthConverter.toPeriod(from),
+                YearMonthConverter.toPeriod(to));
+    }
+
+    // (상태별 건수, 비용 합, 낭비 합) 한 행 -> 집계 값
+    private MonthlyAggregateDelta toDelta(long userId, YearMonth month, ResultSet rs) throws SQLException {
+        MonthlyAggregateDelta single = MonthlyAggregateDelta.of(userId, month, 0, 0, EvaluationStatus.valueOf(rs.getString("status")));
+        long count = rs.getLong("cnt");
+
+        return new MonthlyAggregateDelta(
+                userId,
+                month,
+                rs.getLong("cost"),
+                rs.getLong("waste"),
+                single.efficientCount() * count,
+                single.keepCount() * count,
+                single.reviewCount() * count,
+                single.inefficientCount() * count,
+                single.ghostCount() * count
+        );
+    }
+
+    /**
+     * UPDATE 후 대상 행이 없으면 INSERT 한다.
+     * 같은 사용자/월의 첫 행을 동시에 만들다 유니크 제약에 걸리면, 먼저 만든 행에 다시 UPDATE 한다.
+     * (행이 생긴 뒤에는 UPDATE 한 문장이 행 잠금으로 직렬화되므로 증감분이 유실되지 않는다)
+     */
+    private void write(String updateSql, MonthlyAggregateDelta values) {
+        Object[] args = toArgs(values);
+        if (jdbcTemplate.update(updateSql, args) > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT_SQL, args);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(updateSql, args);
+        }
+    }
+
+    private Object[] toArgs(MonthlyAggregateDelta v) {
+        return new Object[]{
+                v.totalMonthlyCost(),
+                v.totalAnnualWaste(),
+                v.efficientCount(),
+                v.keepCount(),
+                v.reviewCount(),
+                v.inefficientCount(),
+                v.ghostCount(),
+                v.userId(),
+                YearMonthConverter.toPeriod(v.month())
+        };
+    }
+}
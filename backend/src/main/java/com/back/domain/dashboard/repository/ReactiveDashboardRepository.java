@@ -0,0 +1,105 @@
+package com.back.domain.dashboard.repository;
+
+import com.back.domain.dashboard.dto.DashboardResponse;
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.domain.evaluation.kernel.EvaluationFormulas;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.global.common.converter.YearMonthConverter;
+import com.back.global.r2dbc.ReactiveReadDatabase;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.YearMonth;
+
+/**
+ * 월 대시보드 R2DBC 조회 (반응형 읽기 API)
+ * JPA 경로(DashboardService)와 같은 테이블 / 인덱스 / 집계 기준을 쓴다.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "reactive.read", name = "enabled", havingValue = "true")
+public class ReactiveDashboardRepository {
+
+    private static final String SELECT_TOTALS_SQL = """
+            SELECT total_monthly_cost, total_annual_waste, efficient_count, keep_count, review_count, inefficient_count, ghost_count
+            FROM monthly_dashboard_aggregate
+            WHERE user_id = :userId
+              AND eval_month = :evalMonth
+            """;
+
+    // (user_id, eval_month) 선두 인덱스, 카테고리명은 조인으로 함께 읽는다 (삭제 표시된 구독 제외)
+    private static final String SELECT_SUMMARIES_SQL = """
+            SELECT e.subscription_id, c.name AS category_name, s.name, e.efficiency_rate, e.status, e.annual_waste,
+                   e.cost_per_unit, s.monthly_share_cost, s.status AS subscription_status
+            FROM subscription_evaluation e
+            JOIN subscription s ON s.id = e.subscription_id
+            JOIN category c ON c.id = s.category_id
+            WHERE e.user_id = :userId
+              AND e.eval_month = :evalMonth
+              AND s.deleted = FALSE
+            ORDER BY e.subscription_id
+            """;
+
+    private final ReactiveReadDatabase database;
+
+    public ReactiveDashboardRepository(ReactiveReadDatabase database) {
+        this.database = database;
+    }
+
+    // 증분 유지되는 사용자/월 집계 (없으면 빈 Mono)
+    public Mono<MonthlyAggregateDelta> findTotals(long userId, YearMonth month) {
+        return database.client().sql(SELECT_TOTALS_SQL)
+                .bind("userId", userId)
+                .bind("evalMonth", YearMonthConverter.toPeriod(month))
+                .map(row -> new MonthlyAggregateDelta(
+                        userId,
+                        month,
+                        longValue(row, "total_monthly_cost"),
+                        longValue(row, "total_annual_waste"),
+                        longValue(row, "efficient_count"),
+                        longValue(row, "keep_count"),
+                        longValue(row, "review_count"),
+                        longValue(row, "inefficient_count"),
+                        longValue(row, "ghost_count")
+                ))
+                .one()
+                .subscribeOn(database.scheduler());
+    }
+
+    // 구독별 요약 (구독 id 순, 구독자가 요청한 만큼씩 읽는다)
+    public Flux<DashboardResponse.SubscriptionSummary> findSummaries(long userId, YearMonth month) {
+        return database.client().sql(SELECT_SUMMARIES_SQL)
+                .bind("userId", userId)
+                .bind("evalMonth", YearMonthConverter.toPeriod(month))
+                .map(ReactiveDashboardRepository::toSummary)
+                .all()
+                .subscribeOn(database.scheduler());
+    }
+
+    // DashboardService의 요약 규칙과 같다 (잠재 연간 낭비는 TRIAL 구독만)
+    private static DashboardResponse.SubscriptionSummary toSummary(Readable row) {
+        double efficiencyRate = row.get("efficiency_rate", Double.class);
+        String status = row.get("status", String.class);
+        boolean trial = SubscriptionStatus.TRIAL.name().equals(row.get("subscription_status", String.class));
+
+        return new DashboardResponse.SubscriptionSummary(
+                longValue(row, "subscription_id"),
+                row.get("category_name", String.class),
+                row.get("name", String.class),
+                efficiencyRate,
+                status != null ? EvaluationStatus.valueOf(status) : null,
+                longValue(row, "annual_waste"),
+                trial,
+                trial ? EvaluationFormulas.annualWaste(efficiencyRate, longValue(row, "monthly_share_cost")) : 0L,
+                longValue(row, "cost_per_unit")
+        );
+    }
+
+    private static long longValue(Readable row, String column) {
+        Long value = row.get(column, Long.class);
+        return value != null ? value : 0L;
+    }
+}
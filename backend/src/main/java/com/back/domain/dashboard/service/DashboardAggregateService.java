@@ -0,0 +1,138 @@
+package com.back.domain.dashboard.service;
+
+import com.back.domain.dashboard.cache.DashboardCache;
+import com.back.domain.dashboard.dto.AggregateConsistencyReport;
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import com.back.domain.dashboard.dto.UserMonth;
+import com.back.domain.dashboard.entity.MonthlyDashboardAggregate;
+import com.back.domain.dashboard.repository.MonthlyDashboardAggregateRepository;
+import com.back.domain.evaluation.dto.StoredEvaluation;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.subscription.entity.Subscription;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.global.datasource.ReplicaLagGuard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 사용자별 월 대시보드 집계(MonthlyDashboardAggregate) 증분 유지 및 정합성 검사
+ *
+ * [정책]
+ * - 집계 기준은 DashboardService와 같다: 평가된 구독의 월 지출(TRIAL 제외), 연간 낭비, 상태별 건수
+ * - 평가 Upsert / 구독 삭제와 같은 트랜잭션에서 (새 기여분 - 이전 기여분)만 더한다.
+ * - 집계 행은 (사용자, 월)마다 하나다. 평가/구독 행의 user_id로 어느 사용자의 집계인지 정한다.
+ * - 여러 행을 갱신할 때는 (사용자, 월) 순서대로 갱신해 트랜잭션 간 잠금 순서를 맞춘다. (교착 방지)
+ * - 평가가 바뀐 월은 증감분이 0이어도 (효율 등 요약 값이 바뀔 수 있으므로) 커밋 후 대시보드 캐시를 무효화한다.
+ * - 캐시 무효화보다 먼저 복제 지연 가드에 쓰기를 기록해, 무효화 직후의 조회가 아직 반영 안 된 복제본을 읽지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardAggregateService {
+
+    private final MonthlyDashboardAggregateRepository aggregateRepository;
+    private final DashboardCache dashboardCache;
+    private final ReplicaLagGuard lagGuard;
+
+    /**
+     * 평가 Upsert 결과를 집계에 반영한다.
+     *
+     * @param evaluations 이번에 저장한 평가 (키 중복 없음)
+     * @param previous    Upsert 직전에 저장되어 있던 평가 (없던 키는 포함되지 않음)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyEvaluations(Collection<SubscriptionEvaluation> evaluations, Map<EvaluationKey, StoredEvaluation> previous) {
+        Map<UserMonth, MonthlyAggregateDelta> deltas = new TreeMap<>();
+
+        for (SubscriptionEvaluation evaluation : evaluations) {
+            Subscription subscription = evaluation.getSubscription();
+            long userId = evaluation.getUserId();
+            YearMonth month = evaluation.getEvalMonth();
+            long monthlyCost = contributedCost(subscription);
+
+            MonthlyAggregateDelta delta = MonthlyAggregateDelta.of(userId, month, monthlyCost, evaluation.getAnnualWaste(), evaluation.getStatus());
+
+            StoredEvaluation before = previous.get(new EvaluationKey(subscription.getId(), month));
+            if (before != null) {
+                delta = delta.minus(MonthlyAggregateDelta.of(userId, month, monthlyCost, before.annualWaste(), before.status()));
+            }
+
+            deltas.merge(delta.key(), delta, MonthlyAggregateDelta::plus);
+        }
+
+        apply(deltas);
+    }
+
+    /**
+     * 삭제되는 구독들의 평가 기여분을 집계에서 뺀다.
+     * 기여분은 DB에서 월/상태별로 합산해 가져오므로 평가 이력 행 수와 무관하게 월 수만큼만 읽는다.
+     * 호출 측은 대상 구독 행을 잠근 상태여야 한다. (그 사이 평가가 바뀌지 않도록)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyRemoval(Collection<Long> subscriptionIds) {
+        Map<UserMonth, MonthlyAggregateDelta> deltas = new TreeMap<>();
+
+        for (MonthlyAggregateDelta contribution : aggregateRepository.computeContributions(subscriptionIds)) {
+            deltas.merge(contribution.key(), contribution.negate(), MonthlyAggregateDelta::plus);
+        }
+
+        apply(deltas);
+    }
+
+    /**
+     * 해당 사용자/월의 저장된 집계와 평가 테이블에서 처음부터 계산한 값을 비교한다.
+     */
+    @Transactional(readOnly = true)
+    public AggregateConsistencyReport check(long userId, YearMonth month) {
+        MonthlyAggregateDelta stored = aggregateRepository.findByUserIdAndEvalMonth(userId, month)
+                .map(MonthlyDashboardAggregate::toTotals)
+                .orElseGet(() -> MonthlyAggregateDelta.zero(userId, month));
+        MonthlyAggregateDelta expected = aggregateRepository.computeFromScratch(userId, month);
+        return new AggregateConsistencyReport(month, stored.equals(expected), false, stored, expected);
+    }
+
+    /**
+     * 해당 사용자/월의 집계를 처음부터 다시 계산해 덮어쓴다. (불일치 발견 시 복구용)
+     */
+    @Transactional
+    public AggregateConsistencyReport rebuild(long userId, YearMonth month) {
+        MonthlyAggregateDelta stored = aggregateRepository.findByUserIdAndEvalMonthForUpdate(userId, month)
+                .map(MonthlyDashboardAggregate::toTotals)
+                .orElseGet(() -> MonthlyAggregateDelta.zero(userId, month));
+        MonthlyAggregateDelta expected = aggregateRepository.computeFromScratch(userId, month);
+        boolean consistent = stored.equals(expected);
+
+        if (!consistent) {
+            log.warn("[DashboardAggregate] {} 집계 불일치 - 재구성 (stored={}, expected={})", expected.key(), stored, expected);
+            aggregateRepository.replace(expected);
+            lagGuard.recordWritesAfterCommit(List.of(userId));
+            dashboardCache.invalidateAfterCommit(List.of(expected.key()));
+        }
+
+        return new AggregateConsistencyReport(month, consistent, !consistent, stored, expected);
+    }
+
+    private void apply(Map<UserMonth, MonthlyAggregateDelta> deltas) {
+        deltas.values().stream()
+                .filter(delta -> !delta.isZero())
+                .forEach(aggregateRepository::applyDelta);
+
+        lagGuard.recordWritesAfterCommit(deltas.keySet().stream().map(UserMonth::userId).distinct().toList());
+        dashboardCache.invalidateAfterCommit(deltas.keySet());
+    }
+
+    // 대시보드 월 지출 합계 정책: TRIAL 구독은 0원으로 집계
+    private long contributedCost(Subscription subscription) {
+        return subscription.getStatus() == SubscriptionStatus.TRIAL ? 0L : subscription.getMonthlyShareCost();
+    }
+}
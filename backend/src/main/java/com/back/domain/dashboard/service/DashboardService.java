@@ -1,76 +1,194 @@
 package com.back.domain.dashboard.service;
 
+import com.back.domain.category.registry.CategoryRegistry;
+import com.back.domain.dashboard.dto.DashboardRankingResponse;
 import com.back.domain.dashboard.dto.DashboardResponse;
+import com.back.domain.dashboard.dto.DashboardTrendResponse;
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import com.back.domain.dashboard.entity.MonthlyDashboardAggregate;
+import com.back.domain.dashboard.metrics.DashboardMetrics;
+import com.back.domain.dashboard.repository.MonthlyDashboardAggregateRepository;
+import com.back.domain.evaluation.columnar.ColumnRowVisitor;
+import com.back.domain.evaluation.columnar.EvaluationColumnStore;
 import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.kernel.EvaluationFormulas;
+import com.back.domain.evaluation.kernel.EvaluationKernel;
 import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
 import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
 
+    static final int MAX_TREND_MONTHS = 60;
+
     private final SubscriptionEvaluationRepository evaluationRepository;
+    private final MonthlyDashboardAggregateRepository aggregateRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final DashboardMetrics dashboardMetrics;
+    private final EvaluationColumnStore evaluationColumnStore;
+    private final EvaluationKernel evaluationKernel;
 
     @Transactional(readOnly = true)
-    public DashboardResponse getMonthlyDashboard(int year, int month) {
+    public DashboardResponse getMonthlyDashboard(long userId, int year, int month) {
 
         /**
          * [정책]
-         * 해당 월에 평가 (SubscriptionEvaluation)가 존재하는 구독만 대시보드에 포함한다.
+         * 해당 사용자의 구독 중 해당 월에 평가 (SubscriptionEvaluation)가 존재하는 구독만 대시보드에 포함한다.
          * 사용량 미입력 구독은 분석 대상에서 제외한다.
+         * 모든 조회는 사용자 범위(user_id 선두 인덱스 / 사용자별 파티션)로 좁히므로 비용은 전체 사용자 수와 무관하다.
          */
 
         YearMonth targetMonth = YearMonth.of(year, month);
+        long phaseStartedAt = System.nanoTime();
+
+        // 열 저장소가 켜져 있으면 DB 조회 없이 사용자의 월 파티션 열을 훑어 합계/요약을 만든다
+        if (evaluationColumnStore.isReady()) {
+            MonthlyAggregateDelta totals = evaluationColumnStore.totals(userId, targetMonth);
+            phaseStartedAt = dashboardMetrics.lap(DashboardMetrics.Phase.AGGREGATE_LOAD, phaseStartedAt);
+
+            List<DashboardResponse.SubscriptionSummary> summaries = new ArrayList<>(evaluationColumnStore.size(userId, targetMonth));
+            int rows = evaluationColumnStore.forEachRow(userId, targetMonth, summaryCollector(summaries));
+            dashboardMetrics.lap(DashboardMetrics.Phase.ASSEMBLE, phaseStartedAt);
+            dashboardMetrics.rows(rows);
 
-        // 1. 해당 월의 모든 평가 데이터 조회
-        List<SubscriptionEvaluation> evaluations = evaluationRepository.findAllWithSubscriptionAndCategoryByEvalMonth(targetMonth);
+            return new DashboardResponse(totals.totalMonthlyCost(), totals.totalAnnualWaste(), summaries);
+        }
 
-        // 2. 이번 달 평가된 구독의 월 지출 합계
-        long totalMonthlyCost = evaluations.stream()
-                .mapToLong(e -> e.getSubscription().getStatus() == SubscriptionStatus.TRIAL ? 0L : e.getSubscription().getMonthlyShareCost())
-                .sum();
+        // 1. 해당 사용자/월의 모든 평가 데이터 조회
+        List<SubscriptionEvaluation> evaluations = evaluationRepository.findAllWithSubscriptionByUserIdAndEvalMonth(userId, targetMonth);
+        phaseStartedAt = dashboardMetrics.lap(DashboardMetrics.Phase.EVALUATION_LOAD, phaseStartedAt);
+        dashboardMetrics.rows(evaluations.size());
 
-        // 3. 전체 연간 낭비 예상액 합계
-        long totalWaste = evaluations.stream()
-                .mapToLong(SubscriptionEvaluation::getAnnualWaste)
-                .sum();
+        // 2~3. 월 지출 합계 / 연간 낭비 예상액 합계는 증분 유지되는 월 집계에서 조회 (O(1))
+        MonthlyDashboardAggregate aggregate = aggregateRepository.findByUserIdAndEvalMonth(userId, targetMonth).orElse(null);
+        long totalMonthlyCost = aggregate != null ? aggregate.getTotalMonthlyCost() : 0L;
+        long totalWaste = aggregate != null ? aggregate.getTotalAnnualWaste() : 0L;
+        phaseStartedAt = dashboardMetrics.lap(DashboardMetrics.Phase.AGGREGATE_LOAD, phaseStartedAt);
 
         // 4. 구독별 요약 리스트 생성
-        List<DashboardResponse.SubscriptionSummary> summaries = evaluations.stream()
-                .map(e -> {
-                    var s = e.getSubscription();
-                    boolean isTrial = s.getStatus() == SubscriptionStatus.TRIAL;
-
-                    long potentialAnnualWaste = isTrial
-                            ? calcPotentialAnnualWaste(s.getMonthlyShareCost(), e.getEfficiencyRate())
-                            : 0L;
-
-                    return new DashboardResponse.SubscriptionSummary(
-                            s.getId(),
-                            s.getCategory().getName(),
-                            s.getName(),
-                            e.getEfficiencyRate(),
-                            e.getStatus(),
-                            e.getAnnualWaste(),
-                            isTrial,
-                            potentialAnnualWaste,
-                            e.getCostPerUnit()
-                    );
-                })
-                .toList();
+        List<DashboardResponse.SubscriptionSummary> summaries = toSummaries(evaluations);
+        dashboardMetrics.lap(DashboardMetrics.Phase.ASSEMBLE, phaseStartedAt);
 
         return new DashboardResponse(totalMonthlyCost, totalWaste, summaries);
     }
 
-    private long calcPotentialAnnualWaste(long monthlyCost, double rate) {
-        if (rate >= 100) return 0L;
-        // TRIAL이어도 유료 전환 시 기준으로 계산되니까 한 달 뒤 위험을 잡아줌 + 반올림 정책 통일
-        return Math.round(monthlyCost * (1 - rate / 100) * 12);
+    /**
+     * 사용자의 기간별 월 추이 (월 지출 합계 / 연간 낭비 합계 / 상태별 건수)
+     * 증분 유지되는 사용자의 월 집계 행만 한 번의 범위 조회로 읽으므로 평가 행 수와 무관하게 월 수만큼만 읽는다.
+     * 월 집계는 getMonthlyDashboard 합계와 같은 기준(TRIAL 월 지출 제외, 삭제 표시 구독 제외)으로 유지된다.
+     */
+    @Transactional(readOnly = true)
+    public DashboardTrendResponse getTrend(long userId, YearMonth from, YearMonth to) {
+        if (from.isAfter(to) || ChronoUnit.MONTHS.between(from, to) >= MAX_TREND_MONTHS) {
+            throw new CustomException(ErrorCode.INVALID_TREND_RANGE);
+        }
+
+        // 열 저장소가 켜져 있으면 사용자의 월 파티션마다 열을 한 번씩 훑어 계산한다 (DB 조회 없음)
+        List<DashboardTrendResponse.MonthlyTrend> months = new ArrayList<>();
+        if (evaluationColumnStore.isReady()) {
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                months.add(DashboardTrendResponse.MonthlyTrend.from(evaluationColumnStore.totals(userId, month)));
+            }
+            return new DashboardTrendResponse(months);
+        }
+
+        Map<YearMonth, MonthlyAggregateDelta> stored = aggregateRepository.findTotalsBetween(userId, from, to).stream()
+                .collect(Collectors.toMap(MonthlyAggregateDelta::month, Function.identity()));
+
+        // 집계 행이 없는 월(평가 없음)은 0으로 채운다
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(DashboardTrendResponse.MonthlyTrend.from(
+                    stored.getOrDefault(month, MonthlyAggregateDelta.zero(userId, month))));
+        }
+        return new DashboardTrendResponse(months);
+    }
+
+    /**
+     * 사용자의 월 연간 낭비 랭킹 (상위 limit개)
+     * 열 저장소가 켜져 있으면 연간 낭비 열만 훑어 상위 limit개를 고르고, 꺼져 있으면 평가를 읽어 정렬한다.
+     */
+    @Transactional(readOnly = true)
+    public DashboardRankingResponse getWasteRanking(long userId, int year, int month, int limit) {
+        YearMonth targetMonth = YearMonth.of(year, month);
+
+        if (evaluationColumnStore.isReady()) {
+            List<DashboardResponse.SubscriptionSummary> ranked = new ArrayList<>(limit);
+            evaluationColumnStore.forEachTopByAnnualWaste(userId, targetMonth, limit, summaryCollector(ranked));
+            return new DashboardRankingResponse(ranked);
+        }
+
+        List<DashboardResponse.SubscriptionSummary> ranked = toSummaries(evaluationRepository.findAllWithSubscriptionByUserIdAndEvalMonth(userId, targetMonth)).stream()
+                .sorted(Comparator.comparingLong(DashboardResponse.SubscriptionSummary::annualWaste).reversed()
+                        .thenComparing(DashboardResponse.SubscriptionSummary::id))
+                .limit(limit)
+                .toList();
+        return new DashboardRankingResponse(ranked);
+    }
+
+    // 평가 -> 구독별 요약 (JMH 벤치마크에서 직접 호출하므로 package-private)
+    // 잠재 연간 낭비는 효율 / 월 비용 열로 모아 평가 커널로 한 번에 계산한다 (TRIAL이 아닌 행은 0으로 덮음)
+    List<DashboardResponse.SubscriptionSummary> toSummaries(List<SubscriptionEvaluation> evaluations) {
+        int size = evaluations.size();
+        double[] rates = new double[size];
+        long[] monthlyCosts = new long[size];
+        for (int i = 0; i < size; i++) {
+            SubscriptionEvaluation e = evaluations.get(i);
+            rates[i] = e.getEfficiencyRate();
+            monthlyCosts[i] = e.getSubscription().getMonthlyShareCost();
+        }
+
+        long[] potentialAnnualWastes = new long[size];
+        evaluationKernel.potentialAnnualWaste(rates, monthlyCosts, potentialAnnualWastes, size);
+
+        List<DashboardResponse.SubscriptionSummary> summaries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SubscriptionEvaluation e = evaluations.get(i);
+            var s = e.getSubscription();
+            boolean isTrial = s.getStatus() == SubscriptionStatus.TRIAL;
+
+            summaries.add(new DashboardResponse.SubscriptionSummary(
+                    s.getId(),
+                    categoryRegistry.get(s.getCategoryId()).name(),
+                    s.getName(),
+                    e.getEfficiencyRate(),
+                    e.getStatus(),
+                    e.getAnnualWaste(),
+                    isTrial,
+                    isTrial ? potentialAnnualWastes[i] : 0L,
+                    e.getCostPerUnit()
+            ));
+        }
+        return summaries;
+    }
+
+    // 열 저장소 행 -> 구독별 요약 (toSummaries와 같은 규칙)
+    private ColumnRowVisitor summaryCollector(List<DashboardResponse.SubscriptionSummary> target) {
+        return (subscriptionId, label, efficiencyRate, status, annualWaste, costPerUnit, monthlyShareCost, trial) ->
+                target.add(new DashboardResponse.SubscriptionSummary(
+                        subscriptionId,
+                        categoryRegistry.get(label.categoryId()).name(),
+                        label.name(),
+                        efficiencyRate,
+                        status,
+                        annualWaste,
+                        trial,
+                        trial ? EvaluationFormulas.annualWaste(efficiencyRate, monthlyShareCost) : 0L,
+                        costPerUnit
+                ));
     }
-}
\ No newline at end of file
+}
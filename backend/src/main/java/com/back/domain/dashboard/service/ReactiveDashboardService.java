@@ -0,0 +1,45 @@
+package com.back.domain.dashboard.service;
+
+import com.back.domain.dashboard.dto.DashboardResponse;
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import com.back.domain.dashboard.repository.ReactiveDashboardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.YearMonth;
+
+/**
+ * 월 대시보드 반응형 조회
+ *
+ * [정책]
+ * - 응답은 DashboardService.getMonthlyDashboard와 같다. (합계는 월 집계, 요약은 해당 월 평가가 있는 구독만)
+ * - 합계 조회 후 요약 조회를 이어서 실행해 요청 하나가 커넥션을 한 번에 하나만 쓴다.
+ * - 평가 열 저장소 / 대시보드 캐시는 쓰지 않는다. (항상 DB 조회)
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "reactive.read", name = "enabled", havingValue = "true")
+public class ReactiveDashboardService {
+
+    private final ReactiveDashboardRepository dashboardRepository;
+
+    public Mono<DashboardResponse> getMonthlyDashboard(long userId, int year, int month) {
+        YearMonth targetMonth = YearMonth.of(year, month);
+
+        return dashboardRepository.findTotals(userId, targetMonth)
+                .defaultIfEmpty(MonthlyAggregateDelta.zero(userId, targetMonth))
+                .flatMap(totals -> dashboardRepository.findSummaries(userId, targetMonth)
+                        .collectList()
+                        .map(summaries -> new DashboardResponse(totals.totalMonthlyCost(), totals.totalAnnualWaste(), summaries)));
+    }
+
+    /**
+     * 구독별 요약을 한 건씩 흘려보낸다. (클라이언트가 읽는 속도에 맞춰 DB에서 읽는다)
+     */
+    public Flux<DashboardResponse.SubscriptionSummary> streamSummaries(long userId, int year, int month) {
+        return dashboardRepository.findSummaries(userId, YearMonth.of(year, month));
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.domain.evaluation.columnar;
+
+import com.back.domain.evaluation.enums.EvaluationStatus;
+
+/**
+ * 열 저장소의 행을 객체로 만들지 않고 열 값 그대로 넘겨받는 방문자
+ */
+@FunctionalInterface
+public interface ColumnRowVisitor {
+
+    void visit(long subscriptionId,
+               SubscriptionLabel label,
+               double efficiencyRate,
+               EvaluationStatus status,
+               long annualWaste,
+               long costPerUnit,
+               long monthlyShareCost,
+               boolean trial);
+}
@@ -0,0 +1,36 @@
+package com.back.domain.evaluation.columnar;
+
+/**
+ * 월 파티션의 열(column) 배열
+ * 행 하나는 열마다 같은 인덱스에 저장되며, 행당 41바이트(long 4개 + double 1개 + byte 1개)를 쓴다.
+ * 구현은 파티션 잠금 안에서만 접근되므로 스스로 동기화하지 않는다.
+ */
+sealed interface Columns permits HeapColumns, OffHeapColumns {
+
+    static Columns allocate(int capacity, boolean offHeap) {
+        return offHeap ? new OffHeapColumns(capacity) : new HeapColumns(capacity);
+    }
+
+    int capacity();
+
+    // 앞쪽 size개 행을 복사한 더 큰 열 배열
+    Columns grow(int newCapacity, int size);
+
+    long subscriptionId(int row);
+
+    double efficiencyRate(int row);
+
+    long annualWaste(int row);
+
+    long costPerUnit(int row);
+
+    long monthlyShareCost(int row);
+
+    // 하위 3비트: 평가 상태 ordinal, 최상위 비트: TRIAL 여부 (MonthPartition.flags 참고)
+    byte flags(int row);
+
+    void set(int row, long subscriptionId, double efficiencyRate, long annualWaste,
+             long costPerUnit, long monthlyShareCost, byte flags);
+
+    void copyRow(int from, int to);
+}
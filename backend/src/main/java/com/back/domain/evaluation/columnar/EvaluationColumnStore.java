@@ -0,0 +1,229 @@
+package com.back.domain.evaluation.columnar;
+
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import com.back.domain.evaluation.dto.EvaluationColumnRow;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 평가(SubscriptionEvaluation)의 메모리 열 저장소 (사용자 -> 월별 파티션)
+ *
+ * [정책]
+ * - 파티션은 사용자마다 따로 둔다. 한 사용자의 월 조회/합계는 그 사용자 파티션만 훑으므로 전체 사용자 수와 무관하다.
+ * - evaluation.columnar.enabled=true일 때만 동작한다. 꺼져 있으면 모든 메서드가 아무것도 하지 않고 isReady()는 false다.
+ * - 기동 시 삭제 표시되지 않은 구독의 평가를 한 번에 적재한다. 적재 중 커밋된 변경은 반영 잠금에서 기다렸다가 적재 후 반영된다.
+ * - 평가 Upsert / 구독 삭제 트랜잭션이 커밋되면 바뀐 키만 DB에서 다시 읽어 반영한다.
+ *   커밋 후 콜백 실행 순서는 커밋 순서와 다를 수 있으므로 값을 넘겨받지 않고, 반영 잠금 안에서 커밋된 값을 다시 읽는다.
+ * - 반영에 실패하면 저장소를 더 이상 쓰지 않는다. (isReady() false -> 호출 측은 DB 조회로 돌아간다)
+ */
+@Slf4j
+@Component
+public class EvaluationColumnStore implements SmartInitializingSingleton {
+
+    private final EvaluationColumnStoreProperties properties;
+    private final SubscriptionEvaluationRepository evaluationRepository;
+    private final TransactionTemplate readTransaction;
+
+    private final ConcurrentHashMap<Long, ConcurrentSkipListMap<YearMonth, MonthPartition>> partitions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, SubscriptionLabel> labels = new ConcurrentHashMap<>();
+    private final ReentrantLock applyLock = new ReentrantLock();
+    private volatile boolean ready;
+
+    public EvaluationColumnStore(EvaluationColumnStoreProperties properties,
+                                 SubscriptionEvaluationRepository evaluationRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.evaluationRepository = evaluationRepository;
+
+        // 커밋 후 콜백에서도 호출되므로 항상 새 트랜잭션으로 읽는다
+        // 방금 커밋된 평가를 읽어야 하므로 읽기 전용(복제본으로 갈 수 있음)으로 두지 않는다
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.enabled()) {
+            load();
+        }
+    }
+
+    /**
+     * 저장소를 비우고 DB에서 다시 적재한다.
+     */
+    public void load() {
+        applyLock.lock();
+        try {
+            long startedAt = System.nanoTime();
+            partitions.clear();
+            labels.clear();
+
+            long[] rows = new long[1];
+            readTransaction.executeWithoutResult(status -> evaluationRepository.streamColumnRows(row -> {
+                apply(row);
+                rows[0]++;
+            }));
+
+            ready = true;
+            log.info("[EvaluationColumnStore] 평가 {}건 / 사용자 {}명 적재 완료 ({}ms, offHeap={})",
+                    rows[0], partitions.size(), (System.nanoTime() - startedAt) / 1_000_000, properties.offHeap());
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 해당 키들의 평가를 다시 읽어 반영한다. (트랜잭션 밖이면 즉시)
+     */
+    public void refreshAfterCommit(Collection<EvaluationKey> keys) {
+        if (!properties.enabled() || keys.isEmpty()) {
+            return;
+        }
+
+        List<EvaluationKey> snapshot = List.copyOf(keys);
+        afterCommit(() -> refresh(snapshot));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 해당 구독들의 평가를 (소유 사용자의) 모든 월에서 뺀다. (트랜잭션 밖이면 즉시)
+     */
+    public void removeAfterCommit(Collection<Long> subscriptionIds) {
+        if (!properties.enabled() || subscriptionIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> snapshot = List.copyOf(subscriptionIds);
+        afterCommit(() -> remove(snapshot));
+    }
+
+    /**
+     * 월 지출 합계 / 연간 낭비 합계 / 상태별 건수 (대시보드 월 집계와 같은 기준)
+     */
+    public MonthlyAggregateDelta totals(long userId, YearMonth month) {
+        MonthPartition partition = partition(userId, month);
+        return partition != null ? partition.totals() : MonthlyAggregateDelta.zero(userId, month);
+    }
+
+    /**
+     * 해당 사용자/월의 모든 행을 방문한다.
+     *
+     * @return 방문한 행 수
+     */
+    public int forEachRow(long userId, YearMonth month, ColumnRowVisitor visitor) {
+        MonthPartition partition = partition(userId, month);
+        return partition != null ? partition.forEach(labels::get, visitor) : 0;
+    }
+
+    /**
+     * 해당 사용자/월에서 연간 낭비가 큰 순서로 최대 limit개 행을 방문한다.
+     */
+    public void forEachTopByAnnualWaste(long userId, YearMonth month, int limit, ColumnRowVisitor visitor) {
+        MonthPartition partition = partition(userId, month);
+        if (partition != null) {
+            partition.forEachTopByAnnualWaste(limit, labels::get, visitor);
+        }
+    }
+
+    public int size(long userId, YearMonth month) {
+        MonthPartition partition = partition(userId, month);
+        return partition != null ? partition.size() : 0;
+    }
+
+    private MonthPartition partition(long userId, YearMonth month) {
+        ConcurrentSkipListMap<YearMonth, MonthPartition> months = partitions.get(userId);
+        return months != null ? months.get(month) : null;
+    }
+
+    private void refresh(List<EvaluationKey> keys) {
+        applyLock.lock();
+        try {
+            Map<EvaluationKey, EvaluationColumnRow> committed = readTransaction.execute(status ->
+                    evaluationRepository.findColumnRows(keys).stream()
+                            .collect(Collectors.toMap(EvaluationColumnRow::key, Function.identity())));
+
+            for (EvaluationKey key : keys) {
+                EvaluationColumnRow row = committed.get(key);
+                if (row != null) {
+                    apply(row);
+                } else {
+                    // 그 사이 구독이 삭제된 경우 (적재된 적 없는 구독이면 지울 행도 없다)
+                    SubscriptionLabel label = labels.get(key.subscriptionId());
+                    MonthPartition partition = label != null ? partition(label.userId(), key.month()) : null;
+                    if (partition != null) {
+                        partition.remove(key.subscriptionId());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            disable(e);
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    private void remove(List<Long> subscriptionIds) {
+        applyLock.lock();
+        try {
+            // 소유 사용자의 파티션만 훑는다
+            for (Long subscriptionId : subscriptionIds) {
+                SubscriptionLabel label = labels.remove(subscriptionId);
+                ConcurrentSkipListMap<YearMonth, MonthPartition> months = label != null ? partitions.get(label.userId()) : null;
+                if (months != null) {
+                    months.values().forEach(partition -> partition.remove(subscriptionId));
+                }
+            }
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    private void apply(EvaluationColumnRow row) {
+        labels.putIfAbsent(row.subscriptionId(), new SubscriptionLabel(row.userId(), row.name(), row.categoryId()));
+        partitions.computeIfAbsent(row.userId(), userId -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(row.month(),
+                        month -> new MonthPartition(row.userId(), month, properties.initialCapacity(), properties.offHeap()))
+                .put(row);
+    }
+
+    // 놓친 변경이 있는 저장소로 응답하지 않도록 끈다 (재기동 또는 load()로 복구)
+    private void disable(RuntimeException cause) {
+        ready = false;
+        log.error("[EvaluationColumnStore] 커밋된 평가 반영 실패 - 열 저장소 사용 중지", cause);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.back.domain.evaluation.columnar;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "evaluation.columnar")
+public record EvaluationColumnStoreProperties(
+        @DefaultValue("false") boolean enabled,        // true면 기동 시 평가를 열 저장소에 적재하고 대시보드/추이/랭킹을 메모리에서 계산
+        @DefaultValue("false") boolean offHeap,        // true면 열 배열을 힙 밖(direct buffer)에 둔다 (GC 대상 객체 수 감소)
+        @DefaultValue("1024") int initialCapacity      // 월 파티션 하나의 초기 행 수 (부족하면 2배씩 늘림)
+) {}
@@ -0,0 +1,100 @@
+package com.back.domain.evaluation.columnar;
+
+import java.util.Arrays;
+
+/**
+ * 자바 힙의 기본형 배열로 된 열
+ */
+final class HeapColumns implements Columns {
+
+    private final long[] subscriptionIds;
+    private final double[] efficiencyRates;
+    private final long[] annualWastes;
+    private final long[] costPerUnits;
+    private final long[] monthlyShareCosts;
+    private final byte[] flags;
+
+    HeapColumns(int capacity) {
+        this(new long[capacity], new double[capacity], new long[capacity],
+                new long[capacity], new long[capacity], new byte[capacity]);
+    }
+
+    private HeapColumns(long[] subscriptionIds, double[] efficiencyRates, long[] annualWastes,
+                        long[] costPerUnits, long[] monthlyShareCosts, byte[] flags) {
+        this.subscriptionIds = subscriptionIds;
+        this.efficiencyRates = efficiencyRates;
+        this.annualWastes = annualWastes;
+        this.costPerUnits = costPerUnits;
+        this.monthlyShareCosts = monthlyShareCosts;
+        this.flags = flags;
+    }
+
+    @Override
+    public int capacity() {
+        return subscriptionIds.length;
+    }
+
+    @Override
+    public Columns grow(int newCapacity, int size) {
+        // Arrays.copyOf는 뒤쪽을 0으로 채우므로 size 이후 값은 의미가 없다
+        return new HeapColumns(
+                Arrays.copyOf(subscriptionIds, newCapacity),
+                Arrays.copyOf(efficiencyRates, newCapacity),
+                Arrays.copyOf(annualWastes, newCapacity),
+                Arrays.copyOf(costPerUnits, newCapacity),
+                Arrays.copyOf(monthlyShareCosts, newCapacity),
+                Arrays.copyOf(flags, newCapacity)
+        );
+    }
+
+    @Override
+    public long subscriptionId(int row) {
+        return subscriptionIds[row];
+    }
+
+    @Override
+    public double efficiencyRate(int row) {
+        return efficiencyRates[row];
+    }
+
+    @Override
+    public long annualWaste(int row) {
+        return annualWastes[row];
+    }
+
+    @Override
+    public long costPerUnit(int row) {
+        return costPerUnits[row];
+    }
+
+    @Override
+    public long monthlyShareCost(int row) {
+        return monthlyShareCosts[row];
+    }
+
+    @Override
+    public byte flags(int row) {
+        return flags[row];
+    }
+
+    @Override
+    public void set(int row, long subscriptionId, double efficiencyRate, long annualWaste,
+                    long costPerUnit, long monthlyShareCost, byte flags) {
+        this.subscriptionIds[row] = subscriptionId;
+        this.efficiencyRates[row] = efficiencyRate;
+        this.annualWastes[row] = annualWaste;
+        this.costPerUnits[row] = costPerUnit;
+        this.monthlyShareCosts[row] = monthlyShareCost;
+        this.flags[row] = flags;
+    }
+
+    @Override
+    public void copyRow(int from, int to) {
+        subscriptionIds[to] = subscriptionIds[from];
+        efficiencyRates[to] = efficiencyRates[from];
+        annualWastes[to] = annualWastes[from];
+        costPerUnits[to] = costPerUnits[from];
+        monthlyShareCosts[to] = monthlyShareCosts[from];
+        flags[to] = flags[from];
+    }
+}
@@ -0,0 +1,110 @@
+package com.back.domain.evaluation.columnar;
+
+import java.util.Arrays;
+
+/**
+ * subscriptionId -> 행 번호 인덱스 (박싱 없는 열린 주소법, 선형 탐사)
+ * 값이 음수인 슬롯은 비어 있다. 삭제는 뒤쪽 슬롯을 당겨 채우는 방식(backward shift)이라 묘비(tombstone)가 남지 않는다.
+ * 파티션 잠금 안에서만 접근된다.
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntHashMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(long key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            if (values[slot] < 0) {
+                return MISSING;
+            }
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            if (values[slot] < 0) {
+                keys[slot] = key;
+                values[slot] = value;
+                if (++size * 2 > values.length) {
+                    rehash(values.length * 2);
+                }
+                return;
+            }
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+        }
+    }
+
+    void remove(long key) {
+        int slot = slot(key);
+        while (true) {
+            if (values[slot] < 0) {
+                return;
+            }
+            if (keys[slot] == key) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        // 빈 슬롯을 만날 때까지 뒤쪽 항목 중 제자리(home)보다 뒤로 밀려난 항목을 당겨 온다
+        int gap = slot;
+        for (int next = (gap + 1) & mask; values[next] >= 0; next = (next + 1) & mask) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        values[gap] = MISSING;
+        size--;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehash(int newTableSize) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newTableSize);
+        size = 0;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] >= 0) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int tableSize) {
+        keys = new long[tableSize];
+        values = new int[tableSize];
+        Arrays.fill(values, MISSING);
+        mask = tableSize - 1;
+    }
+
+    // 부하율 0.5 이하가 되도록 2의 거듭제곱 크기로 맞춘다
+    private static int tableSizeFor(int expectedSize) {
+        int wanted = Math.max(16, expectedSize * 2);
+        return Integer.highestOneBit(wanted - 1) << 1;
+    }
+}
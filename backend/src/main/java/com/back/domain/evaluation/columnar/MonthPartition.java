@@ -0,0 +1,245 @@
+package com.back.domain.evaluation.columnar;
+
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import com.back.domain.evaluation.dto.EvaluationColumnRow;
+import com.back.domain.evaluation.enums.EvaluationStatus;
+
+import java.time.YearMonth;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongFunction;
+
+/**
+ * 한 사용자의 한 달치 평가를 담는 열 파티션
+ *
+ * [정책]
+ * - 새 행은 끝에 붙이고, 삭제는 마지막 행을 빈자리로 옮겨 채운다. (행 순서는 보장하지 않음)
+ * - 조회는 읽기 잠금, 변경은 쓰기 잠금 안에서 한다.
+ * - 합계는 대시보드 월 집계와 같은 기준이다: TRIAL 구독의 월 지출은 0원으로 집계
+ */
+final class MonthPartition {
+
+    private static final EvaluationStatus[] STATUSES = EvaluationStatus.values();
+    private static final int STATUS_MASK = 0x07;
+    private static final int TRIAL_BIT = 0x80;
+
+    private final long userId;
+    private final YearMonth month;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap rowIndex;
+    private Columns columns;
+    private int size;
+
+    MonthPartition(long userId, YearMonth month, int initialCapacity, boolean offHeap) {
+        this.userId = userId;
+        this.month = month;
+        this.columns = Columns.allocate(Math.max(16, initialCapacity), offHeap);
+        this.rowIndex = new LongIntHashMap(columns.capacity());
+    }
+
+    static byte flags(EvaluationStatus status, boolean trial) {
+        return (byte) (status.ordinal() | (trial ? TRIAL_BIT : 0));
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 같은 구독의 행이 있으면 덮어쓰고, 없으면 끝에 추가한다.
+     */
+    void put(EvaluationColumnRow row) {
+        lock.writeLock().lock();
+        try {
+            int target = rowIndex.get(row.subscriptionId());
+            if (target == LongIntHashMap.MISSING) {
+                if (size == columns.capacity()) {
+                    columns = columns.grow(columns.capacity() * 2, size);
+                }
+                target = size++;
+                rowIndex.put(row.subscriptionId(), target);
+            }
+            columns.set(target, row.subscriptionId(), row.efficiencyRate(), row.annualWaste(),
+                    row.costPerUnit(), row.monthlyShareCost(), flags(row.status(), row.trial()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 행이 있어서 지웠으면 true
+     */
+    boolean remove(long subscriptionId) {
+        lock.writeLock().lock();
+        try {
+            int target = rowIndex.get(subscriptionId);
+            if (target == LongIntHashMap.MISSING) {
+                return false;
+            }
+
+            int last = --size;
+            if (target != last) {
+                columns.copyRow(last, target);
+                rowIndex.put(columns.subscriptionId(target), target);
+            }
+            rowIndex.remove(subscriptionId);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 월 지출 합계 / 연간 낭비 합계 / 상태별 건수를 열을 한 번 훑어 계산한다.
+     */
+    MonthlyAggregateDelta totals() {
+        lock.readLock().lock();
+        try {
+            long totalMonthlyCost = 0;
+            long totalAnnualWaste = 0;
+            long[] statusCounts = new long[STATUSES.length];
+
+            for (int row = 0; row < size; row++) {
+                int flags = columns.flags(row);
+                if ((flags & TRIAL_BIT) == 0) {
+                    totalMonthlyCost += columns.monthlyShareCost(row);
+                }
+                totalAnnualWaste += columns.annualWaste(row);
+                statusCounts[flags & STATUS_MASK]++;
+            }
+
+            return new MonthlyAggregateDelta(
+                    userId,
+                    month,
+                    totalMonthlyCost,
+                    totalAnnualWaste,
+                    statusCounts[EvaluationStatus.EFFICIENT.ordinal()],
+                    statusCounts[EvaluationStatus.KEEP.ordinal()],
+                    statusCounts[EvaluationStatus.REVIEW.ordinal()],
+                    statusCounts[EvaluationStatus.INEFFICIENT.ordinal()],
+                    statusCounts[EvaluationStatus.GHOST.ordinal()]
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 행을 방문한다.
+     *
+     * @return 방문한 행 수
+     */
+    int forEach(LongFunction<SubscriptionLabel> labels, ColumnRowVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            for (int row = 0; row < size; row++) {
+                visit(row, labels, visitor);
+            }
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 연간 낭비가 큰 순서로 최대 limit개 행을 방문한다. (같으면 구독 id 오름차순)
+     * 크기 limit인 최소 힙으로 골라 전체 정렬 없이 O(n log limit)에 끝난다.
+     */
+    void forEachTopByAnnualWaste(int limit, LongFunction<SubscriptionLabel> labels, ColumnRowVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            int[] heap = new int[Math.min(limit, size)];
+            int heapSize = 0;
+
+            for (int row = 0; row < size; row++) {
+                if (heapSize < heap.length) {
+                    heap[heapSize] = row;
+                    siftUp(heap, heapSize++);
+                } else if (heap.length > 0 && ranksBefore(row, heap[0])) {
+                    heap[0] = row;
+                    siftDown(heap, heapSize);
+                }
+            }
+
+            // 힙에서 가장 낮은 순위부터 꺼내 뒤쪽부터 채우면 높은 순위 순서가 된다
+            int[] ordered = new int[heapSize];
+            for (int i = heapSize - 1; i >= 0; i--) {
+                ordered[i] = heap[0];
+                heap[0] = heap[--heapSize];
+                siftDown(heap, heapSize);
+            }
+            for (int row : ordered) {
+                visit(row, labels, visitor);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void visit(int row, LongFunction<SubscriptionLabel> labels, ColumnRowVisitor visitor) {
+        long subscriptionId = columns.subscriptionId(row);
+        int flags = columns.flags(row);
+        visitor.visit(
+                subscriptionId,
+                labels.apply(subscriptionId),
+                columns.efficiencyRate(row),
+                STATUSES[flags & STATUS_MASK],
+                columns.annualWaste(row),
+                columns.costPerUnit(row),
+                columns.monthlyShareCost(row),
+                (flags & TRIAL_BIT) != 0
+        );
+    }
+
+    // 랭킹에서 a가 b보다 앞이면 true
+    private boolean ranksBefore(int a, int b) {
+        long wasteA = columns.annualWaste(a);
+        long wasteB = columns.annualWaste(b);
+        if (wasteA != wasteB) {
+            return wasteA > wasteB;
+        }
+        return columns.subscriptionId(a) < columns.subscriptionId(b);
+    }
+
+    // 최소 힙: 루트가 가장 낮은 순위
+    private void siftUp(int[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBefore(heap[parent], heap[index])) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int heapSize) {
+        int index = 0;
+        while (true) {
+            int lowest = index;
+            int left = index * 2 + 1;
+            int right = left + 1;
+            if (left < heapSize && ranksBefore(heap[lowest], heap[left])) {
+                lowest = left;
+            }
+            if (right < heapSize && ranksBefore(heap[lowest], heap[right])) {
+                lowest = right;
+            }
+            if (lowest == index) {
+                return;
+            }
+            swap(heap, index, lowest);
+            index = lowest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+}
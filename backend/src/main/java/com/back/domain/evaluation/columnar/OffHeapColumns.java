@@ -0,0 +1,101 @@
+package com.back.domain.evaluation.columnar;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * 힙 밖(direct buffer)에 둔 열
+ * 열마다 네이티브 바이트 순서의 direct ByteBuffer 하나를 쓰고, 절대 위치(get(int)/put(int, ...))로만 접근한다.
+ * Java 21에서 MemorySegment(FFM API)는 프리뷰이므로 정식 API인 direct buffer를 사용한다.
+ * 메모리는 버퍼 객체가 GC될 때 해제되므로 grow 이후 이전 버퍼는 따로 해제하지 않는다.
+ */
+final class OffHeapColumns implements Columns {
+
+    private final int capacity;
+    private final LongBuffer subscriptionIds;
+    private final DoubleBuffer efficiencyRates;
+    private final LongBuffer annualWastes;
+    private final LongBuffer costPerUnits;
+    private final LongBuffer monthlyShareCosts;
+    private final ByteBuffer flags;
+
+    OffHeapColumns(int capacity) {
+        this.capacity = capacity;
+        this.subscriptionIds = direct(capacity, Long.BYTES).asLongBuffer();
+        this.efficiencyRates = direct(capacity, Double.BYTES).asDoubleBuffer();
+        this.annualWastes = direct(capacity, Long.BYTES).asLongBuffer();
+        this.costPerUnits = direct(capacity, Long.BYTES).asLongBuffer();
+        this.monthlyShareCosts = direct(capacity, Long.BYTES).asLongBuffer();
+        this.flags = direct(capacity, Byte.BYTES);
+    }
+
+    private static ByteBuffer direct(int capacity, int bytesPerRow) {
+        return ByteBuffer.allocateDirect(capacity * bytesPerRow).order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public Columns grow(int newCapacity, int size) {
+        OffHeapColumns grown = new OffHeapColumns(newCapacity);
+        grown.subscriptionIds.put(0, subscriptionIds, 0, size);
+        grown.efficiencyRates.put(0, efficiencyRates, 0, size);
+        grown.annualWastes.put(0, annualWastes, 0, size);
+        grown.costPerUnits.put(0, costPerUnits, 0, size);
+        grown.monthlyShareCosts.put(0, monthlyShareCosts, 0, size);
+        grown.flags.put(0, flags, 0, size);
+        return grown;
+    }
+
+    @Override
+    public long subscriptionId(int row) {
+        return subscriptionIds.get(row);
+    }
+
+    @Override
+    public double efficiencyRate(int row) {
+        return efficiencyRates.get(row);
+    }
+
+    @Override
+    public long annualWaste(int row) {
+        return annualWastes.get(row);
+    }
+
+    @Override
+    public long costPerUnit(int row) {
+        return costPerUnits.get(row);
+    }
+
+    @Override
+    public long monthlyShareCost(int row) {
+        return monthlyShareCosts.get(row);
+    }
+
+    @Override
+    public byte flags(int row) {
+        return flags.get(row);
+    }
+
+    @Override
+    public void set(int row, long subscriptionId, double efficiencyRate, long annualWaste,
+                    long costPerUnit, long monthlyShareCost, byte flags) {
+        this.subscriptionIds.put(row, subscriptionId);
+        this.efficiencyRates.put(row, efficiencyRate);
+        this.annualWastes.put(row, annualWaste);
+        this.costPerUnits.put(row, costPerUnit);
+        this.monthlyShareCosts.put(row, monthlyShareCost);
+        this.flags.put(row, flags);
+    }
+
+    @Override
+    public void copyRow(int from, int to) {
+        set(to, subscriptionId(from), efficiencyRate(from), annualWaste(from),
+                costPerUnit(from), monthlyShareCost(from), flags(from));
+    }
+}
@@ -0,0 +1,6 @@
+package com.back.domain.evaluation.columnar;
+
+/**
+ * 구독 단위로 한 번만 저장하는 표시용 값 (월 파티션의 행마다 반복 저장하지 않는다)
+ */
+public record SubscriptionLabel(long userId, String name, long categoryId) {}
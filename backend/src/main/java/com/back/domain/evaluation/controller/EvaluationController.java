@@ -0,0 +1,32 @@
+package com.back.domain.evaluation.controller;
+
+import com.back.domain.evaluation.dto.EvaluationPolicyStatus;
+import com.back.domain.evaluation.dto.EvaluationQueueStatus;
+import com.back.domain.evaluation.pipeline.AsyncEvaluationPipeline;
+import com.back.domain.evaluation.policy.EvaluationPolicyRegistry;
+import com.back.global.common.dto.RsData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/evaluations")
+public class EvaluationController {
+
+    private final AsyncEvaluationPipeline evaluationPipeline;
+    private final EvaluationPolicyRegistry evaluationPolicyRegistry;
+
+    // 비동기 평가 큐 상태 (대기 건수, 지연 시간, 처리/병합 통계)
+    @GetMapping("/queue")
+    public RsData<EvaluationQueueStatus> getQueueStatus() {
+        return RsData.success("평가 큐 상태 조회 성공", evaluationPipeline.status());
+    }
+
+    // 현재 적용 중인 평가 정책 (버전, 기본/타입별/카테고리별 임계값)
+    @GetMapping("/policy")
+    public RsData<EvaluationPolicyStatus> getPolicy() {
+        return RsData.success("평가 정책 조회 성공", evaluationPolicyRegistry.status());
+    }
+}
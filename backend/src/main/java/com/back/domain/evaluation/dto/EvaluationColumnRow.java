@@ -0,0 +1,27 @@
+package com.back.domain.evaluation.dto;
+
+import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+
+import java.time.YearMonth;
+
+/**
+ * 열 저장소 적재용 평가 1행 (평가 + 대시보드 요약에 필요한 구독 값)
+ */
+public record EvaluationColumnRow(
+        long subscriptionId,
+        long userId,
+        YearMonth month,
+        double efficiencyRate,
+        EvaluationStatus status,
+        long annualWaste,
+        long costPerUnit,
+        long monthlyShareCost,
+        boolean trial,
+        String name,
+        long categoryId
+) {
+    public EvaluationKey key() {
+        return new EvaluationKey(subscriptionId, month);
+    }
+}
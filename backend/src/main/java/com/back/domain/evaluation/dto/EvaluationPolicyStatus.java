@@ -0,0 +1,12 @@
+package com.back.domain.evaluation.dto;
+
+import com.back.domain.evaluation.policy.EvaluationPolicyDefinition;
+
+import java.time.LocalDateTime;
+
+public record EvaluationPolicyStatus(
+        int version,
+        String source,          // application(애플리케이션 설정) 또는 정책 파일 위치
+        LocalDateTime loadedAt,
+        EvaluationPolicyDefinition policy
+) {}
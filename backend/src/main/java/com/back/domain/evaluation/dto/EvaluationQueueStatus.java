@@ -0,0 +1,14 @@
+package com.back.domain.evaluation.dto;
+
+public record EvaluationQueueStatus(
+        boolean enabled,
+        int depth,             // 큐에서 대기 중인 작업 수
+        int capacity,
+        long oldestLagMillis,  // 가장 오래 대기 중인 작업의 대기 시간
+        long lastLagMillis,    // 마지막으로 처리된 작업의 등록 ~ 완료까지 걸린 시간
+        long submitted,
+        long coalesced,        // 기존 대기 작업에 합쳐진 요청 수
+        long processed,
+        long failed,
+        long rejected          // 대기 자리가 없어 커밋 전에 거절한 작업 수
+) {}
@@ -0,0 +1,32 @@
+package com.back.domain.evaluation.dto;
+
+import com.back.domain.evaluation.entity.ReevaluationRun;
+import com.back.domain.evaluation.enums.ReevaluationState;
+
+import java.time.LocalDateTime;
+
+public record ReevaluationStatus(
+        Long runId,
+        ReevaluationState state,
+        int policyVersion,
+        long totalStale,       // 시작 시점의 재평가 대상 건수
+        long reevaluated,      // 지금까지 다시 계산해 저장한 평가 수
+        long checkpointId,     // 이 값 미만의 평가 id 구간은 처리 완료 (재개 시작점)
+        long maxEvaluationId,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+    public static ReevaluationStatus from(ReevaluationRun run) {
+        return new ReevaluationStatus(
+                run.getId(),
+                run.getState(),
+                run.getPolicyVersion(),
+                run.getTotalStale(),
+                run.getReevaluated(),
+                run.getCheckpointId(),
+                run.getMaxEvaluationId(),
+                run.getStartedAt(),
+                run.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.back.domain.evaluation.dto;
+
+import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+
+import java.time.YearMonth;
+
+/**
+ * 덮어쓰기/삭제 직전에 저장되어 있던 평가 값 (대시보드 집계 차감용)
+ */
+public record StoredEvaluation(
+        Long subscriptionId,
+        YearMonth evalMonth,
+        EvaluationStatus status,
+        long annualWaste
+) {
+    public EvaluationKey key() {
+        return new EvaluationKey(subscriptionId, evalMonth);
+    }
+}
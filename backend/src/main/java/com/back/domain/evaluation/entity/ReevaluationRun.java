@@ -0,0 +1,75 @@
+package com.back.domain.evaluation.entity;
+
+import com.back.domain.evaluation.enums.ReevaluationState;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재평가 작업(ReevaluationJob) 실행 기록 + 재개용 체크포인트
+ * 실행 중 진행 값은 ReevaluationRunRepository의 UPDATE로만 갱신한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reevaluation_run")
+public class ReevaluationRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReevaluationState state;
+
+    // 이 버전 미만(또는 다른 버전)으로 계산된 평가가 재평가 대상
+    @Column(nullable = false)
+    private int policyVersion;
+
+    // 훑을 평가 id 상한 (재개할 때마다 그 시점의 최대 id로 늘린다)
+    @Column(nullable = false)
+    private long maxEvaluationId;
+
+    // 이 값 미만의 평가 id 구간은 처리 완료
+    @Column(nullable = false)
+    private long checkpointId;
+
+    // 시작 시점의 재평가 대상 건수 (진행률 표시용)
+    @Column(nullable = false)
+    private long totalStale;
+
+    @Column(nullable = false)
+    private long reevaluated;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+
+    public ReevaluationRun(int policyVersion, long totalStale, LocalDateTime now) {
+        this.state = ReevaluationState.RUNNING;
+        this.policyVersion = policyVersion;
+        this.totalStale = totalStale;
+        this.startedAt = now;
+        this.updatedAt = now;
+    }
+
+    // 완료되지 않은 실행이고 같은 정책 버전일 때만 체크포인트부터 이어서 실행할 수 있다
+    public boolean isResumable(int currentPolicyVersion) {
+        return state != ReevaluationState.COMPLETED && policyVersion == currentPolicyVersion;
+    }
+
+    public void resume(long maxEvaluationId, LocalDateTime now) {
+        this.state = ReevaluationState.RUNNING;
+        this.maxEvaluationId = Math.max(this.maxEvaluationId, maxEvaluationId);
+        this.updatedAt = now;
+        this.finishedAt = null;
+    }
+}
@@ -1,7 +1,8 @@
 package com.back.domain.evaluation.entity;
 
-import com.back.domain.category.enums.CategoryType;
+import com.back.domain.category.registry.CategorySnapshot;
 import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.domain.evaluation.kernel.EvaluationFormulas;
 import com.back.domain.evaluation.policy.EvaluationPolicy;
 import com.back.domain.subscription.entity.Subscription;
 import com.back.domain.subscription.enums.SubscriptionStatus;
@@ -9,6 +10,8 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.YearMonth;
 
@@ -18,7 +21,12 @@ import java.time.YearMonth;
 @Table(
         name = "subscription_evaluation",
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"subscription_id", "eval_month"})
+                @UniqueConstraint(name = "uk_subscription_evaluation_subscription_month", columnNames = {"subscription_id", "eval_month"})
+        },
+        indexes = {
+                // 사용자별 월 대시보드 / 월 집계 재계산 (대시보드 컬럼까지 인덱스에 포함)
+                @Index(name = "idx_evaluation_user_month_dashboard",
+                        columnList = "user_id, eval_month, subscription_id, status, annual_waste, efficiency_rate, cost_per_unit")
         }
 )
 public class SubscriptionEvaluation {
@@ -27,10 +35,16 @@ public class SubscriptionEvaluation {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 구독 행이 삭제되면 DB가 함께 삭제 (FK ON DELETE CASCADE)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "subscription_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Subscription subscription;
 
+    // 구독의 소유 사용자 (구독에서 복사 - 대시보드 조회가 구독 조인 전에 사용자 범위로 좁혀지게 함)
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
     @Column(name = "eval_month", nullable = false)
     private YearMonth evalMonth;
 
@@ -45,46 +59,52 @@ public class SubscriptionEvaluation {
 
     private long costPerUnit;
 
+    // 계산에 사용한 평가 정책 버전 (EvaluationPolicy.version)
+    @Column(nullable = false)
+    private int policyVersion;
+
     public SubscriptionEvaluation(Subscription subscription, YearMonth evalMonth) {
         this.subscription = subscription;
+        this.userId = subscription.getUserId();
         this.evalMonth = evalMonth;
     }
 
-    public void update(int usageValue, EvaluationPolicy policy) {
-        applyEvaluation(usageValue, policy);
+    // 카테고리 정보는 CategoryRegistry 스냅샷으로 받아 카테고리 프록시를 초기화하지 않는다
+    public void update(int usageValue, CategorySnapshot category, EvaluationPolicy policy) {
+        applyEvaluation(usageValue, category, policy);
     }
 
-    private void applyEvaluation(int usageValue, EvaluationPolicy policy) {
-        this.referenceSnapshotValue = subscription.getCategory().getReferenceValue();
-        CategoryType type = subscription.getCategory().getType();
+    private void applyEvaluation(int usageValue, CategorySnapshot category, EvaluationPolicy policy) {
+        this.referenceSnapshotValue = category.referenceValue();
         long monthlyCost = subscription.getMonthlyShareCost();
 
-        // 1) 효율 계산
-        double rate = 0;
-        if (this.referenceSnapshotValue > 0) {
-            rate = (double) usageValue / this.referenceSnapshotValue * 100;
-            if (type == CategoryType.PRODUCTIVITY) {
-                rate = Math.min(rate, 100);
-            }
-        }
+        // 1) 효율 계산 (PRODUCTIVITY는 100% 상한)
+        double rate = EvaluationFormulas.efficiencyRate(usageValue, this.referenceSnapshotValue, EvaluationFormulas.rateCap(category.type()));
         this.efficiencyRate = rate;
 
         // 2) 단위당 비용 계산
-        this.costPerUnit = (usageValue > 0)
-                ? Math.round((double) monthlyCost / usageValue)
-                : monthlyCost;
+        this.costPerUnit = EvaluationFormulas.costPerUnit(usageValue, monthlyCost);
 
         // 3) 상태 계산(정책 위임)
         this.status = policy.calculateStatus(rate, usageValue);
+        this.policyVersion = policy.version();
 
         // 4) 연간 낭비 계산 (TRIAL 정책 반영)
-        if (subscription.getStatus() == SubscriptionStatus.TRIAL) {
-            this.annualWaste = 0;
-            return;
-        }
-
-        this.annualWaste = (rate >= 100)
+        this.annualWaste = subscription.getStatus() == SubscriptionStatus.TRIAL
                 ? 0
-                : Math.round(monthlyCost * (1 - rate / 100) * 12);
+                : EvaluationFormulas.annualWaste(rate, monthlyCost);
+    }
+
+    /**
+     * 평가 커널(EvaluationKernel)이 배치로 계산한 결과를 그대로 반영한다. (계산식은 applyEvaluation과 같음)
+     */
+    public void applyComputed(int referenceValue, double efficiencyRate, long costPerUnit,
+                              EvaluationStatus status, long annualWaste, int policyVersion) {
+        this.referenceSnapshotValue = referenceValue;
+        this.efficiencyRate = efficiencyRate;
+        this.costPerUnit = costPerUnit;
+        this.status = status;
+        this.annualWaste = annualWaste;
+        this.policyVersion = policyVersion;
     }
 }
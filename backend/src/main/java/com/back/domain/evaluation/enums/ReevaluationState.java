@@ -0,0 +1,8 @@
+package com.back.domain.evaluation.enums;
+
+public enum ReevaluationState {
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
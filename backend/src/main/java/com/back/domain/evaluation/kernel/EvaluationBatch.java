@@ -0,0 +1,92 @@
+package com.back.domain.evaluation.kernel;
+
+import com.back.domain.evaluation.enums.EvaluationStatus;
+
+/**
+ * 평가 커널 입력/출력 열 (행 하나는 열마다 같은 인덱스)
+ * 입력: 사용량, 기준값, 월 비용, TRIAL 여부, 정책 프로필 / 출력: 효율, 단위당 비용, 연간 낭비, 상태 ordinal
+ * 스레드 간 공유하지 않는다.
+ */
+public final class EvaluationBatch {
+
+    private static final EvaluationStatus[] STATUSES = EvaluationStatus.values();
+
+    final int[] usageValues;
+    final int[] referenceValues;
+    final long[] monthlyCosts;
+    final boolean[] trials;
+    final int[] profiles;
+
+    final double[] rates;
+    final long[] costPerUnits;
+    final long[] annualWastes;
+    final int[] statusOrdinals;
+
+    private int size;
+
+    public EvaluationBatch(int capacity) {
+        this.usageValues = new int[capacity];
+        this.referenceValues = new int[capacity];
+        this.monthlyCosts = new long[capacity];
+        this.trials = new boolean[capacity];
+        this.profiles = new int[capacity];
+        this.rates = new double[capacity];
+        this.costPerUnits = new long[capacity];
+        this.annualWastes = new long[capacity];
+        this.statusOrdinals = new int[capacity];
+    }
+
+    /**
+     * @param profile EvaluationProfiles.Builder.add가 돌려준 정책 프로필 인덱스
+     * @return 추가된 행 번호
+     */
+    public int add(int usageValue, int referenceValue, long monthlyCost, boolean trial, int profile) {
+        int row = size++;
+        usageValues[row] = usageValue;
+        referenceValues[row] = referenceValue;
+        monthlyCosts[row] = monthlyCost;
+        trials[row] = trial;
+        profiles[row] = profile;
+        return row;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return usageValues.length;
+    }
+
+    public int referenceValue(int row) {
+        return referenceValues[row];
+    }
+
+    public int profile(int row) {
+        return profiles[row];
+    }
+
+    public double rate(int row) {
+        return rates[row];
+    }
+
+    public long costPerUnit(int row) {
+        return costPerUnits[row];
+    }
+
+    public long annualWaste(int row) {
+        return annualWastes[row];
+    }
+
+    public int statusOrdinal(int row) {
+        return statusOrdinals[row];
+    }
+
+    public EvaluationStatus status(int row) {
+        return STATUSES[statusOrdinals[row]];
+    }
+}
@@ -0,0 +1,55 @@
+package com.back.domain.evaluation.kernel;
+
+import com.back.domain.category.enums.CategoryType;
+
+/**
+ * 평가 계산식 (행 하나, 기본형만 사용)
+ * 엔티티 평가 / 대시보드 / 평가 커널의 스칼라 경로가 모두 이 식을 쓰고, SIMD 경로는 같은 연산 순서로 맞춘다.
+ */
+public final class EvaluationFormulas {
+
+    public static final double MAX_PRODUCTIVITY_RATE = 100;
+
+    // 상태 ordinal (EvaluationStatus 선언 순서와 같다)
+    public static final int GHOST_ORDINAL = 4;
+
+    private EvaluationFormulas() {
+    }
+
+    // PRODUCTIVITY는 기준값 이상 사용해도 효율 100%에서 자른다 (그 외 타입은 상한 없음)
+    public static double rateCap(CategoryType type) {
+        return type == CategoryType.PRODUCTIVITY ? MAX_PRODUCTIVITY_RATE : Double.POSITIVE_INFINITY;
+    }
+
+    // 효율(%) = 사용량 / 기준값 * 100 (기준값이 0 이하면 0)
+    public static double efficiencyRate(int usageValue, int referenceValue, double rateCap) {
+        if (referenceValue <= 0) {
+            return 0;
+        }
+        return Math.min((double) usageValue / referenceValue * 100, rateCap);
+    }
+
+    // 단위당 비용 = 월 비용 / 사용량 반올림 (사용량 0이면 월 비용)
+    public static long costPerUnit(int usageValue, long monthlyCost) {
+        return usageValue > 0
+                ? Math.round((double) monthlyCost / usageValue)
+                : monthlyCost;
+    }
+
+    // 연간 낭비 = 월 비용 * (1 - 효율 / 100) * 12 반올림 (효율 100% 이상이면 0, TRIAL 여부는 호출 측에서 판단)
+    public static long annualWaste(double efficiencyRate, long monthlyCost) {
+        return efficiencyRate >= 100
+                ? 0
+                : Math.round(monthlyCost * (1 - efficiencyRate / 100) * 12);
+    }
+
+    // 상태 ordinal = 효율이 못 미치는 하한 개수 (EFFICIENT 0 ~ INEFFICIENT 3, 사용량 0이면 GHOST)
+    public static int statusOrdinal(double efficiencyRate, int usageValue, double efficientAt, double keepAt, double reviewAt) {
+        if (usageValue == 0) {
+            return GHOST_ORDINAL;
+        }
+        return (efficiencyRate < efficientAt ? 1 : 0)
+                + (efficiencyRate < keepAt ? 1 : 0)
+                + (efficiencyRate < reviewAt ? 1 : 0);
+    }
+}
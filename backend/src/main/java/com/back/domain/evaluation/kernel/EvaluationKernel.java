@@ -0,0 +1,55 @@
+package com.back.domain.evaluation.kernel;
+
+/**
+ * 상태 없는 평가 커널 (기본형 열 입력 -> 기본형 열 출력)
+ * 스칼라 경로와 SIMD 경로(jdk.incubator.vector)는 같은 입력에 대해 비트 단위로 같은 결과를 낸다.
+ * 구현은 스레드 안전하며, 배치 / 출력 배열은 호출자가 스레드별로 나눠 쓴다.
+ */
+public interface EvaluationKernel {
+
+    String VECTOR_MODULE = "jdk.incubator.vector";
+
+    // vector 소스 세트(src/vector/java)에만 있는 SIMD 구현 - main 컴파일에 인큐베이터 모듈 플래그가 붙지 않도록 이름으로 적재한다
+    String VECTOR_KERNEL_CLASS = "com.back.domain.evaluation.kernel.VectorEvaluationKernel";
+
+    /**
+     * batch의 [0, size) 행에 대해 효율 / 단위당 비용 / 연간 낭비(TRIAL 0) / 상태 ordinal을 계산해 출력 열에 쓴다.
+     */
+    void evaluate(EvaluationBatch batch, EvaluationProfiles profiles);
+
+    /**
+     * 잠재 연간 낭비 = 저장된 효율 기준 연간 낭비 (TRIAL 구독이 유료로 전환될 때의 예상치)
+     * out[i] = EvaluationFormulas.annualWaste(rates[i], monthlyCosts[i]), i in [0, size)
+     */
+    void potentialAnnualWaste(double[] rates, long[] monthlyCosts, long[] out, int size);
+
+    String name();
+
+    static EvaluationKernel scalar() {
+        return ScalarEvaluationKernel.INSTANCE;
+    }
+
+    /**
+     * JVM이 --add-modules jdk.incubator.vector 로 실행되지 않았거나 클래스패스에 SIMD 구현이 없으면 IllegalStateException
+     */
+    static EvaluationKernel vector() {
+        if (!vectorAvailable()) {
+            throw new IllegalStateException(VECTOR_MODULE + " 모듈이 없습니다. (--add-modules " + VECTOR_MODULE + ")");
+        }
+        try {
+            // 같은 패키지라 package-private INSTANCE 필드를 그대로 읽을 수 있다
+            return (EvaluationKernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredField("INSTANCE").get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("SIMD 평가 커널을 적재할 수 없습니다. (" + VECTOR_KERNEL_CLASS + ")", e);
+        }
+    }
+
+    // 인큐베이터 모듈은 명시적으로 추가해야 부트 레이어에 올라온다
+    static boolean vectorAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    static EvaluationKernel best() {
+        return vectorAvailable() ? vector() : scalar();
+    }
+}
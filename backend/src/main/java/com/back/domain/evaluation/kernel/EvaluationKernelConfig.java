@@ -0,0 +1,27 @@
+package com.back.domain.evaluation.kernel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 평가 커널 선택
+ * SIMD 경로는 JVM을 --add-modules jdk.incubator.vector 로 띄워야 쓸 수 있다. (bootRun / test / jmh 태스크에는 설정됨)
+ * SIMD 구현은 vector 소스 세트에 따로 컴파일되어 런타임 클래스패스 / bootJar에만 들어간다.
+ * mode=vector인데 모듈이 없으면 기동에 실패한다.
+ */
+@Slf4j
+@Configuration
+public class EvaluationKernelConfig {
+
+    @Bean
+    public EvaluationKernel evaluationKernel(EvaluationKernelProperties properties) {
+        EvaluationKernel kernel = switch (properties.mode()) {
+            case AUTO -> EvaluationKernel.best();
+            case SCALAR -> EvaluationKernel.scalar();
+            case VECTOR -> EvaluationKernel.vector();
+        };
+        log.info("[EvaluationKernel] mode={}, kernel={}", properties.mode(), kernel.name());
+        return kernel;
+    }
+}
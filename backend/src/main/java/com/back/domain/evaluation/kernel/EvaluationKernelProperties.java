@@ -0,0 +1,16 @@
+package com.back.domain.evaluation.kernel;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "evaluation.kernel")
+public record EvaluationKernelProperties(
+        @DefaultValue("auto") Mode mode  // auto: jdk.incubator.vector 모듈이 있으면 SIMD, 없으면 스칼라
+) {
+
+    public enum Mode {
+        AUTO,
+        SCALAR,
+        VECTOR
+    }
+}
@@ -0,0 +1,76 @@
+package com.back.domain.evaluation.kernel;
+
+import com.back.domain.category.enums.CategoryType;
+import com.back.domain.evaluation.policy.ThresholdTable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 평가 커널이 행별로 참조하는 정책 프로필 (효율 상한 + 상태 임계값 + 정책 버전)
+ * 행은 프로필 인덱스만 들고, 커널은 인덱스로 값을 모아 읽는다. (SIMD 경로는 gather)
+ */
+public final class EvaluationProfiles {
+
+    final double[] rateCaps;
+    final double[] efficientAt;
+    final double[] keepAt;
+    final double[] reviewAt;
+    private final int[] versions;
+
+    private EvaluationProfiles(double[] rateCaps, double[] efficientAt, double[] keepAt, double[] reviewAt, int[] versions) {
+        this.rateCaps = rateCaps;
+        this.efficientAt = efficientAt;
+        this.keepAt = keepAt;
+        this.reviewAt = reviewAt;
+        this.versions = versions;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return versions.length;
+    }
+
+    public int version(int profile) {
+        return versions[profile];
+    }
+
+    public static final class Builder {
+
+        // 같은 임계값 표(참조) + 카테고리 타입이면 같은 프로필
+        private record Key(ThresholdTable table, CategoryType type) {}
+
+        private final Map<Key, Integer> indexes = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * @return 프로필 인덱스 (EvaluationBatch.add에 넘긴다)
+         */
+        public int add(ThresholdTable table, CategoryType type) {
+            return indexes.computeIfAbsent(new Key(table, type), key -> indexes.size());
+        }
+
+        public EvaluationProfiles build() {
+            int size = indexes.size();
+            double[] rateCaps = new double[size];
+            double[] efficientAt = new double[size];
+            double[] keepAt = new double[size];
+            double[] reviewAt = new double[size];
+            int[] versions = new int[size];
+
+            indexes.forEach((key, index) -> {
+                rateCaps[index] = EvaluationFormulas.rateCap(key.type());
+                efficientAt[index] = key.table().efficientAt();
+                keepAt[index] = key.table().keepAt();
+                reviewAt[index] = key.table().reviewAt();
+                versions[index] = key.table().version();
+            });
+            return new EvaluationProfiles(rateCaps, efficientAt, keepAt, reviewAt, versions);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.back.domain.evaluation.kernel;
+
+/**
+ * 스칼라 평가 커널 (행마다 EvaluationFormulas 적용)
+ * SIMD 커널의 나머지(tail) 행 처리와 비교 기준으로도 쓴다.
+ */
+final class ScalarEvaluationKernel implements EvaluationKernel {
+
+    static final ScalarEvaluationKernel INSTANCE = new ScalarEvaluationKernel();
+
+    private ScalarEvaluationKernel() {
+    }
+
+    @Override
+    public void evaluate(EvaluationBatch batch, EvaluationProfiles profiles) {
+        evaluateRange(batch, profiles, 0, batch.size());
+    }
+
+    @Override
+    public void potentialAnnualWaste(double[] rates, long[] monthlyCosts, long[] out, int size) {
+        potentialAnnualWasteRange(rates, monthlyCosts, out, 0, size);
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    static void evaluateRange(EvaluationBatch batch, EvaluationProfiles profiles, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int usageValue = batch.usageValues[i];
+            long monthlyCost = batch.monthlyCosts[i];
+            int profile = batch.profiles[i];
+
+            double rate = EvaluationFormulas.efficiencyRate(usageValue, batch.referenceValues[i], profiles.rateCaps[profile]);
+            batch.rates[i] = rate;
+            batch.costPerUnits[i] = EvaluationFormulas.costPerUnit(usageValue, monthlyCost);
+            batch.statusOrdinals[i] = EvaluationFormulas.statusOrdinal(
+                    rate, usageValue, profiles.efficientAt[profile], profiles.keepAt[profile], profiles.reviewAt[profile]);
+            batch.annualWastes[i] = batch.trials[i] ? 0 : EvaluationFormulas.annualWaste(rate, monthlyCost);
+        }
+    }
+
+    static void potentialAnnualWasteRange(double[] rates, long[] monthlyCosts, long[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = EvaluationFormulas.annualWaste(rates[i], monthlyCosts[i]);
+        }
+    }
+}
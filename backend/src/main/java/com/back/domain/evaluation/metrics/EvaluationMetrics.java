@@ -0,0 +1,31 @@
+package com.back.domain.evaluation.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 평가 Upsert 건수 / 충돌(이미 같은 구독+월 평가 행이 있어 덮어쓴 경우) 건수
+ * - evaluation.upsert.rows
+ * - evaluation.upsert.conflicts
+ */
+@Component
+public class EvaluationMetrics {
+
+    private final Counter upsertRows;
+    private final Counter upsertConflicts;
+
+    public EvaluationMetrics(MeterRegistry registry) {
+        this.upsertRows = Counter.builder("evaluation.upsert.rows")
+                .description("Upsert 된 평가 행 수")
+                .register(registry);
+        this.upsertConflicts = Counter.builder("evaluation.upsert.conflicts")
+                .description("기존 평가 행과 키가 겹쳐 갱신된 행 수")
+                .register(registry);
+    }
+
+    public void upserted(int rows, int conflicts) {
+        upsertRows.increment(rows);
+        upsertConflicts.increment(conflicts);
+    }
+}
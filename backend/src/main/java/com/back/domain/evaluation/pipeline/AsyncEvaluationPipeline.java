@@ -0,0 +1,348 @@
+package com.back.domain.evaluation.pipeline;
+
+import com.back.domain.evaluation.dto.EvaluationQueueStatus;
+import com.back.domain.evaluation.service.EvaluationService;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용량 저장과 평가 계산을 분리하는 비동기 평가 파이프라인
+ *
+ * [정책]
+ * - 같은 (구독, 월) 키의 대기 작업은 하나로 합쳐진다. 워커는 실행 시점에 저장된 사용량을 다시 읽으므로
+ *   합쳐진 요청의 마지막 커밋 값이 반영된다.
+ * - 키는 해시로 워커별 큐에 고정 배정되어, 같은 키가 두 워커에서 동시에 평가되지 않는다.
+ * - 대기 자리는 커밋 전에 예약한다. 자리가 없으면 submit-timeout까지 기다리고, 그래도 없으면 요청을 거절해
+ *   트랜잭션을 롤백한다. (back-pressure, 커밋된 사용량의 평가는 버려지지 않고 요청 스레드에서 평가하지도 않는다)
+ * - spring.threads.virtual.enabled=true 이면 워커도 가상 스레드로 실행한다.
+ */
+@Slf4j
+@Component
+public class AsyncEvaluationPipeline {
+
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final EvaluationService evaluationService;
+    private final EvaluationAsyncProperties properties;
+    private final boolean virtualThreads;
+
+    private final int capacity;
+    private final Semaphore slots;
+    private final List<BlockingQueue<PendingEvaluation>> queues;
+    private final ConcurrentHashMap<EvaluationKey, PendingEvaluation> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<EvaluationKey, PendingEvaluation> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong lastLagNanos = new AtomicLong();
+
+    private ExecutorService workers;
+    private volatile boolean active;
+
+    public AsyncEvaluationPipeline(
+            EvaluationService evaluationService,
+            EvaluationAsyncProperties properties,
+            Environment environment
+    ) {
+        this.evaluationService = evaluationService;
+        this.properties = properties;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+
+        // 대기 작업 수는 예약 자리(slots)로 제한하므로 워커별 큐 자체는 크기 제한이 없다
+        int workerCount = Math.max(1, properties.workers());
+        this.capacity = Math.max(1, properties.queueCapacity());
+        this.slots = new Semaphore(capacity);
+
+        this.queues = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            queues.add(new LinkedBlockingQueue<>());
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled() || active) {
+            return;
+        }
+
+        active = true;
+        workers = Executors.newFixedThreadPool(queues.size(), workerThreadFactory());
+
+        for (BlockingQueue<PendingEvaluation> queue : queues) {
+            workers.submit(() -> drain(queue));
+        }
+
+        log.info("[EvaluationPipeline] 비동기 평가 시작 - workers={}, capacity={}, batchSize={}, virtualThreads={}",
+                queues.size(), capacity, properties.batchSize(), virtualThreads);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!active) {
+            return;
+        }
+
+        active = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 시점에 남은 작업은 호출 스레드에서 마저 평가해 유실을 막는다
+        List<PendingEvaluation> remaining = new ArrayList<>();
+        queues.forEach(queue -> queue.drainTo(remaining));
+        slots.release(remaining.size());
+        if (!remaining.isEmpty()) {
+            log.info("[EvaluationPipeline] 종료 전 잔여 작업 {}건 처리", remaining.size());
+            runBatch(remaining);
+        }
+    }
+
+    /**
+     * 대기 자리를 지금 예약하고, 현재 트랜잭션이 커밋된 뒤 평가 작업을 등록한다. (트랜잭션 밖이면 즉시 등록)
+     * 커밋 전에 등록하면 워커가 이전 사용량을 읽을 수 있기 때문이다.
+     * 자리가 없으면 EVALUATION_QUEUE_FULL 예외로 커밋 전에 거절하며, 롤백되면 예약한 자리는 돌려준다.
+     */
+    public void submitAfterCommit(EvaluationKey key) {
+        submitAllAfterCommit(List.of(key));
+    }
+
+    public void submitAllAfterCommit(Collection<EvaluationKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<EvaluationKey> distinct = keys.stream().distinct().toList();
+        reserve(distinct.size());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            distinct.forEach(this::enqueue);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                distinct.forEach(AsyncEvaluationPipeline.this::enqueue);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    slots.release(distinct.size());
+                }
+            }
+        });
+    }
+
+    public void submit(EvaluationKey key) {
+        reserve(1);
+        enqueue(key);
+    }
+
+    // 예약 자리를 기다리되 submit-timeout을 넘기면 거절한다 (한 번에 capacity보다 많으면 기다려도 들어갈 수 없다)
+    private void reserve(int count) {
+        boolean acquired;
+        try {
+            acquired = count <= capacity
+                    && slots.tryAcquire(count, properties.submitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.add(count);
+            throw new CustomException(ErrorCode.EVALUATION_QUEUE_FULL);
+        }
+    }
+
+    // 예약한 자리 하나를 써서 등록한다 (같은 키가 이미 대기 중이면 합치고 자리를 돌려준다)
+    private void enqueue(EvaluationKey key) {
+        submitted.increment();
+
+        PendingEvaluation created = new PendingEvaluation(key, System.nanoTime());
+        PendingEvaluation existing = pending.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            slots.release();
+            return;
+        }
+
+        queueOf(key).add(created);
+    }
+
+    /**
+     * 해당 키의 대기/진행 중 평가가 끝날 때까지 기다린다. (read-your-writes 용)
+     *
+     * @return 제한 시간 안에 평가가 끝났으면 true
+     */
+    public boolean await(EvaluationKey key) {
+        PendingEvaluation job = pending.get(key);
+        if (job == null) {
+            job = inFlight.get(key);
+        }
+        if (job == null) {
+            return true;
+        }
+
+        Duration timeout = properties.waitTimeout();
+        try {
+            job.done().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            throw new CustomException(ErrorCode.EVALUATION_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public EvaluationQueueStatus status() {
+        long now = System.nanoTime();
+        int depth = 0;
+        long oldestEnqueuedAt = now;
+
+        for (BlockingQueue<PendingEvaluation> queue : queues) {
+            depth += queue.size();
+            PendingEvaluation head = queue.peek();
+            if (head != null) {
+                oldestEnqueuedAt = Math.min(oldestEnqueuedAt, head.enqueuedAt());
+            }
+        }
+
+        return new EvaluationQueueStatus(
+                properties.enabled(),
+                depth,
+                capacity,
+                TimeUnit.NANOSECONDS.toMillis(now - oldestEnqueuedAt),
+                TimeUnit.NANOSECONDS.toMillis(lastLagNanos.get()),
+                submitted.sum(),
+                coalesced.sum(),
+                processed.sum(),
+                failed.sum(),
+                rejected.sum()
+        );
+    }
+
+    private void drain(BlockingQueue<PendingEvaluation> queue) {
+        int batchSize = Math.max(1, properties.batchSize());
+        List<PendingEvaluation> batch = new ArrayList<>(batchSize);
+
+        while (active) {
+            try {
+                PendingEvaluation first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                slots.release(batch.size());
+                runBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[EvaluationPipeline] 워커 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void runBatch(List<PendingEvaluation> batch) {
+        // 진행 중 목록에 먼저 올린 뒤 대기 목록에서 내려야 await가 작업을 놓치지 않는다.
+        // 대기 목록에서 내려간 뒤 들어온 같은 키 요청은 새 작업으로 등록되어 다시 평가된다.
+        for (PendingEvaluation job : batch) {
+            inFlight.put(job.key(), job);
+            pending.remove(job.key(), job);
+        }
+
+        try {
+            evaluationService.reevaluate(batch.stream().map(PendingEvaluation::key).toList());
+
+            long completedAt = System.nanoTime();
+            processed.add(batch.size());
+            lastLagNanos.set(completedAt - batch.get(0).enqueuedAt());
+            batch.forEach(job -> job.done().complete(null));
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            log.error("[EvaluationPipeline] 평가 실패 - {}건", batch.size(), e);
+            batch.forEach(job -> job.done().completeExceptionally(e));
+        } finally {
+            for (PendingEvaluation job : batch) {
+                inFlight.remove(job.key(), job);
+            }
+        }
+    }
+
+    // 워커는 큐 대기/DB I/O로 대부분 블로킹되므로 가상 스레드 모드에서는 캐리어 스레드를 점유하지 않게 한다
+    private ThreadFactory workerThreadFactory() {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name("evaluation-worker-", 1).factory();
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, "evaluation-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private BlockingQueue<PendingEvaluation> queueOf(EvaluationKey key) {
+        return queues.get(Math.floorMod(key.hashCode(), queues.size()));
+    }
+
+    private record PendingEvaluation(
+            EvaluationKey key,
+            long enqueuedAt,
+            CompletableFuture<Void> done
+    ) {
+        PendingEvaluation(EvaluationKey key, long enqueuedAt) {
+            this(key, enqueuedAt, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.back.domain.evaluation.pipeline;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "evaluation.async")
+public record EvaluationAsyncProperties(
+        @DefaultValue("false") boolean enabled,  // true면 사용량 저장 후 평가를 큐에 위임
+        @DefaultValue("10000") int queueCapacity, // 전체 대기 작업 상한 (한 요청의 최대 건수 10000 이상으로 둔다)
+        @DefaultValue("2") int workers,
+        @DefaultValue("200") int batchSize,       // 워커가 한 트랜잭션에서 처리하는 최대 작업 수
+        @DefaultValue("5s") Duration waitTimeout,  // waitForEvaluation 요청의 최대 대기 시간
+        @DefaultValue("1s") Duration submitTimeout // 대기 자리가 없을 때 커밋 전에 기다리는 최대 시간 (넘으면 503 거절)
+) {}
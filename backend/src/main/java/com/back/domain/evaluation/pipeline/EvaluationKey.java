@@ -0,0 +1,15 @@
+package com.back.domain.evaluation.pipeline;
+
+import com.back.domain.usage.entity.SubscriptionUsage;
+
+import java.time.YearMonth;
+
+// 평가 작업 단위: 구독 + 평가 월 (같은 키의 대기 작업은 하나로 합쳐짐)
+public record EvaluationKey(
+        Long subscriptionId,
+        YearMonth month
+) {
+    public static EvaluationKey of(SubscriptionUsage usage) {
+        return new EvaluationKey(usage.getSubscription().getId(), usage.getUsageMonth());
+    }
+}
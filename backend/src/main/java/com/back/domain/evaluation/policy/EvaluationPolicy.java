@@ -4,8 +4,11 @@ import com.back.domain.evaluation.enums.EvaluationStatus;
 
 /**
  * 구독 평가 정책 인터페이스
- * 향후 카테고리별로 다른 평가 기준이 필요할 때 이 인터페이스를 구현합니다.
+ * 카테고리별 정책은 EvaluationPolicyRegistry가 설정에서 컴파일한 임계값 표(ThresholdTable)로 제공합니다.
  */
 public interface EvaluationPolicy {
     EvaluationStatus calculateStatus(double efficiencyRate, int usageValue);
+
+    // 평가 행에 함께 저장되는 정책 버전 (임계값이 바뀌면 올려야 재평가 대상이 된다)
+    int version();
 }
\ No newline at end of file
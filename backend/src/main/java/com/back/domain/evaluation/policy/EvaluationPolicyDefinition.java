@@ -0,0 +1,31 @@
+package com.back.domain.evaluation.policy;
+
+import com.back.domain.category.enums.CategoryType;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 설정(evaluation.policy.*)에서 읽은 평가 정책 정의
+ * EvaluationPolicyRegistry가 ThresholdTable로 미리 컴파일해 둔다.
+ */
+public record EvaluationPolicyDefinition(
+        @DefaultValue("1") int version,           // 임계값을 바꾸면 함께 올린다 (다른 버전으로 계산된 평가가 재평가 대상)
+        @DefaultValue Thresholds defaults,        // 아래 두 설정에 없는 카테고리에 적용
+        Map<CategoryType, Thresholds> types,      // 카테고리 타입별 임계값
+        Map<Long, Thresholds> categories          // 카테고리 id별 임계값 (타입별보다 우선)
+) {
+    public EvaluationPolicyDefinition {
+        types = types != null ? Map.copyOf(types) : Map.of();
+        categories = categories != null ? Map.copyOf(categories) : Map.of();
+    }
+
+    /**
+     * 효율(%) 하한 - efficient 이상 EFFICIENT, keep 이상 KEEP, review 이상 REVIEW, 그 아래는 INEFFICIENT
+     */
+    public record Thresholds(
+            @DefaultValue("100") double efficient,
+            @DefaultValue("70") double keep,
+            @DefaultValue("40") double review
+    ) {}
+}
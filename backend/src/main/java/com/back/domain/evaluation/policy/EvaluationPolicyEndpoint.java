@@ -0,0 +1,32 @@
+package com.back.domain.evaluation.policy;
+
+import com.back.domain.evaluation.dto.EvaluationPolicyStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 평가 정책 즉시 다시 적재 (관리용)
+ * - GET  /actuator/evaluationpolicy   현재 정책 (GET /api/v1/evaluations/policy 와 같음)
+ * - POST /actuator/evaluationpolicy   설정 / 정책 파일에서 다시 적재 (임계값이 바뀌었으면 version도 올라가 있어야 함)
+ * 임계값을 바꾸면 기존 평가가 재평가 대상이 되므로 기본으로는 웹에 노출하지 않는다.
+ */
+@Component
+@Endpoint(id = "evaluationpolicy")
+@RequiredArgsConstructor
+public class EvaluationPolicyEndpoint {
+
+    private final EvaluationPolicyRegistry evaluationPolicyRegistry;
+
+    @ReadOperation
+    public EvaluationPolicyStatus policy() {
+        return evaluationPolicyRegistry.status();
+    }
+
+    @WriteOperation
+    public EvaluationPolicyStatus reload() {
+        return evaluationPolicyRegistry.reload();
+    }
+}
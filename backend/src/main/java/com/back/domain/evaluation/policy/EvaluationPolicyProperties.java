@@ -0,0 +1,15 @@
+package com.back.domain.evaluation.policy;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 평가 정책을 어디서 읽을지 (임계값 자체는 EvaluationPolicyDefinition으로 읽는다)
+ */
+@ConfigurationProperties(prefix = "evaluation.policy")
+public record EvaluationPolicyProperties(
+        @DefaultValue("") String location,        // 비우면 애플리케이션 설정, 지정하면 이 YAML 파일의 evaluation.policy.* 를 읽고 변경 시 다시 적재
+        @DefaultValue("10s") Duration reloadInterval  // location 파일 변경 확인 주기 (EvaluationPolicyRegistry의 @Scheduled에서 사용)
+) {}
@@ -0,0 +1,221 @@
+package com.back.domain.evaluation.policy;
+
+import com.back.domain.category.enums.CategoryType;
+import com.back.domain.category.registry.CategorySnapshot;
+import com.back.domain.evaluation.dto.EvaluationPolicyStatus;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리별 평가 정책 레지스트리
+ *
+ * [정책]
+ * - 설정(evaluation.policy.*)을 카테고리 id별 / 카테고리 타입별 / 기본 임계값 표로 미리 컴파일해 불변 묶음으로 들고 있는다.
+ *   조회는 카테고리 id 이진 탐색 -> 타입 ordinal 배열 순이며 객체를 만들지 않는다.
+ * - 다시 적재하면 새 묶음을 만든 뒤 참조를 한 번에 교체한다. 읽는 쪽은 교체 전 또는 교체 후의 완전한 표만 보고,
+ *   한 평가의 상태와 정책 버전은 항상 같은 표에서 나온다.
+ * - location 파일이 지정되면 주기적으로 수정 시각을 확인해 바뀌었을 때 다시 적재한다. (재기동 없이 임계값 변경)
+ * - 임계값이 바뀌었는데 version이 그대로이거나 version이 낮아지면 적재를 거부하고 기존 표를 유지한다.
+ *   (평가 행의 policy_version으로 재평가 대상을 찾기 때문)
+ */
+@Slf4j
+@Component
+public class EvaluationPolicyRegistry {
+
+    // reload-interval(10s 형식) -> @Scheduled 밀리초 (@Scheduled 문자열은 단순 형식을 받지 않는다)
+    private static final String RELOAD_INTERVAL_MILLIS =
+            "#{T(org.springframework.boot.convert.DurationStyle).detectAndParse('${evaluation.policy.reload-interval:10s}').toMillis()}";
+
+    private static final String PREFIX = "evaluation.policy";
+
+    private final EvaluationPolicyProperties properties;
+    private final Environment environment;
+    private final ResourceLoader resourceLoader;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile PolicyTables tables;
+    private volatile long locationLastModified;
+
+    public EvaluationPolicyRegistry(
+            EvaluationPolicyProperties properties,
+            Environment environment,
+            ResourceLoader resourceLoader
+    ) {
+        this.properties = properties;
+        this.environment = environment;
+        this.resourceLoader = resourceLoader;
+
+        // 평가 경로가 처음 호출되기 전에 적재 (설정이 잘못되었으면 기동 실패)
+        this.tables = PolicyTables.compile(readDefinition(), source());
+        log.info("[EvaluationPolicyRegistry] 평가 정책 적재 - version={}, source={}", tables.definition.version(), tables.source);
+    }
+
+    public int version() {
+        return tables.definition.version();
+    }
+
+    /**
+     * 카테고리에 적용할 정책 (카테고리 id별 -> 타입별 -> 기본 순)
+     */
+    public ThresholdTable policyFor(CategorySnapshot category) {
+        return tables.lookup(category.id(), category.type());
+    }
+
+    public EvaluationPolicyStatus status() {
+        PolicyTables current = tables;
+        return new EvaluationPolicyStatus(current.definition.version(), current.source, current.loadedAt, current.definition);
+    }
+
+    /**
+     * 설정을 다시 읽어 임계값 표를 교체한다. 검증에 실패하면 기존 표를 그대로 둔다.
+     */
+    public EvaluationPolicyStatus reload() {
+        reloadLock.lock();
+        try {
+            PolicyTables current = tables;
+            PolicyTables loaded;
+            try {
+                EvaluationPolicyDefinition definition = readDefinition();
+                if (definition.equals(current.definition)) {
+                    return status();
+                }
+                validateVersion(current.definition, definition);
+                loaded = PolicyTables.compile(definition, source());
+            } catch (RuntimeException e) {
+                log.error("[EvaluationPolicyRegistry] 평가 정책 적재 실패 - 기존 정책 유지 (version={})", current.definition.version(), e);
+                throw new CustomException(ErrorCode.INVALID_EVALUATION_POLICY);
+            }
+
+            tables = loaded;
+            log.info("[EvaluationPolicyRegistry] 평가 정책 교체 - version {} -> {}, source={}",
+                    current.definition.version(), loaded.definition.version(), loaded.source);
+            return status();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = RELOAD_INTERVAL_MILLIS, initialDelayString = RELOAD_INTERVAL_MILLIS)
+    public void reloadIfChanged() {
+        if (properties.location().isBlank()) {
+            return;
+        }
+
+        try {
+            if (locationResource().lastModified() != locationLastModified) {
+                reload();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("[EvaluationPolicyRegistry] 정책 파일 변경 확인 실패 - {}", properties.location(), e);
+        }
+    }
+
+    private void validateVersion(EvaluationPolicyDefinition current, EvaluationPolicyDefinition loaded) {
+        if (loaded.version() < current.version()) {
+            throw new IllegalArgumentException("정책 버전은 낮출 수 없습니다: " + current.version() + " -> " + loaded.version());
+        }
+        if (loaded.version() == current.version()) {
+            throw new IllegalArgumentException("임계값이 바뀌면 version을 올려야 합니다: version=" + loaded.version());
+        }
+    }
+
+    private EvaluationPolicyDefinition readDefinition() {
+        if (properties.location().isBlank()) {
+            return Binder.get(environment).bindOrCreate(PREFIX, EvaluationPolicyDefinition.class);
+        }
+
+        Resource resource = locationResource();
+        try {
+            // 읽기 전에 기록해, 잘못된 파일은 다시 바뀔 때까지 재시도하지 않는다
+            locationLastModified = resource.lastModified();
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader().load(properties.location(), resource);
+            return new Binder(ConfigurationPropertySources.from(sources)).bindOrCreate(PREFIX, EvaluationPolicyDefinition.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("평가 정책 파일을 읽을 수 없습니다: " + properties.location(), e);
+        }
+    }
+
+    private Resource locationResource() {
+        return resourceLoader.getResource(properties.location());
+    }
+
+    private String source() {
+        return properties.location().isBlank() ? "application" : properties.location();
+    }
+
+    /**
+     * 컴파일된 임계값 표 묶음 (만든 뒤 바뀌지 않음)
+     */
+    private static final class PolicyTables {
+
+        private final EvaluationPolicyDefinition definition;
+        private final String source;
+        private final LocalDateTime loadedAt;
+
+        private final ThresholdTable[] byType;      // CategoryType.ordinal() 순 (설정이 없는 타입은 기본 표)
+        private final long[] categoryIds;           // 오름차순
+        private final ThresholdTable[] byCategory;  // categoryIds와 같은 순서
+
+        private PolicyTables(EvaluationPolicyDefinition definition, String source,
+                             ThresholdTable[] byType, long[] categoryIds, ThresholdTable[] byCategory) {
+            this.definition = definition;
+            this.source = source;
+            this.loadedAt = LocalDateTime.now();
+            this.byType = byType;
+            this.categoryIds = categoryIds;
+            this.byCategory = byCategory;
+        }
+
+        private static PolicyTables compile(EvaluationPolicyDefinition definition, String source) {
+            int version = definition.version();
+            if (version < 1) {
+                throw new IllegalArgumentException("정책 버전은 1 이상이어야 합니다: " + version);
+            }
+
+            ThresholdTable defaults = ThresholdTable.of(version, definition.defaults());
+
+            ThresholdTable[] byType = new ThresholdTable[CategoryType.values().length];
+            for (CategoryType type : CategoryType.values()) {
+                EvaluationPolicyDefinition.Thresholds thresholds = definition.types().get(type);
+                byType[type.ordinal()] = thresholds != null ? ThresholdTable.of(version, thresholds) : defaults;
+            }
+
+            Map<Long, EvaluationPolicyDefinition.Thresholds> categories = definition.categories();
+            long[] categoryIds = categories.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            ThresholdTable[] byCategory = new ThresholdTable[categoryIds.length];
+            for (int i = 0; i < categoryIds.length; i++) {
+                byCategory[i] = ThresholdTable.of(version, categories.get(categoryIds[i]));
+            }
+
+            return new PolicyTables(definition, source, byType, categoryIds, byCategory);
+        }
+
+        private ThresholdTable lookup(Long categoryId, CategoryType type) {
+            if (categoryId != null && categoryIds.length > 0) {
+                int index = Arrays.binarySearch(categoryIds, categoryId);
+                if (index >= 0) {
+                    return byCategory[index];
+                }
+            }
+            return byType[type.ordinal()];
+        }
+    }
+}
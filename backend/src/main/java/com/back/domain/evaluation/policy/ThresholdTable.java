@@ -0,0 +1,57 @@
+package com.back.domain.evaluation.policy;
+
+import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.domain.evaluation.kernel.EvaluationFormulas;
+
+/**
+ * 미리 컴파일된 불변 임계값 표
+ * 상태는 효율이 못 미치는 하한의 개수로 배열을 바로 찾는다. (비교 결과를 더하기만 하므로 분기/할당 없음)
+ * 평가 커널은 같은 임계값을 EvaluationProfiles 열로 옮겨 쓴다.
+ */
+public final class ThresholdTable implements EvaluationPolicy {
+
+    // 인덱스 = EvaluationFormulas.statusOrdinal
+    private static final EvaluationStatus[] STATUSES = EvaluationStatus.values();
+
+    private final int version;
+    private final double efficient;
+    private final double keep;
+    private final double review;
+
+    public ThresholdTable(int version, double efficient, double keep, double review) {
+        if (!(efficient >= keep && keep >= review && review >= 0)) {
+            throw new IllegalArgumentException(
+                    "임계값은 efficient >= keep >= review >= 0 이어야 합니다: " + efficient + " / " + keep + " / " + review);
+        }
+        this.version = version;
+        this.efficient = efficient;
+        this.keep = keep;
+        this.review = review;
+    }
+
+    public static ThresholdTable of(int version, EvaluationPolicyDefinition.Thresholds thresholds) {
+        return new ThresholdTable(version, thresholds.efficient(), thresholds.keep(), thresholds.review());
+    }
+
+    @Override
+    public EvaluationStatus calculateStatus(double efficiencyRate, int usageValue) {
+        return STATUSES[EvaluationFormulas.statusOrdinal(efficiencyRate, usageValue, efficient, keep, review)];
+    }
+
+    @Override
+    public int version() {
+        return version;
+    }
+
+    public double efficientAt() {
+        return efficient;
+    }
+
+    public double keepAt() {
+        return keep;
+    }
+
+    public double reviewAt() {
+        return review;
+    }
+}
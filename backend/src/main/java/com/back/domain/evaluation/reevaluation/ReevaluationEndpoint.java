@@ -0,0 +1,42 @@
+package com.back.domain.evaluation.reevaluation;
+
+import com.back.domain.evaluation.dto.ReevaluationStatus;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일괄 재평가 시작 / 재개 / 취소 (관리용)
+ * - GET  /actuator/reevaluation          진행 상태 (실행 기록이 없으면 404)
+ * - POST /actuator/reevaluation/start    새로 시작
+ * - POST /actuator/reevaluation/resume   마지막 체크포인트부터 재개 (이어갈 실행이 없으면 새로 시작)
+ * - POST /actuator/reevaluation/cancel   취소 (진행 중인 구간까지 처리)
+ * 모든 사용자의 평가를 다시 쓰는 작업이라 기본으로는 웹에 노출하지 않는다. (내부 관리 포트에서 management.endpoints.web.exposure.include에 추가)
+ */
+@Component
+@Endpoint(id = "reevaluation")
+@RequiredArgsConstructor
+public class ReevaluationEndpoint {
+
+    private final ReevaluationJob reevaluationJob;
+
+    @ReadOperation
+    public ReevaluationStatus status() {
+        return reevaluationJob.status();
+    }
+
+    @WriteOperation
+    public ReevaluationStatus control(@Selector String action) {
+        return switch (action) {
+            case "start" -> reevaluationJob.start();
+            case "resume" -> reevaluationJob.resume();
+            case "cancel" -> reevaluationJob.cancel();
+            default -> throw new CustomException(ErrorCode.BAD_REQUEST);
+        };
+    }
+}
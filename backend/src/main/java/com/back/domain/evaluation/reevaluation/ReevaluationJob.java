@@ -0,0 +1,356 @@
+package com.back.domain.evaluation.reevaluation;
+
+import com.back.domain.evaluation.dto.ReevaluationStatus;
+import com.back.domain.evaluation.entity.ReevaluationRun;
+import com.back.domain.evaluation.enums.ReevaluationState;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.evaluation.policy.EvaluationPolicyRegistry;
+import com.back.domain.evaluation.repository.ReevaluationRunRepository;
+import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import com.back.domain.evaluation.service.EvaluationService;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 기준값 / 평가 정책 변경 후 기존 평가를 다시 계산하는 일괄 재평가 작업
+ *
+ * [정책]
+ * - 재평가 대상: 기준값 스냅샷이 현재 카테고리 기준값과 다르거나, 현재와 다른 정책 버전으로 계산된 평가 (삭제 표시된 구독 제외)
+ * - 평가 id 공간을 chunkSize 폭의 구간으로 나눠 parallelism 개의 워커가 차례로 가져간다.
+ *   구간마다 PK 범위 조회로 대상 키만 고른 뒤 EvaluationService.reevaluate로 처리한다.
+ *   (구독 잠금 -> 저장된 사용량 재조회 -> 일괄 Upsert + 대시보드 집계 증감 + 열 저장소 반영이 구간당 한 트랜잭션)
+ * - 체크포인트: 끝난 구간이 앞에서부터 연속으로 이어진 지점까지만 전진시켜 reevaluation_run에 기록한다.
+ *   재개하면 체크포인트부터 다시 훑는다. 그 위에서 이미 끝난 구간은 더 이상 재평가 대상이 아니므로 건너뛰게 된다.
+ * - 취소 / 구간 실패 시 새 구간을 가져가지 않고, 진행 중인 구간만 마친 뒤 멈춘다. (실패한 구간은 재개 시 다시 처리)
+ * - 재개는 같은 정책 버전의 완료되지 않은 마지막 실행에만 적용된다. 그 사이 정책이 바뀌었으면 새 실행으로 시작한다.
+ */
+@Slf4j
+@Component
+public class ReevaluationJob {
+
+    private final SubscriptionEvaluationRepository evaluationRepository;
+    private final ReevaluationRunRepository runRepository;
+    private final EvaluationService evaluationService;
+    private final EvaluationPolicyRegistry evaluationPolicyRegistry;
+    private final ReevaluationProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock launchLock = new ReentrantLock();
+    private volatile Execution current;
+
+    public ReevaluationJob(
+            SubscriptionEvaluationRepository evaluationRepository,
+            ReevaluationRunRepository runRepository,
+            EvaluationService evaluationService,
+            EvaluationPolicyRegistry evaluationPolicyRegistry,
+            ReevaluationProperties properties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.evaluationRepository = evaluationRepository;
+        this.runRepository = runRepository;
+        this.evaluationService = evaluationService;
+        this.evaluationPolicyRegistry = evaluationPolicyRegistry;
+        this.properties = properties;
+
+        // 진행 기록은 워커 스레드에서 바로 커밋한다
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 처음부터 새로 재평가를 시작한다.
+     */
+    public ReevaluationStatus start() {
+        return launch(false);
+    }
+
+    /**
+     * 완료되지 않은 마지막 실행을 체크포인트부터 이어서 실행한다. (이어갈 실행이 없으면 새로 시작)
+     */
+    public ReevaluationStatus resume() {
+        return launch(true);
+    }
+
+    /**
+     * 실행 중인 재평가에 취소를 요청한다. 진행 중인 구간은 마저 처리된다.
+     */
+    public ReevaluationStatus cancel() {
+        Execution execution = current;
+        if (execution != null && execution.isRunning()) {
+            execution.cancelRequested = true;
+        }
+        return status();
+    }
+
+    public ReevaluationStatus status() {
+        Execution execution = current;
+        if (execution != null) {
+            return execution.status();
+        }
+        return runRepository.findTopByOrderByIdDesc()
+                .map(ReevaluationStatus::from)
+                .orElse(null);
+    }
+
+    /**
+     * 실행 중인 재평가가 끝날 때까지 기다린다.
+     *
+     * @return 제한 시간 안에 끝났으면 (또는 실행 중이 아니면) true
+     */
+    public boolean await(Duration timeout) {
+        Execution execution = current;
+        if (execution == null) {
+            return true;
+        }
+        try {
+            return execution.done.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        Execution execution = current;
+        if (execution == null || !execution.isRunning()) {
+            return;
+        }
+
+        // 진행 중인 구간을 마치고 체크포인트를 남긴 뒤 종료 (다음 기동 후 resume으로 이어서 실행)
+        execution.cancelRequested = true;
+        if (!await(Duration.ofSeconds(30))) {
+            log.warn("[ReevaluationJob] 종료 대기 시간 초과 - runId={}", execution.runId);
+        }
+    }
+
+    private ReevaluationStatus launch(boolean resume) {
+        launchLock.lock();
+        try {
+            Execution running = current;
+            if (running != null && running.isRunning()) {
+                throw new CustomException(ErrorCode.REEVALUATION_ALREADY_RUNNING);
+            }
+
+            int policyVersion = evaluationPolicyRegistry.version();
+            LocalDateTime now = LocalDateTime.now();
+
+            ReevaluationRun run = resume
+                    ? runRepository.findTopByOrderByIdDesc().filter(r -> r.isResumable(policyVersion)).orElse(null)
+                    : null;
+            if (run == null) {
+                run = new ReevaluationRun(policyVersion, evaluationRepository.countStale(policyVersion), now);
+            }
+            run.resume(evaluationRepository.findMaxId(), now);
+
+            ReevaluationRun launched = run;
+            ReevaluationRun saved = transactionTemplate.execute(status -> runRepository.save(launched));
+
+            Execution execution = new Execution(saved);
+            current = execution;
+            execution.start();
+
+            log.info("[ReevaluationJob] 재평가 시작 - runId={}, policyVersion={}, 대상 {}건, id {}~{}, parallelism={}, chunkSize={}",
+                    saved.getId(), policyVersion, saved.getTotalStale(), saved.getCheckpointId(), saved.getMaxEvaluationId(),
+                    execution.parallelism, execution.chunkSize);
+            return execution.status();
+        } finally {
+            launchLock.unlock();
+        }
+    }
+
+    /**
+     * 한 번의 실행 (시작 / 재개마다 새로 만든다)
+     */
+    private final class Execution {
+
+        private final Long runId;
+        private final int policyVersion;
+        private final long totalStale;
+        private final long maxEvaluationId;
+        private final LocalDateTime startedAt;
+        private final int parallelism;
+        private final int chunkSize;
+
+        // 다음에 워커가 가져갈 구간의 시작 id
+        private final AtomicLong cursor;
+        private final LongAdder reevaluated = new LongAdder();
+        private final long reevaluatedBefore;
+
+        // 체크포인트 (이 값 미만의 구간은 모두 끝남) + 먼저 끝난 뒤쪽 구간의 시작 id (guarded by this, DB 기록은 잠금 밖)
+        private long checkpoint;
+        private final TreeSet<Long> completedAhead = new TreeSet<>();
+
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile boolean cancelRequested;
+        private volatile ReevaluationState state = ReevaluationState.RUNNING;
+        private volatile LocalDateTime finishedAt;
+
+        private Execution(ReevaluationRun run) {
+            this.runId = run.getId();
+            this.policyVersion = run.getPolicyVersion();
+            this.totalStale = run.getTotalStale();
+            this.maxEvaluationId = run.getMaxEvaluationId();
+            this.startedAt = run.getStartedAt();
+            this.reevaluatedBefore = run.getReevaluated();
+            this.checkpoint = run.getCheckpointId();
+            this.cursor = new AtomicLong(run.getCheckpointId());
+
+            int configured = properties.parallelism();
+            this.parallelism = configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+            this.chunkSize = Math.max(1, properties.chunkSize());
+        }
+
+        private boolean isRunning() {
+            return state == ReevaluationState.RUNNING;
+        }
+
+        private void start() {
+            Thread coordinator = new Thread(this::run, "reevaluation-" + runId);
+            coordinator.setDaemon(true);
+            coordinator.start();
+        }
+
+        private void run() {
+            ExecutorService workers = Executors.newFixedThreadPool(parallelism, workerThreadFactory());
+            try {
+                List<Future<?>> futures = new ArrayList<>(parallelism);
+                for (int i = 0; i < parallelism; i++) {
+                    futures.add(workers.submit(this::work));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (Exception e) {
+                failure.compareAndSet(null, new IllegalStateException("재평가 워커 대기 중 오류", e));
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+            } finally {
+                workers.shutdownNow();
+                finish();
+            }
+        }
+
+        private void work() {
+            while (!cancelRequested && failure.get() == null) {
+                long fromId = cursor.getAndAdd(chunkSize);
+                if (fromId > maxEvaluationId) {
+                    return;
+                }
+
+                try {
+                    List<EvaluationKey> keys = evaluationRepository.findStaleKeys(fromId, fromId + chunkSize, policyVersion);
+                    if (!keys.isEmpty()) {
+                        reevaluated.add(evaluationService.reevaluate(keys));
+                    }
+                    complete(fromId);
+                } catch (RuntimeException e) {
+                    log.error("[ReevaluationJob] 구간 재평가 실패 - runId={}, id {}~{}", runId, fromId, fromId + chunkSize - 1, e);
+                    failure.compareAndSet(null, e);
+                }
+            }
+        }
+
+        // 끝난 구간을 기록하고, 앞 구간이 모두 끝났으면 체크포인트를 전진시켜 저장한다
+        // 메모리 상태만 잠금 안에서 바꾸고, DB 기록은 잠금 밖에서 한다 (다른 워커의 구간 완료가 DB 쓰기를 기다리지 않도록)
+        private void complete(long fromId) {
+            long advanced;
+            synchronized (this) {
+                completedAhead.add(fromId);
+
+                long before = checkpoint;
+                while (completedAhead.remove(checkpoint)) {
+                    checkpoint += chunkSize;
+                }
+                if (checkpoint == before) {
+                    return;
+                }
+                advanced = checkpoint;
+            }
+
+            // 늦게 도착한 더 작은 체크포인트는 updateProgress 조건에서 걸러진다
+            long total = reevaluatedBefore + reevaluated.sum();
+            transactionTemplate.executeWithoutResult(status ->
+                    runRepository.updateProgress(runId, advanced, total, LocalDateTime.now()));
+        }
+
+        private void finish() {
+            ReevaluationState finalState;
+            if (failure.get() != null) {
+                finalState = ReevaluationState.FAILED;
+            } else if (checkpointSnapshot() <= maxEvaluationId) {
+                finalState = ReevaluationState.CANCELLED;
+            } else {
+                finalState = ReevaluationState.COMPLETED;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            long total = reevaluatedBefore + reevaluated.sum();
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        runRepository.finish(runId, finalState, checkpointSnapshot(), total, now));
+            } catch (RuntimeException e) {
+                log.error("[ReevaluationJob] 실행 결과 기록 실패 - runId={}", runId, e);
+            }
+
+            finishedAt = now;
+            state = finalState;
+            done.countDown();
+
+            log.info("[ReevaluationJob] 재평가 종료 - runId={}, state={}, 재평가 {}건, checkpoint={}",
+                    runId, finalState, total, checkpointSnapshot());
+        }
+
+        private synchronized long checkpointSnapshot() {
+            return checkpoint;
+        }
+
+        private ReevaluationStatus status() {
+            return new ReevaluationStatus(
+                    runId,
+                    state,
+                    policyVersion,
+                    totalStale,
+                    reevaluatedBefore + reevaluated.sum(),
+                    checkpointSnapshot(),
+                    maxEvaluationId,
+                    startedAt,
+                    finishedAt
+            );
+        }
+
+        private ThreadFactory workerThreadFactory() {
+            AtomicInteger sequence = new AtomicInteger();
+            return r -> {
+                Thread thread = new Thread(r, "reevaluation-" + runId + "-worker-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.back.domain.evaluation.reevaluation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "evaluation.reevaluation")
+public record ReevaluationProperties(
+        @DefaultValue("0") int parallelism,  // 동시에 처리할 청크 수 (0이면 CPU 코어 수, DB 커넥션 풀 크기를 넘지 않게 둔다)
+        @DefaultValue("1000") int chunkSize  // 한 트랜잭션에서 훑는 평가 id 구간 폭
+) {}
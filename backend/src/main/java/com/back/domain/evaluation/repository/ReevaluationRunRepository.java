@@ -0,0 +1,43 @@
+package com.back.domain.evaluation.repository;
+
+import com.back.domain.evaluation.entity.ReevaluationRun;
+import com.back.domain.evaluation.enums.ReevaluationState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ReevaluationRunRepository extends JpaRepository<ReevaluationRun, Long> {
+
+    // 가장 최근 실행 (상태 조회 / 재개 대상)
+    Optional<ReevaluationRun> findTopByOrderByIdDesc();
+
+    // 체크포인트 전진 (청크가 끝날 때마다, 워커들의 기록 순서가 뒤바뀌어도 뒤로 가지 않는다)
+    @Modifying
+    @Query("""
+            update ReevaluationRun r
+            set r.checkpointId = :checkpointId, r.reevaluated = :reevaluated, r.updatedAt = :now
+            where r.id = :id
+              and r.checkpointId < :checkpointId
+            """)
+    int updateProgress(@Param("id") Long id,
+                       @Param("checkpointId") long checkpointId,
+                       @Param("reevaluated") long reevaluated,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update ReevaluationRun r
+            set r.state = :state, r.checkpointId = :checkpointId, r.reevaluated = :reevaluated,
+                r.updatedAt = :now, r.finishedAt = :now
+            where r.id = :id
+            """)
+    int finish(@Param("id") Long id,
+               @Param("state") ReevaluationState state,
+               @Param("checkpointId") long checkpointId,
+               @Param("reevaluated") long reevaluated,
+               @Param("now") LocalDateTime now);
+}
@@ -4,7 +4,6 @@ import com.back.domain.evaluation.entity.SubscriptionEvaluation;
 import com.back.domain.subscription.entity.Subscription;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,20 +11,16 @@ import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
-public interface SubscriptionEvaluationRepository extends JpaRepository<SubscriptionEvaluation, Long> {
+public interface SubscriptionEvaluationRepository extends JpaRepository<SubscriptionEvaluation, Long>, SubscriptionEvaluationRepositoryCustom {
 
     // 특정 구독의 특정 연/월 평가 찾기 (단일 조회용)
     Optional<SubscriptionEvaluation> findBySubscriptionAndEvalMonth(Subscription subscription, YearMonth evalMonth);
 
-    // 특정 연/월의 모든 평가 데이터 가져오기
-    List<SubscriptionEvaluation> findAllByEvalMonth(YearMonth evalMonth);
-
-    // 대시보드용: N+1 문제를 방지하기 위한 EntityGraph 적용 버전
-    @EntityGraph(attributePaths = {"subscription", "subscription.category"})
-    List<SubscriptionEvaluation> findAllWithSubscriptionAndCategoryByEvalMonth(YearMonth evalMonth);
-
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("delete from SubscriptionEvaluation se where se.subscription.id = :subscriptionId")
-    int deleteAllBySubscriptionId(@Param("subscriptionId") Long subscriptionId);
+    // 대시보드용: 한 사용자의 월 평가 + 구독 (EntityGraph로 N+1 방지, 카테고리는 CategoryRegistry에서 조회, 삭제 표시된 구독 제외)
+    // (user_id, eval_month) 선두 인덱스로 해당 사용자 행만 읽는다
+    @EntityGraph(attributePaths = {"subscription"})
+    @Query("select se from SubscriptionEvaluation se where se.userId = :userId and se.evalMonth = :evalMonth and se.subscription.deleted = false")
+    List<SubscriptionEvaluation> findAllWithSubscriptionByUserIdAndEvalMonth(@Param("userId") Long userId,
+                                                                             @Param("evalMonth") YearMonth evalMonth);
 
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.back.domain.evaluation.repository;
+
+import com.back.domain.evaluation.dto.EvaluationColumnRow;
+import com.back.domain.evaluation.dto.StoredEvaluation;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface SubscriptionEvaluationRepositoryCustom {
+
+    // (subscription_id, eval_month) 기준 단건 Upsert (단일 SQL 문장)
+    void upsert(SubscriptionEvaluation evaluation);
+
+    // (subscription_id, eval_month) 기준 일괄 Upsert (JDBC batch)
+    void batchUpsert(List<SubscriptionEvaluation> evaluations);
+
+    // Upsert 직전 기존 평가 값 조회 + 행 잠금 (대시보드 집계 증감분 계산용)
+    List<StoredEvaluation> findAllForUpdate(Collection<EvaluationKey> keys);
+
+    // 열 저장소 적재용: 삭제 표시되지 않은 구독의 모든 평가를 한 행씩 넘긴다 (결과 목록을 만들지 않음)
+    void streamColumnRows(Consumer<EvaluationColumnRow> consumer);
+
+    // 열 저장소 반영용: 키에 해당하는 평가 (삭제 표시된 구독 제외)
+    List<EvaluationColumnRow> findColumnRows(Collection<EvaluationKey> keys);
+
+    // 재평가용: 평가 id 상한 (없으면 0)
+    long findMaxId();
+
+    // 재평가용: 기준값 스냅샷이 현재 카테고리 기준값과 다르거나 다른 정책 버전으로 계산된 평가 수 (삭제 표시된 구독 제외)
+    long countStale(int policyVersion);
+
+    // 재평가용: [fromId, toId) 평가 id 구간의 재평가 대상 키 (PK 범위 조회)
+    List<EvaluationKey> findStaleKeys(long fromId, long toId, int policyVersion);
+}
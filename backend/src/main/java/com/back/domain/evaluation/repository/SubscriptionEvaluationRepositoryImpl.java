@@ -0,0 +1,236 @@
+package com.back.domain.evaluation.repository;
+
+import com.back.domain.evaluation.dto.EvaluationColumnRow;
+import com.back.domain.evaluation.dto.StoredEvaluation;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.global.common.converter.YearMonthConverter;
+import com.back.global.common.jdbc.DatabaseVendor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public class SubscriptionEvaluationRepositoryImpl implements SubscriptionEvaluationRepositoryCustom {
+
+    private static final int BATCH_CHUNK_SIZE = 500;
+
+    private static final String H2_UPSERT_SQL = """
+            MERGE INTO subscription_evaluation
+                (subscription_id, eval_month, efficiency_rate, status, annual_waste, reference_snapshot_value, cost_per_unit, policy_version, user_id)
+            KEY (subscription_id, eval_month)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String MYSQL_UPSERT_SQL = """
+            INSERT INTO subscription_evaluation
+                (subscription_id, eval_month, efficiency_rate, status, annual_waste, reference_snapshot_value, cost_per_unit, policy_version, user_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                efficiency_rate = VALUES(efficiency_rate),
+                status = VALUES(status),
+                annual_waste = VALUES(annual_waste),
+                reference_snapshot_value = VALUES(reference_snapshot_value),
+                cost_per_unit = VALUES(cost_per_unit),
+                policy_version = VALUES(policy_version)
+            """;
+
+    // (subscription_id, eval_month) 행 값 비교 대신 두 IN 조건으로 잠근 뒤 자바에서 정확한 키만 남긴다
+    private static final String SELECT_FOR_UPDATE_BY_KEYS_SQL = """
+            SELECT subscription_id, eval_month, status, annual_waste
+            FROM subscription_evaluation
+            WHERE subscription_id IN (:subscriptionIds) AND eval_month IN (:months)
+            ORDER BY subscription_id, eval_month
+            FOR UPDATE
+            """;
+
+    private static final String COLUMN_ROW_SELECT = """
+            SELECT e.subscription_id, e.user_id, e.eval_month, e.efficiency_rate, e.status, e.annual_waste, e.cost_per_unit,
+                   s.monthly_share_cost, s.status AS subscription_status, s.name, s.category_id
+            FROM subscription_evaluation e
+            JOIN subscription s ON s.id = e.subscription_id
+            WHERE s.deleted = FALSE
+            """;
+
+    private static final String COLUMN_ROWS_BY_KEYS_SQL = COLUMN_ROW_SELECT + """
+            AND e.subscription_id IN (:subscriptionIds) AND e.eval_month IN (:months)
+            """;
+
+    // 기준값 스냅샷이 현재 카테고리 기준값과 다르거나 다른 정책 버전으로 계산된 평가
+    private static final String STALE_FROM_WHERE = """
+            FROM subscription_evaluation e
+            JOIN subscription s ON s.id = e.subscription_id
+            JOIN category c ON c.id = s.category_id
+            WHERE s.deleted = FALSE
+              AND (e.reference_snapshot_value <> c.reference_value OR e.policy_version <> ?)
+            """;
+
+    private static final String COUNT_STALE_SQL = "SELECT COUNT(*) " + STALE_FROM_WHERE;
+
+    private static final String STALE_KEYS_IN_RANGE_SQL = "SELECT e.subscription_id, e.eval_month " + STALE_FROM_WHERE + """
+              AND e.id >= ? AND e.id < ?
+            """;
+
+    private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM subscription_evaluation";
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private static final RowMapper<StoredEvaluation> STORED_EVALUATION_MAPPER = (rs, rowNum) -> new StoredEvaluation(
+            rs.getLong("subscription_id"),
+            YearMonthConverter.fromPeriod(rs.getInt("eval_month")),
+            EvaluationStatus.valueOf(rs.getString("status")),
+            rs.getLong("annual_waste")
+    );
+
+    private static final RowMapper<EvaluationColumnRow> COLUMN_ROW_MAPPER = (rs, rowNum) -> new EvaluationColumnRow(
+            rs.getLong("subscription_id"),
+            rs.getLong("user_id"),
+            YearMonthConverter.fromPeriod(rs.getInt("eval_month")),
+            rs.getDouble("efficiency_rate"),
+            EvaluationStatus.valueOf(rs.getString("status")),
+            rs.getLong("annual_waste"),
+            rs.getLong("cost_per_unit"),
+            rs.getLong("monthly_share_cost"),
+            SubscriptionStatus.valueOf(rs.getString("subscription_status")) == SubscriptionStatus.TRIAL,
+            rs.getString("name"),
+            rs.getLong("category_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final String upsertSql;
+
+    public SubscriptionEvaluationRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.upsertSql = switch (DatabaseVendor.detect(jdbcTemplate.getDataSource())) {
+            case H2 -> H2_UPSERT_SQL;
+            case MYSQL -> MYSQL_UPSERT_SQL;
+        };
+    }
+
+    @Override
+    public void upsert(SubscriptionEvaluation evaluation) {
+        jdbcTemplate.update(upsertSql, ps -> bind(ps, evaluation));
+    }
+
+    @Override
+    public void batchUpsert(List<SubscriptionEvaluation> evaluations) {
+        if (evaluations.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(upsertSql, evaluations, BATCH_CHUNK_SIZE, this::bind);
+    }
+
+    @Override
+    public List<StoredEvaluation> findAllForUpdate(Collection<EvaluationKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        Set<EvaluationKey> wanted = new HashSet<>(keys);
+        List<Long> subscriptionIds = keys.stream().map(EvaluationKey::subscriptionId).distinct().sorted().toList();
+        List<Integer> months = keys.stream()
+                .map(EvaluationKey::month)
+                .distinct()
+                .map(YearMonthConverter::toPeriod)
+                .toList();
+
+        List<StoredEvaluation> result = new ArrayList<>();
+        for (int from = 0; from < subscriptionIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("subscriptionIds", subscriptionIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, subscriptionIds.size())))
+                    .addValue("months", months);
+
+            namedJdbcTemplate.query(SELECT_FOR_UPDATE_BY_KEYS_SQL, params, STORED_EVALUATION_MAPPER).stream()
+                    .filter(stored -> wanted.contains(stored.key()))
+                    .forEach(result::add);
+        }
+        return result;
+    }
+
+    @Override
+    public void streamColumnRows(Consumer<EvaluationColumnRow> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(COLUMN_ROW_SELECT);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(COLUMN_ROW_MAPPER.mapRow(rs, rs.getRow())));
+    }
+
+    @Override
+    public List<EvaluationColumnRow> findColumnRows(Collection<EvaluationKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        Set<EvaluationKey> wanted = new HashSet<>(keys);
+        List<Long> subscriptionIds = keys.stream().map(EvaluationKey::subscriptionId).distinct().toList();
+        List<Integer> months = keys.stream()
+                .map(EvaluationKey::month)
+                .distinct()
+                .map(YearMonthConverter::toPeriod)
+                .toList();
+
+        List<EvaluationColumnRow> result = new ArrayList<>();
+        for (int from = 0; from < subscriptionIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("subscriptionIds", subscriptionIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, subscriptionIds.size())))
+                    .addValue("months", months);
+
+            namedJdbcTemplate.query(COLUMN_ROWS_BY_KEYS_SQL, params, COLUMN_ROW_MAPPER).stream()
+                    .filter(row -> wanted.contains(row.key()))
+                    .forEach(result::add);
+        }
+        return result;
+    }
+
+    @Override
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+        return maxId != null ? maxId : 0;
+    }
+
+    @Override
+    public long countStale(int policyVersion) {
+        Long count = jdbcTemplate.queryForObject(COUNT_STALE_SQL, Long.class, policyVersion);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public List<EvaluationKey> findStaleKeys(long fromId, long toId, int policyVersion) {
+        return jdbcTemplate.query(STALE_KEYS_IN_RANGE_SQL,
+                (rs, rowNum) -> new EvaluationKey(
+                        rs.getLong("subscription_id"),
+                        YearMonthConverter.fromPeriod(rs.getInt("eval_month"))
+                ),
+                policyVersion, fromId, toId);
+    }
+
+    private void bind(PreparedStatement ps, SubscriptionEvaluation e) throws SQLException {
+        ps.setLong(1, e.getSubscription().getId());
+        ps.setInt(2, YearMonthConverter.toPeriod(e.getEvalMonth()));
+        ps.setDouble(3, e.getEfficiencyRate());
+        ps.setString(4, e.getStatus().name());
+        ps.setLong(5, e.getAnnualWaste());
+        ps.setInt(6, e.getReferenceSnapshotValue());
+        ps.setLong(7, e.getCostPerUnit());
+        ps.setInt(8, e.getPolicyVersion());
+        ps.setLong(9, e.getUserId());
+    }
+}
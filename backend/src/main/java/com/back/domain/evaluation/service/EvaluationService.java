@@ -0,0 +1,174 @@
+package com.back.domain.evaluation.service;
+
+import com.back.domain.category.registry.CategoryRegistry;
+import com.back.domain.category.registry.CategorySnapshot;
+import com.back.domain.dashboard.service.DashboardAggregateService;
+import com.back.domain.evaluation.columnar.EvaluationColumnStore;
+import com.back.domain.evaluation.dto.StoredEvaluation;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.kernel.EvaluationBatch;
+import com.back.domain.evaluation.kernel.EvaluationKernel;
+import com.back.domain.evaluation.kernel.EvaluationProfiles;
+import com.back.domain.evaluation.metrics.EvaluationMetrics;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.evaluation.policy.EvaluationPolicyRegistry;
+import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import com.back.domain.subscription.entity.Subscription;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.domain.subscription.repository.SubscriptionRepository;
+import com.back.domain.usage.entity.SubscriptionUsage;
+import com.back.domain.usage.repository.SubscriptionUsageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용량 -> 평가(SubscriptionEvaluation) 계산 및 저장
+ * 동기 경로(UsageService)와 비동기 평가 워커(AsyncEvaluationPipeline)가 함께 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class EvaluationService {
+
+    private final SubscriptionEvaluationRepository evaluationRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionUsageRepository usageRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final DashboardAggregateService dashboardAggregateService;
+    private final EvaluationMetrics evaluationMetrics;
+    private final EvaluationColumnStore evaluationColumnStore;
+
+    // 카테고리별 평가 정책 (설정에서 다시 적재되면 다음 평가부터 새 임계값 표 적용)
+    private final EvaluationPolicyRegistry evaluationPolicyRegistry;
+
+    // 여러 건 재평가의 계산 (기본형 열 배치, 스칼라 또는 SIMD)
+    private final EvaluationKernel evaluationKernel;
+
+    /**
+     * 단건 평가 후 Upsert (호출자의 트랜잭션에 참여)
+     */
+    @Transactional
+    public void evaluateAndSave(Subscription subscription, YearMonth month, int usageValue) {
+        save(List.of(evaluate(subscription, month, usageValue)));
+    }
+
+    /**
+     * 저장된(또는 저장할) 사용량 목록을 평가 후 일괄 Upsert (호출자의 트랜잭션에 참여)
+     */
+    @Transactional
+    public void evaluateAndSaveAll(List<SubscriptionUsage> usages) {
+        List<SubscriptionEvaluation> evaluations = usages.stream()
+                .map(u -> evaluate(u.getSubscription(), u.getUsageMonth(), u.getUsageValue()))
+                .toList();
+
+        save(evaluations);
+    }
+
+    /**
+     * 비동기 평가 워커용: 키 목록에 대해 현재 저장된 사용량을 다시 읽어 평가한다.
+     * 여러 번 합쳐진 요청이라도 마지막으로 커밋된 사용량 기준으로 한 번만 계산된다.
+     * 큐 포화 시 afterCommit 콜백(이미 커밋된 트랜잭션 자원이 남아 있음)에서도 호출되므로 항상 새 트랜잭션으로 실행한다.
+     * 계산은 키 목록 전체를 한 배치로 모아 평가 커널로 한 번에 돌린다. (일괄 재평가 청크 포함)
+     *
+     * @return 실제로 평가된 건수 (그 사이 구독/사용량이 삭제된 키는 제외)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int reevaluate(Collection<EvaluationKey> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> subscriptionIds = keys.stream().map(EvaluationKey::subscriptionId).collect(Collectors.toSet());
+        Set<YearMonth> months = keys.stream().map(EvaluationKey::month).collect(Collectors.toSet());
+
+        // 구독을 잠가 같은 구독의 삭제와 직렬화 (삭제 표시된 구독은 평가하지 않음)
+        Map<Long, Subscription> subscriptions = subscriptionRepository.findAllActiveByIdInForUpdate(subscriptionIds).stream()
+                .collect(Collectors.toMap(Subscription::getId, Function.identity()));
+
+        Map<EvaluationKey, Integer> usageValues = usageRepository.findAllBySubscriptionIdsAndUsageMonths(subscriptionIds, months).stream()
+                .collect(Collectors.toMap(EvaluationKey::of, SubscriptionUsage::getUsageValue));
+
+        List<SubscriptionEvaluation> evaluations = new ArrayList<>(keys.size());
+        EvaluationBatch batch = new EvaluationBatch(keys.size());
+        EvaluationProfiles.Builder profiles = EvaluationProfiles.builder();
+        for (EvaluationKey key : keys) {
+            Subscription subscription = subscriptions.get(key.subscriptionId());
+            Integer usageValue = usageValues.get(key);
+            if (subscription == null || usageValue == null) {
+                continue;
+            }
+            CategorySnapshot category = categoryRegistry.get(subscription.getCategoryId());
+            batch.add(
+                    usageValue,
+                    category.referenceValue(),
+                    subscription.getMonthlyShareCost(),
+                    subscription.getStatus() == SubscriptionStatus.TRIAL,
+                    profiles.add(evaluationPolicyRegistry.policyFor(category), category.type())
+            );
+            evaluations.add(new SubscriptionEvaluation(subscription, key.month()));
+        }
+
+        EvaluationProfiles compiled = profiles.build();
+        evaluationKernel.evaluate(batch, compiled);
+        for (int row = 0; row < evaluations.size(); row++) {
+            evaluations.get(row).applyComputed(
+                    batch.referenceValue(row),
+                    batch.rate(row),
+                    batch.costPerUnit(row),
+                    batch.status(row),
+                    batch.annualWaste(row),
+                    compiled.version(batch.profile(row))
+            );
+        }
+
+        save(evaluations);
+        return evaluations.size();
+    }
+
+    /**
+     * 평가 Upsert + 월 대시보드 집계 증감 반영 (+ 커밋 후 열 저장소 반영)
+     * 같은 키가 여러 번 오면 마지막 값만 남긴다. (Upsert 결과와 집계 증감분을 일치시키기 위함)
+     * 기존 평가 행은 잠근 뒤 읽어, 같은 키를 동시에 덮어쓰는 트랜잭션끼리 증감분이 겹치지 않게 한다.
+     */
+    private void save(List<SubscriptionEvaluation> evaluations) {
+        if (evaluations.isEmpty()) {
+            return;
+        }
+
+        Map<EvaluationKey, SubscriptionEvaluation> latest = new LinkedHashMap<>();
+        for (SubscriptionEvaluation evaluation : evaluations) {
+            latest.put(new EvaluationKey(evaluation.getSubscription().getId(), evaluation.getEvalMonth()), evaluation);
+        }
+
+        Map<EvaluationKey, StoredEvaluation> previous = evaluationRepository.findAllForUpdate(latest.keySet()).stream()
+                .collect(Collectors.toMap(StoredEvaluation::key, Function.identity()));
+
+        if (latest.size() == 1) {
+            evaluationRepository.upsert(latest.values().iterator().next());
+        } else {
+            evaluationRepository.batchUpsert(List.copyOf(latest.values()));
+        }
+        evaluationMetrics.upserted(latest.size(), previous.size());
+
+        dashboardAggregateService.applyEvaluations(latest.values(), previous);
+        evaluationColumnStore.refreshAfterCommit(latest.keySet());
+    }
+
+    private SubscriptionEvaluation evaluate(Subscription subscription, YearMonth month, int usageValue) {
+        SubscriptionEvaluation evaluation = new SubscriptionEvaluation(subscription, month);
+        CategorySnapshot category = categoryRegistry.get(subscription.getCategoryId());
+        evaluation.update(usageValue, category, evaluationPolicyRegistry.policyFor(category));
+        return evaluation;
+    }
+}
@@ -0,0 +1,44 @@
+package com.back.domain.subscription.controller;
+
+import com.back.domain.subscription.dto.SubscriptionPageResponse;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.domain.subscription.service.ReactiveSubscriptionService;
+import com.back.global.common.dto.RsData;
+import com.back.global.common.web.UserHeaders;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 구독 목록 반응형 읽기 API (reactive.read.enabled=true, 실험용 - 기본 DB 조회, ReactiveReadConfig 참고)
+ */
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reactive/subscriptions")
+@ConditionalOnProperty(prefix = "reactive.read", name = "enabled", havingValue = "true")
+public class ReactiveSubscriptionController {
+
+    private final ReactiveSubscriptionService reactiveSubscriptionService;
+
+    // 구독 목록 조회 (GET /api/v1/subscriptions와 같은 키셋 페이지 응답)
+    @GetMapping
+    public Mono<RsData<SubscriptionPageResponse>> getPage(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @RequestParam(required = false) @Min(0) Long cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) SubscriptionStatus status
+    ) {
+        return reactiveSubscriptionService.getSubscriptions(userId, cursor, size, categoryId, status)
+                .map(response -> RsData.success("구독 목록 조회 성공", response));
+    }
+}
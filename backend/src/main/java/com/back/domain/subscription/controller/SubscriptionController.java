@@ -1,15 +1,22 @@
 package com.back.domain.subscription.controller;
 
+import com.back.domain.subscription.dto.SubscriptionBulkDeleteRequest;
+import com.back.domain.subscription.dto.SubscriptionBulkDeleteResponse;
+import com.back.domain.subscription.dto.SubscriptionPageResponse;
 import com.back.domain.subscription.dto.SubscriptionRequest;
 import com.back.domain.subscription.dto.SubscriptionResponse;
+import com.back.domain.subscription.enums.SubscriptionStatus;
 import com.back.domain.subscription.service.SubscriptionService;
 import com.back.global.common.dto.RsData;
+import com.back.global.common.web.UserHeaders;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/subscriptions")
@@ -19,22 +26,41 @@ public class SubscriptionController {
 
     // 구독 등록
     @PostMapping
-    public RsData<SubscriptionResponse> create(@Valid @RequestBody SubscriptionRequest request) {
-        SubscriptionResponse response = subscriptionService.createSubscription(request);
+    public RsData<SubscriptionResponse> create(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @Valid @RequestBody SubscriptionRequest request
+    ) {
+        SubscriptionResponse response = subscriptionService.createSubscription(userId, request);
         return RsData.success("구독이 성공적으로 등록되었습니다.", response);
     }
 
-    // 구독 전체 조회
+    // 구독 목록 조회 (키셋 페이지: 응답의 nextCursor를 다음 요청의 cursor로 전달)
     @GetMapping
-    public RsData<List<SubscriptionResponse>> getAll() {
-        List<SubscriptionResponse> responses = subscriptionService.getAllSubscriptions();
-        return RsData.success("구독 목록 조회 성공", responses);
+    public RsData<SubscriptionPageResponse> getPage(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @RequestParam(required = false) @Min(0) Long cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) SubscriptionStatus status
+    ) {
+        SubscriptionPageResponse response = subscriptionService.getSubscriptions(userId, cursor, size, categoryId, status);
+        return RsData.success("구독 목록 조회 성공", response);
     }
 
     // 구독 삭제
     @DeleteMapping("/{id}")
-    public RsData<Void> delete(@PathVariable Long id) {
-        subscriptionService.deleteSubscription(id);
+    public RsData<Void> delete(@RequestHeader(UserHeaders.USER_ID) Long userId, @PathVariable Long id) {
+        subscriptionService.deleteSubscription(userId, id);
         return RsData.success(id + "번 구독이 삭제되었습니다.");
     }
+
+    // 구독 일괄 삭제 (삭제 표시 후 이력은 백그라운드에서 정리)
+    @PostMapping("/bulk-delete")
+    public RsData<SubscriptionBulkDeleteResponse> deleteAll(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @Valid @RequestBody SubscriptionBulkDeleteRequest request
+    ) {
+        SubscriptionBulkDeleteResponse response = subscriptionService.deleteSubscriptions(userId, request.ids());
+        return RsData.success("구독 " + response.deletedCount() + "건이 삭제되었습니다.", response);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.back.domain.subscription.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record SubscriptionBulkDeleteRequest(
+        @NotEmpty(message = "삭제할 구독 id 목록은 비어 있을 수 없습니다.")
+        @Size(max = 1000, message = "한 번에 최대 1000건까지 삭제할 수 있습니다.")
+        List<@NotNull Long> ids
+) {}
@@ -0,0 +1,9 @@
+package com.back.domain.subscription.dto;
+
+import java.util.List;
+
+public record SubscriptionBulkDeleteResponse(
+        int requestedCount,   // 중복 제거 후 요청 건수
+        int deletedCount,     // 이번 요청으로 삭제 표시된 건수
+        List<Long> notFoundIds // 존재하지 않거나 이미 삭제된 구독
+) {}
@@ -0,0 +1,23 @@
+package com.back.domain.subscription.dto;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이지 응답
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨 조회한다. (마지막 페이지면 null)
+ */
+public record SubscriptionPageResponse(
+        List<SubscriptionResponse> items,
+        Long nextCursor,
+        boolean hasNext
+) {
+    /**
+     * @param rows size + 1건까지 조회한 결과 (한 건 더 있으면 다음 페이지가 있다)
+     */
+    public static SubscriptionPageResponse of(List<SubscriptionResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<SubscriptionResponse> items = hasNext ? rows.subList(0, size) : rows;
+        Long nextCursor = hasNext ? items.get(items.size() - 1).id() : null;
+        return new SubscriptionPageResponse(items, nextCursor, hasNext);
+    }
+}
@@ -1,33 +1,50 @@
 package com.back.domain.subscription.entity;
 
 import com.back.domain.category.entity.Category;
-import com.back.domain.evaluation.entity.SubscriptionEvaluation;
 import com.back.domain.subscription.enums.BillingCycle;
 import com.back.domain.subscription.enums.SubscriptionStatus;
-import com.back.domain.usage.entity.SubscriptionUsage;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "subscription")
+@Table(
+        name = "subscription",
+        indexes = {
+                // 사용자 범위 필터 + 키셋 페이지 조회 (WHERE user_id AND 필터 AND id > cursor ORDER BY id)
+                @Index(name = "idx_subscription_user_id", columnList = "user_id, id"),
+                @Index(name = "idx_subscription_user_status_id", columnList = "user_id, status, id"),
+                @Index(name = "idx_subscription_user_category_status_id", columnList = "user_id, category_id, status, id"),
+                // 카테고리 FK
+                @Index(name = "idx_subscription_category_id", columnList = "category_id, id"),
+                // 퍼저가 삭제 표시된 구독을 찾을 때 사용
+                @Index(name = "idx_subscription_deleted_id", columnList = "deleted, id")
+        }
+)
 public class Subscription {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 소유 사용자 (요청의 X-User-Id) - 모든 조회/삭제는 이 값으로 범위를 좁힌다
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
     // 카테고리
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
+    // 카테고리 FK (읽기 전용) - 프록시 초기화 없이 CategoryRegistry를 조회하기 위함
+    @Column(name = "category_id", insertable = false, updatable = false)
+    private Long categoryId;
+
     // 서비스 이름
     @Column(nullable = false)
     private String name;
@@ -54,20 +71,24 @@ public class Subscription {
     @Column(nullable = false)
     private SubscriptionStatus status;
 
-    @OneToMany(mappedBy = "subscription", cascade = CascadeType.REMOVE, orphanRemoval = true)
-    private List<SubscriptionUsage> usages = new ArrayList<>();
+    // 삭제 표시 (소프트 삭제) - 실제 행과 사용량/평가 이력은 SubscriptionPurger가 나중에 지운다
+    // 사용량/평가 행은 ORM 컬렉션 cascade 대신 FK의 ON DELETE CASCADE로 정리되므로 컬렉션 매핑을 두지 않는다
+    @Column(nullable = false)
+    private boolean deleted;
 
-    @OneToMany(mappedBy = "subscription", cascade = CascadeType.REMOVE, orphanRemoval = true)
-    private List<SubscriptionEvaluation> evaluations = new ArrayList<>();
+    private LocalDateTime deletedAt;
 
-    public Subscription(Category category,
+    public Subscription(Long userId,
+                        Category category,
                         String name,
                         long totalCost,
                         long userShareCost,
                         long monthlyShareCost,
                         BillingCycle billingCycle,
                         SubscriptionStatus status) {
+        this.userId = userId;
         this.category = category;
+        this.categoryId = category.getId();
         this.name = name;
         this.totalCost = totalCost;
         this.userShareCost = userShareCost;
@@ -0,0 +1,14 @@
+package com.back.domain.subscription.purge;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "subscription.purge")
+public record SubscriptionPurgeProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30s") Duration interval, // 정리 주기 (SubscriptionPurger의 @Scheduled에서 사용)
+        @DefaultValue("100") int batchSize,  // 한 번에 정리할 구독 수
+        @DefaultValue("5000") int chunkSize  // 사용량/평가 행을 한 트랜잭션에서 지우는 최대 건수
+) {}
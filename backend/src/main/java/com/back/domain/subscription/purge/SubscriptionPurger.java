@@ -0,0 +1,98 @@
+package com.back.domain.subscription.purge;
+
+import com.back.domain.subscription.repository.SubscriptionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 삭제 표시된 구독의 실제 행 정리 (백그라운드)
+ *
+ * [정책]
+ * - 구독 삭제 요청은 삭제 표시 + 대시보드 집계 차감까지만 하고, 이력 행 삭제는 여기서 나중에 한다.
+ * - 사용량/평가 행은 chunkSize 단위의 집합 DELETE로 지우고, 청크마다 트랜잭션을 끊어 잠금/언두 로그를 짧게 유지한다.
+ * - 자식 행을 비운 뒤 구독 행을 지운다. 그 사이 남은 행이 있더라도 FK ON DELETE CASCADE로 함께 지워진다.
+ * - 엔티티/이력은 애플리케이션 메모리로 읽지 않는다.
+ */
+@Slf4j
+@Component
+public class SubscriptionPurger {
+
+    // @Scheduled 문자열은 밀리초 / ISO-8601만 받으므로 설정의 단순 형식(30s)을 밀리초로 바꿔 넘긴다
+    private static final String PURGE_INTERVAL_MILLIS =
+            "#{T(org.springframework.boot.convert.DurationStyle).detectAndParse('${subscription.purge.interval:30s}').toMillis()}";
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionPurgeProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public SubscriptionPurger(
+            SubscriptionRepository subscriptionRepository,
+            SubscriptionPurgeProperties properties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = PURGE_INTERVAL_MILLIS, initialDelayString = PURGE_INTERVAL_MILLIS)
+    public void purgeScheduled() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        try {
+            int purged = purge();
+            if (purged > 0) {
+                log.info("[SubscriptionPurger] 삭제 표시된 구독 {}건 정리", purged);
+            }
+        } catch (RuntimeException e) {
+            log.error("[SubscriptionPurger] 정리 실패", e);
+        }
+    }
+
+    /**
+     * 삭제 표시된 구독이 없을 때까지 batchSize 단위로 정리한다.
+     *
+     * @return 삭제된 구독 행 수
+     */
+    public int purge() {
+        int batchSize = Math.max(1, properties.batchSize());
+        int purged = 0;
+
+        while (true) {
+            List<Long> ids = subscriptionRepository.findDeletedIds(batchSize);
+            if (ids.isEmpty()) {
+                return purged;
+            }
+
+            int chunkSize = Math.max(1, properties.chunkSize());
+            deleteInChunks(() -> subscriptionRepository.deleteUsagesChunk(ids, chunkSize), chunkSize);
+            deleteInChunks(() -> subscriptionRepository.deleteEvaluationsChunk(ids, chunkSize), chunkSize);
+            purged += inTransaction(() -> subscriptionRepository.deleteMarked(ids));
+
+            if (ids.size() < batchSize) {
+                return purged;
+            }
+        }
+    }
+
+    // 한 번에 지운 행이 chunkSize보다 적으면 더 지울 행이 없다
+    private void deleteInChunks(IntSupplier deleteChunk, int chunkSize) {
+        int deleted;
+        do {
+            deleted = inTransaction(deleteChunk);
+        } while (deleted >= chunkSize);
+    }
+
+    private int inTransaction(IntSupplier work) {
+        Integer result = transactionTemplate.execute(status -> work.getAsInt());
+        return result != null ? result : 0;
+    }
+}
@@ -0,0 +1,80 @@
+package com.back.domain.subscription.repository;
+
+import com.back.domain.subscription.dto.SubscriptionResponse;
+import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.global.r2dbc.ReactiveReadDatabase;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구독 목록 R2DBC 조회 (반응형 읽기 API)
+ * SubscriptionRepositoryImpl.findPageAfter와 같은 키셋 페이지 SQL이다.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "reactive.read", name = "enabled", havingValue = "true")
+public class ReactiveSubscriptionRepository {
+
+    private static final String SELECT_PAGE_SQL = """
+            SELECT s.id, c.name AS category_name, s.name, s.monthly_share_cost, s.billing_cycle, s.status
+            FROM subscription s
+            JOIN category c ON c.id = s.category_id
+            WHERE s.user_id = :userId
+              AND s.deleted = FALSE
+            """;
+
+    private final ReactiveReadDatabase database;
+
+    public ReactiveSubscriptionRepository(ReactiveReadDatabase database) {
+        this.database = database;
+    }
+
+    public Flux<SubscriptionResponse> findPageAfter(long userId, Long cursor, Long categoryId, SubscriptionStatus status, int limit) {
+        // 주어진 조건만 WHERE에 넣는다 (JDBC 경로와 같은 인덱스 선택)
+        List<String> conditions = new ArrayList<>(3);
+        if (cursor != null) {
+            conditions.add("  AND s.id > :cursor\n");
+        }
+        if (categoryId != null) {
+            conditions.add("  AND s.category_id = :categoryId\n");
+        }
+        if (status != null) {
+            conditions.add("  AND s.status = :status\n");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = database.client()
+                .sql(SELECT_PAGE_SQL + String.join("", conditions) + "ORDER BY s.id\nLIMIT :limit")
+                .bind("userId", userId)
+                .bind("limit", limit);
+        if (cursor != null) {
+            spec = spec.bind("cursor", cursor);
+        }
+        if (categoryId != null) {
+            spec = spec.bind("categoryId", categoryId);
+        }
+        if (status != null) {
+            spec = spec.bind("status", status.name());
+        }
+
+        return spec.map(ReactiveSubscriptionRepository::toResponse)
+                .all()
+                .subscribeOn(database.scheduler());
+    }
+
+    private static SubscriptionResponse toResponse(Readable row) {
+        return new SubscriptionResponse(
+                row.get("id", Long.class),
+                row.get("category_name", String.class),
+                row.get("name", String.class),
+                row.get("monthly_share_cost", Long.class),
+                BillingCycle.valueOf(row.get("billing_cycle", String.class)),
+                SubscriptionStatus.valueOf(row.get("status", String.class))
+        );
+    }
+}
@@ -1,7 +1,37 @@
 package com.back.domain.subscription.repository;
 
 import com.back.domain.subscription.entity.Subscription;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
-}
\ No newline at end of file
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SubscriptionRepository extends JpaRepository<Subscription, Long>, SubscriptionRepositoryCustom {
+
+    // 사용량/평가 Upsert용: 요청 사용자의 구독 행을 잠가 같은 구독에 대한 동시 쓰기를 직렬화 (다른 사용자의 구독, 삭제 표시된 구독은 제외)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Subscription s where s.id = :id and s.userId = :userId and s.deleted = false")
+    Optional<Subscription> findByIdAndUserIdForUpdate(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 요청 사용자의 여러 구독을 id 순서로 잠근다 (일괄 기록/일괄 삭제용, 다른 사용자의 구독, 삭제 표시된 구독은 제외)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Subscription s where s.userId = :userId and s.id in :ids and s.deleted = false order by s.id")
+    List<Subscription> findAllActiveByUserIdAndIdInForUpdate(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 여러 구독을 id 순서로 잠근다 (사용자와 무관한 재평가용, 잠금 순서는 위와 같은 id 순서, 삭제 표시된 구독은 제외)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Subscription s where s.id in :ids and s.deleted = false order by s.id")
+    List<Subscription> findAllActiveByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 삭제 표시: 대상 수와 무관하게 UPDATE 한 문장 (엔티티 변경 감지로 건건이 UPDATE 하지 않음)
+    @Modifying
+    @Query("update Subscription s set s.deleted = true, s.deletedAt = :deletedAt where s.id in :ids")
+    int markDeleted(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+}
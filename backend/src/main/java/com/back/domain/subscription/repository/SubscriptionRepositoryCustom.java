@@ -0,0 +1,32 @@
+package com.back.domain.subscription.repository;
+
+import com.back.domain.subscription.dto.SubscriptionResponse;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SubscriptionRepositoryCustom {
+
+    /**
+     * 키셋 페이지 조회: 해당 사용자의 구독 중 id가 cursor보다 큰 구독을 id 오름차순으로 limit건까지 (카테고리명 조인, 엔티티 미생성)
+     *
+     * @param userId     소유 사용자
+     * @param cursor     이전 페이지의 마지막 id (첫 페이지면 null)
+     * @param categoryId 카테고리 필터 (null이면 전체)
+     * @param status     상태 필터 (null이면 전체)
+     */
+    List<SubscriptionResponse> findPageAfter(long userId, Long cursor, Long categoryId, SubscriptionStatus status, int limit);
+
+    // 퍼저용: 삭제 표시된 구독 id를 id 순서로 limit건까지
+    List<Long> findDeletedIds(int limit);
+
+    // 퍼저용: 주어진 구독들의 사용량 행을 최대 limit건 삭제 (삭제된 행 수 반환)
+    int deleteUsagesChunk(Collection<Long> subscriptionIds, int limit);
+
+    // 퍼저용: 주어진 구독들의 평가 행을 최대 limit건 삭제 (삭제된 행 수 반환)
+    int deleteEvaluationsChunk(Collection<Long> subscriptionIds, int limit);
+
+    // 퍼저용: 삭제 표시된 구독 행 삭제 (남은 자식 행은 FK ON DELETE CASCADE로 함께 삭제)
+    int deleteMarked(Collection<Long> subscriptionIds);
+}
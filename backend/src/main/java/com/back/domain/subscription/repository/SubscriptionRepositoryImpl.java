@@ -0,0 +1,140 @@
+package com.back.domain.subscription.repository;
+
+import com.back.domain.subscription.dto.SubscriptionResponse;
+import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.global.common.jdbc.DatabaseVendor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class SubscriptionRepositoryImpl implements SubscriptionRepositoryCustom {
+
+    private static final String SELECT_PAGE_SQL = """
+            SELECT s.id, c.name AS category_name, s.name, s.monthly_share_cost, s.billing_cycle, s.status
+            FROM subscription s
+            JOIN category c ON c.id = s.category_id
+            WHERE s.user_id = ?
+              AND s.deleted = FALSE
+            """;
+
+    private static final String SELECT_DELETED_IDS_SQL = """
+            SELECT id FROM subscription
+            WHERE deleted = TRUE
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    // MySQL은 단일 테이블 DELETE에 LIMIT을 지원한다
+    private static final String MYSQL_DELETE_CHILDREN_CHUNK_SQL = """
+            DELETE FROM %s
+            WHERE subscription_id IN (:subscriptionIds)
+            LIMIT :limit
+            """;
+
+    // H2는 대상 id를 서브쿼리로 제한한다
+    private static final String H2_DELETE_CHILDREN_CHUNK_SQL = """
+            DELETE FROM %1$s
+            WHERE id IN (
+                SELECT id FROM %1$s
+                WHERE subscription_id IN (:subscriptionIds)
+                LIMIT :limit
+            )
+            """;
+
+    private static final String DELETE_MARKED_SQL = """
+            DELETE FROM subscription
+            WHERE id IN (:subscriptionIds)
+              AND deleted = TRUE
+            """;
+
+    private static final RowMapper<SubscriptionResponse> RESPONSE_MAPPER = (rs, rowNum) -> new SubscriptionResponse(
+            rs.getLong("id"),
+            rs.getString("category_name"),
+            rs.getString("name"),
+            rs.getLong("monthly_share_cost"),
+            BillingCycle.valueOf(rs.getString("billing_cycle")),
+            SubscriptionStatus.valueOf(rs.getString("status"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final String deleteChildrenChunkSql;
+
+    public SubscriptionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.deleteChildrenChunkSql = switch (DatabaseVendor.detect(jdbcTemplate.getDataSource())) {
+            case H2 -> H2_DELETE_CHILDREN_CHUNK_SQL;
+            case MYSQL -> MYSQL_DELETE_CHILDREN_CHUNK_SQL;
+        };
+    }
+
+    @Override
+    public List<SubscriptionResponse> findPageAfter(long userId, Long cursor, Long categoryId, SubscriptionStatus status, int limit) {
+        // 주어진 조건만 WHERE에 넣는다. ("? IS NULL OR ..." 형태는 인덱스 선택을 막는다)
+        List<String> conditions = new ArrayList<>(3);
+        List<Object> params = new ArrayList<>(5);
+        params.add(userId);
+
+        // 기본 조건(s.user_id = ? AND s.deleted = FALSE) 뒤에 이어 붙인다 (user_id 선두 인덱스)
+        if (cursor != null) {
+            conditions.add("s.id > ?");
+            params.add(cursor);
+        }
+        if (categoryId != null) {
+            conditions.add("s.category_id = ?");
+            params.add(categoryId);
+        }
+        if (status != null) {
+            conditions.add("s.status = ?");
+            params.add(status.name());
+        }
+        params.add(limit);
+
+        String filters = conditions.stream().map(c -> "  AND " + c + "\n").collect(Collectors.joining());
+        String sql = SELECT_PAGE_SQL + filters + "ORDER BY s.id\nLIMIT ?";
+
+        return jdbcTemplate.query(sql, RESPONSE_MAPPER, params.toArray());
+    }
+
+    @Override
+    public List<Long> findDeletedIds(int limit) {
+        return jdbcTemplate.queryForList(SELECT_DELETED_IDS_SQL, Long.class, limit);
+    }
+
+    @Override
+    public int deleteUsagesChunk(Collection<Long> subscriptionIds, int limit) {
+        return deleteChildrenChunk("subscription_usage", subscriptionIds, limit);
+    }
+
+    @Override
+    public int deleteEvaluationsChunk(Collection<Long> subscriptionIds, int limit) {
+        return deleteChildrenChunk("subscription_evaluation", subscriptionIds, limit);
+    }
+
+    @Override
+    public int deleteMarked(Collection<Long> subscriptionIds) {
+        if (subscriptionIds.isEmpty()) {
+            return 0;
+        }
+        return namedJdbcTemplate.update(DELETE_MARKED_SQL, new MapSqlParameterSource("subscriptionIds", subscriptionIds));
+    }
+
+    private int deleteChildrenChunk(String table, Collection<Long> subscriptionIds, int limit) {
+        if (subscriptionIds.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("subscriptionIds", subscriptionIds)
+                .addValue("limit", limit);
+        return namedJdbcTemplate.update(deleteChildrenChunkSql.formatted(table), params);
+    }
+}
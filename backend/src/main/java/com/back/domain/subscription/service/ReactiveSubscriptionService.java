@@ -0,0 +1,27 @@
+package com.back.domain.subscription.service;
+
+import com.back.domain.subscription.dto.SubscriptionPageResponse;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.domain.subscription.repository.ReactiveSubscriptionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 구독 목록 반응형 조회 (SubscriptionService.getSubscriptions와 같은 키셋 페이지)
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "reactive.read", name = "enabled", havingValue = "true")
+public class ReactiveSubscriptionService {
+
+    private final ReactiveSubscriptionRepository subscriptionRepository;
+
+    public Mono<SubscriptionPageResponse> getSubscriptions(long userId, Long cursor, int size, Long categoryId, SubscriptionStatus status) {
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        return subscriptionRepository.findPageAfter(userId, cursor, categoryId, status, size + 1)
+                .collectList()
+                .map(rows -> SubscriptionPageResponse.of(rows, size));
+    }
+}
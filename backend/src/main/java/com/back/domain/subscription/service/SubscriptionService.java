@@ -2,36 +2,44 @@ package com.back.domain.subscription.service;
 
 import com.back.domain.category.entity.Category;
 import com.back.domain.category.repository.CategoryRepository;
-import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import com.back.domain.dashboard.service.DashboardAggregateService;
+import com.back.domain.evaluation.columnar.EvaluationColumnStore;
+import com.back.domain.subscription.dto.SubscriptionBulkDeleteResponse;
+import com.back.domain.subscription.dto.SubscriptionPageResponse;
 import com.back.domain.subscription.dto.SubscriptionRequest;
 import com.back.domain.subscription.dto.SubscriptionResponse;
 import com.back.domain.subscription.entity.Subscription;
 import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
 import com.back.domain.subscription.repository.SubscriptionRepository;
-import com.back.domain.usage.repository.SubscriptionUsageRepository;
+import com.back.global.datasource.ReplicaLagGuard;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class SubscriptionService {
 
-    private final SubscriptionUsageRepository subscriptionUsageRepository;
-    private final SubscriptionEvaluationRepository subscriptionEvaluationRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final CategoryRepository categoryRepository;
+    private final DashboardAggregateService dashboardAggregateService;
+    private final EvaluationColumnStore evaluationColumnStore;
+    private final ReplicaLagGuard lagGuard;
 
     /**
-     * 새로운 구독 정보를 생성합니다.
+     * 사용자의 새로운 구독 정보를 생성합니다.
      */
     @Transactional
-    public SubscriptionResponse createSubscription(SubscriptionRequest request) {
+    public SubscriptionResponse createSubscription(Long userId, SubscriptionRequest request) {
         // 1. 카테고리 조회
         Category category = categoryRepository.findById(request.categoryId())
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
@@ -41,6 +49,7 @@ public class SubscriptionService {
 
         // 3. 엔티티 생성 및 저장 (원본 비용도 함께 저장)
         Subscription subscription = new Subscription(
+                userId,
                 category,
                 request.name(),
                 request.totalCost(),
@@ -51,33 +60,77 @@ public class SubscriptionService {
         );
 
         Subscription saved = subscriptionRepository.save(subscription);
+
+        // 4. 커밋 후 이 사용자의 목록 조회는 새 구독이 반영된 복제본(또는 기본 DB)에서 읽도록 기록
+        lagGuard.recordWritesAfterCommit(List.of(userId));
         return toResponse(saved);
     }
 
     /**
-     * 모든 구독 목록을 조회합니다.
+     * 사용자의 구독 목록을 키셋(id 커서) 방식으로 한 페이지씩 조회합니다.
+     * 카테고리명까지 한 번의 조인 쿼리로 바로 응답 DTO에 담으므로, 페이지 비용은 전체 건수(다른 사용자의 구독 포함)와 무관합니다.
      */
     @Transactional(readOnly = true)
-    public List<SubscriptionResponse> getAllSubscriptions() {
-        return subscriptionRepository.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public SubscriptionPageResponse getSubscriptions(Long userId, Long cursor, int size, Long categoryId, SubscriptionStatus status) {
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<SubscriptionResponse> rows = subscriptionRepository.findPageAfter(userId, cursor, categoryId, status, size + 1);
+        return SubscriptionPageResponse.of(rows, size);
     }
 
     /**
-     * 특정 구독 정보를 삭제합니다.
+     * 사용자의 특정 구독 정보를 삭제합니다. (다른 사용자의 구독이면 존재하지 않는 것으로 처리)
      */
     @Transactional
-    public void deleteSubscription(Long subscriptionId) {
-
-        if (!subscriptionRepository.existsById(subscriptionId)) {
+    public void deleteSubscription(Long userId, Long subscriptionId) {
+        if (markDeleted(userId, List.of(subscriptionId)).isEmpty()) {
             throw new CustomException(ErrorCode.SUBSCRIPTION_NOT_FOUND);
         }
+    }
+
+    /**
+     * 사용자의 여러 구독을 한 번에 삭제합니다.
+     * 존재하지 않거나 이미 삭제되었거나 다른 사용자의 id는 건너뛰고 결과에 담아 반환합니다.
+     */
+    @Transactional
+    public SubscriptionBulkDeleteResponse deleteSubscriptions(Long userId, List<Long> subscriptionIds) {
+        List<Long> requested = subscriptionIds.stream().distinct().toList();
+        Set<Long> deleted = new HashSet<>(markDeleted(userId, requested));
+
+        List<Long> notFoundIds = requested.stream()
+                .filter(id -> !deleted.contains(id))
+                .toList();
+
+        return new SubscriptionBulkDeleteResponse(requested.size(), deleted.size(), notFoundIds);
+    }
+
+    /**
+     * [정책]
+     * 구독 행에는 삭제 표시만 하고, 사용량/평가 이력은 읽지도 지우지도 않는다. (SubscriptionPurger가 나중에 정리)
+     * 월 대시보드 집계는 즉시 차감해 삭제 직후부터 대시보드에서 빠지게 한다.
+     *
+     * @return 삭제 표시한 구독 id
+     */
+    private List<Long> markDeleted(Long userId, Collection<Long> subscriptionIds) {
+
+        // 요청 사용자의 구독 행만 id 순서로 잠가 같은 구독에 대한 사용량/평가 기록과 직렬화
+        List<Subscription> targets = subscriptionRepository.findAllActiveByUserIdAndIdInForUpdate(userId, subscriptionIds);
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> targetIds = targets.stream().map(Subscription::getId).toList();
+
+        // 삭제될 구독들의 평가 기여분을 월 대시보드 집계에서 차감 (DB에서 월별 합산)
+        dashboardAggregateService.applyRemoval(targetIds);
+
+        subscriptionRepository.markDeleted(targetIds, LocalDateTime.now());
 
-        subscriptionUsageRepository.deleteAllBySubscriptionId(subscriptionId);
-        subscriptionEvaluationRepository.deleteAllBySubscriptionId(subscriptionId);
+        // 평가 열 저장소에서는 커밋 후 모든 월의 행을 뺀다
+        evaluationColumnStore.removeAfterCommit(targetIds);
 
-        subscriptionRepository.deleteById(subscriptionId);
+        // 평가 없는 구독이면 집계 증감이 없으므로 목록 조회용 쓰기 기록은 여기서 남긴다
+        lagGuard.recordWritesAfterCommit(List.of(userId));
+        return targetIds;
     }
 
 
@@ -93,8 +146,8 @@ public class SubscriptionService {
         );
     }
 
-    // 결제 주기에 따른 월 환산 사용자 부담금 계산
-    private long calculateMonthlyShareCost(long userShareCost, BillingCycle cycle) {
+    // 결제 주기에 따른 월 환산 사용자 부담금 계산 (JMH 벤치마크에서 직접 호출하므로 package-private)
+    static long calculateMonthlyShareCost(long userShareCost, BillingCycle cycle) {
         return switch (cycle) {
             case ANNUAL -> Math.round(userShareCost / 12.0);
             case QUARTERLY -> Math.round(userShareCost / 3.0);
@@ -1,14 +1,23 @@
 package com.back.domain.usage.controller;
 
+import com.back.domain.evaluation.pipeline.AsyncEvaluationPipeline;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.usage.dto.UsageBatchRequest;
+import com.back.domain.usage.dto.UsageBatchResponse;
+import com.back.domain.usage.dto.UsageImportFormat;
+import com.back.domain.usage.dto.UsageImportResponse;
 import com.back.domain.usage.dto.UsageRequest;
+import com.back.domain.usage.service.UsageImportService;
 import com.back.domain.usage.service.UsageService;
 import com.back.global.common.dto.RsData;
+import com.back.global.common.web.UserHeaders;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,10 +25,55 @@ import org.springframework.web.bind.annotation.RestController;
 public class UsageController {
 
     private final UsageService usageService;
+    private final UsageImportService usageImportService;
+    private final AsyncEvaluationPipeline evaluationPipeline;
 
     @PostMapping
-    public RsData<Void> record(@Valid @RequestBody UsageRequest request) {
-        usageService.recordUsageAndEvaluate(request);
+    public RsData<Void> record(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @Valid @RequestBody UsageRequest request,
+            @RequestParam(defaultValue = "false") boolean waitForEvaluation
+    ) {
+        usageService.recordUsageAndEvaluate(userId, request);
+
+        // 비동기 평가 모드: 요청 시 커밋된 사용량의 평가가 끝날 때까지 대기 (read-your-writes)
+        if (evaluationPipeline.isEnabled()) {
+            if (waitForEvaluation && evaluationPipeline.await(new EvaluationKey(request.subscriptionId(), request.date()))) {
+                return RsData.success("사용량이 기록되었으며 효율 분석이 완료되었습니다.");
+            }
+            return RsData.success("사용량이 기록되었으며 효율 분석이 예약되었습니다.");
+        }
+
         return RsData.success("사용량이 기록되었으며 효율 분석이 완료되었습니다.");
     }
-}
\ No newline at end of file
+
+    // 사용량 일괄 기록 (월말 정산 등 대량 입력용)
+    @PostMapping("/batch")
+    public RsData<UsageBatchResponse> recordBatch(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @Valid @RequestBody UsageBatchRequest request
+    ) {
+        UsageBatchResponse response = usageService.recordUsagesInBatch(userId, request.usages());
+        return RsData.success(
+                "사용량 일괄 기록이 완료되었습니다. (성공 " + response.successCount() + "건, 실패 " + response.failureCount() + "건)",
+                response
+        );
+    }
+
+    // 대용량 사용량 파일 가져오기 (요청 본문을 버퍼링하지 않고 스트리밍 처리)
+    @PostMapping(
+            value = "/import",
+            consumes = {UsageImportFormat.CSV_MEDIA_TYPE, UsageImportFormat.NDJSON_MEDIA_TYPE}
+    )
+    public RsData<UsageImportResponse> importUsages(
+            @RequestHeader(UserHeaders.USER_ID) Long userId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) {
+        UsageImportResponse response = usageImportService.importUsages(userId, body, UsageImportFormat.from(contentType));
+        return RsData.success(
+                "사용량 가져오기가 완료되었습니다. (성공 " + response.successCount() + "행, 실패 " + response.failureCount() + "행)",
+                response
+        );
+    }
+}
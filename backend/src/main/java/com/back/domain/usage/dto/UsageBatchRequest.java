@@ -0,0 +1,14 @@
+package com.back.domain.usage.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record UsageBatchRequest(
+        @NotEmpty(message = "사용량 목록은 비어 있을 수 없습니다.")
+        @Size(max = 10000, message = "한 번에 최대 10000건까지 기록할 수 있습니다.")
+        List<@NotNull @Valid UsageRequest> usages
+) {}
@@ -0,0 +1,37 @@
+package com.back.domain.usage.dto;
+
+import com.back.global.exception.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record UsageBatchResponse(
+        int totalCount,
+        int successCount,
+        int failureCount,
+        List<RowResult> results // 요청 순서(index) 기준 행별 처리 결과
+) {
+    public static UsageBatchResponse of(List<RowResult> results) {
+        int successCount = (int) results.stream().filter(RowResult::success).count();
+        return new UsageBatchResponse(results.size(), successCount, results.size() - successCount, results);
+    }
+
+    public record RowResult(
+            int index,
+            Long subscriptionId,
+            @JsonFormat(pattern = "yyyy-MM")
+            YearMonth date,
+            boolean success,
+            String code,
+            String message
+    ) {
+        public static RowResult success(int index, UsageRequest request) {
+            return new RowResult(index, request.subscriptionId(), request.date(), true, "SUCCESS_200", null);
+        }
+
+        public static RowResult failure(int index, UsageRequest request, ErrorCode errorCode) {
+            return new RowResult(index, request.subscriptionId(), request.date(), false, errorCode.getCode(), errorCode.getMessage());
+        }
+    }
+}
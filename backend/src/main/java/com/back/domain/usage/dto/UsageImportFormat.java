@@ -0,0 +1,18 @@
+package com.back.domain.usage.dto;
+
+import org.springframework.http.MediaType;
+
+public enum UsageImportFormat {
+    CSV,    // subscriptionId,date,usageValue (첫 줄 헤더는 선택)
+    NDJSON; // 한 줄에 UsageRequest JSON 하나
+
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    public static UsageImportFormat from(MediaType contentType) {
+        if (contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+}
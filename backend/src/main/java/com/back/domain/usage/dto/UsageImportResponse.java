@@ -0,0 +1,18 @@
+package com.back.domain.usage.dto;
+
+import java.util.List;
+
+public record UsageImportResponse(
+        long totalLines,          // 처리한 데이터 행 수 (빈 줄/헤더 제외)
+        long successCount,
+        long failureCount,
+        int committedChunks,      // 커밋된 청크 수
+        boolean errorsTruncated,  // 오류가 너무 많아 일부만 담긴 경우 true
+        List<LineError> errors
+) {
+    public record LineError(
+            long line,
+            String code,
+            String message
+    ) {}
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.YearMonth;
 
@@ -14,7 +16,7 @@ import java.time.YearMonth;
 @Table(
         name = "subscription_usage",
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"subscription_id", "usage_month"})
+                @UniqueConstraint(name = "uk_subscription_usage_subscription_month", columnNames = {"subscription_id", "usage_month"})
         }
 )
 public class SubscriptionUsage {
@@ -23,10 +25,16 @@ public class SubscriptionUsage {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 구독 행이 삭제되면 DB가 함께 삭제 (FK ON DELETE CASCADE)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "subscription_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Subscription subscription;
 
+    // 구독의 소유 사용자 (구독에서 복사)
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
     @Column(name = "usage_month", nullable = false)
     private YearMonth usageMonth;
 
@@ -35,6 +43,7 @@ public class SubscriptionUsage {
 
     public SubscriptionUsage(Subscription subscription, YearMonth usageMonth, int usageValue) {
         this.subscription = subscription;
+        this.userId = subscription.getUserId();
         this.usageMonth = usageMonth;
         this.usageValue = usageValue;
     }
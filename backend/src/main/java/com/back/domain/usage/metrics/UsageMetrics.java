@@ -0,0 +1,65 @@
+package com.back.domain.usage.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용량 기록 경로 단계별 처리 시간
+ * - usage.record.phase{path=single|batch, phase=...} : 단계별 Timer
+ * - usage.record.batch.rows : 일괄 기록 요청 행 수 분포
+ *
+ * 조회: /actuator/metrics/usage.record.phase?tag=path:single&tag=phase:usage_upsert
+ */
+@Component
+public class UsageMetrics {
+
+    public enum Path { SINGLE, BATCH }
+
+    public enum Phase {
+        SUBSCRIPTION_LOOKUP, // 구독 잠금 조회
+        VALIDATION,          // 단위 기반 사용량 검증
+        USAGE_UPSERT,        // 사용량 Upsert
+        EVALUATION,          // 동기 평가 Upsert (+ 월 집계 반영)
+        EVALUATION_SUBMIT    // 비동기 모드: 평가 큐 위임 등록
+    }
+
+    private final Map<Path, Map<Phase, Timer>> timers = new EnumMap<>(Path.class);
+    private final DistributionSummary batchRows;
+
+    public UsageMetrics(MeterRegistry registry) {
+        for (Path path : Path.values()) {
+            Map<Phase, Timer> byPhase = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                byPhase.put(phase, Timer.builder("usage.record.phase")
+                        .description("사용량 기록 단계별 처리 시간")
+                        .tag("path", path.name().toLowerCase())
+                        .tag("phase", phase.name().toLowerCase())
+                        .register(registry));
+            }
+            timers.put(path, byPhase);
+        }
+        this.batchRows = DistributionSummary.builder("usage.record.batch.rows")
+                .description("일괄 기록 요청당 행 수")
+                .baseUnit("rows")
+                .register(registry);
+    }
+
+    /**
+     * startedNanos 부터 지금까지를 해당 단계 시간으로 기록하고, 다음 단계의 시작 시각(지금)을 반환한다.
+     */
+    public long lap(Path path, Phase phase, long startedNanos) {
+        long now = System.nanoTime();
+        timers.get(path).get(phase).record(now - startedNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void batchRows(int rows) {
+        batchRows.record(rows);
+    }
+}
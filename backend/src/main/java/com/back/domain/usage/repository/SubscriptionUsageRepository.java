@@ -3,20 +3,24 @@ package com.back.domain.usage.repository;
 import com.back.domain.subscription.entity.Subscription;
 import com.back.domain.usage.entity.SubscriptionUsage;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface SubscriptionUsageRepository extends JpaRepository<SubscriptionUsage, Long> {
+public interface SubscriptionUsageRepository extends JpaRepository<SubscriptionUsage, Long>, SubscriptionUsageRepositoryCustom {
 
     // 특정 구독의 특정 연/월 사용량 데이터 찾기
     Optional<SubscriptionUsage> findBySubscriptionAndUsageMonth(Subscription subscription, YearMonth usageMonth);
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("delete from SubscriptionUsage su where su.subscription.id = :subscriptionId")
-    int deleteAllBySubscriptionId(@Param("subscriptionId") Long subscriptionId);
+    // 비동기 평가용: 여러 구독 x 여러 월의 사용량을 한 번에 조회 (호출 측에서 필요한 키만 사용)
+    @Query("select su from SubscriptionUsage su where su.subscription.id in :subscriptionIds and su.usageMonth in :months")
+    List<SubscriptionUsage> findAllBySubscriptionIdsAndUsageMonths(
+            @Param("subscriptionIds") Collection<Long> subscriptionIds,
+            @Param("months") Collection<YearMonth> months
+    );
 
 }
\ No newline at end of file
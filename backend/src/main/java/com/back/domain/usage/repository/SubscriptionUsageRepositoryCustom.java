@@ -0,0 +1,14 @@
+package com.back.domain.usage.repository;
+
+import com.back.domain.usage.entity.SubscriptionUsage;
+
+import java.util.List;
+
+public interface SubscriptionUsageRepositoryCustom {
+
+    // (subscription_id, usage_month) 기준 단건 Upsert (단일 SQL 문장)
+    void upsert(SubscriptionUsage usage);
+
+    // (subscription_id, usage_month) 기준 일괄 Upsert (JDBC batch)
+    void batchUpsert(List<SubscriptionUsage> usages);
+}
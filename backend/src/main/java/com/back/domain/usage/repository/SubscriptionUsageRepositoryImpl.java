@@ -0,0 +1,59 @@
+package com.back.domain.usage.repository;
+
+import com.back.domain.usage.entity.SubscriptionUsage;
+import com.back.global.common.converter.YearMonthConverter;
+import com.back.global.common.jdbc.DatabaseVendor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+public class SubscriptionUsageRepositoryImpl implements SubscriptionUsageRepositoryCustom {
+
+    private static final int BATCH_CHUNK_SIZE = 500;
+
+    private static final String H2_UPSERT_SQL = """
+            MERGE INTO subscription_usage (subscription_id, usage_month, usage_value, user_id)
+            KEY (subscription_id, usage_month)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String MYSQL_UPSERT_SQL = """
+            INSERT INTO subscription_usage (subscription_id, usage_month, usage_value, user_id)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE usage_value = VALUES(usage_value)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsertSql;
+
+    public SubscriptionUsageRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertSql = switch (DatabaseVendor.detect(jdbcTemplate.getDataSource())) {
+            case H2 -> H2_UPSERT_SQL;
+            case MYSQL -> MYSQL_UPSERT_SQL;
+        };
+    }
+
+    @Override
+    public void upsert(SubscriptionUsage usage) {
+        jdbcTemplate.update(upsertSql, ps -> bind(ps, usage));
+    }
+
+    @Override
+    public void batchUpsert(List<SubscriptionUsage> usages) {
+        if (usages.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(upsertSql, usages, BATCH_CHUNK_SIZE, this::bind);
+    }
+
+    private void bind(PreparedStatement ps, SubscriptionUsage usage) throws SQLException {
+        ps.setLong(1, usage.getSubscription().getId());
+        ps.setInt(2, YearMonthConverter.toPeriod(usage.getUsageMonth()));
+        ps.setInt(3, usage.getUsageValue());
+        ps.setLong(4, usage.getUserId());
+    }
+}
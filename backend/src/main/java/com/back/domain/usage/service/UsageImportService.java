@@ -0,0 +1,201 @@
+package com.back.domain.usage.service;
+
+import com.back.domain.usage.dto.UsageBatchResponse;
+import com.back.domain.usage.dto.UsageImportFormat;
+import com.back.domain.usage.dto.UsageImportResponse;
+import com.back.domain.usage.dto.UsageRequest;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대용량 사용량 파일(CSV / NDJSON) 스트리밍 가져오기
+ * 요청 본문을 한 줄씩 읽어 청크 단위로 UsageService 일괄 기록에 넘기므로,
+ * 파일 크기와 무관하게 메모리에는 청크 1개와 (상한이 있는) 오류 목록만 유지된다.
+ */
+@Slf4j
+@Service
+public class UsageImportService {
+
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final UsageService usageService;
+    private final ObjectReader usageRequestReader;
+    private final Validator validator;
+
+    public UsageImportService(UsageService usageService, ObjectMapper objectMapper, Validator validator) {
+        this.usageService = usageService;
+        this.usageRequestReader = objectMapper.readerFor(UsageRequest.class);
+        this.validator = validator;
+    }
+
+    public UsageImportResponse importUsages(Long userId, InputStream body, UsageImportFormat format) {
+        ImportReport report = new ImportReport();
+
+        List<UsageRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+        long[] chunkLines = new long[CHUNK_SIZE];
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (line.isBlank() || (lineNumber == 1 && format == UsageImportFormat.CSV && isCsvHeader(line))) {
+                    continue;
+                }
+
+                report.totalLines++;
+
+                try {
+                    UsageRequest request = parseLine(line, format);
+                    validate(request);
+                    chunkLines[chunk.size()] = lineNumber;
+                    chunk.add(request);
+                } catch (InvalidLineException e) {
+                    report.fail(lineNumber, ErrorCode.INVALID_IMPORT_LINE.getCode(), e.getMessage());
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    commitChunk(userId, chunk, chunkLines, report);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                commitChunk(userId, chunk, chunkLines, report);
+            }
+        } catch (IOException e) {
+            log.warn("[UsageImport] 본문 읽기 실패 - {}행까지 처리됨 : {}", report.totalLines, e.getMessage());
+            throw new CustomException(ErrorCode.USAGE_IMPORT_READ_FAILED);
+        }
+
+        log.info("[UsageImport] 완료 - 총 {}행, 성공 {}행, 실패 {}행, 커밋 {}청크",
+                report.totalLines, report.successCount, report.failureCount, report.committedChunks);
+
+        return report.toResponse();
+    }
+
+    // 청크 하나를 별도 트랜잭션으로 커밋하고 행별 결과를 원본 줄 번호로 되돌려 기록
+    private void commitChunk(Long userId, List<UsageRequest> chunk, long[] chunkLines, ImportReport report) {
+        UsageBatchResponse result = usageService.recordUsagesInBatch(userId, List.copyOf(chunk));
+
+        for (UsageBatchResponse.RowResult row : result.results()) {
+            if (row.success()) {
+                report.successCount++;
+            } else {
+                report.fail(chunkLines[row.index()], row.code(), row.message());
+            }
+        }
+
+        report.committedChunks++;
+        chunk.clear();
+
+        log.info("[UsageImport] 진행 - {}행 처리, {}청크 커밋 (실패 {}행)",
+                report.totalLines, report.committedChunks, report.failureCount);
+    }
+
+    private UsageRequest parseLine(String line, UsageImportFormat format) {
+        return switch (format) {
+            case CSV -> parseCsvLine(line);
+            case NDJSON -> parseJsonLine(line);
+        };
+    }
+
+    private UsageRequest parseCsvLine(String line) {
+        String[] tokens = line.split(",", -1);
+        if (tokens.length != 3) {
+            throw new InvalidLineException("열 개수가 올바르지 않습니다. (subscriptionId,date,usageValue)");
+        }
+
+        try {
+            return new UsageRequest(
+                    Long.parseLong(tokens[0].trim()),
+                    YearMonth.parse(tokens[1].trim()),
+                    Integer.parseInt(tokens[2].trim())
+            );
+        } catch (NumberFormatException e) {
+            throw new InvalidLineException("숫자 형식이 올바르지 않습니다.");
+        } catch (DateTimeParseException e) {
+            throw new InvalidLineException("연/월 형식이 올바르지 않습니다. (예: yyyy-MM)");
+        }
+    }
+
+    private UsageRequest parseJsonLine(String line) {
+        try {
+            UsageRequest request = usageRequestReader.readValue(line);
+            if (request == null) {
+                throw new InvalidLineException("빈 JSON 값은 기록할 수 없습니다.");
+            }
+            return request;
+        } catch (JsonProcessingException e) {
+            throw new InvalidLineException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    // 단건 API와 동일한 Bean Validation 규칙 적용 (단위별 범위 검증은 UsageService에서 수행)
+    private void validate(UsageRequest request) {
+        Set<ConstraintViolation<UsageRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new InvalidLineException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private boolean isCsvHeader(String line) {
+        return !line.isEmpty() && !Character.isDigit(line.trim().charAt(0));
+    }
+
+    private static class InvalidLineException extends RuntimeException {
+        InvalidLineException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    private static class ImportReport {
+        private long totalLines;
+        private long successCount;
+        private long failureCount;
+        private int committedChunks;
+        private final List<UsageImportResponse.LineError> errors = new ArrayList<>();
+
+        private void fail(long line, String code, String message) {
+            failureCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new UsageImportResponse.LineError(line, code, message));
+            }
+        }
+
+        private UsageImportResponse toResponse() {
+            return new UsageImportResponse(
+                    totalLines,
+                    successCount,
+                    failureCount,
+                    committedChunks,
+                    failureCount > errors.size(),
+                    errors
+            );
+        }
+    }
+}
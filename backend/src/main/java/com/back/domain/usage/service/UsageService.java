@@ -1,83 +1,137 @@
 package com.back.domain.usage.service;
 
 import com.back.domain.category.enums.UsageUnit;
-import com.back.domain.evaluation.entity.SubscriptionEvaluation;
-import com.back.domain.evaluation.policy.EvaluationPolicy;
-import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import com.back.domain.category.registry.CategoryRegistry;
+import com.back.domain.evaluation.pipeline.AsyncEvaluationPipeline;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.evaluation.service.EvaluationService;
 import com.back.domain.subscription.entity.Subscription;
 import com.back.domain.subscription.repository.SubscriptionRepository;
+import com.back.domain.usage.dto.UsageBatchResponse;
 import com.back.domain.usage.dto.UsageRequest;
 import com.back.domain.usage.entity.SubscriptionUsage;
+import com.back.domain.usage.metrics.UsageMetrics;
 import com.back.domain.usage.repository.SubscriptionUsageRepository;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.back.domain.usage.metrics.UsageMetrics.Path.BATCH;
+import static com.back.domain.usage.metrics.UsageMetrics.Path.SINGLE;
+import static com.back.domain.usage.metrics.UsageMetrics.Phase.*;
 
 @Service
 @RequiredArgsConstructor
 public class UsageService {
 
     private final SubscriptionUsageRepository usageRepository;
-    private final SubscriptionEvaluationRepository evaluationRepository;
     private final SubscriptionRepository subscriptionRepository;
-
-    // 기본 정책 주입 (나중에 카테고리별 정책 매니저를 두어 동적으로 바꿀 수도 있음)
-    private final EvaluationPolicy evaluationPolicy;
+    private final EvaluationService evaluationService;
+    private final AsyncEvaluationPipeline evaluationPipeline;
+    private final CategoryRegistry categoryRegistry;
+    private final UsageMetrics usageMetrics;
 
     @Transactional
-    public void recordUsageAndEvaluate(UsageRequest request) {
+    public void recordUsageAndEvaluate(Long userId, UsageRequest request) {
+
+        // 단계별 처리 시간 기록 (usage.record.phase{path=single})
+        long phaseStartedAt = System.nanoTime();
 
-        // 1. 구독 조회
-        Subscription subscription = subscriptionRepository.findById(request.subscriptionId())
+        // 1. 요청 사용자의 구독 조회 (행 잠금 - 같은 구독/월에 대한 동시 Upsert 직렬화)
+        Subscription subscription = subscriptionRepository.findByIdAndUserIdForUpdate(request.subscriptionId(), userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SUBSCRIPTION_NOT_FOUND));
+        phaseStartedAt = usageMetrics.lap(SINGLE, SUBSCRIPTION_LOOKUP, phaseStartedAt);
 
-        // 1-1. UsageUnit 기반 사용량 검증
+        // 1-1. UsageUnit 기반 사용량 검증 (카테고리는 레지스트리에서 조회 - 추가 SELECT 없음)
         validateUsageValue(
-                subscription.getCategory().getUnit(),
+                categoryRegistry.get(subscription.getCategoryId()).unit(),
                 request.date(),
                 request.usageValue()
         );
+        phaseStartedAt = usageMetrics.lap(SINGLE, VALIDATION, phaseStartedAt);
 
-        // 2. 사용량 Upsert (동시성 대응)
-        SubscriptionUsage usage = usageRepository.findBySubscriptionAndUsageMonth(subscription, request.date())
-                .map(existing -> {
-                    existing.updateValue(request.usageValue());
-                    return existing;
-                })
-                .orElseGet(() -> new SubscriptionUsage(subscription, request.date(), request.usageValue()));
-
-        try {
-            usageRepository.saveAndFlush(usage);
-        } catch (DataIntegrityViolationException e) {
-            // [수정] 재조회 시에도 변경된 메서드 명 적용
-            SubscriptionUsage existing = usageRepository.findBySubscriptionAndUsageMonth(subscription, request.date())
-                    .orElseThrow(() -> e);
-
-            existing.updateValue(request.usageValue());
-            usageRepository.save(existing);
-        }
+        // 2. 사용량 Upsert (단일 SQL 문장)
+        usageRepository.upsert(new SubscriptionUsage(subscription, request.date(), request.usageValue()));
+        phaseStartedAt = usageMetrics.lap(SINGLE, USAGE_UPSERT, phaseStartedAt);
 
-        // 3. 평가 Upsert (동시성 대응 추가)
-        SubscriptionEvaluation evaluation =
-                evaluationRepository.findBySubscriptionAndEvalMonth(subscription, request.date())
-                        .orElseGet(() -> new SubscriptionEvaluation(subscription, request.date()));
+        // 3. 평가 (비동기 모드면 커밋 후 평가 큐에 위임, 아니면 같은 트랜잭션에서 계산 후 Upsert)
+        if (evaluationPipeline.isEnabled()) {
+            evaluationPipeline.submitAfterCommit(new EvaluationKey(subscription.getId(), request.date()));
+            usageMetrics.lap(SINGLE, EVALUATION_SUBMIT, phaseStartedAt);
+            return;
+        }
 
-        evaluation.update(request.usageValue(), evaluationPolicy);
+        evaluationService.evaluateAndSave(subscription, request.date(), request.usageValue());
+        usageMetrics.lap(SINGLE, EVALUATION, phaseStartedAt);
+    }
 
-        try {
-            evaluationRepository.saveAndFlush(evaluation);
-        } catch (DataIntegrityViolationException e) {
-            SubscriptionEvaluation existing = evaluationRepository.findBySubscriptionAndEvalMonth(subscription, request.date())
-                    .orElseThrow(() -> e);
+    /**
+     * 사용자의 여러 건의 사용량을 한 번에 기록하고 평가합니다.
+     * 구독/카테고리는 한 번의 쿼리로 조회하고, 사용량/평가는 JDBC batch Upsert로 저장합니다.
+     * 행 단위 검증 실패(다른 사용자의 구독 포함)는 전체를 롤백하지 않고 결과 리포트에 담아 반환합니다.
+     */
+    @Transactional
+    public UsageBatchResponse recordUsagesInBatch(Long userId, List<UsageRequest> requests) {
+
+        usageMetrics.batchRows(requests.size());
+        long phaseStartedAt = System.nanoTime();
+
+        // 1. 참조된 구독 일괄 조회 + id 순서로 행 잠금 (구독 삭제와 직렬화, 카테고리는 레지스트리에서 조회)
+        Set<Long> subscriptionIds = requests.stream()
+                .map(UsageRequest::subscriptionId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Subscription> subscriptions = subscriptionRepository.findAllActiveByUserIdAndIdInForUpdate(userId, subscriptionIds).stream()
+                .collect(Collectors.toMap(Subscription::getId, Function.identity()));
+        phaseStartedAt = usageMetrics.lap(BATCH, SUBSCRIPTION_LOOKUP, phaseStartedAt);
+
+        // 2. 행 단위 검증 (DB 접근 없음)
+        List<UsageBatchResponse.RowResult> results = new ArrayList<>(requests.size());
+        List<SubscriptionUsage> usages = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            UsageRequest request = requests.get(i);
+            Subscription subscription = subscriptions.get(request.subscriptionId());
+
+            try {
+                if (subscription == null) {
+                    throw new CustomException(ErrorCode.SUBSCRIPTION_NOT_FOUND);
+                }
+                validateUsageValue(categoryRegistry.get(subscription.getCategoryId()).unit(), request.date(), request.usageValue());
+            } catch (CustomException e) {
+                results.add(UsageBatchResponse.RowResult.failure(i, request, e.getErrorCode()));
+                continue;
+            }
 
-            existing.update(request.usageValue(), evaluationPolicy);
-            evaluationRepository.save(existing);
+            usages.add(new SubscriptionUsage(subscription, request.date(), request.usageValue()));
+            results.add(UsageBatchResponse.RowResult.success(i, request));
         }
+        phaseStartedAt = usageMetrics.lap(BATCH, VALIDATION, phaseStartedAt);
+
+        // 3. 사용량 일괄 Upsert (같은 키가 여러 번 오면 마지막 값이 반영됨)
+        usageRepository.batchUpsert(usages);
+        phaseStartedAt = usageMetrics.lap(BATCH, USAGE_UPSERT, phaseStartedAt);
+
+        // 4. 평가 일괄 Upsert (비동기 모드면 커밋 후 평가 큐에 위임)
+        if (evaluationPipeline.isEnabled()) {
+            evaluationPipeline.submitAllAfterCommit(usages.stream().map(EvaluationKey::of).toList());
+            usageMetrics.lap(BATCH, EVALUATION_SUBMIT, phaseStartedAt);
+        } else {
+            evaluationService.evaluateAndSaveAll(usages);
+            usageMetrics.lap(BATCH, EVALUATION, phaseStartedAt);
+        }
+
+        return UsageBatchResponse.of(results);
     }
 
     private void validateUsageValue(UsageUnit unit, YearMonth date, int usageValue) {
@@ -4,18 +4,34 @@ import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import java.time.YearMonth;
 
+/**
+ * YearMonth <-> 정수 기간 (year * 12 + month - 1)
+ *
+ * [정책]
+ * - 월 컬럼(eval_month, usage_month)은 "2026-03" 문자열 대신 INT로 저장한다. (예: 2026-03 -> 24314)
+ * - 값 순서가 월 순서와 같으므로 "최근 12개월" 같은 기간 조회가 인덱스 범위 조회(BETWEEN)가 된다.
+ * - 키 폭이 4바이트로 줄어 (subscription_id, 월) 유니크 인덱스가 작아지고, 엔티티 로드 때 문자열 파싱이 없다.
+ */
 @Converter(autoApply = true)
-public class YearMonthConverter implements AttributeConverter<YearMonth, String> {
+public class YearMonthConverter implements AttributeConverter<YearMonth, Integer> {
 
     @Override
-    public String convertToDatabaseColumn(YearMonth attribute) {
-        // 자바(YearMonth) -> DB(String)
-        return (attribute != null) ? attribute.toString() : null;
+    public Integer convertToDatabaseColumn(YearMonth attribute) {
+        // 자바(YearMonth) -> DB(INT)
+        return (attribute != null) ? toPeriod(attribute) : null;
     }
 
     @Override
-    public YearMonth convertToEntityAttribute(String dbData) {
-        // DB(String) -> 자바(YearMonth)
-        return (dbData != null) ? YearMonth.parse(dbData) : null;
+    public YearMonth convertToEntityAttribute(Integer dbData) {
+        // DB(INT) -> 자바(YearMonth)
+        return (dbData != null) ? fromPeriod(dbData) : null;
     }
-}
\ No newline at end of file
+
+    public static int toPeriod(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    public static YearMonth fromPeriod(int period) {
+        return YearMonth.of(Math.floorDiv(period, 12), Math.floorMod(period, 12) + 1);
+    }
+}
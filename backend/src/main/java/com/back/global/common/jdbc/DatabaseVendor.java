@@ -0,0 +1,33 @@
+package com.back.global.common.jdbc;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 벤더별 네이티브 SQL(Upsert 등)을 고르기 위한 DB 종류 판별
+ * H2는 MODE=MySQL 이어도 H2 고유 문법(MERGE INTO ... KEY)을 사용한다.
+ */
+public enum DatabaseVendor {
+    H2,
+    MYSQL;
+
+    public static DatabaseVendor detect(DataSource dataSource) {
+        String productName;
+        try {
+            productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("DB 종류를 확인할 수 없습니다.", e);
+        }
+
+        if ("H2".equalsIgnoreCase(productName)) {
+            return H2;
+        }
+        if ("MySQL".equalsIgnoreCase(productName) || "MariaDB".equalsIgnoreCase(productName)) {
+            return MYSQL;
+        }
+        throw new IllegalStateException("지원하지 않는 DB입니다: " + productName);
+    }
+}
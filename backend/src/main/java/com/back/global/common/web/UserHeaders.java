@@ -0,0 +1,13 @@
+package com.back.global.common.web;
+
+/**
+ * 요청 사용자 식별 헤더
+ * 인증 계층 앞단(게이트웨이)이 확인한 사용자 id를 넘겨받는다. 구독/사용량/대시보드 API는 모두 이 값으로 데이터 범위를 좁힌다.
+ */
+public final class UserHeaders {
+
+    public static final String USER_ID = "X-User-Id";
+
+    private UserHeaders() {
+    }
+}
@@ -0,0 +1,104 @@
+package com.back.global.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (datasource.routing.enabled=true)
+ *
+ * - 기본 DB 풀(spring.datasource.*): 쓰기 트랜잭션, 트랜잭션 밖 SQL, Flyway 마이그레이션
+ * - 복제본 풀(datasource.routing.replicas): 읽기 전용 트랜잭션 (대시보드 / 구독 목록 조회)
+ * 풀이 나뉘어 있어 대시보드 조회가 몰려도 사용량 기록 경로의 커넥션을 차지하지 않는다.
+ * 풀별 사용량은 hikaricp.connections.*{pool=primary|replica-N}, 라우팅 결과는 datasource.routing.reads{target}로 본다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(DataSourceRoutingProperties routing, DataSourceProperties primary, MeterRegistry registry) {
+        if (routing.replicas().isEmpty()) {
+            throw new IllegalStateException("datasource.routing.enabled=true 이면 datasource.routing.replicas 가 하나 이상 필요합니다.");
+        }
+
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < routing.replicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = routing.replicas().get(i);
+
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + (i + 1));
+            config.setDriverClassName(primary.determineDriverClassName());
+            config.setJdbcUrl(replica.url());
+            config.setUsername(replica.username());
+            config.setPassword(replica.password());
+            config.setMaximumPoolSize(routing.replicaPoolSize());
+            config.setMinimumIdle(routing.replicaPoolSize());
+            config.setConnectionTimeout(3000);
+            // 빈이 아니어서 Actuator가 풀 지표를 자동 등록하지 않으므로 직접 연결
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            pools.add(new HikariDataSource(config));
+        }
+
+        log.info("[DataSourceRouting] 읽기 복제본 {}개 - 읽기 전용 트랜잭션은 복제본으로 (max-lag={})",
+                pools.size(), routing.maxLag());
+        return new ReplicaPools(pools);
+    }
+
+    // JPA / JdbcTemplate이 쓰는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ReplicaPools replicaPools,
+            ReplicaLagGuard lagGuard,
+            MeterRegistry registry
+    ) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primaryDataSource, replicaPools.dataSources(), lagGuard, registry));
+    }
+
+    @Bean
+    public FilterRegistrationBean<RoutingUserFilter> routingUserFilter() {
+        FilterRegistrationBean<RoutingUserFilter> registration = new FilterRegistrationBean<>(new RoutingUserFilter());
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    /**
+     * 복제본 커넥션 풀 (종료 시 함께 닫는다)
+     */
+    public record ReplicaPools(List<HikariDataSource> dataSources) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            dataSources.forEach(HikariDataSource::close);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.back.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,    // true면 읽기 전용 트랜잭션은 복제본, 나머지는 기본(spring.datasource) DB로 보낸다
+        @DefaultValue List<Replica> replicas,      // 읽기 복제본 접속 정보
+        @DefaultValue("10") int replicaPoolSize,   // 복제본 하나의 커넥션 풀 크기 (기본 DB 풀과 따로 잡혀 대시보드 조회가 기록 경로 커넥션을 쓰지 않음)
+        @DefaultValue("2s") Duration maxLag,       // 복제 지연 상한 (쓰기 후 이 시간 안의 같은 사용자 조회 / 이보다 뒤처진 복제본은 기본 DB로)
+        @DefaultValue Feed feed
+) {
+
+    public record Replica(
+            String url,
+            @DefaultValue("sa") String username,
+            @DefaultValue("") String password
+    ) {}
+
+    /**
+     * 로컬 H2 복제본 채우기 (기본 DB의 테이블을 주기적으로 복제본에 복사)
+     */
+    public record Feed(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("500ms") Duration interval
+    ) {}
+}
@@ -0,0 +1,183 @@
+package com.back.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 로컬 H2 복제본 채우기 (datasource.routing.feed.enabled=true)
+ *
+ * 복제본 스키마는 같은 Flyway 스크립트로 만들고, 주기마다 기본 DB의 한 스냅샷에서 모든 테이블을 읽어
+ * 복제본 트랜잭션 하나로 통째로 바꿔 넣는다. (복제본을 읽는 쪽은 교체 전 또는 교체 후 전체만 본다)
+ * 복사를 시작하기 직전 시각을 복제 위치로 보고해 복제 지연 가드가 read-your-writes를 판단하게 한다.
+ *
+ * 매번 전체를 복사하므로 로컬 확인용이다. 실제 복제본(MySQL 복제 등)에서는 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "datasource.routing", name = {"enabled", "feed.enabled"}, havingValue = "true")
+public class H2ReplicaFeeder {
+
+    // feed.interval(500ms 형식) -> @Scheduled 밀리초
+    private static final String FEED_INTERVAL_MILLIS =
+            "#{T(org.springframework.boot.convert.DurationStyle).detectAndParse('${datasource.routing.feed.interval:500ms}').toMillis()}";
+
+    private static final String TABLES_SQL = """
+            SELECT TABLE_NAME
+            FROM INFORMATION_SCHEMA.TABLES
+            WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE' AND TABLE_NAME <> 'flyway_schema_history'
+            ORDER BY TABLE_NAME
+            """;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReplicaLagGuard lagGuard;
+    private final FlywayProperties flywayProperties;
+
+    // 복제본별 스키마 준비 여부 (feed()가 synchronized라 그 안에서만 읽고 쓴다)
+    private final boolean[] migrated;
+
+    public H2ReplicaFeeder(
+            @Qualifier("primaryDataSource") DataSource primary,
+            DataSourceRoutingConfig.ReplicaPools replicaPools,
+            ReplicaLagGuard lagGuard,
+            FlywayProperties flywayProperties
+    ) {
+        this.primary = primary;
+        this.replicas = replicaPools.dataSources();
+        this.lagGuard = lagGuard;
+        this.flywayProperties = flywayProperties;
+        this.migrated = new boolean[replicas.size()];
+    }
+
+    // 첫 실행은 컨텍스트 초기화(기본 DB 마이그레이션) 이후이며, 그 전까지 복제본은 조회 대상이 아니다
+    // 스케줄러와 직접 호출(테스트)이 같은 복제본을 동시에 바꾸지 않도록 한 번에 하나만 돈다
+    @Scheduled(fixedDelayString = FEED_INTERVAL_MILLIS)
+    public synchronized void feed() {
+        for (int i = 0; i < replicas.size(); i++) {
+            if (!migrated[i] && !migrate(i)) {
+                continue;
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                copy(replicas.get(i));
+                lagGuard.replicated(i, startedAt);
+            } catch (SQLException e) {
+                // 복제 위치가 멈추므로 max-lag가 지나면 이 복제본은 조회 대상에서 빠진다
+                log.warn("[H2ReplicaFeeder] 복제본 {} 채우기 실패", replicas.get(i).getPoolName(), e);
+            }
+        }
+    }
+
+    private boolean migrate(int replica) {
+        try {
+            Flyway.configure()
+                    .dataSource(replicas.get(replica))
+                    .locations(flywayProperties.getLocations().toArray(String[]::new))
+                    .load()
+                    .migrate();
+            migrated[replica] = true;
+        } catch (FlywayException e) {
+            // 한 번도 채우지 못한 복제본은 조회 대상이 아니며, 다음 주기에 다시 시도한다
+            log.warn("[H2ReplicaFeeder] 복제본 {} 스키마 준비 실패", replicas.get(replica).getPoolName(), e);
+        }
+        return migrated[replica];
+    }
+
+    private void copy(DataSource replica) throws SQLException {
+        try (Connection source = primary.getConnection(); Connection target = replica.getConnection()) {
+            source.setAutoCommit(false);
+            source.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            target.setAutoCommit(false);
+
+            execute(target, "SET REFERENTIAL_INTEGRITY FALSE");
+            try {
+                for (String table : tables(source)) {
+                    copyTable(source, target, table);
+                }
+                target.commit();
+            } catch (SQLException e) {
+                target.rollback();
+                throw e;
+            } finally {
+                execute(target, "SET REFERENTIAL_INTEGRITY TRUE");
+                source.rollback();
+            }
+        }
+    }
+
+    private List<String> tables(Connection source) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = source.createStatement(); ResultSet rs = statement.executeQuery(TABLES_SQL)) {
+            while (rs.next()) {
+                tables.add(rs.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    private void copyTable(Connection source, Connection target, String table) throws SQLException {
+        String quoted = quote(table);
+        execute(target, "DELETE FROM " + quoted);
+
+        try (Statement select = source.createStatement(); ResultSet rs = select.executeQuery("SELECT * FROM " + quoted)) {
+            ResultSetMetaData meta = rs.getMetaData();
+            int columns = meta.getColumnCount();
+
+            StringJoiner names = new StringJoiner(", ");
+            StringJoiner placeholders = new StringJoiner(", ");
+            for (int c = 1; c <= columns; c++) {
+                names.add(quote(meta.getColumnName(c)));
+                placeholders.add("?");
+            }
+
+            try (PreparedStatement insert = target.prepareStatement(
+                    "INSERT INTO " + quoted + " (" + names + ") VALUES (" + placeholders + ")")) {
+                int pending = 0;
+                while (rs.next()) {
+                    for (int c = 1; c <= columns; c++) {
+                        insert.setObject(c, rs.getObject(c));
+                    }
+                    insert.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier + '"';
+    }
+}
@@ -0,0 +1,135 @@
+package com.back.global.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 복제 지연 가드 - 읽기 전용 트랜잭션을 보낼 복제본을 고른다.
+ *
+ * [정책]
+ * - 사용자별 마지막 쓰기 커밋 시각을 기록하고, 그 쓰기를 아직 받지 못했을 수 있는 복제본으로는 그 사용자의 조회를 보내지 않는다. (read-your-writes)
+ * - 복제 위치(watermark)를 보고받는 복제본(로컬 H2 복제본)은 "이 시각 이전에 커밋된 쓰기는 모두 반영됨"으로 판단하고,
+ *   watermark가 max-lag보다 오래되면 모든 조회에서 제외한다.
+ * - 복제 위치를 모르는 복제본은 쓰기 후 max-lag가 지나면 반영되었다고 본다.
+ * - 고를 복제본이 없으면 기본 DB로 보낸다. (-1)
+ */
+@Component
+public class ReplicaLagGuard {
+
+    public static final int PRIMARY = -1;
+
+    private static final long NOT_REPLICATED = Long.MIN_VALUE;
+
+    // max-lag(2s 형식) -> @Scheduled 밀리초
+    private static final String PRUNE_INTERVAL_MILLIS =
+            "#{T(org.springframework.boot.convert.DurationStyle).detectAndParse('${datasource.routing.max-lag:2s}').toMillis()}";
+
+    private final boolean enabled;
+    private final boolean watermarked;
+    private final long maxLagNanos;
+    private final AtomicLongArray watermarks;
+    private final AtomicInteger next = new AtomicInteger();
+
+    // 사용자 id -> 마지막 쓰기 커밋 이후 시각 (System.nanoTime)
+    private final ConcurrentHashMap<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReplicaLagGuard(DataSourceRoutingProperties properties) {
+        this.enabled = properties.enabled();
+        this.watermarked = properties.feed().enabled();
+        this.maxLagNanos = properties.maxLag().toNanos();
+        this.watermarks = new AtomicLongArray(properties.replicas().size());
+        for (int i = 0; i < watermarks.length(); i++) {
+            watermarks.set(i, NOT_REPLICATED);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 사용자들의 쓰기 시각을 기록한다. (트랜잭션 밖이면 즉시)
+     * 커밋 후 시각이므로, 이 시각 이전에 시작한 복제본 스냅샷은 그 쓰기를 담고 있지 않을 수 있다고 본다.
+     */
+    public void recordWritesAfterCommit(Collection<Long> userIds) {
+        if (!enabled || userIds.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordWrites(userIds);
+            return;
+        }
+
+        Set<Long> snapshot = new TreeSet<>(userIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrites(snapshot);
+            }
+        });
+    }
+
+    /**
+     * 복제본이 기본 DB의 startedAt(System.nanoTime) 시점까지 커밋된 쓰기를 모두 반영했음을 기록한다.
+     */
+    public void replicated(int replica, long startedAt) {
+        watermarks.accumulateAndGet(replica, startedAt, Math::max);
+    }
+
+    /**
+     * 현재 스레드의 읽기 전용 트랜잭션을 보낼 복제본 번호 (없으면 PRIMARY)
+     * 복제본 사이에서는 돌아가며 고른다.
+     */
+    public int pickReplica() {
+        int count = watermarks.length();
+        if (count == 0) {
+            return PRIMARY;
+        }
+
+        long now = System.nanoTime();
+        Long userId = RoutingUserContext.currentUserId();
+        Long lastWrite = userId != null ? lastWrites.get(userId) : null;
+
+        int start = Math.floorMod(next.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            int replica = (start + i) % count;
+            if (readable(replica, lastWrite, now)) {
+                return replica;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * max-lag보다 오래된 쓰기 기록 정리
+     * 조회 대상 복제본은 모두 max-lag 이내까지 반영되어 있으므로, 그보다 오래된 쓰기는 어느 복제본에서 읽어도 보인다.
+     */
+    @Scheduled(fixedDelayString = PRUNE_INTERVAL_MILLIS)
+    public void pruneWrites() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt > maxLagNanos);
+    }
+
+    private void recordWrites(Collection<Long> userIds) {
+        long now = System.nanoTime();
+        userIds.forEach(userId -> lastWrites.put(userId, now));
+    }
+
+    private boolean readable(int replica, Long lastWrite, long now) {
+        if (!watermarked) {
+            return lastWrite == null || now - lastWrite > maxLagNanos;
+        }
+
+        long watermark = watermarks.get(replica);
+        if (watermark == NOT_REPLICATED || now - watermark > maxLagNanos) {
+            return false;
+        }
+        return lastWrite == null || lastWrite <= watermark;
+    }
+}
@@ -0,0 +1,59 @@
+package com.back.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 나머지(쓰기 트랜잭션 / 트랜잭션 밖)는 기본 DB 커넥션을 준다.
+ *
+ * 트랜잭션 시작 시점에는 아직 readOnly 표시가 없으므로 LazyConnectionDataSourceProxy로 감싸
+ * 첫 SQL을 실행할 때 커넥션을 고르게 한다. (DataSourceRoutingConfig)
+ */
+class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagGuard lagGuard;
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    ReplicationRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+                                 ReplicaLagGuard lagGuard, MeterRegistry registry) {
+        this.lagGuard = lagGuard;
+        this.primaryReads = readCounter(registry, "primary");
+        this.replicaReads = readCounter(registry, "replica");
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicaLagGuard.PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return ReplicaLagGuard.PRIMARY;
+        }
+
+        int replica = lagGuard.pickReplica();
+        (replica == ReplicaLagGuard.PRIMARY ? primaryReads : replicaReads).increment();
+        return replica;
+    }
+
+    private static Counter readCounter(MeterRegistry registry, String target) {
+        return Counter.builder("datasource.routing.reads")
+                .description("읽기 전용 트랜잭션이 받은 커넥션 수 (복제 지연 가드로 기본 DB에 남은 조회 포함)")
+                .tag("target", target)
+                .register(registry);
+    }
+}
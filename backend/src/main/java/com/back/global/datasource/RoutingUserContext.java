@@ -0,0 +1,26 @@
+package com.back.global.datasource;
+
+/**
+ * 현재 요청 스레드의 사용자 - 읽기 라우팅이 "내가 방금 쓴 값"을 아직 못 받은 복제본을 피하는 데 쓴다.
+ *
+ * 요청 밖(스케줄러 / 비동기 평가 워커 / 재평가 작업)에는 사용자가 없으므로 복제 지연 상한만 확인한다.
+ */
+final class RoutingUserContext {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private RoutingUserContext() {
+    }
+
+    static void bind(Long userId) {
+        CURRENT.set(userId);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static Long currentUserId() {
+        return CURRENT.get();
+    }
+}
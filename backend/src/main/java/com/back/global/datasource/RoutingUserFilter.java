@@ -0,0 +1,41 @@
+package com.back.global.datasource;
+
+import com.back.global.common.web.UserHeaders;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청의 사용자(X-User-Id)를 읽기 라우팅에 알려 준다.
+ * 헤더가 없거나 숫자가 아니면 사용자 없이 처리한다. (검증/오류 응답은 컨트롤러 몫)
+ */
+class RoutingUserFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RoutingUserContext.bind(userId(request));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RoutingUserContext.clear();
+        }
+    }
+
+    private Long userId(HttpServletRequest request) {
+        String header = request.getHeader(UserHeaders.USER_ID);
+        if (header == null) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(header.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
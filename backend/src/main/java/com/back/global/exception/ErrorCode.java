@@ -13,6 +13,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON_002", "서버 내부 오류가 발생했습니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "COMMON_003", "권한이 없습니다."),
     INVALID_DATE_FORMAT(HttpStatus.BAD_REQUEST, "COMMON_004", "날짜 형식이 올바르지 않습니다 (예: YYYY-MM-DD)."),
+    UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "COMMON_005", "지원하지 않는 Content-Type 입니다."),
 
     // ======================== 카테고리 관련 ========================
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "CATEGORY_001", "존재하지 않는 카테고리입니다."),
@@ -23,7 +24,18 @@ public enum ErrorCode {
     // ======================== 사용량 관련 ========================
     USAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "USAGE_001", "해당 월의 사용량 기록을 찾을 수 없습니다."),
     USAGE_ALREADY_EXISTS(HttpStatus.CONFLICT, "USAGE_002", "해당 월의 사용량 데이터가 이미 존재합니다."),
-    INVALID_USAGE_VALUE(HttpStatus.BAD_REQUEST, "USAGE_003", "사용량 값이 유효 범위를 벗어났습니다.");
+    INVALID_USAGE_VALUE(HttpStatus.BAD_REQUEST, "USAGE_003", "사용량 값이 유효 범위를 벗어났습니다."),
+    INVALID_IMPORT_LINE(HttpStatus.BAD_REQUEST, "USAGE_004", "사용량 가져오기 행 형식이 올바르지 않습니다."),
+    USAGE_IMPORT_READ_FAILED(HttpStatus.BAD_REQUEST, "USAGE_005", "사용량 파일을 읽는 중 오류가 발생했습니다."),
+
+    // ======================== 대시보드 관련 ========================
+    INVALID_TREND_RANGE(HttpStatus.BAD_REQUEST, "DASH_001", "조회 기간이 올바르지 않습니다. (시작 월 <= 종료 월, 최대 60개월)"),
+
+    // ======================== 평가 관련 ========================
+    EVALUATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "EVAL_001", "효율 평가 처리 중 오류가 발생했습니다."),
+    EVALUATION_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "EVAL_002", "평가 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요."),
+    REEVALUATION_ALREADY_RUNNING(HttpStatus.CONFLICT, "EVAL_003", "재평가 작업이 이미 실행 중입니다."),
+    INVALID_EVALUATION_POLICY(HttpStatus.BAD_REQUEST, "EVAL_004", "평가 정책 설정이 올바르지 않습니다. (임계값 순서, 버전 증가 여부 확인)");
 
     private final HttpStatus status;
     private final String code;
@@ -9,10 +9,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.List;
 
@@ -75,6 +78,34 @@ public class GlobalExceptionHandler {
                 .body(RsData.fail(ErrorCode.BAD_REQUEST, VALIDATION_FAILED_MESSAGE, fieldErrors));
     }
 
+    // 필수 RequestHeader 누락 (예: 사용자 식별 헤더 X-User-Id)
+    @ExceptionHandler(MissingRequestHeaderException.class)
+    public ResponseEntity<RsData<List<FieldErrorDto>>> handleMissingRequestHeaderException(MissingRequestHeaderException ex) {
+        log.warn("[MissingRequestHeaderException] : {}", ex.getMessage());
+
+        List<FieldErrorDto> fieldErrors = List.of(
+                new FieldErrorDto(ex.getHeaderName(), "필수 헤더입니다.")
+        );
+
+        return ResponseEntity
+                .status(ErrorCode.BAD_REQUEST.getStatus())
+                .body(RsData.fail(ErrorCode.BAD_REQUEST, VALIDATION_FAILED_MESSAGE, fieldErrors));
+    }
+
+    // RequestParam 타입 변환 실패 (예: 목록 조회의 status에 정의되지 않은 값)
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<RsData<List<FieldErrorDto>>> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        log.warn("[MethodArgumentTypeMismatchException] : {}", ex.getMessage());
+
+        List<FieldErrorDto> fieldErrors = List.of(
+                new FieldErrorDto(ex.getName(), "요청 값 형식이 올바르지 않습니다.")
+        );
+
+        return ResponseEntity
+                .status(ErrorCode.BAD_REQUEST.getStatus())
+                .body(RsData.fail(ErrorCode.BAD_REQUEST, VALIDATION_FAILED_MESSAGE, fieldErrors));
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<RsData<List<FieldErrorDto>>> handleHttpMessageNotReadableException(
             HttpMessageNotReadableException ex
@@ -106,6 +137,15 @@ public class GlobalExceptionHandler {
                 .body(RsData.fail(ErrorCode.BAD_REQUEST, VALIDATION_FAILED_MESSAGE, fieldErrors));
     }
 
+    // 지원하지 않는 Content-Type (예: 사용량 가져오기에 CSV/NDJSON 이외 형식)
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<RsData<Void>> handleHttpMediaTypeNotSupportedException(HttpMediaTypeNotSupportedException ex) {
+        log.warn("[HttpMediaTypeNotSupportedException] : {}", ex.getMessage());
+        return ResponseEntity
+                .status(ErrorCode.UNSUPPORTED_MEDIA_TYPE.getStatus())
+                .body(RsData.fail(ErrorCode.UNSUPPORTED_MEDIA_TYPE));
+    }
+
     // 그 외 예상치 못한 모든 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<RsData<Void>> handleGenericException(Exception ex) {
@@ -0,0 +1,54 @@
+package com.back.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 단위 Hibernate 통계 수집 설정
+ * 전역 통계(hibernate.statements, hibernate.entities.loads, hibernate.flushes ...)는
+ * hibernate.generate_statistics + hibernate-micrometer 로 Actuator가 자동 등록한다.
+ */
+@Configuration
+public class HibernateMetricsConfig {
+
+    // Hibernate가 SQL을 준비할 때마다 호출 (SQL은 그대로 반환)
+    @Bean
+    public HibernatePropertiesCustomizer requestStatementCounter() {
+        StatementInspector inspector = sql -> {
+            HibernateRequestStatistics.statement();
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Bean
+    public SmartInitializingSingleton requestEntityEventCounters(EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+            listeners.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> HibernateRequestStatistics.entityLoad());
+            listeners.appendListeners(EventType.FLUSH, (FlushEventListener) event -> HibernateRequestStatistics.flush());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<HibernateRequestStatisticsFilter> hibernateRequestStatisticsFilter(MeterRegistry registry) {
+        FilterRegistrationBean<HibernateRequestStatisticsFilter> registration =
+                new FilterRegistrationBean<>(new HibernateRequestStatisticsFilter(registry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,53 @@
+package com.back.global.metrics;
+
+/**
+ * 요청 단위 Hibernate 통계 - 현재 요청 스레드에서 Hibernate가 준비한 SQL 문 / 엔티티 로드 / flush 횟수
+ *
+ * 전역 Statistics(hibernate.*)는 동시 요청이 섞여 요청당 값을 알 수 없으므로 요청 스레드마다 따로 센다.
+ * JdbcTemplate로 직접 실행하는 Upsert/집계 SQL은 Hibernate를 거치지 않으므로 statements에 포함되지 않는다.
+ */
+final class HibernateRequestStatistics {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private HibernateRequestStatistics() {
+    }
+
+    static Counts begin() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // 요청 밖(스케줄러 / 비동기 평가 워커 등)에서 발생한 이벤트는 무시
+    static void statement() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void entityLoad() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+
+    static void flush() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.flushes++;
+        }
+    }
+
+    static final class Counts {
+        long statements;
+        long entityLoads;
+        long flushes;
+    }
+}
@@ -0,0 +1,60 @@
+package com.back.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 Hibernate SQL 문 / 엔티티 로드 / flush 횟수를 세어 uri 패턴별 분포로 기록한다.
+ * - hibernate.request.statements{uri}
+ * - hibernate.request.entity.loads{uri}
+ * - hibernate.request.flushes{uri}
+ */
+class HibernateRequestStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry registry;
+
+    HibernateRequestStatisticsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HibernateRequestStatistics.Counts counts = HibernateRequestStatistics.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            HibernateRequestStatistics.end();
+            record(uri(request), counts);
+        }
+    }
+
+    private void record(String uri, HibernateRequestStatistics.Counts counts) {
+        summary("hibernate.request.statements", "요청당 Hibernate SQL 문 수", uri).record(counts.statements);
+        summary("hibernate.request.entity.loads", "요청당 엔티티 로드 수", uri).record(counts.entityLoads);
+        summary("hibernate.request.flushes", "요청당 flush 수", uri).record(counts.flushes);
+    }
+
+    private DistributionSummary summary(String name, String description, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("uri", uri)
+                .register(registry);
+    }
+
+    // 경로 변수마다 태그가 늘어나지 않도록 매핑된 패턴(/api/v1/subscriptions/{id})을 사용
+    private String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
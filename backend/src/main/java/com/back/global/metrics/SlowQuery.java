@@ -0,0 +1,26 @@
+package com.back.global.metrics;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 기록된 SQL 실행 한 건
+ *
+ * @param slow       true: 기준 시간 이상, false: 표본으로 기록
+ * @param batchSize  JDBC batch면 담긴 문장 수 (아니면 0)
+ * @param parameters 바인딩 값 (batch는 앞쪽 일부 항목만, capture-parameters=false면 ?)
+ * @param rows       SELECT는 읽은 행 수, 변경 문장은 변경 행 수 (알 수 없으면 -1)
+ * @param caller     SQL을 실행한 애플리케이션 메서드 (서비스 계층 우선)
+ */
+public record SlowQuery(
+        Instant executedAt,
+        long elapsedMs,
+        boolean slow,
+        String query,
+        int batchSize,
+        List<List<String>> parameters,
+        long rows,
+        String caller,
+        String thread
+) {
+}
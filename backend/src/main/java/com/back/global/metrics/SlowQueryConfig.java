@@ -0,0 +1,63 @@
+package com.back.global.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 느린 SQL 기록 설정 (sql.slow-query.enabled, 기본 켜짐)
+ *
+ * 애플리케이션이 쓰는 DataSource 빈(dataSource)만 datasource-proxy로 감싼다.
+ * 읽기 복제본 라우팅을 켜면 라우팅 DataSource 바깥을 감싸므로 기본 DB / 복제본 조회가 모두 보이고,
+ * Flyway / 복제본 채우기가 직접 쓰는 primaryDataSource는 기록하지 않는다.
+ * 문장마다 포맷/로그를 남기는 show-sql / org.hibernate.SQL 로그는 sql-trace 프로필에서만 켠다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sql.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    private static final String APPLICATION_DATA_SOURCE = "dataSource";
+
+    @Bean
+    public SlowQueryLog slowQueryLog(SlowQueryProperties properties) {
+        return new SlowQueryLog(properties.capacity());
+    }
+
+    @Bean
+    public SlowQueryListener slowQueryListener(SlowQueryProperties properties, SlowQueryLog slowQueryLog) {
+        return new SlowQueryListener(properties, slowQueryLog);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryEndpoint(slowQueryLog);
+    }
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 리스너 / 설정은 감쌀 때 꺼낸다
+    @Bean
+    static BeanPostProcessor slowQueryDataSource(ObjectProvider<SlowQueryListener> listener,
+                                                 ObjectProvider<SlowQueryProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!APPLICATION_DATA_SOURCE.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+
+                SlowQueryListener slowQueryListener = listener.getObject();
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(slowQueryListener);
+                if (properties.getObject().countRows()) {
+                    builder.proxyResultSet().methodListener(slowQueryListener);
+                }
+                return builder.build();
+            }
+        };
+    }
+}
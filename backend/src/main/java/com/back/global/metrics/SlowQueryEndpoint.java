@@ -0,0 +1,41 @@
+package com.back.global.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * 최근 느린 SQL 조회 / 비우기 (관리용)
+ * - GET    /actuator/slowqueries
+ * - DELETE /actuator/slowqueries
+ * 기본으로는 웹에 노출하지 않는다. (내부 관리 포트에서 management.endpoints.web.exposure.include에 추가)
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @ReadOperation
+    public SlowQueryReport slowQueries() {
+        return new SlowQueryReport(slowQueryLog.recorded(), slowQueryLog.capacity(), slowQueryLog.recent());
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+
+    /**
+     * @param recorded 기동(또는 비우기) 이후 기록된 전체 건수
+     * @param capacity 보관하는 최근 기록 수
+     * @param queries  최근 기록 (최신순)
+     */
+    public record SlowQueryReport(long recorded, int capacity, List<SlowQuery> queries) {
+    }
+}
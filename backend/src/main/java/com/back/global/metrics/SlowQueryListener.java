@@ -0,0 +1,241 @@
+package com.back.global.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 느린 SQL 관찰자 (datasource-proxy 리스너)
+ *
+ * [정책]
+ * - 실행 시간이 기준 이상인 문장은 모두, 나머지는 sample-rate 비율로만 기록한다.
+ *   기록하지 않는 문장은 시간 비교(와 난수 하나)만 하고 지나가므로 SQL 문자열 / 바인딩 값을 만들지 않는다.
+ * - 기록할 때만 바인딩 값을 문자열로 바꾸고 스택을 훑어 호출한 서비스 메서드를 찾는다.
+ *   바인딩 값은 여러 사용자의 데이터이므로 capture-parameters=true일 때만 원문으로 남기고, 기본은 ?로 가린다.
+ * - 행 수는 기본으로 세지 않는다. (SELECT는 rows=-1, 수정 문장은 실행 결과의 갱신 행 수)
+ *   count-rows=true(진단용)면 ResultSet까지 프록시로 감싸, 같은 스레드에서 결과를 끝까지 읽거나 닫을 때 행 수와 함께 기록한다.
+ *   이때는 기록 여부와 관계없이 모든 Connection / Statement / ResultSet 호출이 afterMethod를 거친다.
+ */
+@Slf4j
+public class SlowQueryListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String APP_PACKAGE = "com.back.";
+    private static final String SELF = SlowQueryListener.class.getName();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private static final int MAX_BATCH_ENTRIES = 10;
+    private static final int MAX_VALUE_LENGTH = 100;
+    private static final long UNKNOWN_ROWS = -1;
+    private static final String MASKED = "?";
+
+    // 행 수를 세는 중인 SELECT (스레드마다 하나)
+    private static final ThreadLocal<PendingQuery> PENDING = new ThreadLocal<>();
+
+    private final SlowQueryLog slowQueryLog;
+    private final long thresholdMs;
+    private final double sampleRate;
+    private final boolean countRows;
+    private final boolean captureParameters;
+
+    public SlowQueryListener(SlowQueryProperties properties, SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+        this.thresholdMs = properties.threshold().toMillis();
+        this.sampleRate = properties.sampleRate();
+        this.countRows = properties.countRows();
+        this.captureParameters = properties.captureParameters();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        boolean slow = execInfo.getElapsedTime() >= thresholdMs;
+        if (!slow && !sampled()) {
+            return;
+        }
+
+        PendingQuery query = new PendingQuery(execInfo, queryInfoList, slow, captureParameters, caller());
+        if (countRows && execInfo.getResult() instanceof ResultSet) {
+            completePending();
+            PENDING.set(query);
+            return;
+        }
+        record(query, updatedRows(execInfo.getResult()));
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    // count-rows=true일 때 ResultSet / Statement / Connection 호출마다 불린다
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        PendingQuery pending = PENDING.get();
+        if (pending == null) {
+            return;
+        }
+
+        Object target = executionContext.getTarget();
+        String method = executionContext.getMethod().getName();
+
+        if (target instanceof ResultSet resultSet) {
+            if (!pending.owns(resultSet)) {
+                return;
+            }
+            if ("next".equals(method)) {
+                if (Boolean.TRUE.equals(executionContext.getResult())) {
+                    pending.rows++;
+                } else {
+                    completePending();
+                }
+            } else if ("close".equals(method)) {
+                completePending();
+            }
+        } else if ("close".equals(method) && (target == pending.statement || target instanceof Connection)) {
+            completePending();
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void completePending() {
+        PendingQuery pending = PENDING.get();
+        if (pending != null) {
+            PENDING.remove();
+            record(pending, pending.rows);
+        }
+    }
+
+    private void record(PendingQuery pending, long rows) {
+        SlowQuery query = pending.toSlowQuery(rows);
+        slowQueryLog.add(query);
+
+        if (query.slow()) {
+            log.warn("[SlowQuery] {}ms rows={} caller={} sql={} params={}",
+                    query.elapsedMs(), query.rows(), query.caller(), query.query(), query.parameters());
+        }
+    }
+
+    // executeUpdate / executeBatch 결과 (SELECT 외 execute()는 알 수 없음)
+    private static long updatedRows(Object result) {
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                if (count < 0) {
+                    return UNKNOWN_ROWS;
+                }
+                sum += count;
+            }
+            return sum;
+        }
+        return UNKNOWN_ROWS;
+    }
+
+    // SQL을 실행한 애플리케이션 메서드: 서비스 계층을 우선, 없으면 가장 가까운 애플리케이션 프레임 (Spring 프록시 제외)
+    private static String caller() {
+        return STACK_WALKER.walk(frames -> {
+            StackWalker.StackFrame nearest = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!className.startsWith(APP_PACKAGE) || isSelf(className) || className.contains("$$")) {
+                    continue;
+                }
+                if (className.contains(".service.")) {
+                    return describe(frame);
+                }
+                if (nearest == null) {
+                    nearest = frame;
+                }
+            }
+            return nearest != null ? describe(nearest) : "unknown";
+        });
+    }
+
+    private static boolean isSelf(String className) {
+        return className.equals(SELF) || className.startsWith(SELF + "$");
+    }
+
+    private static String describe(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+    }
+
+    private static String render(Object value) {
+        String text = String.valueOf(value);
+        return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) + "..." : text;
+    }
+
+    // 기록 대상 문장 (SQL / 바인딩 값은 실행 직후 복사해 둔다)
+    private static final class PendingQuery {
+
+        private final Instant executedAt = Instant.now();
+        private final String thread = Thread.currentThread().getName();
+        private final long elapsedMs;
+        private final boolean slow;
+        private final String query;
+        private final int batchSize;
+        private final List<List<String>> parameters;
+        private final String caller;
+        private final Statement statement;
+        private long rows;
+
+        private PendingQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList, boolean slow,
+                             boolean captureParameters, String caller) {
+            this.elapsedMs = execInfo.getElapsedTime();
+            this.slow = slow;
+            this.query = String.join("; ", queryInfoList.stream().map(QueryInfo::getQuery).distinct().toList());
+            this.batchSize = execInfo.isBatch() ? execInfo.getBatchSize() : 0;
+            this.parameters = parameters(queryInfoList, captureParameters);
+            this.caller = caller;
+            this.statement = execInfo.getStatement();
+        }
+
+        private boolean owns(ResultSet resultSet) {
+            try {
+                return resultSet.getStatement() == statement;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private SlowQuery toSlowQuery(long rows) {
+            return new SlowQuery(executedAt, elapsedMs, slow, query, batchSize, parameters, rows, caller, thread);
+        }
+
+        private static List<List<String>> parameters(List<QueryInfo> queryInfoList, boolean capture) {
+            List<List<String>> parameters = new ArrayList<>();
+            for (QueryInfo queryInfo : queryInfoList) {
+                for (List<ParameterSetOperation> operations : queryInfo.getParametersList()) {
+                    if (parameters.size() == MAX_BATCH_ENTRIES) {
+                        return parameters;
+                    }
+                    parameters.add(operations.stream()
+                            .map(operation -> !capture ? MASKED
+                                    : "setNull".equals(operation.getMethod().getName()) ? "null" : render(operation.getArgs()[1]))
+                            .toList());
+                }
+            }
+            return parameters;
+        }
+    }
+}
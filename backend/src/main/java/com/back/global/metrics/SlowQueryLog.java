@@ -0,0 +1,49 @@
+package com.back.global.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 최근 기록된 SQL (고정 크기 링 버퍼, 가득 차면 오래된 것부터 덮어쓴다)
+ * 기록은 느린 문장 / 표본에서만 일어나므로 단순 잠금으로 충분하다.
+ */
+public class SlowQueryLog {
+
+    private final SlowQuery[] entries;
+    private long recorded;
+
+    public SlowQueryLog(int capacity) {
+        this.entries = new SlowQuery[Math.max(1, capacity)];
+    }
+
+    public synchronized void add(SlowQuery query) {
+        entries[(int) (recorded++ % entries.length)] = query;
+    }
+
+    /**
+     * 최근 기록 (최신순)
+     */
+    public synchronized List<SlowQuery> recent() {
+        int size = (int) Math.min(recorded, entries.length);
+        List<SlowQuery> recent = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            recent.add(entries[(int) ((recorded - i) % entries.length)]);
+        }
+        return recent;
+    }
+
+    // 기동 이후 기록된 전체 건수 (버퍼에서 밀려난 것 포함)
+    public synchronized long recorded() {
+        return recorded;
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        recorded = 0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.back.global.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "sql.slow-query")
+public record SlowQueryProperties(
+        @DefaultValue("true") boolean enabled,      // 애플리케이션 DataSource의 SQL 실행 시간을 관찰해 느린 문장만 기록
+        @DefaultValue("200ms") Duration threshold,  // 이 시간 이상 걸린 문장은 모두 기록 (WARN 로그 + 최근 목록)
+        @DefaultValue("0") double sampleRate,       // 기준 미만 문장 중 기록할 비율 (0 ~ 1, 로그 없이 최근 목록에만)
+        @DefaultValue("200") int capacity,          // 최근 목록(링 버퍼) 크기
+        @DefaultValue("false") boolean countRows,   // 진단용: SELECT 결과 행 수 집계 (모든 Connection / Statement / ResultSet 호출이 프록시 + 리스너를 거친다)
+        @DefaultValue("false") boolean captureParameters // 바인딩 값 원문 기록 (끄면 자리 수만 남기고 값은 ?로 가린다 - 다른 사용자의 구독명 / 사용량 노출 방지)
+) {
+}
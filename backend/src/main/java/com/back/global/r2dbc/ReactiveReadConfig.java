@@ -0,0 +1,80 @@
+package com.back.global.r2dbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Objects;
+
+/**
+ * 반응형 읽기 API 설정 (reactive.read.enabled=true, 실험용 - 기본 꺼짐)
+ *
+ * JDBC(spring.datasource)와 같은 H2 데이터베이스를 R2DBC로 연다. (같은 JVM의 같은 H2 엔진을 공유)
+ * 스키마는 JDBC 쪽 Flyway가 만든다.
+ * 커넥션 사용량: reactive.read.connections{state=acquired|pending}, JDBC 풀은 hikaricp.connections.*
+ *
+ * [한계]
+ * - 임베디드 H2 R2DBC 드라이버는 블로킹이라 DB 작업은 풀 크기만큼의 전용 스레드에서 돈다.
+ *   요청 스레드를 반납하는 것 외에는 스레드 풀 위임과 같으며, 끝까지 논블로킹인 경로가 아니다.
+ * - 항상 기본 DB를 읽는 별도 풀이다. 복제본 라우팅(datasource.routing)과 복제 지연 가드를 거치지 않으므로
+ *   복제본으로 읽기를 덜어내지 않고, 이 풀의 커넥션은 Hikari 풀 크기 밖에서 기본 DB에 더해진다.
+ *   (기본 DB를 읽으므로 쓰기 직후 조회도 방금 쓴 값을 본다)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "reactive.read", name = "enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    @Bean
+    public ReactiveReadDatabase reactiveReadDatabase(DataSourceProperties dataSource, ReactiveReadProperties properties,
+                                                     MeterRegistry registry,
+                                                     @Value("${datasource.routing.enabled:false}") boolean routingEnabled) {
+        String url = dataSource.determineUrl();
+        if (url == null || !url.startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException("reactive.read.enabled=true 는 H2(jdbc:h2:) 데이터베이스에서만 지원합니다: " + url);
+        }
+
+        H2ConnectionFactory h2 = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(url.substring(H2_JDBC_PREFIX.length()))
+                .username(dataSource.determineUsername())
+                .password(Objects.requireNonNullElse(dataSource.determinePassword(), ""))
+                .build());
+
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(h2)
+                .name("reactive-read")
+                .initialSize(0)
+                .maxSize(properties.poolSize())
+                .maxAcquireTime(properties.maxAcquireTime())
+                .build());
+
+        ReactiveReadDatabase database = new ReactiveReadDatabase(
+                pool, Schedulers.newBoundedElastic(properties.poolSize(), Integer.MAX_VALUE, "reactive-read"));
+
+        Gauge.builder("reactive.read.connections", database, ReactiveReadDatabase::acquiredConnections)
+                .description("반응형 읽기 API R2DBC 커넥션 수")
+                .tag("state", "acquired")
+                .register(registry);
+        Gauge.builder("reactive.read.connections", database, ReactiveReadDatabase::pendingAcquires)
+                .description("반응형 읽기 API R2DBC 커넥션 수")
+                .tag("state", "pending")
+                .register(registry);
+
+        log.info("[ReactiveRead] /api/v1/reactive/** 읽기 API 사용 (실험용) - R2DBC 풀 {}개", properties.poolSize());
+        if (routingEnabled) {
+            log.warn("[ReactiveRead] datasource.routing.enabled=true 이지만 /api/v1/reactive/** 는 복제본 라우팅 없이 기본 DB만 읽습니다");
+        }
+        return database;
+    }
+}
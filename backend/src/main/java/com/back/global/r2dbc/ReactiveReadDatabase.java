@@ -0,0 +1,50 @@
+package com.back.global.r2dbc;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * 반응형 읽기 API의 R2DBC 접근 (커넥션 풀 + DatabaseClient + 드라이버 작업 스케줄러)
+ *
+ * ConnectionFactory를 빈으로 노출하면 JDBC DataSource 자동 설정이 꺼지므로 이 객체 안에만 둔다.
+ * 임베디드 H2의 R2DBC 드라이버는 구독한 스레드에서 H2 엔진을 직접 호출하므로,
+ * 조회는 풀 크기만큼의 전용 스케줄러에서 구독해 요청(서블릿) 스레드를 붙잡지 않게 한다.
+ */
+public class ReactiveReadDatabase implements DisposableBean {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+    private final Scheduler scheduler;
+
+    ReactiveReadDatabase(ConnectionPool pool, Scheduler scheduler) {
+        this.pool = pool;
+        this.client = DatabaseClient.create(pool);
+        this.scheduler = scheduler;
+    }
+
+    public DatabaseClient client() {
+        return client;
+    }
+
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    // 현재 사용 중인 커넥션 수 (반응형 / MVC 경로 비교용)
+    public int acquiredConnections() {
+        return pool.getMetrics().map(PoolMetrics::acquiredSize).orElse(0);
+    }
+
+    public int pendingAcquires() {
+        return pool.getMetrics().map(PoolMetrics::pendingAcquireSize).orElse(0);
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+        scheduler.dispose();
+    }
+}
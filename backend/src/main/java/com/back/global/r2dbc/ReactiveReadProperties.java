@@ -0,0 +1,14 @@
+package com.back.global.r2dbc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "reactive.read")
+public record ReactiveReadProperties(
+        @DefaultValue("false") boolean enabled,         // true: /api/v1/reactive/** 읽기 API (대시보드 / 구독 목록)를 R2DBC로 제공 (실험용, 항상 기본 DB)
+        @DefaultValue("10") int poolSize,               // R2DBC 커넥션 풀 크기 (JDBC 풀과 별도, 드라이버 작업 스레드 수도 같다)
+        @DefaultValue("3s") Duration maxAcquireTime     // 풀 고갈 시 대기 상한
+) {
+}
@@ -0,0 +1,72 @@
+-- 초기 스키마 (ddl-auto: create 시절 엔티티 매핑과 같은 구조, 월 컬럼은 정수 기간)
+-- H2(MODE=MySQL)와 MySQL에서 같은 스크립트로 실행된다.
+
+CREATE TABLE category (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    name            VARCHAR(255) NOT NULL,
+    reference_value INT          NOT NULL,
+    unit            VARCHAR(20)  NOT NULL,
+    type            VARCHAR(20)  NOT NULL,
+    CONSTRAINT pk_category PRIMARY KEY (id),
+    CONSTRAINT uk_category_name UNIQUE (name)
+);
+
+CREATE TABLE subscription (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    category_id        BIGINT       NOT NULL,
+    name               VARCHAR(255) NOT NULL,
+    total_cost         BIGINT       NOT NULL,
+    user_share_cost    BIGINT       NOT NULL,
+    monthly_share_cost BIGINT       NOT NULL,
+    billing_cycle      VARCHAR(20)  NOT NULL,
+    status             VARCHAR(20)  NOT NULL,
+    deleted            BOOLEAN      NOT NULL DEFAULT FALSE,
+    deleted_at         DATETIME(6),
+    CONSTRAINT pk_subscription PRIMARY KEY (id),
+    CONSTRAINT fk_subscription_category FOREIGN KEY (category_id) REFERENCES category (id)
+);
+
+-- 필터 + 키셋 페이지 조회 (WHERE 필터 AND id > cursor ORDER BY id)
+CREATE INDEX idx_subscription_category_id ON subscription (category_id, id);
+CREATE INDEX idx_subscription_status_id ON subscription (status, id);
+-- 퍼저가 삭제 표시된 구독을 찾을 때 사용
+CREATE INDEX idx_subscription_deleted_id ON subscription (deleted, id);
+
+-- 월 컬럼: 정수 기간 (year * 12 + month - 1, YearMonthConverter)
+CREATE TABLE subscription_usage (
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    subscription_id BIGINT NOT NULL,
+    usage_month     INT    NOT NULL,
+    usage_value     INT    NOT NULL,
+    CONSTRAINT pk_subscription_usage PRIMARY KEY (id),
+    CONSTRAINT uk_subscription_usage_subscription_month UNIQUE (subscription_id, usage_month),
+    CONSTRAINT fk_subscription_usage_subscription FOREIGN KEY (subscription_id) REFERENCES subscription (id) ON DELETE CASCADE
+);
+
+CREATE TABLE subscription_evaluation (
+    id                       BIGINT      NOT NULL AUTO_INCREMENT,
+    subscription_id          BIGINT      NOT NULL,
+    eval_month               INT         NOT NULL,
+    efficiency_rate          DOUBLE      NOT NULL,
+    status                   VARCHAR(20),
+    annual_waste             BIGINT      NOT NULL,
+    reference_snapshot_value INT         NOT NULL,
+    cost_per_unit            BIGINT      NOT NULL,
+    CONSTRAINT pk_subscription_evaluation PRIMARY KEY (id),
+    CONSTRAINT uk_subscription_evaluation_subscription_month UNIQUE (subscription_id, eval_month),
+    CONSTRAINT fk_subscription_evaluation_subscription FOREIGN KEY (subscription_id) REFERENCES subscription (id) ON DELETE CASCADE
+);
+
+CREATE TABLE monthly_dashboard_aggregate (
+    id                 BIGINT NOT NULL AUTO_INCREMENT,
+    eval_month         INT    NOT NULL,
+    total_monthly_cost BIGINT NOT NULL,
+    total_annual_waste BIGINT NOT NULL,
+    efficient_count    BIGINT NOT NULL,
+    keep_count         BIGINT NOT NULL,
+    review_count       BIGINT NOT NULL,
+    inefficient_count  BIGINT NOT NULL,
+    ghost_count        BIGINT NOT NULL,
+    CONSTRAINT pk_monthly_dashboard_aggregate PRIMARY KEY (id),
+    CONSTRAINT uk_monthly_dashboard_aggregate_month UNIQUE (eval_month)
+);
@@ -0,0 +1,11 @@
+-- 핫 경로 조회용 인덱스
+--
+-- 자식 테이블(사용량/평가)의 subscription_id 조회(퍼저 청크 삭제, FK ON DELETE CASCADE, 구독별 잠금)는
+-- (subscription_id, 월) 유니크 인덱스의 선두 컬럼으로 처리되므로 subscription_id 단독 인덱스는 두지 않는다. (쓰기마다 갱신할 인덱스만 늘어남)
+
+-- 월 대시보드 / 월 집계 재계산: eval_month 동등 조건 + 대시보드 컬럼을 인덱스에 담아 평가 행을 읽지 않고 처리 (H2/MySQL 모두 INCLUDE 미지원이라 뒤쪽 키 컬럼으로 둔다)
+CREATE INDEX idx_evaluation_month_dashboard
+    ON subscription_evaluation (eval_month, subscription_id, status, annual_waste, efficiency_rate, cost_per_unit);
+
+-- 구독 목록: 카테고리 + 상태 필터를 함께 쓴 키셋 페이지 조회
+CREATE INDEX idx_subscription_category_status_id ON subscription (category_id, status, id);
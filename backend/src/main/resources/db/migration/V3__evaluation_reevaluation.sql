@@ -0,0 +1,19 @@
+-- 재평가 작업 (ReevaluationJob)
+--
+-- 평가 행에 계산 당시의 정책 버전을 남긴다. 기존 행은 모두 첫 정책(DefaultEvaluationPolicy.VERSION = 1)으로 계산되었다.
+ALTER TABLE subscription_evaluation ADD COLUMN policy_version INT NOT NULL DEFAULT 1;
+
+-- 재평가 실행 기록 + 체크포인트 (checkpoint_id 미만의 평가 id 구간은 처리 완료)
+CREATE TABLE reevaluation_run (
+    id                BIGINT      NOT NULL AUTO_INCREMENT,
+    state             VARCHAR(20) NOT NULL,
+    policy_version    INT         NOT NULL,
+    max_evaluation_id BIGINT      NOT NULL,
+    checkpoint_id     BIGINT      NOT NULL,
+    total_stale       BIGINT      NOT NULL,
+    reevaluated       BIGINT      NOT NULL,
+    started_at        DATETIME(6) NOT NULL,
+    updated_at        DATETIME(6) NOT NULL,
+    finished_at       DATETIME(6),
+    CONSTRAINT pk_reevaluation_run PRIMARY KEY (id)
+);
@@ -0,0 +1,64 @@
+-- 사용자별 데이터 분할
+--
+-- 구독과 자식 테이블(사용량/평가), 월 대시보드 집계에 소유 사용자(user_id)를 둔다.
+-- 자식 행의 user_id는 구독의 값을 복사한 것(비정규화)으로, 평가 조회가 구독 조인 없이 사용자 범위로 좁혀지게 한다.
+-- 기존 데이터는 모두 사용자 1의 것으로 본다.
+ALTER TABLE subscription ADD COLUMN user_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE subscription_usage ADD COLUMN user_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE subscription_evaluation ADD COLUMN user_id BIGINT NOT NULL DEFAULT 1;
+
+-- 기본값은 기존 행 채우기에만 쓴다. 이후 user_id 없이 넣는 쓰기 경로는 사용자 1의 행이 되지 않고 실패해야 한다.
+ALTER TABLE subscription ALTER COLUMN user_id DROP DEFAULT;
+ALTER TABLE subscription_usage ALTER COLUMN user_id DROP DEFAULT;
+ALTER TABLE subscription_evaluation ALTER COLUMN user_id DROP DEFAULT;
+
+-- 구독 목록 키셋 페이지: 사용자 동등 조건 + 필터 AND id > cursor ORDER BY id
+-- (category_id, id) 인덱스는 MySQL에서 카테고리 FK 인덱스를 겸하므로 그대로 둔다
+DROP INDEX idx_subscription_status_id ON subscription;
+DROP INDEX idx_subscription_category_status_id ON subscription;
+CREATE INDEX idx_subscription_user_id ON subscription (user_id, id);
+CREATE INDEX idx_subscription_user_status_id ON subscription (user_id, status, id);
+CREATE INDEX idx_subscription_user_category_status_id ON subscription (user_id, category_id, status, id);
+
+-- 월 대시보드 / 월 집계 재계산: (user_id, eval_month) 동등 조건 + 대시보드 컬럼
+-- 한 사용자의 월 조회가 다른 사용자의 평가 행을 건너뛰지 않도록 user_id를 선두에 둔다
+DROP INDEX idx_evaluation_month_dashboard ON subscription_evaluation;
+CREATE INDEX idx_evaluation_user_month_dashboard
+    ON subscription_evaluation (user_id, eval_month, subscription_id, status, annual_waste, efficiency_rate, cost_per_unit);
+
+-- 사용량은 항상 (subscription_id, usage_month) 유니크 인덱스로 조회하고 구독은 먼저 사용자 범위로 잠그므로 별도 인덱스를 두지 않는다
+
+-- 월 집계는 평가에서 다시 계산할 수 있는 파생 데이터이므로 (user_id, eval_month) 키로 다시 만들어 채운다
+DROP TABLE monthly_dashboard_aggregate;
+
+CREATE TABLE monthly_dashboard_aggregate (
+    id                 BIGINT NOT NULL AUTO_INCREMENT,
+    user_id            BIGINT NOT NULL,
+    eval_month         INT    NOT NULL,
+    total_monthly_cost BIGINT NOT NULL,
+    total_annual_waste BIGINT NOT NULL,
+    efficient_count    BIGINT NOT NULL,
+    keep_count         BIGINT NOT NULL,
+    review_count       BIGINT NOT NULL,
+    inefficient_count  BIGINT NOT NULL,
+    ghost_count        BIGINT NOT NULL,
+    CONSTRAINT pk_monthly_dashboard_aggregate PRIMARY KEY (id),
+    CONSTRAINT uk_monthly_dashboard_aggregate_user_month UNIQUE (user_id, eval_month)
+);
+
+-- 대시보드 정책과 동일: TRIAL 구독은 월 지출 합계에서 제외, 삭제 표시된 구독 제외
+INSERT INTO monthly_dashboard_aggregate
+    (user_id, eval_month, total_monthly_cost, total_annual_waste, efficient_count, keep_count, review_count, inefficient_count, ghost_count)
+SELECT e.user_id,
+       e.eval_month,
+       COALESCE(SUM(CASE WHEN s.status = 'TRIAL' THEN 0 ELSE s.monthly_share_cost END), 0),
+       COALESCE(SUM(e.annual_waste), 0),
+       SUM(CASE WHEN e.status = 'EFFICIENT' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN e.status = 'KEEP' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN e.status = 'REVIEW' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN e.status = 'INEFFICIENT' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN e.status = 'GHOST' THEN 1 ELSE 0 END)
+FROM subscription_evaluation e
+JOIN subscription s ON s.id = e.subscription_id
+WHERE s.deleted = FALSE
+GROUP BY e.user_id, e.eval_month;
@@ -0,0 +1,27 @@
+-- 월 컬럼 변환: 'yyyy-MM' 문자열 -> 정수 기간 (year * 12 + month - 1, YearMonthConverter 참고)
+-- 대상: subscription_usage.usage_month, subscription_evaluation.eval_month, monthly_dashboard_aggregate.eval_month
+--
+-- 1) 문자열 값을 정수 기간의 숫자 문자열로 바꾼 뒤 2) 컬럼 타입을 INT로 바꾼다. (숫자는 VARCHAR 컬럼에 넣을 때 문자열로 바뀐다)
+--    새 컬럼을 만들지 않고 제자리에서 바꾸므로 기존 (subscription_id, 월) 유니크 인덱스가 이름 그대로 INT 키로 다시 만들어진다.
+--    (변환은 일대일이라 유니크 제약을 어기는 행이 생기지 않는다)
+-- 2) 'yyyy-MM' 형식인 행만 바꾸므로 중간에 실패해도 다시 실행할 수 있다.
+-- 애플리케이션을 멈춘 상태에서 실행한다. (Flyway 도입 전 ddl-auto 로 만든 DB용, Flyway 스키마는 처음부터 INT)
+-- MySQL과 H2(MODE=MySQL)에서 같이 동작한다. (MonthColumnUpgradeScriptTest)
+
+UPDATE subscription_usage
+SET usage_month = CAST(SUBSTRING(usage_month, 1, 4) AS SIGNED) * 12 + CAST(SUBSTRING(usage_month, 6, 2) AS SIGNED) - 1
+WHERE usage_month LIKE '____-__';
+
+ALTER TABLE subscription_usage MODIFY usage_month INT NOT NULL;
+
+UPDATE subscription_evaluation
+SET eval_month = CAST(SUBSTRING(eval_month, 1, 4) AS SIGNED) * 12 + CAST(SUBSTRING(eval_month, 6, 2) AS SIGNED) - 1
+WHERE eval_month LIKE '____-__';
+
+ALTER TABLE subscription_evaluation MODIFY eval_month INT NOT NULL;
+
+UPDATE monthly_dashboard_aggregate
+SET eval_month = CAST(SUBSTRING(eval_month, 1, 4) AS SIGNED) * 12 + CAST(SUBSTRING(eval_month, 6, 2) AS SIGNED) - 1
+WHERE eval_month LIKE '____-__';
+
+ALTER TABLE monthly_dashboard_aggregate MODIFY eval_month INT NOT NULL;
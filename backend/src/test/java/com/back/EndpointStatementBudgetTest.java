@@ -0,0 +1,247 @@
+package com.back;
+
+import com.back.domain.dashboard.cache.DashboardCache;
+import com.back.domain.dashboard.dto.UserMonth;
+import com.back.domain.subscription.dto.SubscriptionRequest;
+import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.domain.subscription.service.SubscriptionService;
+import com.back.domain.usage.dto.UsageRequest;
+import com.back.domain.usage.service.UsageService;
+import com.back.global.common.web.UserHeaders;
+import com.back.support.sql.SqlStatementCounterConfig;
+import com.back.support.sql.StatementBudget;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 문 수 상한 검사
+ *
+ * 구독 수백 건 + 사용량/평가를 시드한 뒤 요청 하나가 실행하는 SELECT / INSERT / UPDATE 문 수를 센다.
+ * 상한은 데이터 건수와 무관한 상수이므로, 행마다 쿼리가 늘어나는 회귀(N+1, 건별 UPDATE 등)는 빌드 실패로 드러난다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-budget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "subscription.purge.enabled=false"
+})
+@AutoConfigureMockMvc
+@Import(SqlStatementCounterConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointStatementBudgetTest {
+
+    private static final int SUBSCRIPTIONS = 300;
+    private static final int CATEGORY_COUNT = 6; // DataInitializer 기본 카테고리 (id 1~3 분 단위, 4~6 일 단위)
+    private static final YearMonth MONTH = YearMonth.of(2025, 2);
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private UsageService usageService;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    // 시드한 구독 id (앞 200건은 조회/기록용, 뒤 100건은 삭제 테스트용)
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        List<UsageRequest> usages = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIPTIONS; i++) {
+            long categoryId = (i % CATEGORY_COUNT) + 1;
+            SubscriptionStatus status = i % 10 == 0 ? SubscriptionStatus.TRIAL : SubscriptionStatus.ACTIVE;
+            Long id = subscriptionService.createSubscription(USER_ID, new SubscriptionRequest(
+                    categoryId, "sub-" + i, 17000, 17000, BillingCycle.MONTHLY, status)).id();
+            ids.add(id);
+            usages.add(new UsageRequest(id, MONTH, usageValue(categoryId, i)));
+        }
+        usageService.recordUsagesInBatch(USER_ID, usages);
+    }
+
+    @Test
+    @DisplayName("POST /subscriptions - 카테고리 조회 1 + INSERT 1")
+    void t1() throws Exception {
+        StatementBudget.maxSelects(1).maxInserts(1).assertWithin(() ->
+                mockMvc.perform(post("/api/v1/subscriptions")
+                                .header(UserHeaders.USER_ID, USER_ID)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {"categoryId":1,"name":"budget","totalCost":17000,"userShareCost":17000,
+                                         "billingCycle":"MONTHLY","status":"ACTIVE"}
+                                        """))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("GET /subscriptions - 필터 조합과 무관하게 페이지당 SELECT 1")
+    void t2() throws Exception {
+        StatementBudget.maxSelects(1).assertWithin(() ->
+                mockMvc.perform(get("/api/v1/subscriptions").header(UserHeaders.USER_ID, USER_ID).param("size", "100"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.items.length()").value(100)));
+
+        StatementBudget.maxSelects(1).assertWithin(() ->
+                mockMvc.perform(get("/api/v1/subscriptions")
+                                .header(UserHeaders.USER_ID, USER_ID)
+                                .param("cursor", String.valueOf(ids.get(50)))
+                                .param("size", "100")
+                                .param("categoryId", "2")
+                                .param("status", "ACTIVE"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("DELETE /subscriptions/{id} - 잠금 조회 + 기여분 합산, 집계 UPDATE + 삭제 표시 UPDATE")
+    void t3() throws Exception {
+        StatementBudget.maxSelects(2).maxUpdates(2).assertWithin(() ->
+                mockMvc.perform(delete("/api/v1/subscriptions/{id}", ids.get(SUBSCRIPTIONS - 1)).header(UserHeaders.USER_ID, USER_ID))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("POST /subscriptions/bulk-delete - 대상 수(99건)와 무관하게 단건 삭제와 같은 문장 수")
+    void t4() throws Exception {
+        StringJoiner body = new StringJoiner(",", "{\"ids\":[", "]}");
+        ids.subList(200, SUBSCRIPTIONS - 1).forEach(id -> body.add(String.valueOf(id)));
+
+        StatementBudget.maxSelects(2).maxUpdates(2).assertWithin(() ->
+                mockMvc.perform(post("/api/v1/subscriptions/bulk-delete")
+                                .header(UserHeaders.USER_ID, USER_ID)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body.toString()))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("POST /usages - 구독 잠금 + 기존 평가 잠금 조회, 사용량/평가 Upsert, 집계 UPDATE")
+    void t5() throws Exception {
+        StatementBudget.maxSelects(2).maxInserts(2).maxUpdates(1).assertWithin(() ->
+                mockMvc.perform(post("/api/v1/usages")
+                                .header(UserHeaders.USER_ID, USER_ID)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"subscriptionId\":" + ids.get(0) + ",\"date\":\"" + MONTH + "\",\"usageValue\":1234}"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("POST /usages/batch - 200행이어도 단건 기록과 같은 문장 수 (JDBC batch)")
+    void t6() throws Exception {
+        StringJoiner body = new StringJoiner(",", "{\"usages\":[", "]}");
+        for (int i = 0; i < 200; i++) {
+            body.add("{\"subscriptionId\":" + ids.get(i) + ",\"date\":\"" + MONTH + "\",\"usageValue\":" + (usageValue(categoryIdOf(i), i) / 2) + "}");
+        }
+
+        StatementBudget.maxSelects(2).maxInserts(2).maxUpdates(1).assertWithin(() ->
+                mockMvc.perform(post("/api/v1/usages/batch")
+                                .header(UserHeaders.USER_ID, USER_ID)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body.toString()))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.successCount").value(200)));
+    }
+
+    @Test
+    @DisplayName("POST /usages/import - 200행 CSV도 청크 1개 = 일괄 기록 1회와 같은 문장 수")
+    void t7() throws Exception {
+        StringBuilder csv = new StringBuilder("subscriptionId,date,usageValue\n");
+        for (int i = 0; i < 200; i++) {
+            csv.append(ids.get(i)).append(',').append(MONTH).append(',').append(usageValue(categoryIdOf(i), i + 1)).append('\n');
+        }
+
+        StatementBudget.maxSelects(2).maxInserts(2).maxUpdates(1).assertWithin(() ->
+                mockMvc.perform(post("/api/v1/usages/import")
+                                .header(UserHeaders.USER_ID, USER_ID)
+                                .contentType("text/csv")
+                                .content(csv.toString()))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("GET /dashboard - 캐시 미스는 평가+구독 조인 1 + 월 집계 1, 캐시 적중은 SQL 없음")
+    void t8() throws Exception {
+        dashboardCache.invalidate(new UserMonth(USER_ID, MONTH));
+
+        StatementBudget.maxSelects(2).assertWithin(() ->
+                mockMvc.perform(get("/api/v1/dashboard").header(UserHeaders.USER_ID, USER_ID).param("year", "2025").param("month", "2"))
+                        .andExpect(status().isOk()));
+
+        StatementBudget.none().assertWithin(() ->
+                mockMvc.perform(get("/api/v1/dashboard").header(UserHeaders.USER_ID, USER_ID).param("year", "2025").param("month", "2"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("GET /dashboard/aggregate/check, POST /dashboard/aggregate/rebuild - 저장된 집계 1 + 처음부터 합산 1")
+    void t9() throws Exception {
+        StatementBudget.maxSelects(2).assertWithin(() ->
+                mockMvc.perform(get("/api/v1/dashboard/aggregate/check").header(UserHeaders.USER_ID, USER_ID).param("year", "2025").param("month", "2"))
+                        .andExpect(status().isOk()));
+
+        StatementBudget.maxSelects(2).assertWithin(() ->
+                mockMvc.perform(post("/api/v1/dashboard/aggregate/rebuild").header(UserHeaders.USER_ID, USER_ID).param("year", "2025").param("month", "2"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.consistent").value(true)));
+    }
+
+    @Test
+    @DisplayName("GET /dashboard/trend - 기간(24개월)과 무관하게 월 집계 범위 조회 1")
+    void t11() throws Exception {
+        StatementBudget.maxSelects(1).assertWithin(() ->
+                mockMvc.perform(get("/api/v1/dashboard/trend").header(UserHeaders.USER_ID, USER_ID).param("from", "2024-03").param("to", "2026-02"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.months.length()").value(24)));
+    }
+
+    @Test
+    @DisplayName("GET /dashboard/ranking - 열 저장소가 꺼져 있으면 평가+구독 조인 1 (행 수와 무관)")
+    void t12() throws Exception {
+        StatementBudget.maxSelects(1).assertWithin(() ->
+                mockMvc.perform(get("/api/v1/dashboard/ranking").header(UserHeaders.USER_ID, USER_ID).param("year", "2025").param("month", "2").param("limit", "5"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.subscriptions.length()").value(5)));
+    }
+
+    @Test
+    @DisplayName("GET /evaluations/queue - SQL 없음")
+    void t10() throws Exception {
+        StatementBudget.none().assertWithin(() ->
+                mockMvc.perform(get("/api/v1/evaluations/queue"))
+                        .andExpect(status().isOk()));
+    }
+
+    private static long categoryIdOf(int index) {
+        return (index % CATEGORY_COUNT) + 1;
+    }
+
+    // 카테고리 단위(분 / 일) 범위 안의 사용량
+    private static int usageValue(long categoryId, int seed) {
+        return categoryId > 3 ? seed % (MONTH.lengthOfMonth() + 1) : (seed * 37) % 3600;
+    }
+}
@@ -0,0 +1,103 @@
+package com.back;
+
+import com.back.domain.evaluation.dto.ReevaluationStatus;
+import com.back.domain.evaluation.enums.ReevaluationState;
+import com.back.domain.evaluation.policy.EvaluationPolicyEndpoint;
+import com.back.domain.evaluation.policy.EvaluationPolicyRegistry;
+import com.back.domain.evaluation.reevaluation.ReevaluationEndpoint;
+import com.back.domain.evaluation.reevaluation.ReevaluationJob;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+/**
+ * 관리 작업(일괄 재평가, 평가 정책 즉시 적재)은 인증 없는 애플리케이션 포트에 열리지 않고, 관리 엔드포인트로만 실행된다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:management-endpoint;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "subscription.purge.enabled=false"
+})
+@AutoConfigureMockMvc
+class ManagementEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReevaluationEndpoint reevaluationEndpoint;
+
+    @SpyBean
+    private ReevaluationJob reevaluationJob;
+
+    @SpyBean
+    private EvaluationPolicyRegistry evaluationPolicyRegistry;
+
+    @Autowired
+    private EvaluationPolicyEndpoint evaluationPolicyEndpoint;
+
+    @Test
+    @DisplayName("재평가 시작 / 재개 / 취소는 기본 설정에서 웹에 노출되지 않는다")
+    void t1() throws Exception {
+        // 매핑이 없는 경로는 정적 리소스 조회로 떨어진다 (GlobalExceptionHandler가 본문 없이 응답)
+        for (String path : List.of(
+                "/api/v1/evaluations/reevaluation",
+                "/api/v1/evaluations/reevaluation/resume",
+                "/api/v1/evaluations/reevaluation/cancel",
+                "/actuator/reevaluation/start",
+                "/actuator/reevaluation/resume",
+                "/actuator/reevaluation/cancel")) {
+            mockMvc.perform(post(path)).andExpect(content().string(""));
+        }
+        mockMvc.perform(get("/actuator/reevaluation")).andExpect(content().string(""));
+
+        verify(reevaluationJob, never()).start();
+        verify(reevaluationJob, never()).resume();
+        verify(reevaluationJob, never()).cancel();
+        verify(reevaluationJob, never()).status();
+    }
+
+    @Test
+    @DisplayName("재평가 관리 엔드포인트 - start / resume / cancel 선택자로 작업을 제어하고, 그 밖의 값은 거부한다")
+    void t2() {
+        ReevaluationStatus started = reevaluationEndpoint.control("start");
+        assertThat(started.runId()).isNotNull();
+        assertThat(reevaluationJob.await(Duration.ofSeconds(10))).isTrue();
+        assertThat(reevaluationEndpoint.status().state()).isEqualTo(ReevaluationState.COMPLETED);
+
+        assertThat(reevaluationEndpoint.control("cancel").runId()).isEqualTo(started.runId());
+
+        assertThatThrownBy(() -> reevaluationEndpoint.control("drop"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("평가 정책 즉시 적재는 기본 설정에서 웹에 노출되지 않고, 현재 정책 조회만 열려 있다")
+    void t3() throws Exception {
+        mockMvc.perform(post("/api/v1/evaluations/policy/reload")).andExpect(content().string(""));
+        mockMvc.perform(post("/actuator/evaluationpolicy")).andExpect(content().string(""));
+        mockMvc.perform(get("/api/v1/evaluations/policy")).andExpect(jsonPath("$.data.version").value(1));
+
+        verify(evaluationPolicyRegistry, never()).reload();
+        assertThat(evaluationPolicyEndpoint.reload().version()).isEqualTo(1);
+    }
+}
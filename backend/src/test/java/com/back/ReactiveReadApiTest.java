@@ -0,0 +1,203 @@
+package com.back;
+
+import com.back.domain.dashboard.dto.DashboardResponse;
+import com.back.domain.subscription.dto.SubscriptionPageResponse;
+import com.back.domain.subscription.dto.SubscriptionRequest;
+import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.domain.subscription.service.SubscriptionService;
+import com.back.domain.usage.dto.UsageRequest;
+import com.back.domain.usage.service.UsageService;
+import com.back.global.common.web.UserHeaders;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 반응형 읽기 API(R2DBC)가 MVC + JPA 경로와 같은 DB에서 같은 응답을 주는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-read;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "reactive.read.enabled=true",
+        "reactive.read.pool-size=2",
+        "subscription.purge.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveReadApiTest {
+
+    private static final int SUBSCRIPTIONS = 30;
+    private static final int CATEGORY_COUNT = 6; // DataInitializer 기본 카테고리
+    private static final YearMonth MONTH = YearMonth.of(2025, 2);
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private UsageService usageService;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    // 앞 20건만 사용량 입력 (나머지는 평가 없음 -> 대시보드 제외)
+    @BeforeAll
+    void seed() {
+        List<UsageRequest> usages = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIPTIONS; i++) {
+            long categoryId = (i % CATEGORY_COUNT) + 1;
+            SubscriptionStatus status = i % 5 == 0 ? SubscriptionStatus.TRIAL : SubscriptionStatus.ACTIVE;
+            Long id = subscriptionService.createSubscription(USER_ID, new SubscriptionRequest(
+                    categoryId, "sub-" + i, 17000, 17000, BillingCycle.MONTHLY, status)).id();
+            ids.add(id);
+            if (i < 20) {
+                usages.add(new UsageRequest(id, MONTH, 10 + i));
+            }
+        }
+        usageService.recordUsagesInBatch(USER_ID, usages);
+    }
+
+    private MockHttpServletRequestBuilder dashboard(String path) {
+        return dashboard(path, MONTH);
+    }
+
+    private MockHttpServletRequestBuilder dashboard(String path, YearMonth month) {
+        return get(path)
+                .header(UserHeaders.USER_ID, USER_ID)
+                .param("year", String.valueOf(month.getYear()))
+                .param("month", String.valueOf(month.getMonthValue()));
+    }
+
+    private JsonNode data(MockHttpServletRequestBuilder request) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("data");
+    }
+
+    // 요청 스레드를 반납한 뒤(비동기 시작) 결과가 오면 응답을 쓴다
+    private JsonNode asyncData(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return objectMapper.readTree(mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("data");
+    }
+
+    private DashboardResponse sorted(JsonNode data) throws Exception {
+        DashboardResponse response = objectMapper.treeToValue(data, DashboardResponse.class);
+        return new DashboardResponse(response.totalMonthlyCost(), response.totalAnnualWasteEstimate(),
+                response.subscriptions().stream().sorted(Comparator.comparing(DashboardResponse.SubscriptionSummary::id)).toList());
+    }
+
+    @Test
+    @DisplayName("반응형 월 대시보드는 MVC 대시보드와 같은 합계 / 구독별 요약을 준다")
+    void t1() throws Exception {
+        // when
+        DashboardResponse mvc = sorted(data(dashboard("/api/v1/dashboard")));
+        DashboardResponse reactive = sorted(asyncData(dashboard("/api/v1/reactive/dashboard")));
+
+        // then
+        assertThat(reactive.subscriptions()).hasSize(20);
+        assertThat(reactive).isEqualTo(mvc);
+    }
+
+    @Test
+    @DisplayName("구독별 요약은 NDJSON으로 한 줄에 하나씩 구독 id 순으로 스트리밍된다")
+    void t2() throws Exception {
+        // when
+        MvcResult started = mockMvc.perform(dashboard("/api/v1/reactive/dashboard/subscriptions")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        // then
+        List<DashboardResponse.SubscriptionSummary> lines = new ArrayList<>();
+        for (String line : started.getResponse().getContentAsString().split("\n")) {
+            lines.add(objectMapper.readValue(line, DashboardResponse.SubscriptionSummary.class));
+        }
+        assertThat(lines).extracting(DashboardResponse.SubscriptionSummary::id)
+                .containsExactlyElementsOf(ids.subList(0, 20));
+        assertThat(lines).filteredOn(summary -> !summary.trial())
+                .allSatisfy(summary -> assertThat(summary.potentialAnnualWaste()).isZero());
+    }
+
+    @Test
+    @DisplayName("반응형 구독 목록은 MVC 목록과 같은 키셋 페이지를 준다 (커서 / 필터 포함)")
+    void t3() throws Exception {
+        // given
+        String[][] queries = {
+                {"size", "7"},
+                {"size", "7", "cursor", String.valueOf(ids.get(10))},
+                {"size", "100", "categoryId", "2", "status", "ACTIVE"}
+        };
+
+        for (String[] query : queries) {
+            MockHttpServletRequestBuilder mvcRequest = get("/api/v1/subscriptions").header(UserHeaders.USER_ID, USER_ID);
+            MockHttpServletRequestBuilder reactiveRequest = get("/api/v1/reactive/subscriptions").header(UserHeaders.USER_ID, USER_ID);
+            for (int i = 0; i < query.length; i += 2) {
+                mvcRequest.param(query[i], query[i + 1]);
+                reactiveRequest.param(query[i], query[i + 1]);
+            }
+
+            // when
+            SubscriptionPageResponse mvc = objectMapper.treeToValue(data(mvcRequest), SubscriptionPageResponse.class);
+            SubscriptionPageResponse reactive = objectMapper.treeToValue(asyncData(reactiveRequest), SubscriptionPageResponse.class);
+
+            // then
+            assertThat(reactive).isEqualTo(mvc);
+        }
+    }
+
+    @Test
+    @DisplayName("사용량 기록 직후 반응형 대시보드에 새 평가가 보인다")
+    void t4() throws Exception {
+        // given - 다른 테스트의 월과 겹치지 않게 다음 달에 기록
+        YearMonth month = MONTH.plusMonths(1);
+        Long target = ids.get(25);
+
+        // when
+        mockMvc.perform(post("/api/v1/usages")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"subscriptionId\":" + target + ",\"date\":\"" + month + "\",\"usageValue\":30}"))
+                .andExpect(status().isOk());
+
+        // then
+        DashboardResponse reactive = sorted(asyncData(dashboard("/api/v1/reactive/dashboard", month)));
+        assertThat(reactive.subscriptions()).extracting(DashboardResponse.SubscriptionSummary::id).containsExactly(target);
+        assertThat(reactive).isEqualTo(sorted(data(dashboard("/api/v1/dashboard", month))));
+    }
+}
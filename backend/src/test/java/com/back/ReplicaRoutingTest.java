@@ -0,0 +1,222 @@
+package com.back;
+
+import com.back.domain.subscription.dto.SubscriptionRequest;
+import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.domain.subscription.service.SubscriptionService;
+import com.back.domain.usage.dto.UsageRequest;
+import com.back.domain.usage.service.UsageService;
+import com.back.global.common.web.UserHeaders;
+import com.back.global.datasource.DataSourceRoutingConfig;
+import com.back.global.datasource.H2ReplicaFeeder;
+import com.back.global.datasource.ReplicaLagGuard;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 읽기 복제본 라우팅 로컬 구성(replica 프로필: 메모리 H2 두 개)을 그대로 띄워 확인한다.
+ *
+ * 복제본 채우기 주기는 길게 두고(기동 직후 한 번) 테스트에서 feed()를 직접 불러, 복제 시점을 테스트가 정한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "datasource.routing.replicas[0].url=jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "datasource.routing.feed.interval=1h",
+        "datasource.routing.max-lag=1h",
+        "subscription.purge.enabled=false"
+})
+@ActiveProfiles("replica")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplicaRoutingTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 2);
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final long FIRST_FEED_TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private DataSourceRoutingConfig.ReplicaPools replicaPools;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private H2ReplicaFeeder feeder;
+
+    @Autowired
+    private ReplicaLagGuard lagGuard;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private UsageService usageService;
+
+    private final List<Long> subscriptionIds = new ArrayList<>();
+
+    // 사용자마다 구독 2건 + 대상 월 사용량, 기동 직후 자동 채우기가 끝난 뒤 시드까지 복제
+    @BeforeAll
+    void seed() throws InterruptedException {
+        for (long userId : List.of(USER_ID, OTHER_USER_ID)) {
+            List<UsageRequest> usages = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                Long id = subscriptionService.createSubscription(userId, new SubscriptionRequest(
+                        (long) i + 1, "sub-" + userId + "-" + i, 17000, 17000, BillingCycle.MONTHLY, SubscriptionStatus.ACTIVE)).id();
+                usages.add(new UsageRequest(id, MONTH, 10 + i));
+                if (userId == USER_ID) {
+                    subscriptionIds.add(id);
+                }
+            }
+            usageService.recordUsagesInBatch(userId, usages);
+        }
+
+        long deadline = System.currentTimeMillis() + FIRST_FEED_TIMEOUT_MILLIS;
+        while (lagGuard.pickReplica() == ReplicaLagGuard.PRIMARY) {
+            assertThat(System.currentTimeMillis()).as("기동 직후 복제본 채우기가 끝나지 않았다").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+        feeder.feed();
+    }
+
+    private double reads(String target) {
+        return registry.get("datasource.routing.reads").tag("target", target).counter().count();
+    }
+
+    private String databaseName(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    private JsonNode dashboard(long userId, YearMonth month) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get("/api/v1/dashboard")
+                        .header(UserHeaders.USER_ID, userId)
+                        .param("year", String.valueOf(month.getYear()))
+                        .param("month", String.valueOf(month.getMonthValue())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("data");
+    }
+
+    @Test
+    @DisplayName("Flyway는 기본 DB에만 적용되고, 복제본 데이터는 H2ReplicaFeeder가 기본 DB에서 채운다")
+    void t1() {
+        // given
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        JdbcTemplate replica = new JdbcTemplate(replicaPools.dataSources().get(0));
+
+        // then
+        assertThat(flyway.getConfiguration().getDataSource()).isSameAs(primaryDataSource);
+        assertThat(primary.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"success\" = TRUE AND \"type\" = 'SQL' ORDER BY \"installed_rank\"", String.class))
+                .containsExactly("1", "2", "3", "4");
+
+        for (String table : List.of("subscription", "subscription_usage", "subscription_evaluation", "monthly_dashboard_aggregate")) {
+            Integer rows = primary.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+            assertThat(rows).as(table).isPositive();
+            assertThat(replica.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class)).as(table).isEqualTo(rows);
+        }
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 기본 DB 커넥션을 받는다")
+    void t2() {
+        // given
+        String primaryName = databaseName(primaryDataSource);
+        String replicaName = databaseName(replicaPools.dataSources().get(0));
+        assertThat(replicaName).isNotEqualTo(primaryName);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        double replicaReads = reads("replica");
+
+        // when
+        String readOnlyTarget = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+        String readWriteTarget = readWrite.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+
+        // then
+        assertThat(readOnlyTarget).isEqualTo(replicaName);
+        assertThat(readWriteTarget).isEqualTo(primaryName);
+        assertThat(reads("replica")).isEqualTo(replicaReads + 1);
+    }
+
+    @Test
+    @DisplayName("사용량 기록 직후 같은 사용자의 대시보드는 기본 DB에서 읽고, 다른 사용자와 복제 이후 조회는 복제본에서 읽는다")
+    void t3() throws Exception {
+        // given - 복제본이 최신인 상태에서는 복제본 조회
+        YearMonth month = MONTH.plusMonths(1);
+        double replicaReads = reads("replica");
+        double primaryReads = reads("primary");
+
+        dashboard(USER_ID, MONTH);
+        assertThat(reads("replica")).isEqualTo(replicaReads + 1);
+
+        // when - 다음 달 사용량 기록 (복제본에는 아직 없음)
+        Long target = subscriptionIds.get(0);
+        mockMvc.perform(post("/api/v1/usages")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"subscriptionId\":" + target + ",\"date\":\"" + month + "\",\"usageValue\":30}"))
+                .andExpect(status().isOk());
+
+        // then - 같은 사용자는 기본 DB에서 읽어 방금 쓴 평가가 보인다
+        JsonNode own = dashboard(USER_ID, month);
+        assertThat(own.get("subscriptions")).hasSize(1);
+        assertThat(own.get("subscriptions").get(0).get("id").asLong()).isEqualTo(target);
+        assertThat(reads("primary")).isEqualTo(primaryReads + 1);
+
+        // 다른 사용자는 계속 복제본
+        dashboard(OTHER_USER_ID, MONTH);
+        assertThat(reads("replica")).isEqualTo(replicaReads + 2);
+
+        // 쓰기 이후 시작한 복제가 끝나면 같은 사용자도 다시 복제본
+        feeder.feed();
+        dashboard(USER_ID, month.plusMonths(1));
+        assertThat(reads("replica")).isEqualTo(replicaReads + 3);
+        assertThat(reads("primary")).isEqualTo(primaryReads + 1);
+    }
+}
@@ -0,0 +1,294 @@
+package com.back;
+
+import com.back.domain.dashboard.repository.MonthlyDashboardAggregateRepository;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import com.back.domain.subscription.dto.SubscriptionRequest;
+import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.domain.subscription.repository.SubscriptionRepository;
+import com.back.domain.subscription.service.SubscriptionService;
+import com.back.domain.usage.dto.UsageRequest;
+import com.back.domain.usage.entity.SubscriptionUsage;
+import com.back.domain.usage.repository.SubscriptionUsageRepository;
+import com.back.domain.usage.service.UsageService;
+import com.back.global.common.converter.YearMonthConverter;
+import com.back.support.sql.ExecutedStatement;
+import com.back.support.sql.SqlStatementCounter;
+import com.back.support.sql.SqlStatementCounterConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flyway 스키마 + 핫 경로 쿼리의 H2 실행 계획 검사
+ *
+ * 사용자 2명에게 나눈 구독 100건 x 12개월 사용량/평가를 시드하고 ANALYZE로 통계를 만든 뒤,
+ * 실제 리포지토리 메서드를 호출해 실행된 SQL(바인딩 값 포함)을 가로채 그대로 EXPLAIN하고,
+ * 결과에 의도한 인덱스 이름이 나오는지 확인한다. (인덱스가 빠지거나 쿼리가 바뀌어 인덱스를 못 타면 실패)
+ * 쓰기 문장은 롤백되는 트랜잭션 안에서 실행한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema-plan;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "subscription.purge.enabled=false"
+})
+@Import(SqlStatementCounterConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SchemaIndexPlanTest {
+
+    private static final int SUBSCRIPTIONS = 100;
+    private static final int CATEGORY_COUNT = 6; // DataInitializer 기본 카테고리 (id 1~3 분 단위, 4~6 일 단위)
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2025, 1);
+    private static final int MONTHS = 12;
+    private static final YearMonth TARGET_MONTH = FIRST_MONTH.plusMonths(6);
+    private static final List<Long> USER_IDS = List.of(1L, 2L);
+    private static final long USER_ID = 1L;
+
+    private static final Pattern MERGE_KEY = Pattern.compile("MERGE\\s+INTO\\s+(\\w+).*\\bKEY\\s*\\(([^)]*)\\)",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private UsageService usageService;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private SubscriptionUsageRepository usageRepository;
+
+    @Autowired
+    private SubscriptionEvaluationRepository evaluationRepository;
+
+    @Autowired
+    private MonthlyDashboardAggregateRepository aggregateRepository;
+
+    // USER_ID의 구독 id
+    private final List<Long> subscriptionIds = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        for (Long userId : USER_IDS) {
+            List<UsageRequest> usages = new ArrayList<>();
+            for (int i = 0; i < SUBSCRIPTIONS / USER_IDS.size(); i++) {
+                long categoryId = (i % CATEGORY_COUNT) + 1;
+                Long id = subscriptionService.createSubscription(userId, new SubscriptionRequest(
+                        categoryId, "sub-" + i, 17000, 17000, BillingCycle.MONTHLY, SubscriptionStatus.ACTIVE)).id();
+                if (userId == USER_ID) {
+                    subscriptionIds.add(id);
+                }
+                for (int m = 0; m < MONTHS; m++) {
+                    usages.add(new UsageRequest(id, FIRST_MONTH.plusMonths(m), categoryId > 3 ? (i + m) % 28 : (i * 7 + m) % 1800));
+                }
+            }
+            usageService.recordUsagesInBatch(userId, usages);
+        }
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    // action이 실행한 SQL을 모은다 (트랜잭션은 항상 롤백)
+    private List<ExecutedStatement> capture(SqlStatementCounter.Action action) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            try {
+                return SqlStatementCounter.capture(action);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    // 가로챈 문장 중 table을 대상으로 하는 첫 문장 (없으면 실패)
+    private ExecutedStatement statementOn(List<ExecutedStatement> executed, String table) {
+        List<ExecutedStatement> matches = executed.stream()
+                .filter(statement -> statement.sql().toLowerCase(Locale.ROOT).contains(table))
+                .toList();
+        assertThat(matches).as("%s 대상 SQL이 실행되지 않았다: %s", table, executed).isNotEmpty();
+        return matches.get(0);
+    }
+
+    private String explain(ExecutedStatement statement) {
+        return String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN " + statement.sql(), String.class, statement.parameters().toArray()));
+    }
+
+    // 고유 인덱스 이름 -> 컬럼 목록 (순서대로, 대문자)
+    private Map<String, List<String>> uniqueIndexes(String table) {
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                        SELECT INDEX_NAME, COLUMN_NAME
+                        FROM INFORMATION_SCHEMA.INDEX_COLUMNS
+                        WHERE UPPER(TABLE_NAME) = ? AND IS_UNIQUE
+                        ORDER BY INDEX_NAME, ORDINAL_POSITION
+                        """,
+                (RowCallbackHandler) rs -> indexes
+                        .computeIfAbsent(rs.getString("INDEX_NAME").toUpperCase(Locale.ROOT), name -> new ArrayList<>())
+                        .add(rs.getString("COLUMN_NAME").toUpperCase(Locale.ROOT)),
+                table.toUpperCase(Locale.ROOT));
+        return indexes;
+    }
+
+    // MERGE INTO ... KEY (...) 의 키 컬럼 조회가 같은 컬럼 순서의 고유 인덱스로 처리되는지 확인
+    private void assertMergeKeyIndexed(ExecutedStatement merge, String expectedIndex) {
+        Matcher matcher = MERGE_KEY.matcher(merge.sql());
+        assertThat(matcher.find()).as("H2 Upsert(MERGE INTO ... KEY)가 아니다: %s", merge.sql()).isTrue();
+        String table = matcher.group(1);
+        List<String> keyColumns = List.of(matcher.group(2).toUpperCase(Locale.ROOT).replaceAll("\\s", "").split(","));
+
+        assertThat(explain(merge)).containsIgnoringCase("MERGE INTO");
+        assertThat(uniqueIndexes(table))
+                .hasEntrySatisfying(expectedIndex, columns -> assertThat(columns).isEqualTo(keyColumns));
+    }
+
+    private String indexName(Map<String, List<String>> indexes, String prefix) {
+        return indexes.keySet().stream()
+                .filter(name -> name.startsWith(prefix))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(prefix + " 인덱스가 없다: " + indexes.keySet()));
+    }
+
+    @Test
+    @DisplayName("Flyway가 버전 스크립트를 모두 적용했다")
+    void t1() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"success\" = TRUE AND \"type\" = 'SQL' ORDER BY \"installed_rank\"", String.class);
+
+        assertThat(versions).containsExactly("1", "2", "3", "4");
+    }
+
+    @Test
+    @DisplayName("월 대시보드 평가 조회 / 월 집계 재계산 - (user_id, eval_month) 동등 조건이 사용자 선두 대시보드 인덱스를 탄다")
+    void t2() {
+        ExecutedStatement dashboard = statementOn(capture(() ->
+                evaluationRepository.findAllWithSubscriptionByUserIdAndEvalMonth(USER_ID, TARGET_MONTH)), "subscription_evaluation");
+        ExecutedStatement fromScratch = statementOn(capture(() ->
+                aggregateRepository.computeFromScratch(USER_ID, TARGET_MONTH)), "subscription_evaluation");
+
+        assertThat(explain(dashboard)).containsIgnoringCase("IDX_EVALUATION_USER_MONTH_DASHBOARD");
+        assertThat(explain(fromScratch)).containsIgnoringCase("IDX_EVALUATION_USER_MONTH_DASHBOARD");
+    }
+
+    @Test
+    @DisplayName("Upsert 직전 잠금 조회 / 비동기 평가의 사용량 조회 - (subscription_id, 월) 유니크 인덱스를 탄다")
+    void t3() {
+        List<Long> ids = subscriptionIds.subList(0, 3);
+
+        ExecutedStatement evaluationLock = statementOn(capture(() -> evaluationRepository.findAllForUpdate(
+                ids.stream().map(id -> new EvaluationKey(id, TARGET_MONTH)).toList())), "subscription_evaluation");
+        ExecutedStatement usageLookup = statementOn(capture(() ->
+                usageRepository.findAllBySubscriptionIdsAndUsageMonths(ids, List.of(TARGET_MONTH))), "subscription_usage");
+
+        assertThat(evaluationLock.sql()).containsIgnoringCase("FOR UPDATE");
+        assertThat(explain(evaluationLock)).containsIgnoringCase("UK_SUBSCRIPTION_EVALUATION_SUBSCRIPTION_MONTH");
+        assertThat(explain(usageLookup)).containsIgnoringCase("UK_SUBSCRIPTION_USAGE_SUBSCRIPTION_MONTH");
+    }
+
+    @Test
+    @DisplayName("퍼저의 자식 행 청크 삭제 - subscription_id 조건이 subscription_id 선두 인덱스를 탄다 (H2는 FK 인덱스, MySQL은 유니크 인덱스)")
+    void t4() {
+        List<Long> ids = subscriptionIds.subList(0, 2);
+
+        ExecutedStatement usageDelete = statementOn(capture(() ->
+                subscriptionRepository.deleteUsagesChunk(ids, 100)), "subscription_usage");
+        ExecutedStatement evaluationDelete = statementOn(capture(() ->
+                subscriptionRepository.deleteEvaluationsChunk(ids, 100)), "subscription_evaluation");
+
+        for (ExecutedStatement delete : List.of(usageDelete, evaluationDelete)) {
+            assertThat(explain(delete))
+                    .containsPattern("/\\* PUBLIC\\.\\w+: SUBSCRIPTION_ID IN\\(")
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    @Test
+    @DisplayName("구독 목록 카테고리 + 상태 필터 - (user_id, category_id, status, id) 인덱스를 탄다")
+    void t5() {
+        ExecutedStatement page = statementOn(capture(() ->
+                subscriptionRepository.findPageAfter(USER_ID, null, 1L, SubscriptionStatus.ACTIVE, 21)), "subscription");
+
+        assertThat(explain(page)).containsIgnoringCase("IDX_SUBSCRIPTION_USER_CATEGORY_STATUS_ID");
+    }
+
+    @Test
+    @DisplayName("월별 추이 - 월 집계의 (user_id 동등, eval_month 범위) 조건이 유니크 인덱스 범위 조회가 된다")
+    void t6() {
+        ExecutedStatement trend = statementOn(capture(() ->
+                aggregateRepository.findTotalsBetween(USER_ID, TARGET_MONTH.minusMonths(3), TARGET_MONTH.plusMonths(3))),
+                "monthly_dashboard_aggregate");
+
+        assertThat(explain(trend)).containsIgnoringCase("UK_MONTHLY_DASHBOARD_AGGREGATE_USER_MONTH");
+    }
+
+    @Test
+    @DisplayName("사용량 / 평가 Upsert - MERGE 키 컬럼이 같은 순서의 (subscription_id, 월) 유니크 인덱스와 일치한다")
+    void t7() {
+        List<Long> ids = subscriptionIds.subList(0, 3);
+        List<ExecutedStatement> executed = capture(() -> {
+            List<SubscriptionUsage> usages = usageRepository.findAllBySubscriptionIdsAndUsageMonths(ids, List.of(TARGET_MONTH));
+            List<SubscriptionEvaluation> evaluations = evaluationRepository.findAllWithSubscriptionByUserIdAndEvalMonth(USER_ID, TARGET_MONTH);
+            usageRepository.batchUpsert(usages);
+            evaluationRepository.batchUpsert(evaluations);
+        });
+        List<ExecutedStatement> merges = executed.stream()
+                .filter(statement -> statement.sql().strip().toUpperCase(Locale.ROOT).startsWith("MERGE"))
+                .toList();
+
+        ExecutedStatement usageMerge = statementOn(merges, "subscription_usage");
+        ExecutedStatement evaluationMerge = statementOn(merges, "subscription_evaluation");
+
+        assertMergeKeyIndexed(usageMerge, indexName(uniqueIndexes("subscription_usage"), "UK_SUBSCRIPTION_USAGE_SUBSCRIPTION_MONTH"));
+        assertMergeKeyIndexed(evaluationMerge, indexName(uniqueIndexes("subscription_evaluation"), "UK_SUBSCRIPTION_EVALUATION_SUBSCRIPTION_MONTH"));
+    }
+
+    @Test
+    @DisplayName("소유 사용자(user_id) 컬럼은 기본값이 없어 user_id 없이 넣는 쓰기는 실패한다")
+    void t8() {
+        for (String table : List.of("subscription", "subscription_usage", "subscription_evaluation")) {
+            String columnDefault = jdbcTemplate.queryForObject("""
+                    SELECT COLUMN_DEFAULT
+                    FROM INFORMATION_SCHEMA.COLUMNS
+                    WHERE UPPER(TABLE_NAME) = ? AND UPPER(COLUMN_NAME) = 'USER_ID'
+                    """, String.class, table.toUpperCase(Locale.ROOT));
+
+            assertThat(columnDefault).as(table).isNull();
+        }
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO subscription_usage (subscription_id, usage_month, usage_value) VALUES (?, ?, ?)",
+                subscriptionIds.get(0), YearMonthConverter.toPeriod(FIRST_MONTH.plusMonths(MONTHS)), 1))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
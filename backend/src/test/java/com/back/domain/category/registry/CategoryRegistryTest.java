@@ -0,0 +1,103 @@
+package com.back.domain.category.registry;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.category.enums.CategoryType;
+import com.back.domain.category.enums.UsageUnit;
+import com.back.domain.category.repository.CategoryRepository;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryRegistryTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CategoryRegistry categoryRegistry;
+
+    @BeforeEach
+    void setUp() {
+        categoryRegistry = new CategoryRegistry(categoryRepository, transactionManager);
+    }
+
+    private Category category(Long id, String name, int referenceValue, UsageUnit unit, CategoryType type) {
+        Category category = new Category(name, referenceValue, unit, type);
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+
+    @Test
+    @DisplayName("적재 후 조회는 DB를 다시 읽지 않고 스냅샷을 반환")
+    void t1() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(
+                category(1L, "OTT", 1800, UsageUnit.MINUTES, CategoryType.CONTENT),
+                category(4L, "AI_TOOL", 12, UsageUnit.DAYS, CategoryType.PRODUCTIVITY)
+        ));
+        categoryRegistry.load();
+
+        // when
+        CategorySnapshot ott = categoryRegistry.get(1L);
+        CategorySnapshot aiTool = categoryRegistry.get(4L);
+
+        // then
+        assertThat(ott).isEqualTo(new CategorySnapshot(1L, "OTT", 1800, UsageUnit.MINUTES, CategoryType.CONTENT));
+        assertThat(aiTool.unit()).isEqualTo(UsageUnit.DAYS);
+        assertThat(categoryRegistry.getAll()).hasSize(2);
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("재적재 시 맵 전체가 교체되어 변경/삭제가 한 번에 반영된다")
+    void t2() {
+        // given
+        given(categoryRepository.findAll())
+                .willReturn(List.of(
+                        category(1L, "OTT", 1800, UsageUnit.MINUTES, CategoryType.CONTENT),
+                        category(2L, "MUSIC", 1500, UsageUnit.MINUTES, CategoryType.CONTENT)))
+                .willReturn(List.of(
+                        category(1L, "OTT", 1200, UsageUnit.MINUTES, CategoryType.CONTENT)));
+        categoryRegistry.load();
+
+        // when
+        categoryRegistry.refreshAfterCommit(); // 트랜잭션 밖이므로 즉시 재적재
+
+        // then
+        assertThat(categoryRegistry.get(1L).referenceValue()).isEqualTo(1200);
+        assertThat(categoryRegistry.getAll()).extracting(CategorySnapshot::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("없는 카테고리는 한 번 재적재 후에도 없으면 CATEGORY_NOT_FOUND")
+    void t3() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> categoryRegistry.get(99L))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CATEGORY_NOT_FOUND);
+
+        verify(categoryRepository, times(1)).findAll();
+    }
+}
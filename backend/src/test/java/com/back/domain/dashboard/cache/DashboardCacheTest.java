@@ -0,0 +1,138 @@
+package com.back.domain.dashboard.cache;
+
+import com.back.domain.dashboard.dto.DashboardResponse;
+import com.back.domain.dashboard.dto.UserMonth;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardCacheTest {
+
+    private static final long USER_ID = 1L;
+
+    private final UserMonth february = new UserMonth(USER_ID, YearMonth.of(2026, 2));
+    private final UserMonth march = new UserMonth(USER_ID, YearMonth.of(2026, 3));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private DashboardResponse response(long totalMonthlyCost) {
+        return new DashboardResponse(totalMonthlyCost, 0L, List.of());
+    }
+
+    @Test
+    @DisplayName("같은 월은 한 번만 조회하고, 무효화된 월만 다시 조회하며 ETag도 바뀐다")
+    void t1() {
+        // given
+        DashboardCache cache = new DashboardCache(new DashboardCacheProperties(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(february, () -> response(loads.incrementAndGet()));
+        cache.get(march, () -> response(loads.incrementAndGet()));
+        String februaryETag = cache.etag(february);
+        String marchETag = cache.etag(march);
+
+        // when
+        cache.invalidate(february);
+        DashboardResponse reloaded = cache.get(february, () -> response(loads.incrementAndGet()));
+        cache.get(march, () -> response(loads.incrementAndGet()));
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(reloaded.totalMonthlyCost()).isEqualTo(3L);
+        assertThat(cache.etag(february)).isNotEqualTo(februaryETag).startsWith("\"").endsWith("\"");
+        assertThat(cache.etag(march)).isEqualTo(marchETag);
+    }
+
+    @Test
+    @DisplayName("응답을 만드는 도중 무효화되면 그 결과는 캐시하지 않는다")
+    void t2() {
+        // given
+        DashboardCache cache = new DashboardCache(new DashboardCacheProperties(10));
+
+        // when - 조회 중에 다른 트랜잭션의 커밋으로 무효화됨
+        cache.get(february, () -> {
+            cache.invalidate(february);
+            return response(1L);
+        });
+        DashboardResponse next = cache.get(february, () -> response(2L));
+
+        // then
+        assertThat(next.totalMonthlyCost()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 가장 오래 조회되지 않은 월부터 제거한다")
+    void t3() {
+        // given
+        DashboardCache cache = new DashboardCache(new DashboardCacheProperties(2));
+        UserMonth april = new UserMonth(USER_ID, YearMonth.of(2026, 4));
+
+        cache.get(february, () -> response(1L));
+        cache.get(march, () -> response(2L));
+        cache.get(february, () -> response(-1L)); // 2월을 최근 조회로 갱신
+
+        // when
+        cache.get(april, () -> response(3L));
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(february, () -> response(-1L)).totalMonthlyCost()).isEqualTo(1L);
+        assertThat(cache.get(march, () -> response(20L)).totalMonthlyCost()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서의 무효화는 커밋 이후에 적용된다")
+    void t4() {
+        // given
+        DashboardCache cache = new DashboardCache(new DashboardCacheProperties(10));
+        cache.get(february, () -> response(1L));
+        String before = cache.etag(february);
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.invalidateAfterCommit(List.of(february));
+
+        // then - 커밋 전에는 그대로
+        assertThat(cache.etag(february)).isEqualTo(before);
+        assertThat(cache.get(february, () -> response(2L)).totalMonthlyCost()).isEqualTo(1L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.etag(february)).isNotEqualTo(before);
+        assertThat(cache.get(february, () -> response(2L)).totalMonthlyCost()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("같은 월이라도 사용자별로 따로 캐시되고, 한 사용자의 무효화는 다른 사용자의 ETag를 바꾸지 않는다")
+    void t5() {
+        // given
+        DashboardCache cache = new DashboardCache(new DashboardCacheProperties(10));
+        UserMonth otherFebruary = new UserMonth(2L, february.month());
+
+        cache.get(february, () -> response(1L));
+        cache.get(otherFebruary, () -> response(2L));
+        String otherETag = cache.etag(otherFebruary);
+
+        // when
+        cache.invalidate(february);
+
+        // then
+        assertThat(cache.etag(february)).isNotEqualTo(otherETag);
+        assertThat(cache.etag(otherFebruary)).isEqualTo(otherETag);
+        assertThat(cache.get(otherFebruary, () -> response(-1L)).totalMonthlyCost()).isEqualTo(2L);
+    }
+}
@@ -1,38 +1,72 @@
 package com.back.domain.dashboard.controller;
 
+import com.back.domain.dashboard.cache.DashboardCache;
+import com.back.domain.dashboard.cache.DashboardCacheProperties;
+import com.back.domain.dashboard.dto.AggregateConsistencyReport;
+import com.back.domain.dashboard.dto.DashboardRankingResponse;
 import com.back.domain.dashboard.dto.DashboardResponse;
+import com.back.domain.dashboard.dto.DashboardTrendResponse;
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import com.back.domain.dashboard.dto.UserMonth;
+import com.back.domain.dashboard.service.DashboardAggregateService;
 import com.back.domain.dashboard.service.DashboardService;
 import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.global.common.web.UserHeaders;
+import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
 import com.back.global.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(DashboardController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, DashboardControllerTest.CacheConfig.class})
 class DashboardControllerTest {
 
+    private static final long USER_ID = 1L;
+
+    @TestConfiguration
+    static class CacheConfig {
+        @Bean
+        DashboardCache dashboardCache() {
+            return new DashboardCache(new DashboardCacheProperties(16));
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private DashboardCache dashboardCache;
+
     @MockBean
     private DashboardService dashboardService;
 
+    @MockBean
+    private DashboardAggregateService dashboardAggregateService;
+
     @Test
     @DisplayName("월 대시보드 조회 성공")
     void t1() throws Exception {
@@ -58,11 +92,12 @@ class DashboardControllerTest {
                 )
         );
 
-        given(dashboardService.getMonthlyDashboard(year, month))
+        given(dashboardService.getMonthlyDashboard(USER_ID, year, month))
                 .willReturn(response);
 
         // when & then
         mockMvc.perform(get("/api/v1/dashboard")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .param("year", String.valueOf(year))
                         .param("month", String.valueOf(month))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -82,6 +117,7 @@ class DashboardControllerTest {
     @DisplayName("예외 - month가 1~12 범위를 벗어나면 BAD_REQUEST + fieldErrors 반환")
     void t2() throws Exception {
         mockMvc.perform(get("/api/v1/dashboard")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .param("year", "2026")
                         .param("month", "13")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -100,6 +136,7 @@ class DashboardControllerTest {
     @DisplayName("예외 - year가 정책 범위를 벗어나면 BAD_REQUEST + fieldErrors 반환")
     void t3() throws Exception {
         mockMvc.perform(get("/api/v1/dashboard")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .param("year", "1800")
                         .param("month", "2")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -118,6 +155,7 @@ class DashboardControllerTest {
     @DisplayName("예외 - 필수 파라미터 month 누락 시 BAD_REQUEST + fieldErrors 반환")
     void t4() throws Exception {
         mockMvc.perform(get("/api/v1/dashboard")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .param("year", "2026")
                         .contentType(MediaType.APPLICATION_JSON)
                 )
@@ -130,4 +168,221 @@ class DashboardControllerTest {
 
         then(dashboardService).shouldHaveNoInteractions();
     }
+
+    @Test
+    @DisplayName("월 집계 정합성 검사 - 불일치면 consistent=false와 저장값/기대값 반환")
+    void t5() throws Exception {
+        YearMonth month = YearMonth.of(2026, 2);
+        AggregateConsistencyReport report = new AggregateConsistencyReport(
+                month,
+                false,
+                false,
+                new MonthlyAggregateDelta(USER_ID, month, 17000L, 0L, 1, 0, 0, 0, 0),
+                new MonthlyAggregateDelta(USER_ID, month, 46000L, 102000L, 1, 0, 1, 0, 0)
+        );
+
+        given(dashboardAggregateService.check(USER_ID, month)).willReturn(report);
+
+        mockMvc.perform(get("/api/v1/dashboard/aggregate/check")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("year", "2026")
+                        .param("month", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.month").value("2026-02"))
+                .andExpect(jsonPath("$.data.consistent").value(false))
+                .andExpect(jsonPath("$.data.expected.totalMonthlyCost").value(46000));
+    }
+
+    @Test
+    @DisplayName("월 집계 재구성 API 성공")
+    void t6() throws Exception {
+        YearMonth month = YearMonth.of(2026, 2);
+        MonthlyAggregateDelta expected = new MonthlyAggregateDelta(USER_ID, month, 46000L, 102000L, 1, 0, 1, 0, 0);
+
+        given(dashboardAggregateService.rebuild(USER_ID, month))
+                .willReturn(new AggregateConsistencyReport(month, false, true, MonthlyAggregateDelta.zero(USER_ID, month), expected));
+
+        mockMvc.perform(post("/api/v1/dashboard/aggregate/rebuild")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("year", "2026")
+                        .param("month", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("2026년 2월 집계 재구성 완료"))
+                .andExpect(jsonPath("$.data.rebuilt").value(true));
+    }
+
+    @Test
+    @DisplayName("ETag 캐시 - 같은 월 재조회는 캐시에서, If-None-Match가 일치하면 본문 없이 304")
+    void t7() throws Exception {
+        // given
+        UserMonth target = new UserMonth(USER_ID, YearMonth.of(2025, 7));
+        dashboardCache.invalidate(target);
+
+        given(dashboardService.getMonthlyDashboard(USER_ID, 2025, 7))
+                .willReturn(new DashboardResponse(17000L, 0L, List.of()));
+
+        String etag = mockMvc.perform(get("/api/v1/dashboard")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("year", "2025")
+                        .param("month", "7"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/dashboard")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("year", "2025")
+                        .param("month", "7"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(jsonPath("$.data.totalMonthlyCost").value(17000));
+
+        mockMvc.perform(get("/api/v1/dashboard")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("year", "2025")
+                        .param("month", "7")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        then(dashboardService).should(times(1)).getMonthlyDashboard(USER_ID, 2025, 7);
+    }
+
+    @Test
+    @DisplayName("ETag 캐시 - 해당 월이 무효화되면 이전 ETag로는 304가 아니라 새 응답을 받는다")
+    void t8() throws Exception {
+        // given
+        UserMonth target = new UserMonth(USER_ID, YearMonth.of(2025, 8));
+        String staleETag = dashboardCache.etag(target);
+        dashboardCache.invalidate(target);
+
+        given(dashboardService.getMonthlyDashboard(USER_ID, 2025, 8))
+                .willReturn(new DashboardResponse(34000L, 0L, List.of()));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/dashboard")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("year", "2025")
+                        .param("month", "8")
+                        .header(HttpHeaders.IF_NONE_MATCH, staleETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, dashboardCache.etag(target)))
+                .andExpect(jsonPath("$.data.totalMonthlyCost").value(34000));
+    }
+
+    @Test
+    @DisplayName("월별 추이 조회 - from ~ to 월 순서대로 합계와 상태별 건수 반환")
+    void t9() throws Exception {
+        YearMonth from = YearMonth.of(2025, 11);
+        YearMonth to = YearMonth.of(2026, 1);
+
+        given(dashboardService.getTrend(USER_ID, from, to)).willReturn(new DashboardTrendResponse(List.of(
+                DashboardTrendResponse.MonthlyTrend.from(new MonthlyAggregateDelta(USER_ID, from, 46000L, 102000L, 1, 0, 1, 0, 0)),
+                DashboardTrendResponse.MonthlyTrend.from(MonthlyAggregateDelta.zero(USER_ID, from.plusMonths(1))),
+                DashboardTrendResponse.MonthlyTrend.from(new MonthlyAggregateDelta(USER_ID, to, 17000L, 0L, 1, 0, 0, 0, 0))
+        )));
+
+        mockMvc.perform(get("/api/v1/dashboard/trend")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("from", "2025-11")
+                        .param("to", "2026-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.months.length()").value(3))
+                .andExpect(jsonPath("$.data.months[0].month").value("2025-11"))
+                .andExpect(jsonPath("$.data.months[0].totalMonthlyCost").value(46000))
+                .andExpect(jsonPath("$.data.months[0].evaluatedCount").value(2))
+                .andExpect(jsonPath("$.data.months[0].statusCounts.review").value(1))
+                .andExpect(jsonPath("$.data.months[1].evaluatedCount").value(0))
+                .andExpect(jsonPath("$.data.months[2].month").value("2026-01"));
+    }
+
+    @Test
+    @DisplayName("월별 추이 조회 예외 - 월 형식이 잘못되면 BAD_REQUEST, 기간이 잘못되면 DASH_001")
+    void t10() throws Exception {
+        mockMvc.perform(get("/api/v1/dashboard/trend")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("from", "2025-13")
+                        .param("to", "2026-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.getCode()));
+
+        YearMonth from = YearMonth.of(2026, 2);
+        YearMonth to = YearMonth.of(2025, 2);
+        given(dashboardService.getTrend(USER_ID, from, to)).willThrow(new CustomException(ErrorCode.INVALID_TREND_RANGE));
+
+        mockMvc.perform(get("/api/v1/dashboard/trend")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("from", "2026-02")
+                        .param("to", "2025-02"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_TREND_RANGE.getCode()));
+    }
+
+    @Test
+    @DisplayName("낭비 랭킹 조회 - limit 기본값 10, 범위를 벗어나면 BAD_REQUEST")
+    void t11() throws Exception {
+        given(dashboardService.getWasteRanking(USER_ID, 2025, 2, 10)).willReturn(new DashboardRankingResponse(List.of(
+                new DashboardResponse.SubscriptionSummary(3L, "OTT", "Tving", 10.0, EvaluationStatus.INEFFICIENT, 183600L, false, 0L, 1700L),
+                new DashboardResponse.SubscriptionSummary(1L, "OTT", "Netflix", 50.0, EvaluationStatus.REVIEW, 102000L, false, 0L, 500L)
+        )));
+
+        mockMvc.perform(get("/api/v1/dashboard/ranking")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("year", "2025")
+                        .param("month", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("2025년 2월 낭비 랭킹 조회 성공"))
+                .andExpect(jsonPath("$.data.subscriptions.length()").value(2))
+                .andExpect(jsonPath("$.data.subscriptions[0].id").value(3))
+                .andExpect(jsonPath("$.data.subscriptions[1].annualWaste").value(102000));
+
+        mockMvc.perform(get("/api/v1/dashboard/ranking")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("year", "2025")
+                        .param("month", "2")
+                        .param("limit", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data[*].field").value(hasItem("limit")));
+    }
+
+    @Test
+    @DisplayName("사용자 분할 - 같은 월이라도 사용자마다 캐시/ETag가 분리되고, 사용자 헤더가 없으면 BAD_REQUEST")
+    void t12() throws Exception {
+        // given
+        long otherUserId = 2L;
+        dashboardCache.invalidate(new UserMonth(USER_ID, YearMonth.of(2025, 9)));
+        dashboardCache.invalidate(new UserMonth(otherUserId, YearMonth.of(2025, 9)));
+
+        given(dashboardService.getMonthlyDashboard(USER_ID, 2025, 9))
+                .willReturn(new DashboardResponse(17000L, 0L, List.of()));
+        given(dashboardService.getMonthlyDashboard(otherUserId, 2025, 9))
+                .willReturn(new DashboardResponse(5000L, 0L, List.of()));
+
+        String etag = mockMvc.perform(get("/api/v1/dashboard")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("year", "2025")
+                        .param("month", "9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalMonthlyCost").value(17000))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then: 다른 사용자는 첫 사용자의 ETag로 304를 받지 않고 자기 대시보드를 받는다
+        mockMvc.perform(get("/api/v1/dashboard")
+                        .header(UserHeaders.USER_ID, otherUserId)
+                        .param("year", "2025")
+                        .param("month", "9")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalMonthlyCost").value(5000));
+
+        mockMvc.perform(get("/api/v1/dashboard")
+                        .param("year", "2025")
+                        .param("month", "9"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data[0].field").value(UserHeaders.USER_ID));
+
+        then(dashboardService).should(times(1)).getMonthlyDashboard(USER_ID, 2025, 9);
+        then(dashboardService).should(times(1)).getMonthlyDashboard(otherUserId, 2025, 9);
+    }
 }
@@ -0,0 +1,170 @@
+package com.back.domain.dashboard.service;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.category.enums.CategoryType;
+import com.back.domain.category.enums.UsageUnit;
+import com.back.domain.dashboard.cache.DashboardCache;
+import com.back.domain.dashboard.dto.AggregateConsistencyReport;
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import com.back.domain.dashboard.dto.UserMonth;
+import com.back.domain.dashboard.entity.MonthlyDashboardAggregate;
+import com.back.domain.dashboard.repository.MonthlyDashboardAggregateRepository;
+import com.back.domain.evaluation.dto.StoredEvaluation;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.subscription.entity.Subscription;
+import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.global.datasource.ReplicaLagGuard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardAggregateServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    @Mock
+    private MonthlyDashboardAggregateRepository aggregateRepository;
+
+    @Mock
+    private DashboardCache dashboardCache;
+
+    @Mock
+    private ReplicaLagGuard lagGuard;
+
+    @InjectMocks
+    private DashboardAggregateService dashboardAggregateService;
+
+    private final YearMonth month = YearMonth.of(2026, 2);
+
+    private Subscription subscription(Long id, SubscriptionStatus status) {
+        Category ott = new Category("OTT", 1800, UsageUnit.MINUTES, CategoryType.CONTENT);
+        Subscription subscription = new Subscription(USER_ID, ott, "Netflix", 17000L, 17000L, 17000L, BillingCycle.MONTHLY, status);
+        ReflectionTestUtils.setField(subscription, "id", id);
+        return subscription;
+    }
+
+    private SubscriptionEvaluation evaluation(Subscription subscription, EvaluationStatus status, long annualWaste) {
+        SubscriptionEvaluation evaluation = new SubscriptionEvaluation(subscription, month);
+        ReflectionTestUtils.setField(evaluation, "status", status);
+        ReflectionTestUtils.setField(evaluation, "annualWaste", annualWaste);
+        return evaluation;
+    }
+
+    @Test
+    @DisplayName("신규 평가는 비용/낭비/상태 건수를 더하고, 덮어쓴 평가는 이전 값과의 차이만 더한다")
+    void t1() {
+        // given
+        Subscription created = subscription(1L, SubscriptionStatus.ACTIVE);
+        Subscription updated = subscription(2L, SubscriptionStatus.ACTIVE);
+
+        StoredEvaluation before = new StoredEvaluation(2L, month, EvaluationStatus.GHOST, 204000L);
+
+        // when
+        dashboardAggregateService.applyEvaluations(
+                List.of(
+                        evaluation(created, EvaluationStatus.REVIEW, 102000L),
+                        evaluation(updated, EvaluationStatus.EFFICIENT, 0L)
+                ),
+                Map.of(new EvaluationKey(2L, month), before)
+        );
+
+        // then
+        ArgumentCaptor<MonthlyAggregateDelta> captor = ArgumentCaptor.forClass(MonthlyAggregateDelta.class);
+        verify(aggregateRepository, times(1)).applyDelta(captor.capture());
+
+        MonthlyAggregateDelta delta = captor.getValue();
+        assertThat(delta.totalMonthlyCost()).isEqualTo(17000L);          // 신규 1건만 비용 추가
+        assertThat(delta.totalAnnualWaste()).isEqualTo(102000L - 204000L);
+        assertThat(delta.reviewCount()).isEqualTo(1);
+        assertThat(delta.efficientCount()).isEqualTo(1);
+        assertThat(delta.ghostCount()).isEqualTo(-1);
+        assertThat(delta.evaluatedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("값이 바뀌지 않은 재평가는 집계를 갱신하지 않지만, 해당 월 대시보드 캐시는 무효화한다")
+    void t2() {
+        // given
+        Subscription subscription = subscription(1L, SubscriptionStatus.ACTIVE);
+        StoredEvaluation before = new StoredEvaluation(1L, month, EvaluationStatus.REVIEW, 102000L);
+
+        // when
+        dashboardAggregateService.applyEvaluations(
+                List.of(evaluation(subscription, EvaluationStatus.REVIEW, 102000L)),
+                Map.of(new EvaluationKey(1L, month), before)
+        );
+
+        // then
+        verify(aggregateRepository, never()).applyDelta(any());
+        verify(dashboardCache).invalidateAfterCommit(Set.of(new UserMonth(USER_ID, month)));
+    }
+
+    @Test
+    @DisplayName("구독 삭제 시 DB에서 월별로 합산한 기여분을 차감한다")
+    void t3() {
+        // given - 구독 2건이 두 달에 걸쳐 기여한 값 (월 순서와 무관하게 반환되어도 됨)
+        List<Long> subscriptionIds = List.of(1L, 2L);
+        given(aggregateRepository.computeContributions(subscriptionIds)).willReturn(List.of(
+                new MonthlyAggregateDelta(USER_ID, month, 17000L, 102000L, 0, 0, 1, 0, 1),
+                new MonthlyAggregateDelta(USER_ID, month.minusMonths(1), 0L, 0L, 0, 1, 0, 0, 0)
+        ));
+
+        // when
+        dashboardAggregateService.applyRemoval(subscriptionIds);
+
+        // then - 월 순서대로 갱신
+        ArgumentCaptor<MonthlyAggregateDelta> captor = ArgumentCaptor.forClass(MonthlyAggregateDelta.class);
+        verify(aggregateRepository, times(2)).applyDelta(captor.capture());
+
+        assertThat(captor.getAllValues()).extracting(MonthlyAggregateDelta::month)
+                .containsExactly(month.minusMonths(1), month);
+        assertThat(captor.getAllValues().get(0).keepCount()).isEqualTo(-1);
+        assertThat(captor.getAllValues().get(1).totalMonthlyCost()).isEqualTo(-17000L);
+        assertThat(captor.getAllValues().get(1).totalAnnualWaste()).isEqualTo(-102000L);
+        assertThat(captor.getAllValues().get(1).ghostCount()).isEqualTo(-1);
+        verify(dashboardCache).invalidateAfterCommit(Set.of(new UserMonth(USER_ID, month.minusMonths(1)), new UserMonth(USER_ID, month)));
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - 저장된 집계와 재계산 값이 다르면 재구성 시 재계산 값으로 덮어쓴다")
+    void t4() {
+        // given
+        MonthlyAggregateDelta stored = new MonthlyAggregateDelta(USER_ID, month, 17000L, 0L, 1, 0, 0, 0, 0);
+        MonthlyAggregateDelta expected = new MonthlyAggregateDelta(USER_ID, month, 34000L, 102000L, 1, 0, 1, 0, 0);
+
+        given(aggregateRepository.findByUserIdAndEvalMonthForUpdate(USER_ID, month))
+                .willReturn(Optional.of(new MonthlyDashboardAggregate(stored)));
+        given(aggregateRepository.computeFromScratch(USER_ID, month)).willReturn(expected);
+
+        // when
+        AggregateConsistencyReport report = dashboardAggregateService.rebuild(USER_ID, month);
+
+        // then
+        assertThat(report.consistent()).isFalse();
+        assertThat(report.rebuilt()).isTrue();
+        assertThat(report.stored()).isEqualTo(stored);
+        verify(aggregateRepository).replace(expected);
+    }
+}
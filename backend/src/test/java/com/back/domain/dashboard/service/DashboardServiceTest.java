@@ -3,38 +3,85 @@ package com.back.domain.dashboard.service;
 import com.back.domain.category.entity.Category;
 import com.back.domain.category.enums.CategoryType;
 import com.back.domain.category.enums.UsageUnit;
+import com.back.domain.category.registry.CategoryRegistry;
+import com.back.domain.category.registry.CategorySnapshot;
+import com.back.domain.dashboard.dto.DashboardRankingResponse;
 import com.back.domain.dashboard.dto.DashboardResponse;
+import com.back.domain.dashboard.dto.DashboardTrendResponse;
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import com.back.domain.dashboard.entity.MonthlyDashboardAggregate;
+import com.back.domain.dashboard.metrics.DashboardMetrics;
+import com.back.domain.dashboard.repository.MonthlyDashboardAggregateRepository;
+import com.back.domain.evaluation.columnar.ColumnRowVisitor;
+import com.back.domain.evaluation.columnar.EvaluationColumnStore;
+import com.back.domain.evaluation.columnar.SubscriptionLabel;
 import com.back.domain.evaluation.entity.SubscriptionEvaluation;
 import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.domain.evaluation.kernel.EvaluationKernel;
 import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
 import com.back.domain.subscription.entity.Subscription;
 import com.back.domain.subscription.enums.BillingCycle;
 import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 
 @ExtendWith(MockitoExtension.class)
 class DashboardServiceTest {
 
+    private static final long USER_ID = 1L;
+
     @Mock
     private SubscriptionEvaluationRepository evaluationRepository;
 
+    @Mock
+    private MonthlyDashboardAggregateRepository aggregateRepository;
+
+    @Mock
+    private CategoryRegistry categoryRegistry;
+
+    @Mock
+    private EvaluationColumnStore evaluationColumnStore;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private DashboardMetrics dashboardMetrics = new DashboardMetrics(meterRegistry);
+
+    @Spy
+    private EvaluationKernel evaluationKernel = EvaluationKernel.scalar();
+
+    private MonthlyDashboardAggregate aggregate(YearMonth month, long totalMonthlyCost, long totalAnnualWaste) {
+        return new MonthlyDashboardAggregate(
+                new MonthlyAggregateDelta(USER_ID, month, totalMonthlyCost, totalAnnualWaste, 0, 0, 0, 0, 0));
+    }
+
     @InjectMocks
     private DashboardService dashboardService;
 
     @Test
-    @DisplayName("대시보드 정상 조회 - 월 지출 합계/연간 낭비 합계/구독 요약 리스트 반환")
+    @DisplayName("대시보드 정상 조회 - 월 지출 합계/연간 낭비 합계는 월 집계에서, 구독 요약 리스트는 평가에서 반환")
     void t1() {
         // given
         int year = 2026;
@@ -45,6 +92,7 @@ class DashboardServiceTest {
         ReflectionTestUtils.setField(ott, "id", 1L);
 
         Subscription netflix = new Subscription(
+                USER_ID,
                 ott,
                 "Netflix",
                 17000L,
@@ -59,6 +107,7 @@ class DashboardServiceTest {
         ReflectionTestUtils.setField(aiTool, "id", 2L);
 
         Subscription chatgpt = new Subscription(
+                USER_ID,
                 aiTool,
                 "ChatGPT Plus",
                 29000L,
@@ -81,11 +130,15 @@ class DashboardServiceTest {
         ReflectionTestUtils.setField(eval2, "annualWaste", 0L);
         ReflectionTestUtils.setField(eval2, "costPerUnit", 967L);
 
-        given(evaluationRepository.findAllWithSubscriptionAndCategoryByEvalMonth(targetMonth))
+        given(evaluationRepository.findAllWithSubscriptionByUserIdAndEvalMonth(USER_ID, targetMonth))
                 .willReturn(List.of(eval1, eval2));
+        given(categoryRegistry.get(1L)).willReturn(CategorySnapshot.from(ott));
+        given(categoryRegistry.get(2L)).willReturn(CategorySnapshot.from(aiTool));
+        given(aggregateRepository.findByUserIdAndEvalMonth(USER_ID, targetMonth))
+                .willReturn(Optional.of(aggregate(targetMonth, 17000L + 29000L, 102000L)));
 
         // when
-        DashboardResponse response = dashboardService.getMonthlyDashboard(year, month);
+        DashboardResponse response = dashboardService.getMonthlyDashboard(USER_ID, year, month);
 
         // then
         assertThat(response.totalMonthlyCost()).isEqualTo(17000L + 29000L);
@@ -114,6 +167,11 @@ class DashboardServiceTest {
         assertThat(s2.trial()).isFalse();
         assertThat(s2.potentialAnnualWaste()).isEqualTo(0L);
         assertThat(s2.costPerUnit()).isEqualTo(967L);
+
+        // 단계별 시간 + 조회 행 수 분포 기록
+        assertThat(meterRegistry.get("dashboard.monthly.phase").tag("phase", "evaluation_load").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("dashboard.monthly.phase").tag("phase", "assemble").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("dashboard.monthly.rows").summary().totalAmount()).isEqualTo(2);
     }
 
     @Test
@@ -124,11 +182,11 @@ class DashboardServiceTest {
         int month = 2;
         YearMonth targetMonth = YearMonth.of(year, month);
 
-        given(evaluationRepository.findAllWithSubscriptionAndCategoryByEvalMonth(targetMonth))
+        given(evaluationRepository.findAllWithSubscriptionByUserIdAndEvalMonth(USER_ID, targetMonth))
                 .willReturn(List.of());
 
         // when
-        DashboardResponse response = dashboardService.getMonthlyDashboard(year, month);
+        DashboardResponse response = dashboardService.getMonthlyDashboard(USER_ID, year, month);
 
         // then
         assertThat(response.totalMonthlyCost()).isEqualTo(0L);
@@ -148,6 +206,7 @@ class DashboardServiceTest {
         ReflectionTestUtils.setField(ott, "id", 1L);
 
         Subscription netflixTrial = new Subscription(
+                USER_ID,
                 ott,
                 "Netflix Trial",
                 17000L,
@@ -164,11 +223,14 @@ class DashboardServiceTest {
         ReflectionTestUtils.setField(eval, "annualWaste", 0L);        // TRIAL 정책
         ReflectionTestUtils.setField(eval, "costPerUnit", 500L);
 
-        given(evaluationRepository.findAllWithSubscriptionAndCategoryByEvalMonth(targetMonth))
+        given(evaluationRepository.findAllWithSubscriptionByUserIdAndEvalMonth(USER_ID, targetMonth))
                 .willReturn(List.of(eval));
+        given(categoryRegistry.get(1L)).willReturn(CategorySnapshot.from(ott));
+        given(aggregateRepository.findByUserIdAndEvalMonth(USER_ID, targetMonth))
+                .willReturn(Optional.of(aggregate(targetMonth, 0L, 0L))); // TRIAL은 집계에서 0원
 
         // when
-        DashboardResponse response = dashboardService.getMonthlyDashboard(year, month);
+        DashboardResponse response = dashboardService.getMonthlyDashboard(USER_ID, year, month);
 
         // then
         assertThat(response.totalMonthlyCost()).isEqualTo(0L);
@@ -204,6 +266,7 @@ class DashboardServiceTest {
         Category ott = new Category("OTT", 1800, UsageUnit.MINUTES, CategoryType.CONTENT);
 
         Subscription trial = new Subscription(
+                USER_ID,
                 ott,
                 "Service Trial",
                 10001L,
@@ -219,11 +282,12 @@ class DashboardServiceTest {
         ReflectionTestUtils.setField(eval, "annualWaste", 0L);
         ReflectionTestUtils.setField(eval, "costPerUnit", 1234L);
 
-        given(evaluationRepository.findAllWithSubscriptionAndCategoryByEvalMonth(targetMonth))
+        given(evaluationRepository.findAllWithSubscriptionByUserIdAndEvalMonth(USER_ID, targetMonth))
                 .willReturn(List.of(eval));
+        given(categoryRegistry.get(trial.getCategoryId())).willReturn(CategorySnapshot.from(ott));
 
         // when
-        DashboardResponse response = dashboardService.getMonthlyDashboard(year, month);
+        DashboardResponse response = dashboardService.getMonthlyDashboard(USER_ID, year, month);
         DashboardResponse.SubscriptionSummary s = response.subscriptions().get(0);
 
         // then
@@ -235,4 +299,123 @@ class DashboardServiceTest {
         // costPerUnit 전달 확인
         assertThat(s.costPerUnit()).isEqualTo(1234L);
     }
+
+    @Test
+    @DisplayName("월별 추이 - 월 집계 범위 조회 한 번으로 from ~ to 모든 월을 반환하고, 집계가 없는 월은 0으로 채운다")
+    void t5() {
+        // given
+        YearMonth from = YearMonth.of(2025, 11);
+        YearMonth to = YearMonth.of(2026, 2);
+
+        given(aggregateRepository.findTotalsBetween(USER_ID, from, to)).willReturn(List.of(
+                new MonthlyAggregateDelta(USER_ID, from, 46000L, 102000L, 1, 0, 1, 0, 0),
+                new MonthlyAggregateDelta(USER_ID, to, 17000L, 0L, 1, 0, 0, 0, 0)
+        ));
+
+        // when
+        DashboardTrendResponse response = dashboardService.getTrend(USER_ID, from, to);
+
+        // then
+        assertThat(response.months())
+                .extracting(DashboardTrendResponse.MonthlyTrend::month)
+                .containsExactly(from, from.plusMonths(1), from.plusMonths(2), to);
+
+        DashboardTrendResponse.MonthlyTrend first = response.months().get(0);
+        assertThat(first.totalMonthlyCost()).isEqualTo(46000L);
+        assertThat(first.totalAnnualWasteEstimate()).isEqualTo(102000L);
+        assertThat(first.evaluatedCount()).isEqualTo(2);
+        assertThat(first.statusCounts().review()).isEqualTo(1);
+
+        assertThat(response.months().get(1).evaluatedCount()).isZero();
+        assertThat(response.months().get(1).totalMonthlyCost()).isZero();
+
+        // 평가 엔티티는 읽지 않는다
+        then(evaluationRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("월별 추이 예외 - 시작 월이 종료 월보다 늦거나 60개월을 넘으면 INVALID_TREND_RANGE")
+    void t6() {
+        assertThatThrownBy(() -> dashboardService.getTrend(USER_ID, YearMonth.of(2026, 2), YearMonth.of(2025, 2)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_TREND_RANGE);
+
+        assertThatThrownBy(() -> dashboardService.getTrend(USER_ID, YearMonth.of(2020, 1), YearMonth.of(2025, 1)))
+                .isInstanceOf(CustomException.class);
+
+        then(aggregateRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("낭비 랭킹 - 열 저장소가 꺼져 있으면 평가를 읽어 연간 낭비 내림차순(같으면 id 오름차순)으로 limit개 반환")
+    void t7() {
+        // given
+        YearMonth targetMonth = YearMonth.of(2026, 2);
+        Category ott = new Category("OTT", 1800, UsageUnit.MINUTES, CategoryType.CONTENT);
+        ReflectionTestUtils.setField(ott, "id", 1L);
+        given(categoryRegistry.get(1L)).willReturn(CategorySnapshot.from(ott));
+
+        given(evaluationRepository.findAllWithSubscriptionByUserIdAndEvalMonth(USER_ID, targetMonth)).willReturn(List.of(
+                evaluation(ott, 10L, targetMonth, 102000L),
+                evaluation(ott, 11L, targetMonth, 204000L),
+                evaluation(ott, 9L, targetMonth, 102000L)
+        ));
+
+        // when
+        DashboardRankingResponse response = dashboardService.getWasteRanking(USER_ID, 2026, 2, 2);
+
+        // then
+        assertThat(response.subscriptions())
+                .extracting(DashboardResponse.SubscriptionSummary::id)
+                .containsExactly(11L, 9L);
+    }
+
+    @Test
+    @DisplayName("열 저장소가 켜져 있으면 대시보드 합계/요약을 저장소에서 만들고 평가/월 집계는 조회하지 않는다")
+    void t8() {
+        // given
+        YearMonth targetMonth = YearMonth.of(2026, 2);
+        Category ott = new Category("OTT", 1800, UsageUnit.MINUTES, CategoryType.CONTENT);
+        given(categoryRegistry.get(1L)).willReturn(CategorySnapshot.from(ott));
+
+        given(evaluationColumnStore.isReady()).willReturn(true);
+        given(evaluationColumnStore.totals(USER_ID, targetMonth))
+                .willReturn(new MonthlyAggregateDelta(USER_ID, targetMonth, 17000L, 102000L, 0, 0, 1, 0, 1));
+        willAnswer(invocation -> {
+            ColumnRowVisitor visitor = invocation.getArgument(2);
+            visitor.visit(10L, new SubscriptionLabel(USER_ID, "Netflix", 1L), 50.0, EvaluationStatus.REVIEW, 102000L, 1000L, 17000L, false);
+            visitor.visit(11L, new SubscriptionLabel(USER_ID, "Tving Trial", 1L), 50.0, EvaluationStatus.GHOST, 0L, 9000L, 9000L, true);
+            return 2;
+        }).given(evaluationColumnStore).forEachRow(eq(USER_ID), eq(targetMonth), any());
+
+        // when
+        DashboardResponse response = dashboardService.getMonthlyDashboard(USER_ID, 2026, 2);
+
+        // then
+        assertThat(response.totalMonthlyCost()).isEqualTo(17000L);
+        assertThat(response.totalAnnualWasteEstimate()).isEqualTo(102000L);
+        assertThat(response.subscriptions())
+                .extracting(DashboardResponse.SubscriptionSummary::name, DashboardResponse.SubscriptionSummary::categoryName)
+                .containsExactly(tuple("Netflix", "OTT"), tuple("Tving Trial", "OTT"));
+
+        // TRIAL 잠재 낭비: 9000 * (1 - 0.5) * 12 = 54000
+        assertThat(response.subscriptions().get(1).potentialAnnualWaste()).isEqualTo(54000L);
+        assertThat(meterRegistry.get("dashboard.monthly.rows").summary().totalAmount()).isEqualTo(2);
+
+        then(evaluationRepository).shouldHaveNoInteractions();
+        then(aggregateRepository).shouldHaveNoInteractions();
+    }
+
+    private SubscriptionEvaluation evaluation(Category category, Long subscriptionId, YearMonth month, long annualWaste) {
+        Subscription subscription = new Subscription(
+                USER_ID, category, "Service " + subscriptionId, 17000L, 17000L, 17000L, BillingCycle.MONTHLY, SubscriptionStatus.ACTIVE
+        );
+        ReflectionTestUtils.setField(subscription, "id", subscriptionId);
+
+        SubscriptionEvaluation evaluation = new SubscriptionEvaluation(subscription, month);
+        ReflectionTestUtils.setField(evaluation, "status", EvaluationStatus.REVIEW);
+        ReflectionTestUtils.setField(evaluation, "annualWaste", annualWaste);
+        return evaluation;
+    }
 }
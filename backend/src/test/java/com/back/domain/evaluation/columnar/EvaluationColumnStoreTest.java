@@ -0,0 +1,190 @@
+package com.back.domain.evaluation.columnar;
+
+import com.back.domain.dashboard.dto.MonthlyAggregateDelta;
+import com.back.domain.evaluation.dto.EvaluationColumnRow;
+import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class EvaluationColumnStoreTest {
+
+    private static final long USER_ID = 1L;
+    private static final YearMonth FEB = YearMonth.of(2025, 2);
+    private static final YearMonth MAR = YearMonth.of(2025, 3);
+
+    @Mock
+    private SubscriptionEvaluationRepository evaluationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EvaluationColumnStore store(boolean offHeap, List<EvaluationColumnRow> rows) {
+        willAnswer(invocation -> {
+            Consumer<EvaluationColumnRow> consumer = invocation.getArgument(0);
+            rows.forEach(consumer);
+            return null;
+        }).given(evaluationRepository).streamColumnRows(any());
+
+        EvaluationColumnStore store = new EvaluationColumnStore(
+                new EvaluationColumnStoreProperties(true, offHeap, 16), evaluationRepository, transactionManager);
+        store.afterSingletonsInstantiated();
+        return store;
+    }
+
+    private EvaluationColumnRow row(long subscriptionId, YearMonth month, EvaluationStatus status, long annualWaste, boolean trial) {
+        return row(subscriptionId, USER_ID, month, status, annualWaste, trial);
+    }
+
+    private EvaluationColumnRow row(long subscriptionId, long userId, YearMonth month, EvaluationStatus status, long annualWaste, boolean trial) {
+        return new EvaluationColumnRow(subscriptionId, userId, month, 50.0, status, annualWaste, 1000L, 17000L, trial,
+                "Service " + subscriptionId, 1L);
+    }
+
+    @Test
+    @DisplayName("기동 시 적재 - 월별 합계는 대시보드 월 집계와 같은 기준 (TRIAL 월 지출 제외)")
+    void t1() {
+        // when
+        EvaluationColumnStore store = store(false, List.of(
+                row(1L, FEB, EvaluationStatus.REVIEW, 102000L, false),
+                row(2L, FEB, EvaluationStatus.GHOST, 0L, true),
+                row(1L, MAR, EvaluationStatus.EFFICIENT, 0L, false)
+        ));
+
+        // then
+        assertThat(store.isReady()).isTrue();
+        assertThat(store.totals(USER_ID, FEB)).isEqualTo(new MonthlyAggregateDelta(USER_ID, FEB, 17000L, 102000L, 0, 0, 1, 0, 1));
+        assertThat(store.totals(USER_ID, MAR)).isEqualTo(new MonthlyAggregateDelta(USER_ID, MAR, 17000L, 0L, 1, 0, 0, 0, 0));
+        assertThat(store.totals(USER_ID, FEB.minusMonths(1)).isZero()).isTrue();
+
+        List<String> visited = new ArrayList<>();
+        int count = store.forEachRow(USER_ID, FEB, (id, label, rate, status, waste, costPerUnit, monthlyCost, trial) ->
+                visited.add(label.name() + ":" + status + ":" + trial));
+        assertThat(count).isEqualTo(2);
+        assertThat(visited).containsExactly("Service 1:REVIEW:false", "Service 2:GHOST:true");
+    }
+
+    @Test
+    @DisplayName("off-heap 열 - 초기 용량을 넘어 늘어나도 값이 유지되고, 삭제 후 남은 행으로 합계를 계산한다")
+    void t2() {
+        // given
+        List<EvaluationColumnRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            rows.add(row(id, FEB, EvaluationStatus.INEFFICIENT, id * 10, false));
+        }
+        EvaluationColumnStore store = store(true, rows);
+
+        // when: 짝수 id 삭제 (트랜잭션 밖이므로 즉시 반영)
+        List<Long> evenIds = new ArrayList<>();
+        for (long id = 2; id <= 100; id += 2) {
+            evenIds.add(id);
+        }
+        store.removeAfterCommit(evenIds);
+
+        // then: 홀수 id 50개만 남는다 (1 + 3 + ... + 99 = 2500)
+        MonthlyAggregateDelta totals = store.totals(USER_ID, FEB);
+        assertThat(store.size(USER_ID, FEB)).isEqualTo(50);
+        assertThat(totals.inefficientCount()).isEqualTo(50);
+        assertThat(totals.totalMonthlyCost()).isEqualTo(50 * 17000L);
+        assertThat(totals.totalAnnualWaste()).isEqualTo(2500L * 10);
+    }
+
+    @Test
+    @DisplayName("낭비 랭킹 - 연간 낭비 내림차순, 같으면 구독 id 오름차순으로 limit개만 방문")
+    void t3() {
+        // given
+        EvaluationColumnStore store = store(false, List.of(
+                row(5L, FEB, EvaluationStatus.REVIEW, 3000L, false),
+                row(1L, FEB, EvaluationStatus.REVIEW, 1000L, false),
+                row(4L, FEB, EvaluationStatus.REVIEW, 5000L, false),
+                row(2L, FEB, EvaluationStatus.REVIEW, 5000L, false),
+                row(3L, FEB, EvaluationStatus.REVIEW, 2000L, false)
+        ));
+
+        // when
+        List<Long> ranked = new ArrayList<>();
+        store.forEachTopByAnnualWaste(USER_ID, FEB, 3, (id, label, rate, status, waste, costPerUnit, monthlyCost, trial) -> ranked.add(id));
+
+        // then
+        assertThat(ranked).containsExactly(2L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("평가 반영 - 커밋된 값을 다시 읽어 덮어쓰고, 그 사이 삭제된 키는 저장소에서 뺀다")
+    void t4() {
+        // given
+        EvaluationColumnStore store = store(false, List.of(
+                row(1L, FEB, EvaluationStatus.GHOST, 204000L, false),
+                row(2L, FEB, EvaluationStatus.GHOST, 204000L, false)
+        ));
+        given(evaluationRepository.findColumnRows(any())).willReturn(List.of(
+                row(1L, FEB, EvaluationStatus.EFFICIENT, 0L, false),
+                row(3L, FEB, EvaluationStatus.REVIEW, 102000L, false)
+        ));
+
+        // when
+        store.refreshAfterCommit(List.of(new EvaluationKey(1L, FEB), new EvaluationKey(2L, FEB), new EvaluationKey(3L, FEB)));
+
+        // then
+        assertThat(store.totals(USER_ID, FEB)).isEqualTo(new MonthlyAggregateDelta(USER_ID, FEB, 2 * 17000L, 102000L, 1, 0, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 적재/반영 모두 하지 않는다")
+    void t5() {
+        // given
+        EvaluationColumnStore store = new EvaluationColumnStore(
+                new EvaluationColumnStoreProperties(false, false, 16), evaluationRepository, transactionManager);
+
+        // when
+        store.afterSingletonsInstantiated();
+        store.refreshAfterCommit(List.of(new EvaluationKey(1L, FEB)));
+        store.removeAfterCommit(List.of(1L));
+
+        // then
+        assertThat(store.isReady()).isFalse();
+        then(evaluationRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("사용자 분할 - 한 사용자의 합계/행 방문/삭제는 다른 사용자의 같은 월 파티션에 영향을 주지 않는다")
+    void t6() {
+        // given
+        long otherUserId = 2L;
+        EvaluationColumnStore store = store(false, List.of(
+                row(1L, FEB, EvaluationStatus.REVIEW, 102000L, false),
+                row(2L, otherUserId, FEB, EvaluationStatus.GHOST, 204000L, false),
+                row(3L, otherUserId, FEB, EvaluationStatus.EFFICIENT, 0L, false)
+        ));
+
+        // when
+        store.removeAfterCommit(List.of(2L));
+
+        // then
+        assertThat(store.totals(USER_ID, FEB)).isEqualTo(new MonthlyAggregateDelta(USER_ID, FEB, 17000L, 102000L, 0, 0, 1, 0, 0));
+        assertThat(store.totals(otherUserId, FEB)).isEqualTo(new MonthlyAggregateDelta(otherUserId, FEB, 17000L, 0L, 1, 0, 0, 0, 0));
+        assertThat(store.size(USER_ID, FEB)).isEqualTo(1);
+        assertThat(store.totals(3L, FEB).isZero()).isTrue();
+
+        List<Long> visited = new ArrayList<>();
+        store.forEachRow(otherUserId, FEB, (id, label, rate, status, waste, costPerUnit, monthlyCost, trial) -> visited.add(id));
+        assertThat(visited).containsExactly(3L);
+    }
+}
@@ -3,6 +3,7 @@ package com.back.domain.evaluation.entity;
 import com.back.domain.category.entity.Category;
 import com.back.domain.category.enums.CategoryType;
 import com.back.domain.category.enums.UsageUnit;
+import com.back.domain.category.registry.CategorySnapshot;
 import com.back.domain.evaluation.enums.EvaluationStatus;
 import com.back.domain.evaluation.policy.DefaultEvaluationPolicy;
 import com.back.domain.evaluation.policy.EvaluationPolicy;
@@ -18,6 +19,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class SubscriptionEvaluationTest {
 
+    private static final long USER_ID = 1L;
+
     private final EvaluationPolicy policy = new DefaultEvaluationPolicy();
 
     private Subscription createNetflixSubscription() {
@@ -29,6 +32,7 @@ class SubscriptionEvaluationTest {
         );
 
         return new Subscription(
+                USER_ID,
                 ott,
                 "Netflix",
                 17000L, // totalCost
@@ -48,6 +52,7 @@ class SubscriptionEvaluationTest {
         );
 
         return new Subscription(
+                USER_ID,
                 aiTool,
                 "ChatGPT Plus",
                 29000L,
@@ -65,7 +70,7 @@ class SubscriptionEvaluationTest {
         SubscriptionEvaluation evaluation =
                 new SubscriptionEvaluation(subscription, YearMonth.of(2025, 2));
 
-        evaluation.update(0, policy);
+        evaluation.update(0, CategorySnapshot.from(subscription.getCategory()), policy);
 
         assertThat(evaluation.getStatus()).isEqualTo(EvaluationStatus.GHOST);
         assertThat(evaluation.getAnnualWaste()).isEqualTo(17000L * 12);
@@ -81,7 +86,7 @@ class SubscriptionEvaluationTest {
         SubscriptionEvaluation evaluation =
                 new SubscriptionEvaluation(subscription, YearMonth.of(2025, 2));
 
-        evaluation.update(1200, policy);
+        evaluation.update(1200, CategorySnapshot.from(subscription.getCategory()), policy);
 
         assertThat(evaluation.getEfficiencyRate()).isEqualTo(100.0);
         assertThat(evaluation.getStatus()).isEqualTo(EvaluationStatus.EFFICIENT);
@@ -89,6 +94,7 @@ class SubscriptionEvaluationTest {
 
         assertThat(evaluation.getReferenceSnapshotValue()).isEqualTo(1200);
         assertThat(evaluation.getCostPerUnit()).isEqualTo(14L); // 17000/1200=14.16.. -> 14
+        assertThat(evaluation.getPolicyVersion()).isEqualTo(DefaultEvaluationPolicy.VERSION);
     }
 
     @Test
@@ -98,7 +104,7 @@ class SubscriptionEvaluationTest {
         SubscriptionEvaluation evaluation =
                 new SubscriptionEvaluation(subscription, YearMonth.of(2025, 2));
 
-        evaluation.update(600, policy);
+        evaluation.update(600, CategorySnapshot.from(subscription.getCategory()), policy);
 
         assertThat(evaluation.getStatus()).isEqualTo(EvaluationStatus.REVIEW);
         assertThat(evaluation.getReferenceSnapshotValue()).isEqualTo(1200);
@@ -112,7 +118,7 @@ class SubscriptionEvaluationTest {
         SubscriptionEvaluation evaluation =
                 new SubscriptionEvaluation(subscription, YearMonth.of(2025, 2));
 
-        evaluation.update(30, policy); // 기준 15일 → 200%지만 PRODUCTIVITY는 100 cap
+        evaluation.update(30, CategorySnapshot.from(subscription.getCategory()), policy); // 기준 15일 → 200%지만 PRODUCTIVITY는 100 cap
 
         assertThat(evaluation.getEfficiencyRate()).isEqualTo(100.0);
         assertThat(evaluation.getStatus()).isEqualTo(EvaluationStatus.EFFICIENT);
@@ -128,7 +134,7 @@ class SubscriptionEvaluationTest {
         SubscriptionEvaluation evaluation =
                 new SubscriptionEvaluation(subscription, YearMonth.of(2025, 2));
 
-        evaluation.update(5, policy);
+        evaluation.update(5, CategorySnapshot.from(subscription.getCategory()), policy);
 
         assertThat(evaluation.getStatus()).isEqualTo(EvaluationStatus.INEFFICIENT);
 
@@ -147,6 +153,7 @@ class SubscriptionEvaluationTest {
         );
 
         Subscription subscription = new Subscription(
+                USER_ID,
                 category,
                 "TestService",
                 1000L,
@@ -160,7 +167,7 @@ class SubscriptionEvaluationTest {
                 new SubscriptionEvaluation(subscription, YearMonth.of(2025, 2));
 
         // usageValue = 1 → rate = 16.666...%
-        evaluation.update(1, policy);
+        evaluation.update(1, CategorySnapshot.from(subscription.getCategory()), policy);
 
         // 기대값: 10000 (반올림)
         assertThat(evaluation.getAnnualWaste()).isEqualTo(10000L);
@@ -0,0 +1,178 @@
+package com.back.domain.evaluation.kernel;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.category.enums.CategoryType;
+import com.back.domain.category.enums.UsageUnit;
+import com.back.domain.category.registry.CategorySnapshot;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.policy.ThresholdTable;
+import com.back.domain.subscription.entity.Subscription;
+import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class EvaluationKernelTest {
+
+    private static final long USER_ID = 1L;
+    private static final ThresholdTable DEFAULTS = new ThresholdTable(1, 100, 70, 40);
+    private static final ThresholdTable STRICT = new ThresholdTable(2, 120, 90, 60);
+
+    private static final CategorySnapshot OTT = new CategorySnapshot(1L, "OTT", 1800, UsageUnit.MINUTES, CategoryType.CONTENT);
+    private static final CategorySnapshot AI_TOOL = new CategorySnapshot(4L, "AI_TOOL", 12, UsageUnit.DAYS, CategoryType.PRODUCTIVITY);
+
+    @Test
+    @DisplayName("스칼라 커널은 엔티티 평가(SubscriptionEvaluation.update)와 효율/단위당 비용/상태/연간 낭비가 같다")
+    void t1() {
+        // given
+        SplittableRandom random = new SplittableRandom(42);
+        int size = 1_000;
+        SubscriptionEvaluation[] expected = new SubscriptionEvaluation[size];
+        EvaluationBatch batch = new EvaluationBatch(size);
+        EvaluationProfiles.Builder builder = EvaluationProfiles.builder();
+
+        for (int i = 0; i < size; i++) {
+            CategorySnapshot category = i % 2 == 0 ? OTT : AI_TOOL;
+            ThresholdTable table = i % 3 == 0 ? STRICT : DEFAULTS;
+            boolean trial = random.nextInt(5) == 0;
+            int usageValue = random.nextInt(4) == 0 ? 0 : random.nextInt(1, category.referenceValue() * 2);
+            Subscription subscription = subscription(category, random.nextLong(1, 100_000), trial);
+
+            expected[i] = new SubscriptionEvaluation(subscription, YearMonth.of(2025, 1));
+            expected[i].update(usageValue, category, table);
+            batch.add(usageValue, category.referenceValue(), subscription.getMonthlyShareCost(), trial, builder.add(table, category.type()));
+        }
+        EvaluationProfiles profiles = builder.build();
+
+        // when
+        EvaluationKernel.scalar().evaluate(batch, profiles);
+
+        // then
+        assertThat(profiles.size()).isEqualTo(4);
+        for (int i = 0; i < size; i++) {
+            assertThat(batch.rate(i)).isEqualTo(expected[i].getEfficiencyRate());
+            assertThat(batch.costPerUnit(i)).isEqualTo(expected[i].getCostPerUnit());
+            assertThat(batch.status(i)).isEqualTo(expected[i].getStatus());
+            assertThat(batch.annualWaste(i)).isEqualTo(expected[i].getAnnualWaste());
+            assertThat(profiles.version(batch.profile(i))).isEqualTo(expected[i].getPolicyVersion());
+        }
+    }
+
+    @Test
+    @DisplayName("SIMD 커널은 무작위 입력과 반올림 경계(x.5) 입력에서 스칼라 커널과 비트 단위로 같은 결과를 낸다")
+    void t2() {
+        assumeTrue(EvaluationKernel.vectorAvailable(), "--add-modules jdk.incubator.vector 로 실행해야 합니다");
+
+        // given: 레인 수로 나누어떨어지지 않는 크기 (나머지 행 포함)
+        SplittableRandom random = new SplittableRandom(7);
+        int size = 10_007;
+        EvaluationBatch scalar = new EvaluationBatch(size);
+        EvaluationBatch vector = new EvaluationBatch(size);
+        EvaluationProfiles.Builder builder = EvaluationProfiles.builder();
+        int content = builder.add(DEFAULTS, CategoryType.CONTENT);
+        int productivity = builder.add(STRICT, CategoryType.PRODUCTIVITY);
+
+        for (int i = 0; i < size; i++) {
+            int usageValue;
+            int referenceValue;
+            long monthlyCost;
+            switch (i % 4) {
+                // 월 비용 / 사용량이 정확히 x.5 (단위당 비용 반올림 경계)
+                case 0 -> {
+                    usageValue = 2;
+                    referenceValue = random.nextInt(1, 10);
+                    monthlyCost = 2L * random.nextInt(0, 50_000) + 1;
+                }
+                // 기준값 0 또는 사용량 0
+                case 1 -> {
+                    usageValue = random.nextInt(2) == 0 ? 0 : random.nextInt(1, 100);
+                    referenceValue = random.nextInt(2) == 0 ? 0 : random.nextInt(1, 100);
+                    monthlyCost = random.nextLong(0, 100_000);
+                }
+                // 효율이 임계값 / 100% 경계에 걸리는 값
+                case 2 -> {
+                    referenceValue = 10;
+                    usageValue = random.nextInt(3, 13);
+                    monthlyCost = random.nextLong(1, 100_000);
+                }
+                default -> {
+                    usageValue = random.nextInt(0, 5_000);
+                    referenceValue = random.nextInt(1, 2_000);
+                    monthlyCost = random.nextLong(0, 1_000_000);
+                }
+            }
+            boolean trial = random.nextInt(5) == 0;
+            int profile = random.nextBoolean() ? content : productivity;
+            scalar.add(usageValue, referenceValue, monthlyCost, trial, profile);
+            vector.add(usageValue, referenceValue, monthlyCost, trial, profile);
+        }
+        EvaluationProfiles profiles = builder.build();
+
+        // when
+        EvaluationKernel.scalar().evaluate(scalar, profiles);
+        EvaluationKernel.vector().evaluate(vector, profiles);
+
+        // then
+        for (int i = 0; i < size; i++) {
+            assertThat(Double.doubleToRawLongBits(vector.rate(i))).as("rate[%d]", i).isEqualTo(Double.doubleToRawLongBits(scalar.rate(i)));
+            assertThat(vector.costPerUnit(i)).as("costPerUnit[%d]", i).isEqualTo(scalar.costPerUnit(i));
+            assertThat(vector.statusOrdinal(i)).as("status[%d]", i).isEqualTo(scalar.statusOrdinal(i));
+            assertThat(vector.annualWaste(i)).as("annualWaste[%d]", i).isEqualTo(scalar.annualWaste(i));
+        }
+    }
+
+    @Test
+    @DisplayName("잠재 연간 낭비는 두 커널 모두 Math.round와 같은 값을 내고, 효율 100% 이상이면 0이다")
+    void t3() {
+        // given: 음수 없이 x.5 경계와 100% 경계를 섞는다
+        SplittableRandom random = new SplittableRandom(11);
+        int size = 1_003;
+        double[] rates = new double[size];
+        long[] monthlyCosts = new long[size];
+        for (int i = 0; i < size; i++) {
+            rates[i] = switch (i % 4) {
+                case 0 -> 100;
+                case 1 -> 100 - 1.0 / 24;  // 월 비용 * 12 / 2400 -> .5 경계
+                case 2 -> random.nextDouble(0, 100);
+                default -> random.nextDouble(90, 130);
+            };
+            monthlyCosts[i] = random.nextLong(0, 200_000);
+        }
+
+        long[] expected = new long[size];
+        for (int i = 0; i < size; i++) {
+            expected[i] = rates[i] >= 100 ? 0 : Math.round(monthlyCosts[i] * (1 - rates[i] / 100) * 12);
+        }
+
+        // when & then
+        long[] scalar = new long[size];
+        EvaluationKernel.scalar().potentialAnnualWaste(rates, monthlyCosts, scalar, size);
+        assertThat(scalar).containsExactly(expected);
+
+        if (EvaluationKernel.vectorAvailable()) {
+            long[] vector = new long[size];
+            EvaluationKernel.vector().potentialAnnualWaste(rates, monthlyCosts, vector, size);
+            assertThat(vector).containsExactly(expected);
+        }
+    }
+
+    private Subscription subscription(CategorySnapshot snapshot, long monthlyCost, boolean trial) {
+        Category category = new Category(snapshot.name(), snapshot.referenceValue(), snapshot.unit(), snapshot.type());
+        return new Subscription(
+                USER_ID,
+                category,
+                snapshot.name(),
+                monthlyCost,
+                monthlyCost,
+                monthlyCost,
+                BillingCycle.MONTHLY,
+                trial ? SubscriptionStatus.TRIAL : SubscriptionStatus.ACTIVE
+        );
+    }
+}
@@ -0,0 +1,177 @@
+package com.back.domain.evaluation.pipeline;
+
+import com.back.domain.evaluation.dto.EvaluationQueueStatus;
+import com.back.domain.evaluation.service.EvaluationService;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncEvaluationPipelineTest {
+
+    @Mock
+    private EvaluationService evaluationService;
+
+    private AsyncEvaluationPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 (구독, 월) 키의 대기 작업은 하나로 합쳐져 한 번만 평가된다")
+    void t1() {
+        // given
+        pipeline = new AsyncEvaluationPipeline(evaluationService, properties(100, 1), new MockEnvironment());
+        EvaluationKey key = new EvaluationKey(1L, YearMonth.of(2025, 2));
+
+        // 워커 시작 전에 등록해 큐에 머무르게 한다
+        pipeline.submit(key);
+        pipeline.submit(key);
+        pipeline.submit(key);
+
+        // when
+        pipeline.start();
+        boolean completed = pipeline.await(key);
+
+        // then
+        assertThat(completed).isTrue();
+        verify(evaluationService, times(1)).reevaluate(List.of(key));
+
+        EvaluationQueueStatus status = pipeline.status();
+        assertThat(status.submitted()).isEqualTo(3);
+        assertThat(status.coalesced()).isEqualTo(2);
+        assertThat(status.processed()).isEqualTo(1);
+        assertThat(status.depth()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 자리가 없으면 submit-timeout만큼 기다린 뒤 거절하고, 호출 스레드에서 평가하지 않는다")
+    void t2() {
+        // given
+        pipeline = new AsyncEvaluationPipeline(evaluationService, properties(1, 1), new MockEnvironment());
+        EvaluationKey queued = new EvaluationKey(1L, YearMonth.of(2025, 2));
+        EvaluationKey overflow = new EvaluationKey(2L, YearMonth.of(2025, 2));
+        pipeline.submit(queued);
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.submit(overflow))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EVALUATION_QUEUE_FULL);
+
+        verify(evaluationService, never()).reevaluate(any());
+
+        EvaluationQueueStatus status = pipeline.status();
+        assertThat(status.depth()).isEqualTo(1);
+        assertThat(status.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 직전에 등록된 작업도 유실 없이 평가된다")
+    void t3() {
+        // given
+        pipeline = new AsyncEvaluationPipeline(evaluationService, properties(100, 1), new MockEnvironment());
+        EvaluationKey key = new EvaluationKey(1L, YearMonth.of(2025, 2));
+        pipeline.submit(key);
+
+        // when - 워커가 가져가지 못한 작업은 stop()에서 마저 처리
+        pipeline.start();
+        pipeline.stop();
+
+        // then
+        verify(evaluationService, times(1)).reevaluate(List.of(key));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 전에 자리를 예약하고, 커밋 후 등록하며, 롤백되면 자리를 돌려준다")
+    void t4() {
+        // given
+        pipeline = new AsyncEvaluationPipeline(evaluationService, properties(1, 1), new MockEnvironment());
+        EvaluationKey rolledBack = new EvaluationKey(1L, YearMonth.of(2025, 2));
+        EvaluationKey committed = new EvaluationKey(2L, YearMonth.of(2025, 2));
+
+        try {
+            // when - 예약만 하고 롤백
+            TransactionSynchronizationManager.initSynchronization();
+            pipeline.submitAfterCommit(rolledBack);
+
+            // then - 커밋 전에는 큐에 없고, 자리는 이미 찼으므로 다음 요청은 커밋 전에 거절된다
+            assertThat(pipeline.status().depth()).isZero();
+            assertThatThrownBy(() -> pipeline.submitAfterCommit(committed))
+                    .isInstanceOf(CustomException.class);
+
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // when - 돌려받은 자리로 예약 후 커밋
+            TransactionSynchronizationManager.initSynchronization();
+            pipeline.submitAfterCommit(committed);
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        // then
+        EvaluationQueueStatus status = pipeline.status();
+        assertThat(status.depth()).isEqualTo(1);
+        assertThat(status.submitted()).isEqualTo(1);
+        assertThat(status.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드에서도 워커가 큐의 작업을 처리한다")
+    void t5() {
+        // given
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+        pipeline = new AsyncEvaluationPipeline(evaluationService, properties(100, 2), environment);
+        EvaluationKey key = new EvaluationKey(1L, YearMonth.of(2025, 2));
+
+        pipeline.submit(key);
+
+        // when
+        pipeline.start();
+        boolean completed = pipeline.await(key);
+
+        // then
+        assertThat(completed).isTrue();
+        verify(evaluationService, times(1)).reevaluate(List.of(key));
+    }
+
+    // 트랜잭션 매니저가 완료 시점에 하는 콜백 호출을 흉내 낸다
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private EvaluationAsyncProperties properties(int queueCapacity, int workers) {
+        return new EvaluationAsyncProperties(true, queueCapacity, workers, 200, Duration.ofSeconds(5), Duration.ofMillis(50));
+    }
+}
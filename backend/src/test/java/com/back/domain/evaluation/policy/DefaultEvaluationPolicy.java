@@ -0,0 +1,24 @@
+package com.back.domain.evaluation.policy;
+
+import com.back.domain.evaluation.enums.EvaluationStatus;
+
+/**
+ * 테스트 / 벤치마크용 기본 임계값(100 / 70 / 40) 정책 - evaluation.policy 설정이 없을 때 EvaluationPolicyRegistry가 쓰는 값과 같다.
+ * (운영 경로는 EvaluationPolicyRegistry만 사용한다. jmh 소스 세트도 test 출력을 함께 컴파일한다)
+ */
+public class DefaultEvaluationPolicy implements EvaluationPolicy {
+
+    public static final int VERSION = 1;
+
+    private static final ThresholdTable TABLE = new ThresholdTable(VERSION, 100, 70, 40);
+
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    @Override
+    public EvaluationStatus calculateStatus(double rate, int usageValue) {
+        return TABLE.calculateStatus(rate, usageValue);
+    }
+}
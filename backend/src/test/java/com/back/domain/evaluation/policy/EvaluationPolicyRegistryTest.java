@@ -0,0 +1,139 @@
+package com.back.domain.evaluation.policy;
+
+import com.back.domain.category.enums.CategoryType;
+import com.back.domain.category.enums.UsageUnit;
+import com.back.domain.category.registry.CategorySnapshot;
+import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EvaluationPolicyRegistryTest {
+
+    private static final CategorySnapshot OTT = new CategorySnapshot(1L, "OTT", 1800, UsageUnit.MINUTES, CategoryType.CONTENT);
+    private static final CategorySnapshot MUSIC = new CategorySnapshot(2L, "MUSIC", 1500, UsageUnit.MINUTES, CategoryType.CONTENT);
+    private static final CategorySnapshot AI_TOOL = new CategorySnapshot(4L, "AI_TOOL", 12, UsageUnit.DAYS, CategoryType.PRODUCTIVITY);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("설정이 없으면 기본 임계값(100/70/40, 버전 1)으로 기존 정책과 같은 상태를 계산한다")
+    void t1() {
+        // given
+        EvaluationPolicyRegistry registry = registry(new MockEnvironment(), "");
+        EvaluationPolicy policy = registry.policyFor(OTT);
+
+        // then
+        assertThat(registry.version()).isEqualTo(DefaultEvaluationPolicy.VERSION);
+        assertThat(policy.version()).isEqualTo(DefaultEvaluationPolicy.VERSION);
+        assertThat(policy.calculateStatus(100, 10)).isEqualTo(EvaluationStatus.EFFICIENT);
+        assertThat(policy.calculateStatus(99.9, 10)).isEqualTo(EvaluationStatus.KEEP);
+        assertThat(policy.calculateStatus(70, 10)).isEqualTo(EvaluationStatus.KEEP);
+        assertThat(policy.calculateStatus(40, 10)).isEqualTo(EvaluationStatus.REVIEW);
+        assertThat(policy.calculateStatus(39.9, 10)).isEqualTo(EvaluationStatus.INEFFICIENT);
+        assertThat(policy.calculateStatus(0, 0)).isEqualTo(EvaluationStatus.GHOST);
+    }
+
+    @Test
+    @DisplayName("카테고리 id별 임계값이 타입별보다, 타입별 임계값이 기본값보다 우선한다")
+    void t2() {
+        // given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("evaluation.policy.version", "3")
+                .withProperty("evaluation.policy.types.PRODUCTIVITY.keep", "60")
+                .withProperty("evaluation.policy.types.PRODUCTIVITY.review", "30")
+                .withProperty("evaluation.policy.categories[2].keep", "80")
+                .withProperty("evaluation.policy.categories[2].review", "50");
+
+        // when
+        EvaluationPolicyRegistry registry = registry(environment, "");
+
+        // then
+        assertThat(registry.version()).isEqualTo(3);
+        assertThat(registry.policyFor(OTT).calculateStatus(65, 10)).isEqualTo(EvaluationStatus.REVIEW);     // 기본 70/40
+        assertThat(registry.policyFor(AI_TOOL).calculateStatus(65, 10)).isEqualTo(EvaluationStatus.KEEP);   // 타입 60/30
+        assertThat(registry.policyFor(MUSIC).calculateStatus(75, 10)).isEqualTo(EvaluationStatus.REVIEW);   // 카테고리 80/50
+        assertThat(registry.policyFor(MUSIC).version()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("정책 파일을 다시 적재하면 표가 통째로 교체되고, 교체 전에 받은 정책은 이전 임계값/버전을 유지한다")
+    void t3() throws IOException {
+        // given
+        Path file = writePolicy(1, 70);
+        EvaluationPolicyRegistry registry = registry(new MockEnvironment(), file.toUri().toString());
+        EvaluationPolicy before = registry.policyFor(OTT);
+
+        writePolicy(2, 50);
+
+        // when
+        registry.reload();
+
+        // then
+        EvaluationPolicy after = registry.policyFor(OTT);
+        assertThat(registry.status().version()).isEqualTo(2);
+        assertThat(after.version()).isEqualTo(2);
+        assertThat(after.calculateStatus(60, 10)).isEqualTo(EvaluationStatus.KEEP);
+
+        assertThat(before.version()).isEqualTo(1);
+        assertThat(before.calculateStatus(60, 10)).isEqualTo(EvaluationStatus.REVIEW);
+    }
+
+    @Test
+    @DisplayName("버전을 올리지 않고 임계값을 바꾸거나 임계값 순서가 뒤집히면 적재를 거부하고 기존 정책을 유지한다")
+    void t4() throws IOException {
+        // given
+        Path file = writePolicy(1, 70);
+        EvaluationPolicyRegistry registry = registry(new MockEnvironment(), file.toUri().toString());
+
+        // when & then: 같은 버전에서 임계값 변경
+        writePolicy(1, 50);
+        assertThatThrownBy(registry::reload)
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_EVALUATION_POLICY);
+
+        // when & then: keep(120) > efficient(100)
+        writePolicy(2, 120);
+        assertThatThrownBy(registry::reload)
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_EVALUATION_POLICY);
+
+        assertThat(registry.version()).isEqualTo(1);
+        assertThat(registry.policyFor(OTT).calculateStatus(60, 10)).isEqualTo(EvaluationStatus.REVIEW);
+    }
+
+    private EvaluationPolicyRegistry registry(MockEnvironment environment, String location) {
+        return new EvaluationPolicyRegistry(
+                new EvaluationPolicyProperties(location, Duration.ofSeconds(10)),
+                environment,
+                new DefaultResourceLoader()
+        );
+    }
+
+    private Path writePolicy(int version, int keep) throws IOException {
+        return Files.writeString(tempDir.resolve("evaluation-policy.yml"), """
+                evaluation:
+                  policy:
+                    version: %d
+                    defaults:
+                      efficient: 100
+                      keep: %d
+                      review: 40
+                """.formatted(version, keep));
+    }
+}
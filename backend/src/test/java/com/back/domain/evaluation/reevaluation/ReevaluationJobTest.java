@@ -0,0 +1,257 @@
+package com.back.domain.evaluation.reevaluation;
+
+import com.back.domain.evaluation.dto.ReevaluationStatus;
+import com.back.domain.evaluation.entity.ReevaluationRun;
+import com.back.domain.evaluation.enums.ReevaluationState;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.evaluation.policy.DefaultEvaluationPolicy;
+import com.back.domain.evaluation.policy.EvaluationPolicyProperties;
+import com.back.domain.evaluation.policy.EvaluationPolicyRegistry;
+import com.back.domain.evaluation.repository.ReevaluationRunRepository;
+import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import com.back.domain.evaluation.service.EvaluationService;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReevaluationJobTest {
+
+    private static final long RUN_ID = 7L;
+    private static final int POLICY_VERSION = DefaultEvaluationPolicy.VERSION;
+
+    @Mock
+    private SubscriptionEvaluationRepository evaluationRepository;
+
+    @Mock
+    private ReevaluationRunRepository runRepository;
+
+    @Mock
+    private EvaluationService evaluationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReevaluationJob job;
+
+    @AfterEach
+    void tearDown() {
+        if (job != null) {
+            job.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("평가 id 공간을 구간으로 나눠 재평가 대상 키만 다시 평가하고, 끝까지 처리하면 COMPLETED로 기록한다")
+    void t1() {
+        // given
+        job = createJob(2, 10);
+        List<EvaluationKey> staleKeys = List.of(
+                new EvaluationKey(3L, YearMonth.of(2025, 1)),
+                new EvaluationKey(4L, YearMonth.of(2025, 1))
+        );
+
+        given(evaluationRepository.countStale(POLICY_VERSION)).willReturn(2L);
+        given(evaluationRepository.findMaxId()).willReturn(25L);
+        given(evaluationRepository.findStaleKeys(anyLong(), anyLong(), anyInt())).willReturn(List.of());
+        given(evaluationRepository.findStaleKeys(10L, 20L, POLICY_VERSION)).willReturn(staleKeys);
+        given(evaluationService.reevaluate(staleKeys)).willReturn(2);
+        givenRunSaved();
+
+        // when
+        job.start();
+        boolean finished = job.await(Duration.ofSeconds(5));
+
+        // then: 구간 [0,10) [10,20) [20,30) 을 훑고 대상이 있는 구간만 평가
+        assertThat(finished).isTrue();
+        verify(evaluationRepository).findStaleKeys(0L, 10L, POLICY_VERSION);
+        verify(evaluationRepository).findStaleKeys(20L, 30L, POLICY_VERSION);
+        verify(evaluationService).reevaluate(staleKeys);
+
+        ReevaluationStatus status = job.status();
+        assertThat(status.state()).isEqualTo(ReevaluationState.COMPLETED);
+        assertThat(status.totalStale()).isEqualTo(2);
+        assertThat(status.reevaluated()).isEqualTo(2);
+        assertThat(status.checkpointId()).isEqualTo(30);
+        verify(runRepository).finish(eq(RUN_ID), eq(ReevaluationState.COMPLETED), eq(30L), eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("재개하면 같은 정책 버전의 완료되지 않은 마지막 실행을 체크포인트부터 이어서 처리한다")
+    void t2() {
+        // given
+        job = createJob(1, 10);
+        ReevaluationRun cancelled = new ReevaluationRun(POLICY_VERSION, 100L, LocalDateTime.now());
+        ReflectionTestUtils.setField(cancelled, "id", RUN_ID);
+        ReflectionTestUtils.setField(cancelled, "state", ReevaluationState.CANCELLED);
+        ReflectionTestUtils.setField(cancelled, "checkpointId", 20L);
+        ReflectionTestUtils.setField(cancelled, "reevaluated", 40L);
+
+        given(runRepository.findTopByOrderByIdDesc()).willReturn(Optional.of(cancelled));
+        given(evaluationRepository.findMaxId()).willReturn(25L);
+        given(runRepository.save(cancelled)).willReturn(cancelled);
+
+        // when
+        job.resume();
+        job.await(Duration.ofSeconds(5));
+
+        // then: 체크포인트 아래 구간은 다시 훑지 않고, 대상 건수도 다시 세지 않는다
+        verify(evaluationRepository, never()).countStale(anyInt());
+        verify(evaluationRepository, never()).findStaleKeys(eq(0L), anyLong(), anyInt());
+        verify(evaluationRepository, never()).findStaleKeys(eq(10L), anyLong(), anyInt());
+        verify(evaluationRepository).findStaleKeys(20L, 30L, POLICY_VERSION);
+
+        ReevaluationStatus status = job.status();
+        assertThat(status.runId()).isEqualTo(RUN_ID);
+        assertThat(status.state()).isEqualTo(ReevaluationState.COMPLETED);
+        assertThat(status.reevaluated()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("구간 처리에 실패하면 새 구간을 가져가지 않고 FAILED로 기록하며, 체크포인트는 실패한 구간 앞에 남는다")
+    void t3() {
+        // given
+        job = createJob(1, 10);
+        List<EvaluationKey> failing = List.of(new EvaluationKey(1L, YearMonth.of(2025, 1)));
+
+        given(evaluationRepository.countStale(POLICY_VERSION)).willReturn(1L);
+        given(evaluationRepository.findMaxId()).willReturn(35L);
+        given(evaluationRepository.findStaleKeys(anyLong(), anyLong(), anyInt())).willReturn(List.of());
+        given(evaluationRepository.findStaleKeys(10L, 20L, POLICY_VERSION)).willReturn(failing);
+        given(evaluationService.reevaluate(failing)).willThrow(new IllegalStateException("DB 오류"));
+        givenRunSaved();
+
+        // when
+        job.start();
+        job.await(Duration.ofSeconds(5));
+
+        // then
+        verify(evaluationRepository, never()).findStaleKeys(eq(20L), anyLong(), anyInt());
+        assertThat(job.status().state()).isEqualTo(ReevaluationState.FAILED);
+        assertThat(job.status().checkpointId()).isEqualTo(10);
+        verify(runRepository).finish(eq(RUN_ID), eq(ReevaluationState.FAILED), eq(10L), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("실행 중에는 다시 시작할 수 없고, 취소하면 진행 중인 구간까지만 처리하고 CANCELLED로 멈춘다")
+    void t4() throws InterruptedException {
+        // given
+        job = createJob(1, 10);
+        List<EvaluationKey> first = List.of(new EvaluationKey(1L, YearMonth.of(2025, 1)));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        given(evaluationRepository.countStale(POLICY_VERSION)).willReturn(1L);
+        given(evaluationRepository.findMaxId()).willReturn(100L);
+        given(evaluationRepository.findStaleKeys(0L, 10L, POLICY_VERSION)).willReturn(first);
+        willAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        }).given(evaluationService).reevaluate(first);
+        givenRunSaved();
+
+        job.start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        assertThatThrownBy(() -> job.start())
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.REEVALUATION_ALREADY_RUNNING);
+
+        job.cancel();
+        release.countDown();
+        job.await(Duration.ofSeconds(5));
+
+        // then
+        verify(evaluationRepository, never()).findStaleKeys(eq(10L), anyLong(), anyInt());
+        ReevaluationStatus status = job.status();
+        assertThat(status.state()).isEqualTo(ReevaluationState.CANCELLED);
+        assertThat(status.reevaluated()).isEqualTo(1);
+        assertThat(status.checkpointId()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("체크포인트 DB 기록은 잠금 밖에서 해서, 기록이 느려도 진행 상태 조회와 다른 구간 완료가 기다리지 않는다")
+    void t5() throws Exception {
+        // given
+        job = createJob(2, 10);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        given(evaluationRepository.countStale(POLICY_VERSION)).willReturn(0L);
+        given(evaluationRepository.findMaxId()).willReturn(15L);
+        willAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        }).given(runRepository).updateProgress(eq(RUN_ID), anyLong(), anyLong(), any());
+        givenRunSaved();
+
+        job.start();
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 체크포인트 기록이 멈춰 있는 동안 상태 조회
+        ReevaluationStatus status = CompletableFuture.supplyAsync(() -> job.status()).get(1, TimeUnit.SECONDS);
+        release.countDown();
+
+        // then
+        assertThat(status.checkpointId()).isPositive();
+        assertThat(job.await(Duration.ofSeconds(5))).isTrue();
+        assertThat(job.status().state()).isEqualTo(ReevaluationState.COMPLETED);
+        assertThat(job.status().checkpointId()).isEqualTo(20);
+    }
+
+    private ReevaluationJob createJob(int parallelism, int chunkSize) {
+        return new ReevaluationJob(
+                evaluationRepository,
+                runRepository,
+                evaluationService,
+                new EvaluationPolicyRegistry(
+                        new EvaluationPolicyProperties("", Duration.ofSeconds(10)),
+                        new MockEnvironment(),
+                        new DefaultResourceLoader()
+                ),
+                new ReevaluationProperties(parallelism, chunkSize),
+                transactionManager
+        );
+    }
+
+    private void givenRunSaved() {
+        given(runRepository.save(any(ReevaluationRun.class))).willAnswer(invocation -> {
+            ReevaluationRun run = invocation.getArgument(0);
+            ReflectionTestUtils.setField(run, "id", RUN_ID);
+            return run;
+        });
+    }
+}
@@ -0,0 +1,199 @@
+package com.back.domain.evaluation.service;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.category.enums.CategoryType;
+import com.back.domain.category.enums.UsageUnit;
+import com.back.domain.category.registry.CategoryRegistry;
+import com.back.domain.category.registry.CategorySnapshot;
+import com.back.domain.dashboard.service.DashboardAggregateService;
+import com.back.domain.evaluation.columnar.EvaluationColumnStore;
+import com.back.domain.evaluation.dto.StoredEvaluation;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.enums.EvaluationStatus;
+import com.back.domain.evaluation.kernel.EvaluationKernel;
+import com.back.domain.evaluation.metrics.EvaluationMetrics;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.evaluation.policy.EvaluationPolicyProperties;
+import com.back.domain.evaluation.policy.EvaluationPolicyRegistry;
+import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import com.back.domain.subscription.entity.Subscription;
+import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.domain.subscription.repository.SubscriptionRepository;
+import com.back.domain.usage.entity.SubscriptionUsage;
+import com.back.domain.usage.repository.SubscriptionUsageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EvaluationServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    @Mock
+    private SubscriptionEvaluationRepository evaluationRepository;
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private SubscriptionUsageRepository usageRepository;
+
+    @Mock
+    private CategoryRegistry categoryRegistry;
+
+    @Mock
+    private DashboardAggregateService dashboardAggregateService;
+
+    @Mock
+    private EvaluationColumnStore evaluationColumnStore;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EvaluationService evaluationService;
+
+    @BeforeEach
+    void setUp() {
+        evaluationService = new EvaluationService(
+                evaluationRepository,
+                subscriptionRepository,
+                usageRepository,
+                categoryRegistry,
+                dashboardAggregateService,
+                new EvaluationMetrics(meterRegistry),
+                evaluationColumnStore,
+                new EvaluationPolicyRegistry(
+                        new EvaluationPolicyProperties("", Duration.ofSeconds(10)),
+                        new MockEnvironment(),
+                        new DefaultResourceLoader()
+                ),
+                EvaluationKernel.scalar()
+        );
+    }
+
+    private Subscription createNetflixSubscription(Long id) {
+        Category ott = new Category("OTT", 1200, UsageUnit.MINUTES, CategoryType.CONTENT);
+        ReflectionTestUtils.setField(ott, "id", 1L);
+        given(categoryRegistry.get(1L)).willReturn(CategorySnapshot.from(ott));
+
+        Subscription subscription = new Subscription(
+                USER_ID,
+                ott,
+                "Netflix",
+                17000L, 17000L, 17000L,
+                BillingCycle.MONTHLY,
+                SubscriptionStatus.ACTIVE
+        );
+        ReflectionTestUtils.setField(subscription, "id", id);
+        return subscription;
+    }
+
+    @Test
+    @DisplayName("단건 평가 - 정책으로 계산한 평가를 Upsert")
+    void t1() {
+        // given
+        Subscription netflix = createNetflixSubscription(1L);
+        YearMonth ym = YearMonth.of(2025, 2);
+
+        // when
+        evaluationService.evaluateAndSave(netflix, ym, 1200);
+
+        // then
+        ArgumentCaptor<SubscriptionEvaluation> captor = ArgumentCaptor.forClass(SubscriptionEvaluation.class);
+        verify(evaluationRepository).upsert(captor.capture());
+
+        SubscriptionEvaluation saved = captor.getValue();
+        assertThat(saved.getEvalMonth()).isEqualTo(ym);
+        assertThat(saved.getEfficiencyRate()).isEqualTo(100.0);
+        assertThat(saved.getStatus()).isEqualTo(EvaluationStatus.EFFICIENT);
+    }
+
+    @Test
+    @DisplayName("재평가 - 저장된 사용량 기준으로 계산하고, 그 사이 삭제(표시)된 구독/사용량 키는 건너뛴다")
+    void t2() {
+        // given
+        YearMonth ym = YearMonth.of(2025, 2);
+        Subscription netflix = createNetflixSubscription(1L);
+
+        EvaluationKey present = new EvaluationKey(1L, ym);
+        EvaluationKey usageDeleted = new EvaluationKey(1L, ym.minusMonths(1));
+        EvaluationKey subscriptionDeleted = new EvaluationKey(2L, ym);
+
+        given(subscriptionRepository.findAllActiveByIdInForUpdate(anyCollection())).willReturn(List.of(netflix));
+        given(usageRepository.findAllBySubscriptionIdsAndUsageMonths(anyCollection(), anyCollection()))
+                .willReturn(List.of(new SubscriptionUsage(netflix, ym, 0)));
+
+        // when
+        int evaluated = evaluationService.reevaluate(List.of(present, usageDeleted, subscriptionDeleted));
+
+        // then
+        assertThat(evaluated).isEqualTo(1);
+
+        ArgumentCaptor<SubscriptionEvaluation> captor = ArgumentCaptor.forClass(SubscriptionEvaluation.class);
+        verify(evaluationRepository).upsert(captor.capture());
+        assertThat(captor.getValue().getEvalMonth()).isEqualTo(ym);
+        assertThat(captor.getValue().getStatus()).isEqualTo(EvaluationStatus.GHOST);
+    }
+
+    @Test
+    @DisplayName("일괄 평가 - 같은 키는 마지막 값만 저장하고, 기존 평가 값과 함께 대시보드 집계에 반영")
+    void t3() {
+        // given
+        YearMonth ym = YearMonth.of(2025, 2);
+        Subscription netflix = createNetflixSubscription(1L);
+
+        StoredEvaluation before = new StoredEvaluation(1L, ym, EvaluationStatus.GHOST, 204000L);
+        given(evaluationRepository.findAllForUpdate(anyCollection())).willReturn(List.of(before));
+
+        // when
+        evaluationService.evaluateAndSaveAll(List.of(
+                new SubscriptionUsage(netflix, ym, 0),
+                new SubscriptionUsage(netflix, ym, 1200),
+                new SubscriptionUsage(netflix, ym.plusMonths(1), 600)
+        ));
+
+        // then
+        ArgumentCaptor<List<SubscriptionEvaluation>> upserted = ArgumentCaptor.forClass(List.class);
+        verify(evaluationRepository).batchUpsert(upserted.capture());
+        assertThat(upserted.getValue())
+                .extracting(SubscriptionEvaluation::getEvalMonth, SubscriptionEvaluation::getStatus)
+                .containsExactly(
+                        tuple(ym, EvaluationStatus.EFFICIENT),
+                        tuple(ym.plusMonths(1), EvaluationStatus.REVIEW)
+                );
+
+        ArgumentCaptor<Map<EvaluationKey, StoredEvaluation>> previous = ArgumentCaptor.forClass(Map.class);
+        verify(dashboardAggregateService).applyEvaluations(anyCollection(), previous.capture());
+        assertThat(previous.getValue()).containsExactly(entry(new EvaluationKey(1L, ym), before));
+
+        // 열 저장소에는 저장한 키만 (커밋 후) 다시 읽어 반영
+        verify(evaluationColumnStore).refreshAfterCommit(
+                Set.of(new EvaluationKey(1L, ym), new EvaluationKey(1L, ym.plusMonths(1))));
+
+        // 기존 행이 있던 키 1건은 Upsert 충돌(갱신)로 집계
+        assertThat(meterRegistry.get("evaluation.upsert.rows").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("evaluation.upsert.conflicts").counter().count()).isEqualTo(1);
+    }
+}
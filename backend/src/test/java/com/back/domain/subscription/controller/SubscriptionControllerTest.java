@@ -1,10 +1,14 @@
 package com.back.domain.subscription.controller;
 
+import com.back.domain.subscription.dto.SubscriptionBulkDeleteRequest;
+import com.back.domain.subscription.dto.SubscriptionBulkDeleteResponse;
+import com.back.domain.subscription.dto.SubscriptionPageResponse;
 import com.back.domain.subscription.dto.SubscriptionRequest;
 import com.back.domain.subscription.dto.SubscriptionResponse;
 import com.back.domain.subscription.enums.BillingCycle;
 import com.back.domain.subscription.enums.SubscriptionStatus;
 import com.back.domain.subscription.service.SubscriptionService;
+import com.back.global.common.web.UserHeaders;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
 import com.back.global.exception.GlobalExceptionHandler;
@@ -23,6 +27,8 @@ import java.util.List;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
@@ -36,6 +42,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Import(GlobalExceptionHandler.class)
 class SubscriptionControllerTest {
 
+    private static final Long USER_ID = 1L;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -67,11 +75,12 @@ class SubscriptionControllerTest {
                 SubscriptionStatus.ACTIVE
         );
 
-        given(subscriptionService.createSubscription(any()))
+        given(subscriptionService.createSubscription(eq(USER_ID), any()))
                 .willReturn(response);
 
         // when & then
         mockMvc.perform(post("/api/v1/subscriptions")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -82,7 +91,7 @@ class SubscriptionControllerTest {
                 .andExpect(jsonPath("$.data.name").value("Netflix"))
                 .andExpect(jsonPath("$.data.monthlyShareCost").value(5000));
 
-        verify(subscriptionService).createSubscription(any());
+        verify(subscriptionService).createSubscription(eq(USER_ID), any());
     }
 
     @Test
@@ -98,32 +107,36 @@ class SubscriptionControllerTest {
                 SubscriptionStatus.ACTIVE
         );
 
-        given(subscriptionService.getAllSubscriptions())
-                .willReturn(List.of(response));
+        given(subscriptionService.getSubscriptions(USER_ID, null, 20, null, null))
+                .willReturn(new SubscriptionPageResponse(List.of(response), 1L, true));
 
         // when & then
-        mockMvc.perform(get("/api/v1/subscriptions"))
+        mockMvc.perform(get("/api/v1/subscriptions")
+                        .header(UserHeaders.USER_ID, USER_ID))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.code").value("SUCCESS_200"))
                 .andExpect(jsonPath("$.message").value("구독 목록 조회 성공"))
-                .andExpect(jsonPath("$.data[0].id").value(1L))
-                .andExpect(jsonPath("$.data[0].name").value("Netflix"))
-                .andExpect(jsonPath("$.data[0].monthlyShareCost").value(5000));
+                .andExpect(jsonPath("$.data.items[0].id").value(1L))
+                .andExpect(jsonPath("$.data.items[0].name").value("Netflix"))
+                .andExpect(jsonPath("$.data.items[0].monthlyShareCost").value(5000))
+                .andExpect(jsonPath("$.data.nextCursor").value(1L))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
 
-        verify(subscriptionService).getAllSubscriptions();
+        verify(subscriptionService).getSubscriptions(USER_ID, null, 20, null, null);
     }
 
     @Test
     @DisplayName("구독 삭제 API 성공")
     void t3() throws Exception {
-        mockMvc.perform(delete("/api/v1/subscriptions/1"))
+        mockMvc.perform(delete("/api/v1/subscriptions/1")
+                        .header(UserHeaders.USER_ID, USER_ID))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.code").value("SUCCESS_200"))
                 .andExpect(jsonPath("$.message").value("1번 구독이 삭제되었습니다."));
 
-        verify(subscriptionService).deleteSubscription(1L);
+        verify(subscriptionService).deleteSubscription(USER_ID, 1L);
     }
 
     @Test
@@ -139,11 +152,12 @@ class SubscriptionControllerTest {
                 SubscriptionStatus.ACTIVE
         );
 
-        given(subscriptionService.createSubscription(any()))
+        given(subscriptionService.createSubscription(eq(USER_ID), any()))
                 .willThrow(new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
 
         // when & then
         mockMvc.perform(post("/api/v1/subscriptions")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isNotFound())
@@ -152,7 +166,7 @@ class SubscriptionControllerTest {
                 .andExpect(jsonPath("$.message").value(ErrorCode.CATEGORY_NOT_FOUND.getMessage()))
                 .andExpect(jsonPath("$.data").value(nullValue()));
 
-        verify(subscriptionService).createSubscription(any());
+        verify(subscriptionService).createSubscription(eq(USER_ID), any());
     }
 
     @Test
@@ -160,16 +174,17 @@ class SubscriptionControllerTest {
     void t5() throws Exception {
         willThrow(new CustomException(ErrorCode.SUBSCRIPTION_NOT_FOUND))
                 .given(subscriptionService)
-                .deleteSubscription(1L);
+                .deleteSubscription(USER_ID, 1L);
 
-        mockMvc.perform(delete("/api/v1/subscriptions/1"))
+        mockMvc.perform(delete("/api/v1/subscriptions/1")
+                        .header(UserHeaders.USER_ID, USER_ID))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.code").value(ErrorCode.SUBSCRIPTION_NOT_FOUND.getCode()))
                 .andExpect(jsonPath("$.message").value(ErrorCode.SUBSCRIPTION_NOT_FOUND.getMessage()))
                 .andExpect(jsonPath("$.data").value(nullValue()));
 
-        verify(subscriptionService).deleteSubscription(1L);
+        verify(subscriptionService).deleteSubscription(USER_ID, 1L);
     }
 
     @Test
@@ -185,6 +200,7 @@ class SubscriptionControllerTest {
         );
 
         mockMvc.perform(post("/api/v1/subscriptions")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(invalidRequest)))
                 .andExpect(status().isBadRequest())
@@ -194,6 +210,76 @@ class SubscriptionControllerTest {
                 .andExpect(jsonPath("$.data[*].field").value(hasItem("name")))
                 .andExpect(jsonPath("$.data[?(@.field=='name')].message").exists());
 
-        verify(subscriptionService, never()).createSubscription(any());
+        verify(subscriptionService, never()).createSubscription(any(), any());
+    }
+
+    @Test
+    @DisplayName("구독 목록 조회 - 커서/크기/필터 파라미터 전달")
+    void t7() throws Exception {
+        given(subscriptionService.getSubscriptions(USER_ID, 40L, 50, 2L, SubscriptionStatus.TRIAL))
+                .willReturn(new SubscriptionPageResponse(List.of(), null, false));
+
+        mockMvc.perform(get("/api/v1/subscriptions")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("cursor", "40")
+                        .param("size", "50")
+                        .param("categoryId", "2")
+                        .param("status", "TRIAL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(0))
+                .andExpect(jsonPath("$.data.nextCursor").value(nullValue()))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("예외 발생 - 페이지 크기 상한 초과 / 정의되지 않은 상태 값이면 BAD_REQUEST")
+    void t8() throws Exception {
+        mockMvc.perform(get("/api/v1/subscriptions")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.getCode()))
+                .andExpect(jsonPath("$.data[*].field").value(hasItem("size")));
+
+        mockMvc.perform(get("/api/v1/subscriptions")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("status", "PAUSED"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.getCode()))
+                .andExpect(jsonPath("$.data[0].field").value("status"));
+
+        verify(subscriptionService, never()).getSubscriptions(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("구독 일괄 삭제 API 성공")
+    void t9() throws Exception {
+        SubscriptionBulkDeleteRequest request = new SubscriptionBulkDeleteRequest(List.of(1L, 2L, 99L));
+
+        given(subscriptionService.deleteSubscriptions(USER_ID, List.of(1L, 2L, 99L)))
+                .willReturn(new SubscriptionBulkDeleteResponse(3, 2, List.of(99L)));
+
+        mockMvc.perform(post("/api/v1/subscriptions/bulk-delete")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("구독 2건이 삭제되었습니다."))
+                .andExpect(jsonPath("$.data.deletedCount").value(2))
+                .andExpect(jsonPath("$.data.notFoundIds[0]").value(99));
+    }
+
+    @Test
+    @DisplayName("예외 발생 - 일괄 삭제 id 목록이 비어 있으면 BAD_REQUEST")
+    void t10() throws Exception {
+        mockMvc.perform(post("/api/v1/subscriptions/bulk-delete")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.getCode()))
+                .andExpect(jsonPath("$.data[*].field").value(hasItem("ids")));
+
+        verify(subscriptionService, never()).deleteSubscriptions(any(), any());
     }
 }
@@ -0,0 +1,90 @@
+package com.back.domain.subscription.purge;
+
+import com.back.domain.subscription.repository.SubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriptionPurgerTest {
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SubscriptionPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        purger = new SubscriptionPurger(
+                subscriptionRepository,
+                new SubscriptionPurgeProperties(true, Duration.ofSeconds(30), 2, 100),
+                transactionManager
+        );
+    }
+
+    @Test
+    @DisplayName("자식 행을 청크 단위로 모두 지운 뒤 구독 행을 지우고, 삭제 표시된 구독이 없을 때까지 반복한다")
+    void t1() {
+        // given - 첫 배치는 가득(2건) 차서 한 번 더 조회, 두 번째 배치는 1건
+        List<Long> first = List.of(1L, 2L);
+        List<Long> second = List.of(5L);
+        given(subscriptionRepository.findDeletedIds(2)).willReturn(first, second);
+
+        given(subscriptionRepository.deleteUsagesChunk(first, 100)).willReturn(100, 100, 30);
+        given(subscriptionRepository.deleteEvaluationsChunk(first, 100)).willReturn(12);
+        given(subscriptionRepository.deleteMarked(first)).willReturn(2);
+
+        given(subscriptionRepository.deleteUsagesChunk(second, 100)).willReturn(0);
+        given(subscriptionRepository.deleteEvaluationsChunk(second, 100)).willReturn(0);
+        given(subscriptionRepository.deleteMarked(second)).willReturn(1);
+
+        // when
+        int purged = purger.purge();
+
+        // then
+        assertThat(purged).isEqualTo(3);
+        verify(subscriptionRepository, times(3)).deleteUsagesChunk(first, 100);
+
+        InOrder inOrder = inOrder(subscriptionRepository);
+        inOrder.verify(subscriptionRepository, times(3)).deleteUsagesChunk(first, 100);
+        inOrder.verify(subscriptionRepository).deleteEvaluationsChunk(first, 100);
+        inOrder.verify(subscriptionRepository).deleteMarked(first);
+        inOrder.verify(subscriptionRepository).deleteMarked(second);
+
+        // 청크마다 트랜잭션을 끊는다 (사용량 3 + 평가 1 + 구독 1) + (1 + 1 + 1)
+        verify(transactionManager, times(8)).commit(any());
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 구독이 없으면 아무것도 지우지 않는다")
+    void t2() {
+        // given
+        given(subscriptionRepository.findDeletedIds(2)).willReturn(List.of());
+
+        // when
+        int purged = purger.purge();
+
+        // then
+        assertThat(purged).isZero();
+        verify(subscriptionRepository, never()).deleteMarked(any());
+    }
+}
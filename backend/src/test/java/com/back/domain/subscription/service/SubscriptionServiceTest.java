@@ -4,14 +4,17 @@ import com.back.domain.category.entity.Category;
 import com.back.domain.category.enums.CategoryType;
 import com.back.domain.category.enums.UsageUnit;
 import com.back.domain.category.repository.CategoryRepository;
-import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import com.back.domain.dashboard.service.DashboardAggregateService;
+import com.back.domain.evaluation.columnar.EvaluationColumnStore;
+import com.back.domain.subscription.dto.SubscriptionBulkDeleteResponse;
+import com.back.domain.subscription.dto.SubscriptionPageResponse;
 import com.back.domain.subscription.dto.SubscriptionRequest;
 import com.back.domain.subscription.dto.SubscriptionResponse;
 import com.back.domain.subscription.entity.Subscription;
 import com.back.domain.subscription.enums.BillingCycle;
 import com.back.domain.subscription.enums.SubscriptionStatus;
 import com.back.domain.subscription.repository.SubscriptionRepository;
-import com.back.domain.usage.repository.SubscriptionUsageRepository;
+import com.back.global.datasource.ReplicaLagGuard;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
@@ -23,29 +26,39 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class SubscriptionServiceTest {
 
+    private static final Long USER_ID = 1L;
+
     @Mock
     private SubscriptionRepository subscriptionRepository;
 
     @Mock
-    private SubscriptionUsageRepository subscriptionUsageRepository;
+    private CategoryRepository categoryRepository;
 
     @Mock
-    private SubscriptionEvaluationRepository subscriptionEvaluationRepository;
+    private DashboardAggregateService dashboardAggregateService;
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private EvaluationColumnStore evaluationColumnStore;
+
+    @Mock
+    private ReplicaLagGuard lagGuard;
 
     @InjectMocks
     private SubscriptionService subscriptionService;
@@ -83,7 +96,7 @@ class SubscriptionServiceTest {
                 });
 
         // when
-        SubscriptionResponse response = subscriptionService.createSubscription(request);
+        SubscriptionResponse response = subscriptionService.createSubscription(USER_ID, request);
 
         // then
         assertThat(response.id()).isEqualTo(10L);
@@ -93,6 +106,7 @@ class SubscriptionServiceTest {
         assertThat(response.status()).isEqualTo(SubscriptionStatus.ACTIVE);
 
         verify(subscriptionRepository).save(any(Subscription.class));
+        verify(lagGuard).recordWritesAfterCommit(List.of(USER_ID));
     }
 
     @Test
@@ -124,7 +138,7 @@ class SubscriptionServiceTest {
                 .willAnswer(invocation -> invocation.getArgument(0));
 
         // when
-        SubscriptionResponse response = subscriptionService.createSubscription(request);
+        SubscriptionResponse response = subscriptionService.createSubscription(USER_ID, request);
 
         // then
         assertThat(response.monthlyShareCost()).isEqualTo(10000L);
@@ -147,48 +161,41 @@ class SubscriptionServiceTest {
                 .willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> subscriptionService.createSubscription(request))
+        assertThatThrownBy(() -> subscriptionService.createSubscription(USER_ID, request))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_NOT_FOUND);
     }
 
     @Test
-    @DisplayName("예외 발생 - 존재하지 않는 구독 삭제")
+    @DisplayName("예외 발생 - 존재하지 않거나 다른 사용자의 구독 삭제")
     void t4() {
         // given
-        given(subscriptionRepository.existsById(1L))
-                .willReturn(false);
+        given(subscriptionRepository.findAllActiveByUserIdAndIdInForUpdate(USER_ID, List.of(1L)))
+                .willReturn(List.of());
 
         // when & then
-        assertThatThrownBy(() -> subscriptionService.deleteSubscription(1L))
+        assertThatThrownBy(() -> subscriptionService.deleteSubscription(USER_ID, 1L))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SUBSCRIPTION_NOT_FOUND);
     }
 
     @Test
-    @DisplayName("구독 정상 삭제")
+    @DisplayName("구독 정상 삭제 - 구독을 잠근 뒤 집계 기여분을 차감하고 삭제 표시만 한다 (이력은 건드리지 않음)")
     void t5() {
         Long subscriptionId = 1L;
+        Subscription subscription = subscription(subscriptionId, "Netflix");
 
-        given(subscriptionRepository.existsById(subscriptionId))
-                .willReturn(true);
+        given(subscriptionRepository.findAllActiveByUserIdAndIdInForUpdate(USER_ID, List.of(subscriptionId)))
+                .willReturn(List.of(subscription));
 
-        subscriptionService.deleteSubscription(subscriptionId);
+        subscriptionService.deleteSubscription(USER_ID, subscriptionId);
 
-        InOrder inOrder = inOrder(
-                subscriptionUsageRepository,
-                subscriptionEvaluationRepository,
-                subscriptionRepository
-        );
-
-        inOrder.verify(subscriptionUsageRepository)
-                .deleteAllBySubscriptionId(subscriptionId);
-
-        inOrder.verify(subscriptionEvaluationRepository)
-                .deleteAllBySubscriptionId(subscriptionId);
+        InOrder inOrder = inOrder(subscriptionRepository, dashboardAggregateService);
+        inOrder.verify(subscriptionRepository).findAllActiveByUserIdAndIdInForUpdate(USER_ID, List.of(subscriptionId));
+        inOrder.verify(dashboardAggregateService).applyRemoval(List.of(subscriptionId));
+        inOrder.verify(subscriptionRepository).markDeleted(eq(List.of(subscriptionId)), any(LocalDateTime.class));
 
-        inOrder.verify(subscriptionRepository)
-                .deleteById(subscriptionId);
+        verify(subscriptionRepository, never()).deleteById(any());
     }
 
     @Test
@@ -213,9 +220,78 @@ class SubscriptionServiceTest {
             return s;
         });
 
-        SubscriptionResponse response = subscriptionService.createSubscription(request);
+        SubscriptionResponse response = subscriptionService.createSubscription(USER_ID, request);
 
         // 10001 / 12 = 833.416... -> 833
         assertThat(response.monthlyShareCost()).isEqualTo(833L);
     }
+
+    @Test
+    @DisplayName("구독 목록 키셋 조회 - size + 1건을 읽어 다음 페이지 여부와 커서를 계산")
+    void t7() {
+        // given
+        List<SubscriptionResponse> rows = List.of(
+                new SubscriptionResponse(11L, "OTT", "Netflix", 17000L, BillingCycle.MONTHLY, SubscriptionStatus.ACTIVE),
+                new SubscriptionResponse(12L, "OTT", "Tving", 9500L, BillingCycle.MONTHLY, SubscriptionStatus.ACTIVE),
+                new SubscriptionResponse(15L, "OTT", "Watcha", 7900L, BillingCycle.MONTHLY, SubscriptionStatus.ACTIVE)
+        );
+        given(subscriptionRepository.findPageAfter(USER_ID, 10L, 1L, SubscriptionStatus.ACTIVE, 3)).willReturn(rows);
+
+        // when
+        SubscriptionPageResponse page = subscriptionService.getSubscriptions(USER_ID, 10L, 2, 1L, SubscriptionStatus.ACTIVE);
+
+        // then
+        assertThat(page.items()).extracting(SubscriptionResponse::id).containsExactly(11L, 12L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("구독 목록 키셋 조회 - 마지막 페이지는 커서가 없고, 엔티티를 조회하지 않는다")
+    void t8() {
+        // given
+        given(subscriptionRepository.findPageAfter(eq(USER_ID), eq(12L), any(), any(), anyInt())).willReturn(List.of(
+                new SubscriptionResponse(15L, "OTT", "Watcha", 7900L, BillingCycle.MONTHLY, SubscriptionStatus.ACTIVE)
+        ));
+
+        // when
+        SubscriptionPageResponse page = subscriptionService.getSubscriptions(USER_ID, 12L, 20, null, null);
+
+        // then
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        verify(subscriptionRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("구독 일괄 삭제 - 중복 id는 한 번만 처리하고, 없거나 이미 삭제된 id는 결과에 담는다")
+    void t9() {
+        // given
+        Subscription netflix = subscription(1L, "Netflix");
+        Subscription tving = subscription(3L, "Tving");
+
+        given(subscriptionRepository.findAllActiveByUserIdAndIdInForUpdate(USER_ID, List.of(3L, 1L, 7L)))
+                .willReturn(List.of(netflix, tving));
+
+        // when
+        SubscriptionBulkDeleteResponse response = subscriptionService.deleteSubscriptions(USER_ID, List.of(3L, 1L, 3L, 7L));
+
+        // then
+        assertThat(response.requestedCount()).isEqualTo(3);
+        assertThat(response.deletedCount()).isEqualTo(2);
+        assertThat(response.notFoundIds()).containsExactly(7L);
+        verify(dashboardAggregateService).applyRemoval(List.of(1L, 3L));
+        verify(subscriptionRepository).markDeleted(eq(List.of(1L, 3L)), any(LocalDateTime.class));
+        verify(evaluationColumnStore).removeAfterCommit(List.of(1L, 3L));
+    }
+
+    private Subscription subscription(Long id, String name) {
+        Category category = new Category("OTT", 1800, UsageUnit.MINUTES, CategoryType.CONTENT);
+        Subscription subscription = new Subscription(
+                USER_ID, category, name, 17000L, 17000L, 17000L, BillingCycle.MONTHLY, SubscriptionStatus.ACTIVE
+        );
+        ReflectionTestUtils.setField(subscription, "id", id);
+        return subscription;
+    }
 }
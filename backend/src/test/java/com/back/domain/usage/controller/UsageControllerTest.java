@@ -1,7 +1,15 @@
 package com.back.domain.usage.controller;
 
+import com.back.domain.evaluation.pipeline.AsyncEvaluationPipeline;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.usage.dto.UsageBatchRequest;
+import com.back.domain.usage.dto.UsageBatchResponse;
+import com.back.domain.usage.dto.UsageImportFormat;
+import com.back.domain.usage.dto.UsageImportResponse;
 import com.back.domain.usage.dto.UsageRequest;
+import com.back.domain.usage.service.UsageImportService;
 import com.back.domain.usage.service.UsageService;
+import com.back.global.common.web.UserHeaders;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
 import com.back.global.exception.GlobalExceptionHandler;
@@ -16,11 +24,15 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.YearMonth;
+import java.util.List;
 
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -29,12 +41,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Import(GlobalExceptionHandler.class)
 class UsageControllerTest {
 
+    private static final Long USER_ID = 1L;
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
     private UsageService usageService;
 
+    @MockBean
+    private UsageImportService usageImportService;
+
+    @MockBean
+    private AsyncEvaluationPipeline evaluationPipeline;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -43,6 +63,7 @@ class UsageControllerTest {
         UsageRequest request = new UsageRequest(1L, YearMonth.of(2025, 2), 80);
 
         mockMvc.perform(post("/api/v1/usages")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -57,9 +78,10 @@ class UsageControllerTest {
 
         willThrow(new CustomException(ErrorCode.SUBSCRIPTION_NOT_FOUND))
                 .given(usageService)
-                .recordUsageAndEvaluate(any());
+                .recordUsageAndEvaluate(eq(USER_ID), any());
 
         mockMvc.perform(post("/api/v1/usages")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isNotFound())
@@ -74,6 +96,7 @@ class UsageControllerTest {
         UsageRequest request = new UsageRequest(1L, YearMonth.of(2025, 2), -1);
 
         mockMvc.perform(post("/api/v1/usages")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest())
@@ -98,6 +121,7 @@ class UsageControllerTest {
             """;
 
         mockMvc.perform(post("/api/v1/usages")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(invalidJson))
                 .andExpect(status().isBadRequest())
@@ -123,6 +147,7 @@ class UsageControllerTest {
                 """;
 
         mockMvc.perform(post("/api/v1/usages")
+                        .header(UserHeaders.USER_ID, USER_ID)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(invalidJson))
                 .andExpect(status().isBadRequest())
@@ -134,4 +159,141 @@ class UsageControllerTest {
 
         then(usageService).shouldHaveNoInteractions();
     }
+
+    @Test
+    @DisplayName("사용량 일괄 기록 API 성공 - 행별 결과 리포트 반환")
+    void t6() throws Exception {
+        YearMonth ym = YearMonth.of(2025, 2);
+        UsageBatchRequest request = new UsageBatchRequest(List.of(
+                new UsageRequest(1L, ym, 80),
+                new UsageRequest(99L, ym, 10)
+        ));
+
+        UsageBatchResponse response = UsageBatchResponse.of(List.of(
+                UsageBatchResponse.RowResult.success(0, request.usages().get(0)),
+                UsageBatchResponse.RowResult.failure(1, request.usages().get(1), ErrorCode.SUBSCRIPTION_NOT_FOUND)
+        ));
+
+        given(usageService.recordUsagesInBatch(eq(USER_ID), any())).willReturn(response);
+
+        mockMvc.perform(post("/api/v1/usages/batch")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.totalCount").value(2))
+                .andExpect(jsonPath("$.data.successCount").value(1))
+                .andExpect(jsonPath("$.data.failureCount").value(1))
+                .andExpect(jsonPath("$.data.results[0].date").value("2025-02"))
+                .andExpect(jsonPath("$.data.results[1].code").value(ErrorCode.SUBSCRIPTION_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    @DisplayName("예외 - 일괄 기록 중 한 행이라도 형식 검증에 실패하면 BAD_REQUEST + fieldErrors 반환")
+    void t7() throws Exception {
+        UsageBatchRequest request = new UsageBatchRequest(List.of(
+                new UsageRequest(1L, YearMonth.of(2025, 2), 80),
+                new UsageRequest(1L, YearMonth.of(2025, 3), -1)
+        ));
+
+        mockMvc.perform(post("/api/v1/usages/batch")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.getCode()))
+                .andExpect(jsonPath("$.data[*].field").value(hasItem("usages[1].usageValue")));
+
+        then(usageService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("CSV 사용량 가져오기 API 성공 - Content-Type으로 형식 판별")
+    void t8() throws Exception {
+        UsageImportResponse response = new UsageImportResponse(
+                2, 1, 1, 1, false,
+                List.of(new UsageImportResponse.LineError(3, ErrorCode.INVALID_IMPORT_LINE.getCode(), "숫자 형식이 올바르지 않습니다."))
+        );
+
+        given(usageImportService.importUsages(eq(USER_ID), any(), eq(UsageImportFormat.CSV))).willReturn(response);
+
+        String csv = """
+                subscriptionId,date,usageValue
+                1,2025-02,80
+                abc,2025-02,10
+                """;
+
+        mockMvc.perform(post("/api/v1/usages/import")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .contentType(UsageImportFormat.CSV_MEDIA_TYPE)
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.successCount").value(1))
+                .andExpect(jsonPath("$.data.errors[0].line").value(3));
+    }
+
+    @Test
+    @DisplayName("예외 - 지원하지 않는 Content-Type으로 가져오기 요청 시 서비스 호출 없음")
+    void t9() throws Exception {
+        mockMvc.perform(post("/api/v1/usages/import")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<usage/>"))
+                .andExpect(status().isUnsupportedMediaType())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.code").value(ErrorCode.UNSUPPORTED_MEDIA_TYPE.getCode()));
+
+        then(usageImportService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("비동기 평가 모드 - 기본 요청은 대기 없이 '예약' 응답")
+    void t10() throws Exception {
+        UsageRequest request = new UsageRequest(1L, YearMonth.of(2025, 2), 80);
+        given(evaluationPipeline.isEnabled()).willReturn(true);
+
+        mockMvc.perform(post("/api/v1/usages")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("사용량이 기록되었으며 효율 분석이 예약되었습니다."));
+
+        then(evaluationPipeline).should(never()).await(any());
+    }
+
+    @Test
+    @DisplayName("비동기 평가 모드 - waitForEvaluation=true면 평가 완료까지 대기")
+    void t11() throws Exception {
+        UsageRequest request = new UsageRequest(1L, YearMonth.of(2025, 2), 80);
+        given(evaluationPipeline.isEnabled()).willReturn(true);
+        given(evaluationPipeline.await(new EvaluationKey(1L, YearMonth.of(2025, 2)))).willReturn(true);
+
+        mockMvc.perform(post("/api/v1/usages")
+                        .header(UserHeaders.USER_ID, USER_ID)
+                        .param("waitForEvaluation", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("사용량이 기록되었으며 효율 분석이 완료되었습니다."));
+    }
+
+    @Test
+    @DisplayName("예외 - 사용자 헤더(X-User-Id)가 없으면 BAD_REQUEST 반환, 서비스 호출 없음")
+    void t12() throws Exception {
+        UsageRequest request = new UsageRequest(1L, YearMonth.of(2025, 2), 80);
+
+        mockMvc.perform(post("/api/v1/usages")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.getCode()))
+                .andExpect(jsonPath("$.data[0].field").value(UserHeaders.USER_ID));
+
+        then(usageService).shouldHaveNoInteractions();
+    }
 }
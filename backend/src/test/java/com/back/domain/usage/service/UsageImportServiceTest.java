@@ -0,0 +1,159 @@
+package com.back.domain.usage.service;
+
+import com.back.domain.usage.dto.UsageBatchResponse;
+import com.back.domain.usage.dto.UsageImportFormat;
+import com.back.domain.usage.dto.UsageImportResponse;
+import com.back.domain.usage.dto.UsageRequest;
+import com.back.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UsageImportServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UsageService usageService;
+
+    private UsageImportService usageImportService;
+
+    @BeforeEach
+    void setUp() {
+        usageImportService = new UsageImportService(
+                usageService,
+                JsonMapper.builder().addModule(new JavaTimeModule()).build(),
+                Validation.buildDefaultValidatorFactory().getValidator()
+        );
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기 - 헤더는 건너뛰고 형식 오류 행은 줄 번호와 함께 보고")
+    void t1() {
+        // given
+        String csv = """
+                subscriptionId,date,usageValue
+                1,2025-02,80
+                abc,2025-02,10
+
+                1,2025-13,10
+                2,2025-02
+                1,2025-03,-5
+                """;
+
+        givenAllRowsSucceed();
+
+        // when
+        UsageImportResponse response = usageImportService.importUsages(USER_ID, toStream(csv), UsageImportFormat.CSV);
+
+        // then
+        assertThat(response.totalLines()).isEqualTo(5);
+        assertThat(response.successCount()).isEqualTo(1);
+        assertThat(response.failureCount()).isEqualTo(4);
+        assertThat(response.committedChunks()).isEqualTo(1);
+        assertThat(response.errors())
+                .extracting(UsageImportResponse.LineError::line)
+                .containsExactly(3L, 5L, 6L, 7L);
+        assertThat(response.errors())
+                .extracting(UsageImportResponse.LineError::code)
+                .containsOnly(ErrorCode.INVALID_IMPORT_LINE.getCode());
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - 일괄 기록 단계의 행 실패도 원본 줄 번호로 보고")
+    void t2() {
+        // given
+        String ndjson = """
+                {"subscriptionId": 1, "date": "2025-02", "usageValue": 80}
+                {"subscriptionId": 99, "date": "2025-02", "usageValue": 10}
+                {"subscriptionId": 1, "date": "2025-02",
+                """;
+
+        given(usageService.recordUsagesInBatch(eq(USER_ID), anyList())).willAnswer(invocation -> {
+            List<UsageRequest> chunk = invocation.getArgument(1);
+            return UsageBatchResponse.of(List.of(
+                    UsageBatchResponse.RowResult.success(0, chunk.get(0)),
+                    UsageBatchResponse.RowResult.failure(1, chunk.get(1), ErrorCode.SUBSCRIPTION_NOT_FOUND)
+            ));
+        });
+
+        // when
+        UsageImportResponse response = usageImportService.importUsages(USER_ID, toStream(ndjson), UsageImportFormat.NDJSON);
+
+        // then
+        assertThat(response.totalLines()).isEqualTo(3);
+        assertThat(response.successCount()).isEqualTo(1);
+        assertThat(response.failureCount()).isEqualTo(2);
+        assertThat(response.errors()).containsExactlyInAnyOrder(
+                new UsageImportResponse.LineError(2, ErrorCode.SUBSCRIPTION_NOT_FOUND.getCode(), ErrorCode.SUBSCRIPTION_NOT_FOUND.getMessage()),
+                new UsageImportResponse.LineError(3, ErrorCode.INVALID_IMPORT_LINE.getCode(), "JSON 형식이 올바르지 않습니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("청크 크기 단위로 나누어 커밋하고, 보고하는 오류 수에는 상한이 있다")
+    void t3() {
+        // given
+        int validRows = UsageImportService.CHUNK_SIZE * 2 + 10;
+        int invalidRows = UsageImportService.MAX_REPORTED_ERRORS + 5;
+
+        StringBuilder csv = new StringBuilder();
+        IntStream.range(0, validRows).forEach(i -> csv.append("1,2025-02,").append(i % 100).append('\n'));
+        IntStream.range(0, invalidRows).forEach(i -> csv.append("x,y,z\n"));
+
+        givenAllRowsSucceed();
+
+        // when
+        UsageImportResponse response = usageImportService.importUsages(USER_ID, toStream(csv.toString()), UsageImportFormat.CSV);
+
+        // then
+        ArgumentCaptor<List<UsageRequest>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+        verify(usageService, times(3)).recordUsagesInBatch(eq(USER_ID), chunkCaptor.capture());
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        chunkCaptor.getAllValues().forEach(chunk -> chunkSizes.add(chunk.size()));
+        assertThat(chunkSizes).containsExactly(UsageImportService.CHUNK_SIZE, UsageImportService.CHUNK_SIZE, 10);
+        assertThat(chunkCaptor.getAllValues().get(2).get(0).date()).isEqualTo(YearMonth.of(2025, 2));
+
+        assertThat(response.successCount()).isEqualTo(validRows);
+        assertThat(response.failureCount()).isEqualTo(invalidRows);
+        assertThat(response.errors()).hasSize(UsageImportService.MAX_REPORTED_ERRORS);
+        assertThat(response.errorsTruncated()).isTrue();
+    }
+
+    private void givenAllRowsSucceed() {
+        given(usageService.recordUsagesInBatch(eq(USER_ID), anyList())).willAnswer(invocation -> {
+            List<UsageRequest> chunk = invocation.getArgument(1);
+            return UsageBatchResponse.of(IntStream.range(0, chunk.size())
+                    .mapToObj(i -> UsageBatchResponse.RowResult.success(i, chunk.get(i)))
+                    .toList());
+        });
+    }
+
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
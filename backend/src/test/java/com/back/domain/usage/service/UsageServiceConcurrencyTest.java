@@ -0,0 +1,143 @@
+package com.back.domain.usage.service;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.category.repository.CategoryRepository;
+import com.back.domain.dashboard.service.DashboardAggregateService;
+import com.back.domain.evaluation.entity.SubscriptionEvaluation;
+import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import com.back.domain.subscription.entity.Subscription;
+import com.back.domain.subscription.enums.BillingCycle;
+import com.back.domain.subscription.enums.SubscriptionStatus;
+import com.back.domain.subscription.repository.SubscriptionRepository;
+import com.back.domain.usage.dto.UsageRequest;
+import com.back.domain.usage.entity.SubscriptionUsage;
+import com.back.domain.usage.repository.SubscriptionUsageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:usage-concurrency;MODE=MySQL;LOCK_TIMEOUT=10000",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class UsageServiceConcurrencyTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int WRITERS = 8;
+    private static final int MONTHS_PER_WRITER = 10;
+    private static final YearMonth BASE_MONTH = YearMonth.of(2020, 1);
+    private static final YearMonth SHARED_MONTH = YearMonth.of(2030, 1);
+
+    @Autowired
+    private UsageService usageService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private SubscriptionUsageRepository usageRepository;
+
+    @Autowired
+    private SubscriptionEvaluationRepository evaluationRepository;
+
+    @Autowired
+    private DashboardAggregateService dashboardAggregateService;
+
+    @Test
+    @DisplayName("동시성 - 같은 구독에 병렬로 Upsert 해도 유실/중복/예외 없이 키당 1건만 남는다")
+    void t1() throws Exception {
+        // given
+        Category ott = categoryRepository.findAll().stream()
+                .filter(c -> c.getName().equals("OTT"))
+                .findFirst()
+                .orElseThrow();
+
+        Subscription subscription = subscriptionRepository.save(new Subscription(
+                USER_ID, ott, "Netflix", 17000L, 17000L, 17000L, BillingCycle.MONTHLY, SubscriptionStatus.ACTIVE
+        ));
+        Long subscriptionId = subscription.getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when: 각 writer는 자기 전용 월 10개 + 모든 writer가 공유하는 월 1개를 번갈아 기록
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                for (int i = 0; i < MONTHS_PER_WRITER; i++) {
+                    YearMonth own = BASE_MONTH.plusMonths((long) writer * MONTHS_PER_WRITER + i);
+                    usageService.recordUsageAndEvaluate(USER_ID, new UsageRequest(subscriptionId, own, expectedValue(writer, i)));
+                    usageService.recordUsageAndEvaluate(USER_ID, new UsageRequest(subscriptionId, SHARED_MONTH, 100 + writer));
+                }
+                return null;
+            }));
+        }
+
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(); // 어떤 writer도 예외로 끝나지 않아야 함
+        }
+        executor.shutdown();
+
+        // then
+        Map<YearMonth, SubscriptionUsage> usages = usageRepository.findAll().stream()
+                .filter(u -> u.getSubscription().getId().equals(subscriptionId))
+                .collect(Collectors.toMap(SubscriptionUsage::getUsageMonth, Function.identity()));
+
+        Map<YearMonth, SubscriptionEvaluation> evaluations = evaluationRepository.findAll().stream()
+                .filter(e -> e.getSubscription().getId().equals(subscriptionId))
+                .collect(Collectors.toMap(SubscriptionEvaluation::getEvalMonth, Function.identity()));
+
+        int expectedKeys = WRITERS * MONTHS_PER_WRITER + 1;
+        assertThat(usages).hasSize(expectedKeys);
+        assertThat(evaluations).hasSize(expectedKeys);
+
+        // 전용 월: 마지막(유일한) 쓰기 값이 그대로 남아 있어야 함
+        for (int w = 0; w < WRITERS; w++) {
+            for (int i = 0; i < MONTHS_PER_WRITER; i++) {
+                YearMonth own = BASE_MONTH.plusMonths((long) w * MONTHS_PER_WRITER + i);
+                int expected = expectedValue(w, i);
+
+                assertThat(usages.get(own).getUsageValue()).isEqualTo(expected);
+                assertThat(evaluations.get(own).getEfficiencyRate())
+                        .isEqualTo((double) expected / ott.getReferenceValue() * 100);
+            }
+        }
+
+        // 공유 월: 한 writer의 값이 사용량/평가에 일관되게 반영되어 있어야 함
+        int sharedValue = usages.get(SHARED_MONTH).getUsageValue();
+        assertThat(sharedValue).isBetween(100, 100 + WRITERS - 1);
+        assertThat(evaluations.get(SHARED_MONTH).getEfficiencyRate())
+                .isEqualTo((double) sharedValue / ott.getReferenceValue() * 100);
+
+        // 월 대시보드 집계: 같은 키를 여러 번 덮어써도 증감분이 겹치지 않아 재계산 값과 일치
+        assertThat(dashboardAggregateService.check(USER_ID, SHARED_MONTH).consistent()).isTrue();
+        assertThat(dashboardAggregateService.check(USER_ID, SHARED_MONTH).stored().evaluatedCount()).isEqualTo(1);
+        assertThat(dashboardAggregateService.check(USER_ID, BASE_MONTH).consistent()).isTrue();
+    }
+
+    private static int expectedValue(int writer, int index) {
+        return writer * 100 + index + 1;
+    }
+}
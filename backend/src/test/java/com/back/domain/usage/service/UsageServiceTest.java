@@ -3,38 +3,51 @@ package com.back.domain.usage.service;
 import com.back.domain.category.entity.Category;
 import com.back.domain.category.enums.CategoryType;
 import com.back.domain.category.enums.UsageUnit;
-import com.back.domain.evaluation.entity.SubscriptionEvaluation;
-import com.back.domain.evaluation.enums.EvaluationStatus;
-import com.back.domain.evaluation.policy.EvaluationPolicy;
-import com.back.domain.evaluation.repository.SubscriptionEvaluationRepository;
+import com.back.domain.category.registry.CategoryRegistry;
+import com.back.domain.category.registry.CategorySnapshot;
+import com.back.domain.evaluation.pipeline.AsyncEvaluationPipeline;
+import com.back.domain.evaluation.pipeline.EvaluationKey;
+import com.back.domain.evaluation.service.EvaluationService;
 import com.back.domain.subscription.entity.Subscription;
 import com.back.domain.subscription.enums.BillingCycle;
 import com.back.domain.subscription.enums.SubscriptionStatus;
 import com.back.domain.subscription.repository.SubscriptionRepository;
+import com.back.domain.usage.dto.UsageBatchResponse;
 import com.back.domain.usage.dto.UsageRequest;
 import com.back.domain.usage.entity.SubscriptionUsage;
+import com.back.domain.usage.metrics.UsageMetrics;
 import com.back.domain.usage.repository.SubscriptionUsageRepository;
 import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class UsageServiceTest {
 
+    private static final Long USER_ID = 1L;
+
     @InjectMocks
     private UsageService usageService;
 
@@ -45,21 +58,34 @@ class UsageServiceTest {
     private SubscriptionRepository subscriptionRepository;
 
     @Mock
-    private SubscriptionEvaluationRepository evaluationRepository;
+    private EvaluationService evaluationService;
+
+    @Mock
+    private AsyncEvaluationPipeline evaluationPipeline;
 
     @Mock
-    private EvaluationPolicy evaluationPolicy;
+    private CategoryRegistry categoryRegistry;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private UsageMetrics usageMetrics = new UsageMetrics(meterRegistry);
+
+    // 테스트용 카테고리는 id가 없으므로 (null) 그대로 레지스트리 조회 키로 사용
+    private void givenRegistered(Category category) {
+        given(categoryRegistry.get(category.getId())).willReturn(CategorySnapshot.from(category));
+    }
 
     @Test
-    @DisplayName("사용량 및 평가 정상 생성")
+    @DisplayName("사용량 및 평가 정상 생성 - 구독 잠금 조회 후 사용량 Upsert, 같은 트랜잭션에서 평가")
     void t1() {
         // given
         YearMonth ym = YearMonth.of(2025, 1);
 
-        Category category = mock(Category.class);
-        given(category.getUnit()).willReturn(UsageUnit.MINUTES);
+        Category category = new Category("OTT", 200, UsageUnit.MINUTES, CategoryType.CONTENT);
 
         Subscription subscription = new Subscription(
+                USER_ID,
                 category,
                 "Netflix",
                 15000L,
@@ -71,37 +97,32 @@ class UsageServiceTest {
 
         UsageRequest request = new UsageRequest(1L, ym, 100);
 
-        given(subscriptionRepository.findById(1L)).willReturn(Optional.of(subscription));
-        given(usageRepository.findBySubscriptionAndUsageMonth(subscription, ym)).willReturn(Optional.empty());
-        given(evaluationRepository.findBySubscriptionAndEvalMonth(subscription, ym)).willReturn(Optional.empty());
-
-        given(evaluationPolicy.calculateStatus(anyDouble(), anyInt()))
-                .willReturn(EvaluationStatus.REVIEW);
-
-        given(usageRepository.saveAndFlush(any(SubscriptionUsage.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
-        given(evaluationRepository.saveAndFlush(any(SubscriptionEvaluation.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
+        given(subscriptionRepository.findByIdAndUserIdForUpdate(1L, USER_ID)).willReturn(Optional.of(subscription));
+        givenRegistered(category);
 
         // when
-        usageService.recordUsageAndEvaluate(request);
+        usageService.recordUsageAndEvaluate(USER_ID, request);
 
         // then
-        verify(usageRepository, times(1)).saveAndFlush(any(SubscriptionUsage.class));
-        verify(evaluationRepository, times(1)).saveAndFlush(any(SubscriptionEvaluation.class));
-        verify(evaluationPolicy, atLeastOnce()).calculateStatus(anyDouble(), anyInt());
+        ArgumentCaptor<SubscriptionUsage> usageCaptor = ArgumentCaptor.forClass(SubscriptionUsage.class);
+        verify(usageRepository, times(1)).upsert(usageCaptor.capture());
+        assertEquals(ym, usageCaptor.getValue().getUsageMonth());
+        assertEquals(100, usageCaptor.getValue().getUsageValue());
+
+        verify(evaluationService, times(1)).evaluateAndSave(subscription, ym, 100);
+        verify(evaluationPipeline, never()).submitAfterCommit(any());
     }
 
     @Test
-    @DisplayName("기존 사용량 존재 시 update 수행")
+    @DisplayName("기존 데이터 존재 여부와 무관하게 조회/재시도 없이 Upsert만 수행")
     void t2() {
         // given
         YearMonth ym = YearMonth.of(2025, 1);
 
-        Category category = mock(Category.class);
-        given(category.getUnit()).willReturn(UsageUnit.MINUTES);
+        Category category = new Category("OTT", 200, UsageUnit.MINUTES, CategoryType.CONTENT);
 
         Subscription subscription = new Subscription(
+                USER_ID,
                 category,
                 "Netflix",
                 15000L,
@@ -111,29 +132,18 @@ class UsageServiceTest {
                 SubscriptionStatus.ACTIVE
         );
 
-        SubscriptionUsage existingUsage = new SubscriptionUsage(subscription, ym, 5);
         UsageRequest request = new UsageRequest(1L, ym, 20);
 
-        given(subscriptionRepository.findById(1L)).willReturn(Optional.of(subscription));
-        given(usageRepository.findBySubscriptionAndUsageMonth(subscription, ym)).willReturn(Optional.of(existingUsage));
-        given(evaluationRepository.findBySubscriptionAndEvalMonth(subscription, ym)).willReturn(Optional.empty());
-
-        given(evaluationPolicy.calculateStatus(anyDouble(), anyInt()))
-                .willReturn(EvaluationStatus.REVIEW);
-
-        given(usageRepository.saveAndFlush(any(SubscriptionUsage.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
-        given(evaluationRepository.saveAndFlush(any(SubscriptionEvaluation.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
+        given(subscriptionRepository.findByIdAndUserIdForUpdate(1L, USER_ID)).willReturn(Optional.of(subscription));
+        givenRegistered(category);
 
         // when
-        usageService.recordUsageAndEvaluate(request);
+        usageService.recordUsageAndEvaluate(USER_ID, request);
 
         // then
-        assertEquals(20, existingUsage.getUsageValue());
-        verify(usageRepository).saveAndFlush(existingUsage);
-        verify(evaluationRepository).saveAndFlush(any(SubscriptionEvaluation.class));
-        verify(evaluationPolicy, atLeastOnce()).calculateStatus(anyDouble(), anyInt());
+        verify(usageRepository).upsert(any(SubscriptionUsage.class));
+        verify(usageRepository, never()).findBySubscriptionAndUsageMonth(any(), any());
+        verify(usageRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -141,15 +151,15 @@ class UsageServiceTest {
     void t3() {
         // given
         UsageRequest request = new UsageRequest(99L, YearMonth.of(2025, 1), 100);
-        given(subscriptionRepository.findById(99L)).willReturn(Optional.empty());
+        given(subscriptionRepository.findByIdAndUserIdForUpdate(99L, USER_ID)).willReturn(Optional.empty());
 
         // when & then
-        assertThrows(CustomException.class, () -> usageService.recordUsageAndEvaluate(request));
+        assertThrows(CustomException.class, () -> usageService.recordUsageAndEvaluate(USER_ID, request));
 
         // 구독 조회에서 바로 터지므로 하위 의존성 호출 없음
         verifyNoInteractions(usageRepository);
-        verifyNoInteractions(evaluationRepository);
-        verifyNoInteractions(evaluationPolicy);
+        verifyNoInteractions(evaluationService);
+        verifyNoInteractions(evaluationPipeline);
     }
 
     @Test
@@ -161,6 +171,7 @@ class UsageServiceTest {
         Category category = new Category("AI_TOOL", 15, UsageUnit.DAYS, CategoryType.PRODUCTIVITY);
 
         Subscription subscription = new Subscription(
+                USER_ID,
                 category,
                 "ChatGPT Plus",
                 29000L, 29000L, 29000L,
@@ -169,27 +180,28 @@ class UsageServiceTest {
         );
 
         UsageRequest request = new UsageRequest(1L, ym, 29); // 28 초과
-        given(subscriptionRepository.findById(1L)).willReturn(Optional.of(subscription));
+        given(subscriptionRepository.findByIdAndUserIdForUpdate(1L, USER_ID)).willReturn(Optional.of(subscription));
+        givenRegistered(category);
 
         // when & then
-        assertThrows(CustomException.class, () -> usageService.recordUsageAndEvaluate(request));
+        assertThrows(CustomException.class, () -> usageService.recordUsageAndEvaluate(USER_ID, request));
 
         // validate에서 터지므로 저장/평가 로직 진입 X
         verifyNoInteractions(usageRepository);
-        verifyNoInteractions(evaluationRepository);
-        verifyNoInteractions(evaluationPolicy);
+        verifyNoInteractions(evaluationService);
+        verifyNoInteractions(evaluationPipeline);
     }
 
     @Test
-    @DisplayName("동시성 상황 - 사용량 저장 중 유니크 충돌 발생 시 재조회 후 update 처리")
+    @DisplayName("Upsert 중 DB 예외는 재시도 없이 그대로 전파된다")
     void t5() {
         // given
         YearMonth ym = YearMonth.of(2025, 3);
 
-        Category category = mock(Category.class);
-        given(category.getUnit()).willReturn(UsageUnit.MINUTES);
+        Category category = new Category("OTT", 200, UsageUnit.MINUTES, CategoryType.CONTENT);
 
         Subscription subscription = new Subscription(
+                USER_ID,
                 category,
                 "Netflix",
                 15000L,
@@ -201,45 +213,156 @@ class UsageServiceTest {
 
         UsageRequest request = new UsageRequest(1L, ym, 100);
 
-        given(subscriptionRepository.findById(1L)).willReturn(Optional.of(subscription));
+        given(subscriptionRepository.findByIdAndUserIdForUpdate(1L, USER_ID)).willReturn(Optional.of(subscription));
+        givenRegistered(category);
+        willThrow(new DataIntegrityViolationException("fk violation"))
+                .given(usageRepository).upsert(any(SubscriptionUsage.class));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> usageService.recordUsageAndEvaluate(USER_ID, request));
+
+        verify(usageRepository, times(1)).upsert(any(SubscriptionUsage.class));
+        verify(usageRepository, never()).findBySubscriptionAndUsageMonth(any(), any());
+        verifyNoInteractions(evaluationService);
+    }
+
+    @Test
+    @DisplayName("일괄 기록 - 구독은 한 번에 조회하고, 유효한 행만 batch upsert 하며 행별 결과를 반환")
+    void t6() {
+        // given
+        YearMonth ym = YearMonth.of(2025, 2); // 28일
+
+        Category aiTool = new Category("AI_TOOL", 14, UsageUnit.DAYS, CategoryType.PRODUCTIVITY);
+        Subscription chatgpt = new Subscription(
+                USER_ID,
+                aiTool,
+                "ChatGPT Plus",
+                29000L, 29000L, 29000L,
+                BillingCycle.MONTHLY,
+                SubscriptionStatus.ACTIVE
+        );
+        ReflectionTestUtils.setField(chatgpt, "id", 1L);
+
+        List<UsageRequest> requests = List.of(
+                new UsageRequest(1L, ym, 7),    // 정상
+                new UsageRequest(99L, ym, 10),  // 존재하지 않는 구독
+                new UsageRequest(1L, ym, 29)    // 28일 초과
+        );
 
-        // 최초 조회: 없음 -> try에서 insert 시도
-        // catch 이후 재조회: 있음
-        SubscriptionUsage afterConflict = new SubscriptionUsage(subscription, ym, 5);
+        given(subscriptionRepository.findAllActiveByUserIdAndIdInForUpdate(eq(USER_ID), anyCollection())).willReturn(List.of(chatgpt));
+        givenRegistered(aiTool);
 
-        given(usageRepository.findBySubscriptionAndUsageMonth(subscription, ym))
-                .willReturn(Optional.empty())
-                .willReturn(Optional.of(afterConflict));
+        // when
+        UsageBatchResponse response = usageService.recordUsagesInBatch(USER_ID, requests);
 
-        // saveAndFlush에서 유니크 충돌
-        given(usageRepository.saveAndFlush(any(SubscriptionUsage.class)))
-                .willThrow(new DataIntegrityViolationException("duplicate key"));
+        // then
+        assertThat(response.totalCount()).isEqualTo(3);
+        assertThat(response.successCount()).isEqualTo(1);
+        assertThat(response.failureCount()).isEqualTo(2);
 
-        // catch에서 save(existing) 수행
-        given(usageRepository.save(any(SubscriptionUsage.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
+        assertThat(response.results().get(0).success()).isTrue();
+        assertThat(response.results().get(1).code()).isEqualTo(ErrorCode.SUBSCRIPTION_NOT_FOUND.getCode());
+        assertThat(response.results().get(2).code()).isEqualTo(ErrorCode.INVALID_USAGE_VALUE.getCode());
 
-        // evaluation은 정상 플로우로만
-        given(evaluationRepository.findBySubscriptionAndEvalMonth(subscription, ym))
-                .willReturn(Optional.empty());
+        verify(subscriptionRepository, times(1)).findAllActiveByUserIdAndIdInForUpdate(eq(USER_ID), anyCollection());
+        verify(usageRepository).batchUpsert(argThat(list -> list.size() == 1 && list.get(0).getUsageValue() == 7));
+        verify(evaluationService).evaluateAndSaveAll(argThat(list -> list.size() == 1));
+
+        // 단건 경로는 사용하지 않음
+        verify(subscriptionRepository, never()).findByIdAndUserIdForUpdate(any(), any());
+        verify(usageRepository, never()).upsert(any());
+    }
+
+    @Test
+    @DisplayName("비동기 평가 모드 - 사용량만 저장하고 평가는 커밋 후 큐에 위임")
+    void t7() {
+        // given
+        YearMonth ym = YearMonth.of(2025, 1);
 
-        given(evaluationPolicy.calculateStatus(anyDouble(), anyInt()))
-                .willReturn(EvaluationStatus.REVIEW);
+        Category category = new Category("OTT", 200, UsageUnit.MINUTES, CategoryType.CONTENT);
+        Subscription subscription = new Subscription(
+                USER_ID,
+                category,
+                "Netflix",
+                15000L, 15000L, 15000L,
+                BillingCycle.MONTHLY,
+                SubscriptionStatus.ACTIVE
+        );
+        ReflectionTestUtils.setField(subscription, "id", 1L);
 
-        given(evaluationRepository.saveAndFlush(any(SubscriptionEvaluation.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
+        given(subscriptionRepository.findByIdAndUserIdForUpdate(1L, USER_ID)).willReturn(Optional.of(subscription));
+        givenRegistered(category);
+        given(evaluationPipeline.isEnabled()).willReturn(true);
 
         // when
-        usageService.recordUsageAndEvaluate(request);
+        usageService.recordUsageAndEvaluate(USER_ID, new UsageRequest(1L, ym, 100));
 
         // then
-        verify(usageRepository).saveAndFlush(any(SubscriptionUsage.class));
-        verify(usageRepository).save(any(SubscriptionUsage.class));
+        verify(usageRepository).upsert(any(SubscriptionUsage.class));
+        verify(evaluationPipeline).submitAfterCommit(new EvaluationKey(1L, ym));
+        verifyNoInteractions(evaluationService);
+    }
+
+    @Test
+    @DisplayName("단위 검증은 CategoryRegistry 스냅샷을 사용하며 카테고리 엔티티(프록시)를 읽지 않는다")
+    void t8() {
+        // given
+        YearMonth ym = YearMonth.of(2025, 2);
+
+        Category categoryProxy = mock(Category.class);
+        given(categoryProxy.getId()).willReturn(4L);
+
+        Subscription subscription = new Subscription(
+                USER_ID,
+                categoryProxy,
+                "ChatGPT Plus",
+                29000L, 29000L, 29000L,
+                BillingCycle.MONTHLY,
+                SubscriptionStatus.ACTIVE
+        );
 
-        // 값 업데이트까지 확인 (catch에서 existing.updateValue 수행)
-        assertEquals(100, afterConflict.getUsageValue());
+        given(subscriptionRepository.findByIdAndUserIdForUpdate(1L, USER_ID)).willReturn(Optional.of(subscription));
+        given(categoryRegistry.get(4L)).willReturn(
+                new CategorySnapshot(4L, "AI_TOOL", 12, UsageUnit.DAYS, CategoryType.PRODUCTIVITY));
 
-        verify(evaluationRepository).saveAndFlush(any(SubscriptionEvaluation.class));
-        verify(evaluationPolicy, atLeastOnce()).calculateStatus(anyDouble(), anyInt());
+        // when & then - 2월(28일) 초과 값은 레지스트리의 DAYS 단위로 검증되어 거절
+        assertThrows(CustomException.class,
+                () -> usageService.recordUsageAndEvaluate(USER_ID, new UsageRequest(1L, ym, 29)));
+
+        verify(categoryProxy, never()).getUnit();
+        verify(categoryProxy, never()).getType();
+        verify(categoryProxy, never()).getReferenceValue();
+    }
+
+    @Test
+    @DisplayName("단계별 처리 시간 기록 - 구독 조회/검증/사용량 Upsert/평가 단계가 각각 한 번씩 기록된다")
+    void t9() {
+        // given
+        YearMonth ym = YearMonth.of(2025, 1);
+
+        Category category = new Category("OTT", 200, UsageUnit.MINUTES, CategoryType.CONTENT);
+        Subscription subscription = new Subscription(
+                USER_ID,
+                category,
+                "Netflix",
+                15000L, 15000L, 15000L,
+                BillingCycle.MONTHLY,
+                SubscriptionStatus.ACTIVE
+        );
+
+        given(subscriptionRepository.findByIdAndUserIdForUpdate(1L, USER_ID)).willReturn(Optional.of(subscription));
+        givenRegistered(category);
+
+        // when
+        usageService.recordUsageAndEvaluate(USER_ID, new UsageRequest(1L, ym, 100));
+
+        // then
+        for (String phase : List.of("subscription_lookup", "validation", "usage_upsert", "evaluation")) {
+            assertThat(meterRegistry.get("usage.record.phase").tag("path", "single").tag("phase", phase).timer().count())
+                    .as(phase)
+                    .isEqualTo(1);
+        }
+        assertThat(meterRegistry.get("usage.record.phase").tag("path", "single").tag("phase", "evaluation_submit").timer().count())
+                .isZero();
     }
 }
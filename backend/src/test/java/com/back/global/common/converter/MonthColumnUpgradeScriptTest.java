@@ -0,0 +1,67 @@
+package com.back.global.common.converter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * db/upgrade/month-columns-to-int-period.mysql.sql 을 H2(MODE=MySQL)의 변환 전 스키마(VARCHAR 월 컬럼)에 실행해 본다.
+ */
+class MonthColumnUpgradeScriptTest {
+
+    private static final String SCRIPT = "db/upgrade/month-columns-to-int-period.mysql.sql";
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:month-upgrade;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("'yyyy-MM' 문자열 월 컬럼을 정수 기간 INT 컬럼으로 바꾸고, 다시 실행해도 값이 그대로다")
+    void t1() {
+        // given - 변환 전 스키마 (ddl-auto 가 만들던 VARCHAR(255) 월 컬럼 + (구독, 월) 유니크)
+        jdbcTemplate.execute("CREATE TABLE subscription_usage (id BIGINT PRIMARY KEY, subscription_id BIGINT, usage_month VARCHAR(255) NOT NULL, "
+                + "CONSTRAINT uk_usage UNIQUE (subscription_id, usage_month))");
+        jdbcTemplate.execute("CREATE TABLE subscription_evaluation (id BIGINT PRIMARY KEY, subscription_id BIGINT, eval_month VARCHAR(255) NOT NULL, "
+                + "CONSTRAINT uk_evaluation UNIQUE (subscription_id, eval_month))");
+        jdbcTemplate.execute("CREATE TABLE monthly_dashboard_aggregate (id BIGINT PRIMARY KEY, user_id BIGINT, eval_month VARCHAR(255) NOT NULL, "
+                + "CONSTRAINT uk_aggregate UNIQUE (user_id, eval_month))");
+        jdbcTemplate.update("INSERT INTO subscription_usage VALUES (1, 1, '2025-12'), (2, 1, '2026-01')");
+        jdbcTemplate.update("INSERT INTO subscription_evaluation VALUES (1, 1, '2025-12'), (2, 1, '2026-01')");
+        jdbcTemplate.update("INSERT INTO monthly_dashboard_aggregate VALUES (1, 1, '2026-01')");
+
+        // when
+        new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(dataSource);
+
+        // then
+        int december = YearMonthConverter.toPeriod(YearMonth.of(2025, 12));
+        int january = YearMonthConverter.toPeriod(YearMonth.of(2026, 1));
+
+        assertThat(jdbcTemplate.queryForList("SELECT usage_month FROM subscription_usage ORDER BY id", Integer.class))
+                .containsExactly(december, january);
+        assertThat(jdbcTemplate.queryForList("SELECT eval_month FROM subscription_evaluation ORDER BY id", Integer.class))
+                .containsExactly(december, january);
+        assertThat(jdbcTemplate.queryForList("SELECT eval_month FROM monthly_dashboard_aggregate", Integer.class))
+                .containsExactly(january);
+
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS
+                WHERE COLUMN_NAME IN ('USAGE_MONTH', 'EVAL_MONTH')
+                """, String.class))
+                .hasSize(3)
+                .containsOnly("INTEGER");
+    }
+}
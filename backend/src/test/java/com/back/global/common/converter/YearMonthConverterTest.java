@@ -0,0 +1,36 @@
+package com.back.global.common.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YearMonthConverterTest {
+
+    private final YearMonthConverter converter = new YearMonthConverter();
+
+    @Test
+    @DisplayName("정수 기간은 year * 12 + month - 1 이고, 다시 같은 YearMonth로 복원된다")
+    void t1() {
+        assertThat(converter.convertToDatabaseColumn(YearMonth.of(2026, 3))).isEqualTo(2026 * 12 + 2);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+
+        for (YearMonth month = YearMonth.of(1999, 1); month.isBefore(YearMonth.of(2101, 1)); month = month.plusMonths(1)) {
+            assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(month))).isEqualTo(month);
+        }
+    }
+
+    @Test
+    @DisplayName("정수 기간의 순서와 차이는 월 순서/개월 수와 같다 (기간 조회를 BETWEEN 범위로 할 수 있음)")
+    void t2() {
+        YearMonth december = YearMonth.of(2025, 12);
+        YearMonth january = YearMonth.of(2026, 1);
+
+        assertThat(YearMonthConverter.toPeriod(january) - YearMonthConverter.toPeriod(december)).isEqualTo(1);
+        assertThat(YearMonthConverter.toPeriod(january.plusMonths(11)) - YearMonthConverter.toPeriod(january)).isEqualTo(11);
+        assertThat(YearMonthConverter.fromPeriod(YearMonthConverter.toPeriod(december) + 1)).isEqualTo(january);
+    }
+}
@@ -0,0 +1,80 @@
+package com.back.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toCollection;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class H2ReplicaFeederTest {
+
+    private final HikariDataSource primary = dataSource("feeder-primary");
+    private final List<HikariDataSource> replicas = List.of(dataSource("feeder-replica-0"), dataSource("feeder-replica-1"));
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    private static HikariDataSource dataSource(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+
+    private static void execute(HikariDataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    @Test
+    @DisplayName("복제본 스키마 준비에 실패해도 예외를 밖으로 던지지 않고 그 복제본만 빼고 채우며, 다음 주기에 다시 준비한다")
+    void t1() throws SQLException {
+        // given - 기본 DB는 마이그레이션, 복제본 1은 이력 없는 테이블이 있어 Flyway가 거부한다
+        Flyway.configure().dataSource(primary).load().migrate();
+        execute(replicas.get(1), "CREATE TABLE leftover (id BIGINT)");
+
+        ReplicaLagGuard lagGuard = new ReplicaLagGuard(new DataSourceRoutingProperties(
+                true,
+                List.of(new DataSourceRoutingProperties.Replica("jdbc:h2:mem:feeder-replica-0", "sa", ""),
+                        new DataSourceRoutingProperties.Replica("jdbc:h2:mem:feeder-replica-1", "sa", "")),
+                10,
+                Duration.ofMinutes(1),
+                new DataSourceRoutingProperties.Feed(true, Duration.ofMillis(500))));
+        H2ReplicaFeeder feeder = new H2ReplicaFeeder(
+                primary, new DataSourceRoutingConfig.ReplicaPools(replicas), lagGuard, new FlywayProperties());
+
+        // when & then - 복제본 0만 조회 대상
+        assertThatCode(feeder::feed).doesNotThrowAnyException();
+        assertThat(picked(lagGuard)).containsExactly(0);
+
+        // 원인을 치우면 다음 주기에 복제본 1도 준비되어 조회 대상이 된다
+        execute(replicas.get(1), "DROP TABLE leftover");
+        feeder.feed();
+        assertThat(picked(lagGuard)).containsExactly(0, 1);
+    }
+
+    private static Set<Integer> picked(ReplicaLagGuard lagGuard) {
+        return IntStream.range(0, 4)
+                .mapToObj(i -> lagGuard.pickReplica())
+                .collect(toCollection(TreeSet::new));
+    }
+}
@@ -0,0 +1,130 @@
+package com.back.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toCollection;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaLagGuardTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+
+    @AfterEach
+    void tearDown() {
+        RoutingUserContext.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ReplicaLagGuard guard(int replicas, boolean watermarked, Duration maxLag) {
+        List<DataSourceRoutingProperties.Replica> replicaList = IntStream.range(0, replicas)
+                .mapToObj(i -> new DataSourceRoutingProperties.Replica("jdbc:h2:mem:replica-" + i, "sa", ""))
+                .toList();
+        return new ReplicaLagGuard(new DataSourceRoutingProperties(
+                true, replicaList, 10, maxLag, new DataSourceRoutingProperties.Feed(watermarked, Duration.ofMillis(500))));
+    }
+
+    @Test
+    @DisplayName("복제 위치를 보고한 복제본이 없으면 기본 DB, 보고 후에는 복제본으로 보낸다")
+    void t1() {
+        // given
+        ReplicaLagGuard guard = guard(1, true, Duration.ofSeconds(2));
+
+        // when & then
+        assertThat(guard.pickReplica()).isEqualTo(ReplicaLagGuard.PRIMARY);
+
+        guard.replicated(0, System.nanoTime());
+        assertThat(guard.pickReplica()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 이후 시점까지 복제되기 전에는 그 사용자만 기본 DB에서 읽는다 (read-your-writes)")
+    void t2() {
+        // given
+        ReplicaLagGuard guard = guard(1, true, Duration.ofSeconds(2));
+        guard.replicated(0, System.nanoTime());
+        guard.recordWritesAfterCommit(List.of(USER_ID));
+
+        // when & then
+        RoutingUserContext.bind(USER_ID);
+        assertThat(guard.pickReplica()).isEqualTo(ReplicaLagGuard.PRIMARY);
+
+        RoutingUserContext.bind(OTHER_USER_ID);
+        assertThat(guard.pickReplica()).isZero();
+
+        // 쓰기 이후 시작한 복제가 끝나면 다시 복제본
+        guard.replicated(0, System.nanoTime());
+        RoutingUserContext.bind(USER_ID);
+        assertThat(guard.pickReplica()).isZero();
+    }
+
+    @Test
+    @DisplayName("복제 위치가 max-lag보다 뒤처진 복제본은 모든 조회에서 제외한다")
+    void t3() {
+        // given
+        ReplicaLagGuard guard = guard(2, true, Duration.ofSeconds(2));
+        long now = System.nanoTime();
+        guard.replicated(0, now - Duration.ofSeconds(5).toNanos());
+        guard.replicated(1, now);
+
+        // when
+        Set<Integer> picked = IntStream.range(0, 4)
+                .mapToObj(i -> guard.pickReplica())
+                .collect(toCollection(TreeSet::new));
+
+        // then
+        assertThat(picked).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 기록은 트랜잭션 커밋 후에만 남는다")
+    void t4() {
+        // given
+        ReplicaLagGuard guard = guard(1, true, Duration.ofSeconds(2));
+        guard.replicated(0, System.nanoTime());
+        RoutingUserContext.bind(USER_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        guard.recordWritesAfterCommit(List.of(USER_ID));
+
+        // when & then - 커밋 전
+        assertThat(guard.pickReplica()).isZero();
+
+        // 커밋 후
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(guard.pickReplica()).isEqualTo(ReplicaLagGuard.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("복제 위치를 모르는 복제본은 쓰기 후 max-lag가 지나야 그 사용자에게 다시 쓴다")
+    void t5() throws InterruptedException {
+        // given
+        ReplicaLagGuard guard = guard(1, false, Duration.ofMillis(50));
+        RoutingUserContext.bind(USER_ID);
+        assertThat(guard.pickReplica()).isZero();
+
+        // when
+        guard.recordWritesAfterCommit(List.of(USER_ID));
+
+        // then
+        assertThat(guard.pickReplica()).isEqualTo(ReplicaLagGuard.PRIMARY);
+
+        Thread.sleep(100);
+        assertThat(guard.pickReplica()).isZero();
+
+        guard.pruneWrites();
+        assertThat(guard.pickReplica()).isZero();
+    }
+}
@@ -0,0 +1,168 @@
+package com.back.global.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryListenerTest {
+
+    private JdbcDataSource h2;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE item (id BIGINT PRIMARY KEY, name VARCHAR(20))");
+        }
+    }
+
+    private DataSource observed(SlowQueryLog slowQueryLog, Duration threshold, double sampleRate) {
+        return observed(slowQueryLog, threshold, sampleRate, true);
+    }
+
+    private DataSource observed(SlowQueryLog slowQueryLog, Duration threshold, double sampleRate, boolean captureParameters) {
+        SlowQueryListener listener = new SlowQueryListener(
+                new SlowQueryProperties(true, threshold, sampleRate, 10, true, captureParameters), slowQueryLog);
+        return ProxyDataSourceBuilder.create(h2)
+                .listener(listener)
+                .proxyResultSet()
+                .methodListener(listener)
+                .build();
+    }
+
+    private void insert(Connection connection, long id, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO item (id, name) VALUES (?, ?)")) {
+            statement.setLong(1, id);
+            statement.setString(2, name);
+            statement.executeUpdate();
+        }
+    }
+
+    private int selectAll(Connection connection) throws SQLException {
+        int rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement("SELECT id, name FROM item WHERE id > ?")) {
+            statement.setLong(1, 0L);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("기준 이상 문장은 바인딩 값 / 행 수 / 호출 메서드와 함께 최신순으로 기록된다")
+    void t1() throws SQLException {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(10);
+        DataSource dataSource = observed(slowQueryLog, Duration.ZERO, 0);
+
+        // when
+        try (Connection connection = dataSource.getConnection()) {
+            insert(connection, 1L, "Netflix");
+            insert(connection, 2L, "Youtube");
+            assertThat(selectAll(connection)).isEqualTo(2);
+        }
+
+        // then
+        List<SlowQuery> recent = slowQueryLog.recent();
+        assertThat(recent).hasSize(3);
+
+        SlowQuery select = recent.get(0);
+        assertThat(select.slow()).isTrue();
+        assertThat(select.query()).startsWith("SELECT id, name FROM item");
+        assertThat(select.parameters()).containsExactly(List.of("0"));
+        assertThat(select.rows()).isEqualTo(2);
+        assertThat(select.caller()).startsWith("SlowQueryListenerTest.selectAll");
+
+        SlowQuery insert = recent.get(1);
+        assertThat(insert.parameters()).containsExactly(List.of("2", "Youtube"));
+        assertThat(insert.rows()).isEqualTo(1);
+        assertThat(insert.caller()).startsWith("SlowQueryListenerTest.insert");
+    }
+
+    @Test
+    @DisplayName("기준 미만 문장은 표본 비율만큼만 기록되고 느린 문장으로 표시되지 않는다")
+    void t2() throws SQLException {
+        // given
+        SlowQueryLog unsampled = new SlowQueryLog(10);
+        SlowQueryLog sampled = new SlowQueryLog(10);
+
+        // when
+        try (Connection connection = observed(unsampled, Duration.ofMinutes(1), 0).getConnection()) {
+            insert(connection, 1L, "Netflix");
+            selectAll(connection);
+        }
+        try (Connection connection = observed(sampled, Duration.ofMinutes(1), 1).getConnection()) {
+            selectAll(connection);
+        }
+
+        // then
+        assertThat(unsampled.recorded()).isZero();
+        assertThat(sampled.recent()).singleElement()
+                .satisfies(query -> {
+                    assertThat(query.slow()).isFalse();
+                    assertThat(query.rows()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("최근 목록은 용량만큼만 보관하고 전체 기록 건수는 따로 센다")
+    void t3() throws SQLException {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(2);
+        DataSource dataSource = observed(slowQueryLog, Duration.ZERO, 0);
+
+        // when
+        try (Connection connection = dataSource.getConnection()) {
+            insert(connection, 1L, "a");
+            insert(connection, 2L, "b");
+            insert(connection, 3L, "c");
+        }
+
+        // then
+        assertThat(slowQueryLog.recorded()).isEqualTo(3);
+        assertThat(slowQueryLog.recent())
+                .extracting(query -> query.parameters().get(0).get(0))
+                .containsExactly("3", "2");
+
+        slowQueryLog.clear();
+        assertThat(slowQueryLog.recent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("바인딩 값 원문 기록을 켜지 않으면 값은 ?로 가리고 자리 수만 남긴다")
+    void t4() throws SQLException {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(10);
+        DataSource dataSource = observed(slowQueryLog, Duration.ZERO, 0, false);
+
+        // when
+        try (Connection connection = dataSource.getConnection()) {
+            insert(connection, 1L, "Netflix");
+        }
+
+        // then
+        assertThat(slowQueryLog.recent()).singleElement()
+                .satisfies(query -> {
+                    assertThat(query.parameters()).containsExactly(List.of("?", "?"));
+                    assertThat(query.rows()).isEqualTo(1);
+                });
+    }
+}
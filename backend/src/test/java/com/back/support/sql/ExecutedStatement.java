@@ -0,0 +1,12 @@
+package com.back.support.sql;
+
+import java.util.List;
+
+/**
+ * 측정 구간에 실행된 SQL 한 문장과 첫 번째 바인딩 값 묶음 (batch는 첫 행, 실행 계획 검사용)
+ */
+public record ExecutedStatement(
+        String sql,
+        List<Object> parameters
+) {
+}
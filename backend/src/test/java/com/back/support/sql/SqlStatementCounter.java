@@ -0,0 +1,133 @@
+package com.back.support.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * datasource-proxy 리스너 - 측정 구간 동안 실행된 SQL 문을 종류별로 센다.
+ *
+ * - 문장 종류는 첫 키워드로 나눈다. H2의 Upsert(MERGE INTO)는 INSERT로 센다.
+ * - JDBC batch 한 번(executeBatch)은 담긴 행 수와 무관하게 1문장으로 센다.
+ * - 테스트는 순차 실행되므로 측정 구간은 하나만 유지한다. (비동기 평가 / 구독 정리 스케줄러는 꺼 둔다)
+ * - capture()는 문장과 바인딩 값을 그대로 돌려준다. (실제 실행 SQL의 실행 계획 검사용)
+ */
+public final class SqlStatementCounter implements QueryExecutionListener {
+
+    static final SqlStatementCounter INSTANCE = new SqlStatementCounter();
+
+    private final List<ExecutedStatement> statements = new ArrayList<>();
+    private boolean recording;
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * action 실행 중 발생한 SQL 문 수를 센다.
+     */
+    public static SqlStatementCounts measure(Action action) throws Exception {
+        INSTANCE.start();
+        try {
+            action.run();
+        } finally {
+            INSTANCE.stop();
+        }
+        return INSTANCE.snapshot();
+    }
+
+    /**
+     * action 실행 중 실행된 SQL 문을 실행 순서대로 돌려준다.
+     */
+    public static List<ExecutedStatement> capture(Action action) throws Exception {
+        INSTANCE.start();
+        try {
+            action.run();
+        } finally {
+            INSTANCE.stop();
+        }
+        return INSTANCE.executed();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public synchronized void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!recording) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            statements.add(new ExecutedStatement(queryInfo.getQuery(), firstParameters(queryInfo)));
+        }
+    }
+
+    private synchronized void start() {
+        statements.clear();
+        recording = true;
+    }
+
+    private synchronized void stop() {
+        recording = false;
+    }
+
+    private synchronized List<ExecutedStatement> executed() {
+        return List.copyOf(statements);
+    }
+
+    private synchronized SqlStatementCounts snapshot() {
+        int selects = 0, inserts = 0, updates = 0, deletes = 0, others = 0;
+        for (ExecutedStatement statement : statements) {
+            switch (firstKeyword(statement.sql())) {
+                case "SELECT" -> selects++;
+                case "INSERT", "MERGE" -> inserts++;
+                case "UPDATE" -> updates++;
+                case "DELETE" -> deletes++;
+                default -> others++;
+            }
+        }
+        return new SqlStatementCounts(selects, inserts, updates, deletes, others,
+                statements.stream().map(ExecutedStatement::sql).toList());
+    }
+
+    // 위치 기반 바인딩(setXxx(index, value))만 쓰므로 index 순으로 값만 꺼낸다 (setNull은 null)
+    private static List<Object> firstParameters(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        List<Object> values = new ArrayList<>();
+        queryInfo.getParametersList().get(0).stream()
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .forEach(operation -> values.add(isSetNull(operation) ? null : operation.getArgs()[1]));
+        return values;
+    }
+
+    private static boolean isSetNull(ParameterSetOperation operation) {
+        return "setNull".equals(operation.getMethod().getName());
+    }
+
+    // Hibernate 주석(/* ... */)과 앞 공백을 건너뛴 첫 단어
+    private static String firstKeyword(String sql) {
+        String trimmed = sql.strip();
+        while (trimmed.startsWith("/*")) {
+            int end = trimmed.indexOf("*/");
+            trimmed = end < 0 ? "" : trimmed.substring(end + 2).strip();
+        }
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end).toUpperCase(Locale.ROOT);
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,33 @@
+package com.back.support.sql;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource를 datasource-proxy로 감싸 SqlStatementCounter가 모든 SQL(JPA / JdbcTemplate)을 보게 한다.
+ * 사용: @SpringBootTest + @Import(SqlStatementCounterConfig.class)
+ */
+@TestConfiguration
+public class SqlStatementCounterConfig {
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 느린 SQL 기록(SlowQueryConfig)이 이미 감싼 DataSource도 한 번 더 감싼다 (리스너마다 문장을 한 번씩 본다)
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(SqlStatementCounter.INSTANCE)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
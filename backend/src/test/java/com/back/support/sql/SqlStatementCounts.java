@@ -0,0 +1,21 @@
+package com.back.support.sql;
+
+import java.util.List;
+
+/**
+ * 측정 구간에 실행된 SQL 문 수 (statements: 실행 순서대로의 SQL, 실패 메시지용)
+ */
+public record SqlStatementCounts(
+        int selects,
+        int inserts,
+        int updates,
+        int deletes,
+        int others,
+        List<String> statements
+) {
+    @Override
+    public String toString() {
+        return "select=" + selects + ", insert=" + inserts + ", update=" + updates
+                + ", delete=" + deletes + ", other=" + others;
+    }
+}
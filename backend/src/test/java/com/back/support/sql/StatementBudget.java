@@ -0,0 +1,55 @@
+package com.back.support.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 하나에 허용되는 SQL 문 수 상한 (SELECT / INSERT(Upsert 포함) / UPDATE)
+ * DELETE 및 기타 문장은 허용하지 않는다.
+ *
+ * 사용: StatementBudget.maxSelects(2).maxUpdates(1).assertWithin(() -> mockMvc.perform(...))
+ */
+public final class StatementBudget {
+
+    private final int selects;
+    private final int inserts;
+    private final int updates;
+
+    private StatementBudget(int selects, int inserts, int updates) {
+        this.selects = selects;
+        this.inserts = inserts;
+        this.updates = updates;
+    }
+
+    // SQL을 실행하지 않아야 하는 요청 (캐시 적중 등)
+    public static StatementBudget none() {
+        return new StatementBudget(0, 0, 0);
+    }
+
+    public static StatementBudget maxSelects(int selects) {
+        return new StatementBudget(selects, 0, 0);
+    }
+
+    public StatementBudget maxInserts(int inserts) {
+        return new StatementBudget(selects, inserts, updates);
+    }
+
+    public StatementBudget maxUpdates(int updates) {
+        return new StatementBudget(selects, inserts, updates);
+    }
+
+    /**
+     * request 실행 중 SQL 문 수가 상한 이내인지 검사하고, 측정값을 반환한다.
+     */
+    public SqlStatementCounts assertWithin(SqlStatementCounter.Action request) throws Exception {
+        SqlStatementCounts actual = SqlStatementCounter.measure(request);
+
+        String description = "SQL 문 수 상한 초과 - 허용 (select<=" + selects + ", insert<=" + inserts + ", update<=" + updates
+                + "), 실제 (" + actual + ")\n실행된 SQL:\n" + String.join("\n", actual.statements());
+
+        assertThat(actual.selects()).as(description).isLessThanOrEqualTo(selects);
+        assertThat(actual.inserts()).as(description).isLessThanOrEqualTo(inserts);
+        assertThat(actual.updates()).as(description).isLessThanOrEqualTo(updates);
+        assertThat(actual.deletes() + actual.others()).as(description).isZero();
+        return actual;
+    }
+}
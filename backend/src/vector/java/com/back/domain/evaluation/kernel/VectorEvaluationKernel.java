@@ -0,0 +1,119 @@
+package com.back.domain.evaluation.kernel;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD 평가 커널 (jdk.incubator.vector)
+ *
+ * [정책]
+ * - 레인 수는 DoubleVector.SPECIES_PREFERRED 기준. long 열은 같은 비트 폭, int 열은 절반 비트 폭 species로 레인 수를 맞춘다.
+ * - 나눗셈 / 곱셈 / 뺄셈 순서를 EvaluationFormulas와 똑같이 두고(FMA 미사용), Math.round는 floor + 소수부 비교로 재현해
+ *   스칼라 경로와 비트 단위로 같은 값을 낸다.
+ * - 분기는 마스크 blend로 바꾼다. (0 나누기 등으로 생긴 값은 blend로 버려지므로 결과에 영향 없음)
+ * - loopBound 뒤의 나머지 행은 스칼라 커널로 처리한다.
+ * - 이 클래스만 vector 소스 세트에서 --add-modules jdk.incubator.vector 로 따로 컴파일된다.
+ *   main은 이 클래스를 컴파일 시점에 참조하지 않고, 모듈이 있을 때만 이름으로 적재한다. (EvaluationKernel.vector)
+ */
+final class VectorEvaluationKernel implements EvaluationKernel {
+
+    static final VectorEvaluationKernel INSTANCE = new VectorEvaluationKernel();
+
+    private static final VectorSpecies<Double> D = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> L = VectorSpecies.of(long.class, D.vectorShape());
+    private static final VectorSpecies<Integer> I = VectorSpecies.of(int.class, VectorShape.forBitSize(D.vectorBitSize() / 2));
+
+    private VectorEvaluationKernel() {
+    }
+
+    @Override
+    public void evaluate(EvaluationBatch batch, EvaluationProfiles profiles) {
+        int size = batch.size();
+        int upper = D.loopBound(size);
+
+        for (int i = 0; i < upper; i += D.length()) {
+            DoubleVector usage = loadInts(batch.usageValues, i);
+            DoubleVector reference = loadInts(batch.referenceValues, i);
+            LongVector monthlyCostL = LongVector.fromArray(L, batch.monthlyCosts, i);
+            DoubleVector monthlyCost = (DoubleVector) monthlyCostL.convert(VectorOperators.L2D, 0);
+            VectorMask<Double> trial = VectorMask.fromArray(D, batch.trials, i);
+
+            // 1) 효율: 기준값 > 0 이면 min(사용량 / 기준값 * 100, 상한), 아니면 0
+            DoubleVector rateCap = DoubleVector.fromArray(D, profiles.rateCaps, 0, batch.profiles, i);
+            DoubleVector rate = usage.div(reference).mul(100.0).min(rateCap)
+                    .blend(0.0, reference.compare(VectorOperators.LE, 0.0));
+            rate.intoArray(batch.rates, i);
+
+            // 2) 단위당 비용: 사용량 > 0 이면 round(월 비용 / 사용량), 아니면 월 비용
+            VectorMask<Double> used = usage.compare(VectorOperators.GT, 0.0);
+            monthlyCostL.blend(roundHalfUp(monthlyCost.div(usage)), used.cast(L))
+                    .intoArray(batch.costPerUnits, i);
+
+            // 3) 상태 ordinal: 못 미치는 하한 개수, 사용량 0이면 GHOST
+            VectorMask<Double> belowEfficient = rate.compare(VectorOperators.LT, DoubleVector.fromArray(D, profiles.efficientAt, 0, batch.profiles, i));
+            VectorMask<Double> belowKeep = rate.compare(VectorOperators.LT, DoubleVector.fromArray(D, profiles.keepAt, 0, batch.profiles, i));
+            VectorMask<Double> belowReview = rate.compare(VectorOperators.LT, DoubleVector.fromArray(D, profiles.reviewAt, 0, batch.profiles, i));
+            IntVector.zero(I)
+                    .add(1, belowEfficient.cast(I))
+                    .add(1, belowKeep.cast(I))
+                    .add(1, belowReview.cast(I))
+                    .blend(EvaluationFormulas.GHOST_ORDINAL, usage.compare(VectorOperators.EQ, 0.0).cast(I))
+                    .intoArray(batch.statusOrdinals, i);
+
+            // 4) 연간 낭비 (TRIAL 0)
+            annualWaste(rate, monthlyCost, trial).intoArray(batch.annualWastes, i);
+        }
+
+        ScalarEvaluationKernel.evaluateRange(batch, profiles, upper, size);
+    }
+
+    @Override
+    public void potentialAnnualWaste(double[] rates, long[] monthlyCosts, long[] out, int size) {
+        int upper = D.loopBound(size);
+        VectorMask<Double> none = D.maskAll(false);
+
+        for (int i = 0; i < upper; i += D.length()) {
+            DoubleVector rate = DoubleVector.fromArray(D, rates, i);
+            DoubleVector monthlyCost = (DoubleVector) LongVector.fromArray(L, monthlyCosts, i).convert(VectorOperators.L2D, 0);
+            annualWaste(rate, monthlyCost, none).intoArray(out, i);
+        }
+
+        ScalarEvaluationKernel.potentialAnnualWasteRange(rates, monthlyCosts, out, upper, size);
+    }
+
+    @Override
+    public String name() {
+        return "vector(" + D.vectorBitSize() + "bit x" + D.length() + ")";
+    }
+
+    // 효율 100% 이상이거나 zero 마스크면 0, 아니면 round(월 비용 * (1 - 효율 / 100) * 12)
+    private static LongVector annualWaste(DoubleVector rate, DoubleVector monthlyCost, VectorMask<Double> zero) {
+        DoubleVector waste = monthlyCost.mul(DoubleVector.broadcast(D, 1.0).sub(rate.div(100.0))).mul(12.0);
+        return roundHalfUp(waste).blend(0, rate.compare(VectorOperators.GE, 100.0).or(zero).cast(L));
+    }
+
+    private static DoubleVector loadInts(int[] values, int offset) {
+        return (DoubleVector) IntVector.fromArray(I, values, offset).convertShape(VectorOperators.I2D, D, 0);
+    }
+
+    /**
+     * Math.round(double)와 같은 값 (floor(x) + (x - floor(x) >= 0.5 ? 1 : 0), 유한한 값 기준)
+     * |x| >= 1 이면 x - floor(x)는 정확히 계산되고, |x| < 1 이면 반올림 오차가 있어도 0.5 비교 결과가 같다.
+     */
+    private static LongVector roundHalfUp(DoubleVector x) {
+        LongVector truncated = (LongVector) x.convert(VectorOperators.D2L, 0);
+        DoubleVector truncatedD = (DoubleVector) truncated.convert(VectorOperators.L2D, 0);
+
+        // 음수는 0 쪽으로 잘리므로 소수부가 있으면 1을 빼서 floor로 맞춘다
+        VectorMask<Double> truncatedUp = truncatedD.compare(VectorOperators.GT, x);
+        LongVector floor = truncated.sub(1, truncatedUp.cast(L));
+        DoubleVector floorD = truncatedD.sub(1.0, truncatedUp);
+
+        return floor.add(1, x.sub(floorD).compare(VectorOperators.GE, 0.5).cast(L));
+    }
+}
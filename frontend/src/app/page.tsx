@@ -39,8 +39,7 @@ export default function HomePage() {
   } = useQuery({
     queryKey: ['subscriptions'],
     queryFn: async () => {
-      const response = await subscriptionApi.getAll();
-      return response.data.data;
+      return subscriptionApi.getAll();
     },
   });
 
@@ -2,7 +2,7 @@ import { useState } from 'react';
 import { useMutation, useQuery, useQueryClient } from '@tanstack/react-query';
 import { X } from 'lucide-react';
 import { subscriptionApi } from '@/src/lib/api';
-import type { BillingCycle, SubscriptionStatus, Subscription } from '@/src/types/api';
+import type { BillingCycle, SubscriptionStatus } from '@/src/types/api';
 import { getBillingCycleLabel } from '@/src/lib/utils';
 
 interface AddSubscriptionModalProps {
@@ -37,8 +37,7 @@ export default function AddSubscriptionModal({ onClose, onSuccess }: AddSubscrip
   const { data: existingSubscriptions } = useQuery({
     queryKey: ['subscriptions'],
     queryFn: async () => {
-      const response = await subscriptionApi.getAll();
-      return response.data.data as Subscription[];
+      return subscriptionApi.getAll();
     },
   });
 
@@ -3,23 +3,51 @@ import axios from 'axios';
 import type { 
   ApiResponse, 
   DashboardResponse, 
+  DashboardTrendResponse,
+  DashboardRankingResponse,
   Subscription,
+  SubscriptionPage,
+  SubscriptionPageParams,
   CreateSubscriptionRequest,
   UsageRequest,
   Category
 } from '@/src/types/api';
 
+// 요청 사용자 식별 헤더 (로그인 도입 전까지는 환경 변수로 지정, 기본 사용자 1)
+const USER_ID = process.env.NEXT_PUBLIC_USER_ID ?? '1';
+
 const api = axios.create({
   baseURL: '/api/v1',
   headers: {
     'Content-Type': 'application/json',
+    'X-User-Id': USER_ID,
   },
 });
 
+// 구독 목록 한 번에 가져올 때 사용하는 페이지 크기 (서버 상한 100)
+const SUBSCRIPTION_PAGE_SIZE = 100;
+
 export const subscriptionApi = {
-  // 구독 목록 조회
-  getAll: () => 
-    api.get<ApiResponse<Subscription[]>>('/subscriptions'),
+  // 구독 목록 페이지 조회 (키셋: 응답의 nextCursor를 다음 요청 cursor로 전달)
+  getPage: (params: SubscriptionPageParams = {}) =>
+    api.get<ApiResponse<SubscriptionPage>>('/subscriptions', { params }),
+
+  // 구독 전체 조회 (커서를 따라 마지막 페이지까지)
+  getAll: async (): Promise<Subscription[]> => {
+    const subscriptions: Subscription[] = [];
+    let cursor: number | undefined;
+
+    while (true) {
+      const response = await subscriptionApi.getPage({ cursor, size: SUBSCRIPTION_PAGE_SIZE });
+      const page = response.data.data;
+      subscriptions.push(...page.items);
+
+      if (!page.hasNext || page.nextCursor === null) {
+        return subscriptions;
+      }
+      cursor = page.nextCursor;
+    }
+  },
 
   // 구독 생성
   create: (data: CreateSubscriptionRequest) => 
@@ -36,6 +64,18 @@ export const dashboardApi = {
     api.get<ApiResponse<DashboardResponse>>('/dashboard', {
       params: { year, month },
     }),
+
+  // 월별 추이 조회 (from/to: YYYY-MM, 최대 60개월)
+  getTrend: (from: string, to: string) =>
+    api.get<ApiResponse<DashboardTrendResponse>>('/dashboard/trend', {
+      params: { from, to },
+    }),
+
+  // 월 연간 낭비 랭킹 (limit: 1~100, 기본 10)
+  getRanking: (year: number, month: number, limit = 10) =>
+    api.get<ApiResponse<DashboardRankingResponse>>('/dashboard/ranking', {
+      params: { year, month, limit },
+    }),
 };
 
 export const usageApi = {
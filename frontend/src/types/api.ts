@@ -21,6 +21,19 @@ export interface Subscription {
   status: SubscriptionStatus;
 }
 
+export interface SubscriptionPage {
+  items: Subscription[];
+  nextCursor: number | null;
+  hasNext: boolean;
+}
+
+export interface SubscriptionPageParams {
+  cursor?: number;
+  size?: number;
+  categoryId?: number;
+  status?: SubscriptionStatus;
+}
+
 export interface SubscriptionSummary {
   id: number;
   categoryName: string;
@@ -39,6 +52,30 @@ export interface DashboardResponse {
   subscriptions: SubscriptionSummary[];
 }
 
+// 월별 추이 (GET /dashboard/trend)
+export interface DashboardTrendResponse {
+  months: MonthlyTrend[];
+}
+
+export interface MonthlyTrend {
+  month: string; // YYYY-MM
+  totalMonthlyCost: number;
+  totalAnnualWasteEstimate: number;
+  evaluatedCount: number;
+  statusCounts: {
+    efficient: number;
+    keep: number;
+    review: number;
+    inefficient: number;
+    ghost: number;
+  };
+}
+
+// 월 연간 낭비 랭킹 (GET /dashboard/ranking)
+export interface DashboardRankingResponse {
+  subscriptions: SubscriptionSummary[];
+}
+
 export interface CreateSubscriptionRequest {
   categoryId: number;
   name: string;